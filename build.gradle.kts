@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2" // 마이크로벤치마크 (src/jmh/java)
 }
 
 fun getGitHash(): String {
@@ -13,9 +14,10 @@ fun getGitHash(): String {
 group = "kr.hhplus.be"
 version = getGitHash()
 
+// 기본 Java 17, 가상 스레드(virtual 프로필) 사용 시 -PjavaVersion=21
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(providers.gradleProperty("javaVersion").getOrElse("17").toInt())
 	}
 }
 
@@ -23,6 +25,17 @@ repositories {
 	mavenCentral()
 }
 
+// 부하 테스트 소스셋 (src/loadTest/java) - 가상 스레드 사용을 위해 Java 21로 컴파일/실행
+sourceSets {
+	create("loadTest") {
+		compileClasspath += sourceSets.main.get().output
+		runtimeClasspath += sourceSets.main.get().output
+	}
+}
+
+configurations["loadTestImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadTestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
 dependencyManagement {
 	imports {
 		mavenBom("org.springframework.cloud:spring-cloud-dependencies:2024.0.0")
@@ -33,6 +46,7 @@ dependencyManagement {
 dependencies {
     // Spring Boot 기본
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus") // /actuator/prometheus
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	
@@ -43,6 +57,10 @@ dependencies {
 	
 	// Kafka 관련 의존성
 	implementation("org.springframework.kafka:spring-kafka")
+
+	// 캐시/Kafka 값 코덱 (Smile 바이너리 JSON + LZ4 압축)
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+	implementation("org.lz4:lz4-java:1.8.0")
 	
 	// Swagger/OpenAPI
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.7.0")
@@ -65,12 +83,17 @@ dependencies {
 	testImplementation("org.testcontainers:junit-jupiter")
 	testImplementation("org.testcontainers:mysql")
 	testImplementation("org.testcontainers:testcontainers")
+	testImplementation("org.testcontainers:kafka")
 	
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 	
 	// Test Lombok
 	testCompileOnly("org.projectlombok:lombok")
 	testAnnotationProcessor("org.projectlombok:lombok")
+
+	// 부하 테스트 (Testcontainers로 MySQL / Redis / Kafka 기동)
+	"loadTestImplementation"("org.testcontainers:mysql")
+	"loadTestImplementation"("org.testcontainers:kafka")
 }
 
 tasks.withType<Test> {
@@ -113,4 +136,114 @@ tasks.withType<Test> {
 		showCauses = true
 		showStackTraces = true
 	}
-}
\ No newline at end of file
+}
+
+// 대용량 적재 통합 테스트(@Tag("bulk"), 100만 건 EXPLAIN 등)는 기본 test에서 제외
+// 실행: ./gradlew bulkTest
+tasks.named<Test>("test") {
+	useJUnitPlatform {
+		excludeTags("bulk")
+	}
+}
+
+tasks.register<Test>("bulkTest") {
+	group = "verification"
+	description = "대용량 데이터를 적재하는 통합 테스트(bulk 태그)만 실행한다."
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("bulk")
+	}
+}
+
+// JMH 마이크로벤치마크 설정
+// 실행: ./gradlew jmh [-PjmhInclude=CouponBenchmark]
+// 결과: build/reports/jmh/results-<git hash>.json (커밋 간 diff로 회귀 확인)
+jmh {
+	jmhVersion = "1.37"
+	includes = listOf(providers.gradleProperty("jmhInclude").getOrElse(".*"))
+	warmupIterations = 3
+	warmup = "1s"
+	iterations = 5
+	timeOnIteration = "1s"
+	fork = 1
+	benchmarkMode = listOf("avgt", "thrpt")
+	timeUnit = "ns"
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results-${version}.json")
+	humanOutputFile = layout.buildDirectory.file("reports/jmh/human-${version}.txt")
+}
+
+tasks.named<JavaCompile>("compileLoadTestJava") {
+	javaCompiler = javaToolchains.compilerFor {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+}
+
+// 종단간 부하 테스트
+// 실행: ./gradlew loadTest -Ploadtest.duration=60 -Ploadtest.concurrency=500 -Ploadtest.scenarios=flash_sale,checkout
+// 가상 스레드 전후 비교: -Ploadtest.concurrencySteps=100,200,400,800 [-Ploadtest.profiles=virtual]
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Testcontainers 위에서 애플리케이션을 띄우고 가상 스레드 클라이언트로 부하를 건다."
+	classpath = sourceSets["loadTest"].runtimeClasspath
+	mainClass = "kr.hhplus.be.server.loadtest.LoadTestRunner"
+	javaLauncher = javaToolchains.launcherFor {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+	maxHeapSize = "2g"
+}
+
+// 발급 사용자 인덱스 메모리 비교 (Redis Set vs Bitmap)
+// 실행: ./gradlew issuedIndexBenchmark -Ploadtest.indexUsers=1000000,10000000
+tasks.register<JavaExec>("issuedIndexBenchmark") {
+	group = "verification"
+	description = "Testcontainers Redis에서 Set과 청크 Bitmap 발급 인덱스의 메모리 사용량을 비교한다."
+	classpath = sourceSets["loadTest"].runtimeClasspath
+	mainClass = "kr.hhplus.be.server.loadtest.IssuedIndexMemoryBenchmark"
+	javaLauncher = javaToolchains.launcherFor {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+}
+
+// 데이터 플랫폼 마이크로 배치 처리량 비교 (Mock 클라이언트 지연 고정)
+// 실행: ./gradlew dataPlatformBatchBenchmark -Ploadtest.batchSizes=1,10,50,200 -Ploadtest.mockLatencyMs=100
+tasks.register<JavaExec>("dataPlatformBatchBenchmark") {
+	group = "verification"
+	description = "배치 크기별로 데이터 플랫폼 전송 처리량을 비교한다."
+	classpath = sourceSets["loadTest"].runtimeClasspath
+	mainClass = "kr.hhplus.be.server.loadtest.DataPlatformBatchBenchmark"
+	javaLauncher = javaToolchains.launcherFor {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+}
+
+// 도메인 이벤트 Producer 발행 방식 비교 (동기 단건 vs 배치+압축 파이프라이닝)
+// 실행: ./gradlew producerBatchingBenchmark -Ploadtest.producerEvents=20000 -Ploadtest.producerModes=sync,lz4,zstd
+tasks.register<JavaExec>("producerBatchingBenchmark") {
+	group = "verification"
+	description = "Testcontainers Kafka에서 동기 단건 발행과 배치/압축 파이프라이닝 발행의 처리량을 비교한다."
+	classpath = sourceSets["loadTest"].runtimeClasspath
+	mainClass = "kr.hhplus.be.server.loadtest.ProducerBatchingBenchmark"
+	javaLauncher = javaToolchains.launcherFor {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+}
+
+// 상품명 검색 비교 (선형 contains 스캔 vs bigram 역색인)
+// 실행: ./gradlew productNameIndexBenchmark -Ploadtest.catalogSize=1000000 -Ploadtest.searchQueries=200
+tasks.register<JavaExec>("productNameIndexBenchmark") {
+	group = "verification"
+	description = "합성 상품 카탈로그에서 선형 스캔과 bigram 색인의 상품명 검색 지연을 비교한다."
+	classpath = sourceSets["loadTest"].runtimeClasspath
+	mainClass = "kr.hhplus.be.server.loadtest.ProductNameIndexBenchmark"
+	javaLauncher = javaToolchains.launcherFor {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+	maxHeapSize = "2g"
+}
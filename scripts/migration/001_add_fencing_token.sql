@@ -0,0 +1,11 @@
+-- 분산락 펜싱 토큰 가드 컬럼 추가 (products, user_balances)
+--
+-- ddl-auto=create-drop 환경(로컬/테스트)은 엔티티에서 자동 생성되므로 불필요하다.
+-- 운영 DB는 배포 전에 한 번 실행한다. NULL은 "아직 펜싱 쓰기 없음"으로 취급되어 첫 가드 UPDATE를 통과한다.
+-- 토큰은 Redis 서버 시각(마이크로초) 이상으로 발급되므로 기존 행에 채울 값은 없다.
+
+ALTER TABLE products
+    ADD COLUMN fencing_token BIGINT NULL;
+
+ALTER TABLE user_balances
+    ADD COLUMN fencing_token BIGINT NULL;
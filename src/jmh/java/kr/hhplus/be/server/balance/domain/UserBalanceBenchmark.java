@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.balance.domain;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 잔액 충전/차감 도메인 로직 벤치마크
+ * 
+ * 충전과 차감을 한 쌍으로 실행하여 잔액이 한도에 도달하지 않도록 유지한다.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserBalanceBenchmark {
+
+    private UserBalance userBalance;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        userBalance = new UserBalance(1L);
+        userBalance.charge(new BigDecimal("500000"));
+        amount = new BigDecimal("10000");
+    }
+
+    @Benchmark
+    public BigDecimal chargeThenDeduct() {
+        userBalance.charge(amount);
+        userBalance.deduct(amount);
+        return userBalance.getBalance();
+    }
+
+    @Benchmark
+    public boolean hasEnoughBalance() {
+        return userBalance.hasEnoughBalance(amount);
+    }
+}
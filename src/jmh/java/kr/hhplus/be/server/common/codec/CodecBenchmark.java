@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.common.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import kr.hhplus.be.server.coupon.event.CouponIssueEvent;
+import kr.hhplus.be.server.order.event.OrderDataPlatformEvent;
+import kr.hhplus.be.server.product.domain.Product;
+
+/**
+ * 값 코덱(JSON / Smile, LZ4 on/off) 직렬화/역직렬화 벤치마크
+ * 
+ * 캐시 값(Product, 인기 상품 목록)은 캐시 매니저와 같은 기본 타입 정보(NON_FINAL) 설정,
+ * Kafka 이벤트는 타입 정보 없는 설정으로 측정한다.
+ * 바이트 크기 비교는 Setup에서 한 번 출력된다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodecBenchmark {
+
+    @Param({ "JSON", "SMILE" })
+    private CodecFormat format;
+
+    /**
+     * 압축 임계값 (0: 압축 안 함)
+     */
+    @Param({ "0", "512" })
+    private int compressionThreshold;
+
+    private PayloadCodec cacheCodec;
+    private PayloadCodec eventCodec;
+
+    private Product product;
+    private List<Product> popularProducts;
+    private CouponIssueEvent couponIssueEvent;
+    private OrderDataPlatformEvent orderDataPlatformEvent;
+
+    private byte[] productBytes;
+    private byte[] popularProductsBytes;
+    private byte[] couponIssueBytes;
+    private byte[] orderDataPlatformBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper base = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectMapper typed = base.copy();
+        typed.activateDefaultTyping(typed.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+
+        cacheCodec = new PayloadCodec(typed, compressionThreshold);
+        eventCodec = new PayloadCodec(base, compressionThreshold);
+
+        product = new Product("노트북 프로 14인치 2024 에디션", new BigDecimal("1890000.00"), 120);
+        popularProducts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            popularProducts.add(new Product("인기 상품-" + i, new BigDecimal(10000 + i * 500), 100 + i));
+        }
+
+        couponIssueEvent = CouponIssueEvent.create(1L, 1001L, "REQ-BENCH-0001");
+
+        List<OrderDataPlatformEvent.OrderItemData> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new OrderDataPlatformEvent.OrderItemData((long) i + 1, "상품-" + i, 2, 15000L, 30000L));
+        }
+        orderDataPlatformEvent = new OrderDataPlatformEvent("evt-bench-0001", 1L, 1001L, 150000L,
+                "COMPLETED", items, LocalDateTime.now());
+
+        productBytes = cacheCodec.encode(product, format);
+        popularProductsBytes = cacheCodec.encode(popularProducts, format);
+        couponIssueBytes = eventCodec.encode(couponIssueEvent, format);
+        orderDataPlatformBytes = eventCodec.encode(orderDataPlatformEvent, format);
+
+        System.out.printf("%n📦 [%s, threshold=%d] Product=%dB, PopularProducts(20)=%dB (%s), "
+                + "CouponIssueEvent=%dB, OrderDataPlatformEvent=%dB%n",
+                format, compressionThreshold, productBytes.length, popularProductsBytes.length,
+                PayloadCodec.describe(popularProductsBytes), couponIssueBytes.length, orderDataPlatformBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeProduct() {
+        return cacheCodec.encode(product, format);
+    }
+
+    @Benchmark
+    public Object decodeProduct() {
+        return cacheCodec.decode(productBytes, Object.class);
+    }
+
+    @Benchmark
+    public byte[] encodePopularProducts() {
+        return cacheCodec.encode(popularProducts, format);
+    }
+
+    @Benchmark
+    public Object decodePopularProducts() {
+        return cacheCodec.decode(popularProductsBytes, Object.class);
+    }
+
+    @Benchmark
+    public byte[] encodeCouponIssueEvent() {
+        return eventCodec.encode(couponIssueEvent, format);
+    }
+
+    @Benchmark
+    public CouponIssueEvent decodeCouponIssueEvent() {
+        return eventCodec.decode(couponIssueBytes, CouponIssueEvent.class);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderDataPlatformEvent() {
+        return eventCodec.encode(orderDataPlatformEvent, format);
+    }
+
+    @Benchmark
+    public OrderDataPlatformEvent decodeOrderDataPlatformEvent() {
+        return eventCodec.decode(orderDataPlatformBytes, OrderDataPlatformEvent.class);
+    }
+}
@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.common.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import kr.hhplus.be.server.coupon.event.CouponIssueEvent;
+import kr.hhplus.be.server.order.event.OrderDataPlatformEvent;
+
+/**
+ * Kafka 이벤트 Jackson 직렬화/역직렬화 벤치마크
+ * 
+ * ObjectMapper 설정은 Spring Boot 기본값(알 수 없는 필드 무시, ISO 날짜)에 맞춘다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private CouponIssueEvent couponIssueEvent;
+    private OrderDataPlatformEvent orderDataPlatformEvent;
+    private byte[] couponIssueJson;
+    private byte[] orderDataPlatformJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        couponIssueEvent = CouponIssueEvent.create(1L, 1001L, "REQ-BENCH-0001");
+
+        List<OrderDataPlatformEvent.OrderItemData> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new OrderDataPlatformEvent.OrderItemData((long) i + 1, "상품-" + i, 2, 15000L, 30000L));
+        }
+        orderDataPlatformEvent = new OrderDataPlatformEvent("evt-bench-0001", 1L, 1001L, 150000L,
+                "COMPLETED", items, LocalDateTime.now());
+
+        couponIssueJson = objectMapper.writeValueAsBytes(couponIssueEvent);
+        orderDataPlatformJson = objectMapper.writeValueAsBytes(orderDataPlatformEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeCouponIssueEvent() throws Exception {
+        return objectMapper.writeValueAsBytes(couponIssueEvent);
+    }
+
+    @Benchmark
+    public CouponIssueEvent deserializeCouponIssueEvent() throws Exception {
+        return objectMapper.readValue(couponIssueJson, CouponIssueEvent.class);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderDataPlatformEvent() throws Exception {
+        return objectMapper.writeValueAsBytes(orderDataPlatformEvent);
+    }
+
+    @Benchmark
+    public OrderDataPlatformEvent deserializeOrderDataPlatformEvent() throws Exception {
+        return objectMapper.readValue(orderDataPlatformJson, OrderDataPlatformEvent.class);
+    }
+}
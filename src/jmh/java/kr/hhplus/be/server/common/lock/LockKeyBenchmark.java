@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.common.lock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kr.hhplus.be.server.order.lock.OrderProcessLock;
+import kr.hhplus.be.server.product.service.ProductService;
+
+/**
+ * 분산락 키 생성 벤치마크
+ * 
+ * 락 획득 전 AOP에서 매번 수행되는 키 생성/family 추출 비용 측정
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LockKeyBenchmark {
+
+    private ProductService productService;
+    private Object[] productArgs;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        // 키 생성만 측정하므로 협력 객체는 사용하지 않음
+        productService = new ProductService(null, null, null, null, null, null, null);
+        productArgs = new Object[] { 1001L, 2 };
+        userId = 42L;
+    }
+
+    @Benchmark
+    public String orderProcessLockKey() {
+        return new OrderProcessLock(userId).getLockKey();
+    }
+
+    @Benchmark
+    public String productStockLockKey() {
+        return productService.getLockKey(productArgs);
+    }
+
+    @Benchmark
+    public String lockFamily() {
+        return LockMetrics.familyOf("ecommerce:order:process:42");
+    }
+}
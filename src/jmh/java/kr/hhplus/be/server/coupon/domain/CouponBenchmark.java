@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.coupon.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 쿠폰 할인 금액 계산 벤치마크
+ * 
+ * 주문마다 호출되는 calculateDiscountAmount (검증 + BigDecimal 연산) 비용 측정
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponBenchmark {
+
+    private Coupon fixedCoupon;
+    private Coupon percentageCoupon;
+    private BigDecimal orderAmount;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime expiredAt = LocalDateTime.now().plusYears(1);
+        fixedCoupon = new Coupon("정액 5천원", Coupon.DiscountType.FIXED, new BigDecimal("5000"),
+                1000, null, new BigDecimal("10000"), expiredAt);
+        percentageCoupon = new Coupon("10% 할인", Coupon.DiscountType.PERCENTAGE, new BigDecimal("10"),
+                1000, new BigDecimal("20000"), new BigDecimal("10000"), expiredAt);
+        orderAmount = new BigDecimal("135000");
+    }
+
+    @Benchmark
+    public BigDecimal fixedDiscount() {
+        return fixedCoupon.calculateDiscountAmount(orderAmount);
+    }
+
+    @Benchmark
+    public BigDecimal percentageDiscount() {
+        return percentageCoupon.calculateDiscountAmount(orderAmount);
+    }
+}
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.order.domain;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 주문 항목 소계 계산 벤치마크
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderItemBenchmark {
+
+    private BigDecimal price;
+    private Integer quantity;
+
+    @Setup
+    public void setUp() {
+        price = new BigDecimal("45000.00");
+        quantity = 3;
+    }
+
+    @Benchmark
+    public BigDecimal calculateSubtotal() {
+        return OrderItem.calculateSubtotal(price, quantity);
+    }
+
+    @Benchmark
+    public OrderItem createOrderItem() {
+        // 생성자 검증 + 소계 계산 포함
+        return new OrderItem(1L, 1001L, "벤치마크 상품", price, quantity);
+    }
+}
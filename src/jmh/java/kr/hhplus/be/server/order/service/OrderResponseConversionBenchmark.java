@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.order.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kr.hhplus.be.server.order.domain.Order;
+import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.dto.OrderResponse;
+
+/**
+ * Order → OrderResponse 변환 벤치마크
+ * 
+ * 주문 조회/목록 API의 DTO 변환 비용을 항목 수별로 측정 (저장소 의존성 없음)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderResponseConversionBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int itemCount;
+
+    private OrderService orderService;
+    private Order order;
+    private List<OrderItem> orderItems;
+
+    @Setup
+    public void setUp() {
+        // 변환 로직만 측정하므로 협력 객체는 사용하지 않음
+        orderService = new OrderService(null, null, null, null, null);
+        order = new Order("ORD-BENCH-0001", 1L, new BigDecimal("150000"),
+                new BigDecimal("15000"), new BigDecimal("135000"), null);
+
+        orderItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            orderItems.add(new OrderItem(1L, (long) i + 1, "상품-" + i, new BigDecimal("15000"), 1 + (i % 3)));
+        }
+    }
+
+    @Benchmark
+    public OrderResponse convertToOrderResponse() {
+        return orderService.convertToOrderResponse(order, orderItems);
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.product.snapshot;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import kr.hhplus.be.server.product.dto.ProductResponse;
+
+/**
+ * 카탈로그 스냅샷 조회 벤치마크
+ * 
+ * 100만 상품 스냅샷에서 가격 범위 경계 탐색(건수만)과 좁은 범위 응답 생성,
+ * 그리고 재고 있는 상품 전체(약 90만건) BitSet 스캔 + 응답 생성 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductCatalogSnapshotBenchmark {
+
+    @Param({ "1000000" })
+    private int products;
+
+    private ProductCatalogSnapshot snapshot;
+    private BigDecimal narrowMin;
+    private BigDecimal narrowMax;
+    private BigDecimal wideMin;
+    private BigDecimal wideMax;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        ProductCatalogSnapshot.Builder builder = ProductCatalogSnapshot.builder(products);
+        for (int i = 1; i <= products; i++) {
+            builder.add(i, "상품-" + i, BigDecimal.valueOf(random.nextLong(100_000, 200_000_000), 2),
+                    random.nextInt(10) == 0 ? 0 : random.nextInt(1, 500), createdAt);
+        }
+        snapshot = builder.build();
+        // 가격 분포가 균등하므로 폭 200원 ≈ 100건, 폭 20만원 ≈ 10만건
+        narrowMin = new BigDecimal("1000000");
+        narrowMax = new BigDecimal("1000200");
+        wideMin = new BigDecimal("1000000");
+        wideMax = new BigDecimal("1200000");
+    }
+
+    @Benchmark
+    public int countNarrowRange() {
+        return snapshot.countByPriceBetween(narrowMin, narrowMax);
+    }
+
+    @Benchmark
+    public int countWideRange() {
+        return snapshot.countByPriceBetween(wideMin, wideMax);
+    }
+
+    @Benchmark
+    public List<ProductResponse> findNarrowRange() {
+        return snapshot.findByPriceBetween(narrowMin, narrowMax);
+    }
+
+    @Benchmark
+    public List<ProductResponse> findAvailable() {
+        return snapshot.findAvailable();
+    }
+}
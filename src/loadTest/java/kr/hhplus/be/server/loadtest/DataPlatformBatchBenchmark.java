@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.external.dataplatform.DataPlatformBatchDispatcher;
+import kr.hhplus.be.server.external.dataplatform.DataPlatformProperties;
+import kr.hhplus.be.server.external.dataplatform.MockDataPlatformClient;
+import kr.hhplus.be.server.order.event.OrderDataPlatformEvent;
+
+/**
+ * 데이터 플랫폼 마이크로 배치 처리량 비교
+ * 
+ * 지연이 고정된 Mock 클라이언트에 배치 크기별로 같은 수의 이벤트를 흘려보내고,
+ * 모든 이벤트가 ack될 때까지의 처리량(events/s)을 비교한다. (Kafka 없이 Dispatcher만 측정)
+ * 
+ * 실행: ./gradlew dataPlatformBatchBenchmark -Ploadtest.batchSizes=1,10,50,200 -Ploadtest.mockLatencyMs=100
+ */
+public class DataPlatformBatchBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(DataPlatformBatchBenchmark.class);
+
+    private static final int PARTITIONS = 3;
+    private static final String TOPIC = "order-completed";
+
+    public static void main(String[] args) throws Exception {
+        int events = Integer.getInteger("loadtest.batchEvents", 5_000);
+        long latencyMs = Long.getLong("loadtest.mockLatencyMs", 100L);
+        double perEventMs = Double.parseDouble(System.getProperty("loadtest.mockPerEventLatencyMs", "1.0"));
+        int maxInFlight = Integer.getInteger("loadtest.maxInFlight", 8);
+        List<Integer> batchSizes = new ArrayList<>();
+        for (String token : System.getProperty("loadtest.batchSizes", "1,10,50,200").split(",")) {
+            batchSizes.add(Integer.parseInt(token.trim()));
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(System.lineSeparator())
+                .append(String.format("%-10s %10s %12s %14s", "batchSize", "events", "elapsed(ms)", "events/s"))
+                .append(System.lineSeparator());
+
+        for (int batchSize : batchSizes) {
+            DataPlatformProperties properties = new DataPlatformProperties();
+            properties.getMock().setBaseLatencyMs(latencyMs);
+            properties.getMock().setJitterMs(0);
+            properties.getMock().setPerEventLatencyMs(perEventMs);
+            properties.getMock().setFailureRate(0.0);
+            properties.getBatch().setMaxSize(batchSize);
+            properties.getBatch().setLingerMs(50);
+            properties.getBatch().setMaxInFlight(maxInFlight);
+
+            MockDataPlatformClient client = new MockDataPlatformClient(new ObjectMapper(), properties);
+            // 실패율 0이므로 재시도 토픽 경로(RetryTopicRouter)는 사용되지 않는다
+            DataPlatformBatchDispatcher dispatcher = new DataPlatformBatchDispatcher(client, properties, null,
+                    new SimpleMeterRegistry());
+            dispatcher.start();
+
+            CountDownLatch acked = new CountDownLatch(events);
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                dispatcher.submit(TOPIC, i % PARTITIONS, i, event(i), acked::countDown, (tp, offset) -> { });
+            }
+            if (!acked.await(10, TimeUnit.MINUTES)) {
+                log.warn("batchSize={} 시간 초과 - 미확인 {}건", batchSize, acked.getCount());
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            dispatcher.shutdown();
+
+            report.append(String.format("%-10d %10d %12d %14.1f", batchSize, events, elapsedMs,
+                    events * 1000.0 / Math.max(1, elapsedMs)))
+                    .append(System.lineSeparator());
+        }
+
+        log.info("📈 데이터 플랫폼 배치 처리량 (mock latency={}ms + {}ms/event, maxInFlight={}){}",
+                latencyMs, perEventMs, maxInFlight, report);
+    }
+
+    private static OrderDataPlatformEvent event(int sequence) {
+        return new OrderDataPlatformEvent(UUID.randomUUID().toString(), (long) sequence, (long) sequence % 1000,
+                30000L, "COMPLETED",
+                List.of(new OrderDataPlatformEvent.OrderItemData(1L, "상품-1", 1, 30000L, 30000L)),
+                LocalDateTime.now());
+    }
+}
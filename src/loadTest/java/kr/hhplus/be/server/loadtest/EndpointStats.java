@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 부하 테스트 집계
+ * 
+ * - rejected: 4xx (매진/중복 발급 등 예상된 비즈니스 거절)
+ * - errors: 5xx 또는 연결 실패/타임아웃
+ */
+class EndpointStats {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long micros, int status) {
+        latency.record(micros);
+        if (status >= 500 || status <= 0) {
+            errors.increment();
+        } else if (status >= 400) {
+            rejected.increment();
+        }
+    }
+
+    String format(double elapsedSeconds) {
+        long requests = latency.count();
+        double errorRate = requests == 0 ? 0.0 : errors.sum() * 100.0 / requests;
+        return String.format("%-28s %9d %10.1f %8.2f %8.2f %8.2f %8.2f %9d %7.2f%%",
+                name, requests, requests / elapsedSeconds,
+                latency.meanMillis(), latency.percentileMillis(50),
+                latency.percentileMillis(95), latency.percentileMillis(99),
+                rejected.sum(), errorRate);
+    }
+
+    static String header() {
+        return String.format("%-28s %9s %10s %8s %8s %8s %8s %9s %8s",
+                "endpoint", "requests", "req/s", "mean ms", "p50 ms", "p95 ms", "p99 ms", "rejected", "errors");
+    }
+}
@@ -0,0 +1,143 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+
+/**
+ * 발급 사용자 인덱스 메모리 비교 (Redis Set vs 청크 Bitmap)
+ * 
+ * CouponIssuedIndex와 같은 키 구조로 N명을 기록한 뒤 MEMORY USAGE 합계를 비교한다.
+ * - dense: userId 1..N (연속 ID)
+ * - sparse: N명을 64비트 ID 공간에 흩뿌림 (청크 분할 효과 확인)
+ * 
+ * 실행: ./gradlew issuedIndexBenchmark -Ploadtest.indexUsers=1000000,10000000
+ */
+public class IssuedIndexMemoryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(IssuedIndexMemoryBenchmark.class);
+
+    private static final int CHUNK_BITS = 20;
+    private static final int PIPELINE_BATCH = 10_000;
+
+    public static void main(String[] args) {
+        String raw = System.getProperty("loadtest.indexUsers", "1000000,10000000");
+        List<Integer> sizes = new ArrayList<>();
+        for (String token : raw.split(",")) {
+            sizes.add(Integer.parseInt(token.trim()));
+        }
+
+        try (GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(6379)) {
+            redis.start();
+            RedisClient client = RedisClient.create("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+            try (StatefulRedisConnection<String, String> connection = client.connect()) {
+                StringBuilder report = new StringBuilder();
+                report.append(System.lineSeparator())
+                        .append(String.format("%-10s %-8s %14s %14s %10s", "users", "layout", "set(bytes)",
+                                "bitmap(bytes)", "ratio"))
+                        .append(System.lineSeparator());
+
+                for (int users : sizes) {
+                    for (boolean sparse : new boolean[] { false, true }) {
+                        connection.sync().flushall();
+                        long setBytes = fillSet(connection, users, sparse);
+                        connection.sync().flushall();
+                        long bitmapBytes = fillBitmap(connection, users, sparse);
+
+                        report.append(String.format("%-10d %-8s %14d %14d %9.1fx", users,
+                                sparse ? "sparse" : "dense", setBytes, bitmapBytes,
+                                (double) setBytes / Math.max(bitmapBytes, 1)))
+                                .append(System.lineSeparator());
+                    }
+                }
+                System.out.println(report);
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    private static long fillSet(StatefulRedisConnection<String, String> connection, int users, boolean sparse) {
+        RedisAsyncCommands<String, String> async = connection.async();
+        List<RedisFuture<?>> futures = new ArrayList<>(PIPELINE_BATCH);
+        connection.setAutoFlushCommands(false);
+        for (int i = 1; i <= users; i++) {
+            futures.add(async.sadd("coupon:issued:1", String.valueOf(userId(i, sparse))));
+            if (futures.size() == PIPELINE_BATCH) {
+                flush(connection, futures);
+            }
+        }
+        flush(connection, futures);
+        connection.setAutoFlushCommands(true);
+        return memoryUsage(connection.sync(), "coupon:issued:1");
+    }
+
+    private static long fillBitmap(StatefulRedisConnection<String, String> connection, int users, boolean sparse) {
+        RedisAsyncCommands<String, String> async = connection.async();
+        List<RedisFuture<?>> futures = new ArrayList<>(PIPELINE_BATCH);
+        long mask = (1L << CHUNK_BITS) - 1;
+        connection.setAutoFlushCommands(false);
+        for (int i = 1; i <= users; i++) {
+            long userId = userId(i, sparse);
+            futures.add(async.setbit("coupon:issued:bitmap:1:" + (userId >>> CHUNK_BITS), userId & mask, 1));
+            if (futures.size() == PIPELINE_BATCH) {
+                flush(connection, futures);
+            }
+        }
+        flush(connection, futures);
+        connection.setAutoFlushCommands(true);
+        return memoryUsage(connection.sync(), "coupon:issued:bitmap:1:*");
+    }
+
+    /**
+     * sparse: 64비트 곱셈 해시로 ID를 넓은 공간(2^40)에 흩뿌림
+     */
+    private static long userId(int sequence, boolean sparse) {
+        return sparse ? (sequence * 0x9E3779B97F4A7C15L >>> 24) : sequence;
+    }
+
+    private static void flush(StatefulRedisConnection<String, String> connection, List<RedisFuture<?>> futures) {
+        if (futures.isEmpty()) {
+            return;
+        }
+        connection.flushCommands();
+        if (!LettuceFutures.awaitAll(60, TimeUnit.SECONDS, futures.toArray(new RedisFuture[0]))) {
+            log.warn("파이프라인 응답 대기 시간 초과");
+        }
+        futures.clear();
+    }
+
+    private static long memoryUsage(RedisCommands<String, String> sync, String pattern) {
+        if (!pattern.endsWith("*")) {
+            Long usage = sync.memoryUsage(pattern);
+            return usage != null ? usage : 0;
+        }
+        long total = 0;
+        ScanCursor cursor = ScanCursor.INITIAL;
+        do {
+            KeyScanCursor<String> page = sync.scan(cursor, ScanArgs.Builder.matches(pattern).limit(1000));
+            for (String key : page.getKeys()) {
+                Long usage = sync.memoryUsage(key);
+                total += usage != null ? usage : 0;
+            }
+            cursor = page;
+        } while (!cursor.isFinished());
+        return total;
+    }
+}
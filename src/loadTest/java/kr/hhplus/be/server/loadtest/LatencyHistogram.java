@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 버킷 지연시간 히스토그램 (마이크로초)
+ * 
+ * - 2의 거듭제곱 구간을 16개 하위 버킷으로 나눠 상대 오차 약 6% 이내
+ * - AtomicLongArray 기반이라 가상 스레드 수백 개가 동시에 기록해도 락 경합 없음
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    void record(long micros) {
+        long value = Math.max(0, micros);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    double meanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : sum.sum() / (double) n / 1000.0;
+    }
+
+    /**
+     * 백분위 지연시간 (밀리초)
+     * 
+     * @param percentile 0~100
+     */
+    double percentileMillis(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0.0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return valueOf(i) / 1000.0;
+            }
+        }
+        return valueOf(BUCKET_COUNT - 1) / 1000.0;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) ((value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long valueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int mantissa = index % SUB_BUCKETS;
+        // 버킷 상한값 반환 (보수적 백분위)
+        return ((long) (SUB_BUCKETS + mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 시나리오 정의
+ * 
+ * 가상 사용자는 매 반복마다 가중치에 따라 시나리오 하나를 골라 실행한다.
+ */
+enum LoadScenario {
+
+    /**
+     * 선착순 쿠폰 발급 (비동기 발급 API, 사용자마다 1회)
+     */
+    FLASH_SALE(30),
+
+    /**
+     * 주문/결제 (잔액 차감 + 재고 차감 + 분산락)
+     */
+    CHECKOUT(20),
+
+    /**
+     * 상품 목록/상세 조회
+     */
+    BROWSE(35),
+
+    /**
+     * 인기 상품 랭킹 조회 (일간/3일)
+     */
+    RANKING(15);
+
+    private final int weight;
+
+    LoadScenario(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * "flash_sale,browse" 형태의 설정 파싱 (비어있으면 전체)
+     */
+    static List<LoadScenario> parse(String value) {
+        if (value == null || value.isBlank() || "all".equalsIgnoreCase(value)) {
+            return List.of(values());
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .map(LoadScenario::valueOf)
+                .toList();
+    }
+
+    static LoadScenario pick(List<LoadScenario> scenarios) {
+        int totalWeight = scenarios.stream().mapToInt(s -> s.weight).sum();
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (LoadScenario scenario : scenarios) {
+            r -= scenario.weight;
+            if (r < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+}
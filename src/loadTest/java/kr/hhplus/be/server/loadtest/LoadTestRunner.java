@@ -0,0 +1,283 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import kr.hhplus.be.server.ServerApplication;
+import kr.hhplus.be.server.balance.domain.UserBalance;
+import kr.hhplus.be.server.balance.repository.UserBalanceRepository;
+import kr.hhplus.be.server.coupon.domain.Coupon;
+import kr.hhplus.be.server.coupon.repository.CouponRepository;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.repository.ProductRepository;
+
+/**
+ * 로컬 재현 가능한 종단간 부하 테스트
+ * 
+ * 1. Testcontainers로 MySQL / Redis / Kafka 기동
+ * 2. 같은 JVM에서 애플리케이션을 loadtest 프로필로 기동 (랜덤 포트)
+ * 3. 부하용 데이터 시드 (대용량 재고 상품, 충전된 사용자, 선착순 쿠폰)
+ * 4. 가상 스레드 기반 HTTP 클라이언트로 시나리오 실행 후 엔드포인트별 결과 출력
+ * 
+ * 실행: ./gradlew loadTest -Ploadtest.duration=60 -Ploadtest.concurrency=500 -Ploadtest.scenarios=flash_sale,checkout
+ * 
+ * 동시성 단계별 비교: -Ploadtest.concurrencySteps=100,200,400,800 (단계마다 결과 출력)
+ * 가상 스레드 프로필 비교: -Ploadtest.profiles=virtual
+ */
+public class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final int DEFAULT_DURATION_SECONDS = 30;
+    private static final int DEFAULT_CONCURRENCY = 200;
+    private static final int DEFAULT_USERS = 2000;
+    private static final int WARMUP_SECONDS = 5;
+
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", DEFAULT_DURATION_SECONDS);
+    private final List<Integer> concurrencySteps = parseSteps(System.getProperty("loadtest.concurrencySteps"),
+            Integer.getInteger("loadtest.concurrency", DEFAULT_CONCURRENCY));
+    private final String extraProfiles = System.getProperty("loadtest.profiles", "");
+    private final int userCount = Integer.getInteger("loadtest.users", DEFAULT_USERS);
+    private final List<LoadScenario> scenarios = LoadScenario.parse(System.getProperty("loadtest.scenarios"));
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong flashSaleUserSequence = new AtomicLong();
+
+    private HttpClient httpClient;
+    private String baseUrl;
+    private int concurrency;
+    private Long loadProductId;
+    private Long flashSaleCouponId;
+    private List<Long> browseProductIds;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    private void run() throws Exception {
+        try (MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("hhplus").withUsername("application").withPassword("application");
+                GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                        .withExposedPorts(6379);
+                KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.0"))) {
+
+            log.info("🐳 컨테이너 기동 중 (MySQL, Redis, Kafka)...");
+            mysql.start();
+            redis.start();
+            kafka.start();
+
+            try (ConfigurableApplicationContext context = startApplication(mysql, redis, kafka);
+                    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                baseUrl = "http://localhost:" + port;
+                httpClient = HttpClient.newBuilder()
+                        .executor(executor)
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+
+                seed(context);
+
+                concurrency = concurrencySteps.get(0);
+                log.info("🔥 워밍업 {}초", WARMUP_SECONDS);
+                drive(executor, WARMUP_SECONDS);
+
+                for (int step : concurrencySteps) {
+                    concurrency = step;
+                    stats.clear();
+
+                    log.info("🚀 부하 시작: scenarios={}, concurrency={}, duration={}s, profiles={}",
+                            scenarios, concurrency, durationSeconds, activeProfiles());
+                    long start = System.nanoTime();
+                    drive(executor, durationSeconds);
+                    double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                    printReport(elapsedSeconds);
+                }
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(MySQLContainer<?> mysql, GenericContainer<?> redis,
+            KafkaContainer kafka) {
+        String redisHost = redis.getHost();
+        String redisPort = String.valueOf(redis.getMappedPort(6379));
+
+        // 커맨드라인 인자는 프로필 YAML보다 우선순위가 높다
+        String[] args = {
+                "--spring.profiles.active=" + activeProfiles(),
+                "--server.port=0",
+                "--spring.datasource.url=" + mysql.getJdbcUrl(),
+                "--spring.datasource.username=" + mysql.getUsername(),
+                "--spring.datasource.password=" + mysql.getPassword(),
+                "--spring.data.redis.host=" + redisHost,
+                "--spring.data.redis.port=" + redisPort,
+                "--app.redis.host=" + redisHost,
+                "--app.redis.port=" + redisPort,
+                "--spring.kafka.bootstrap-servers=" + kafka.getBootstrapServers(),
+                "--app.kafka.bootstrap-servers=" + kafka.getBootstrapServers()
+        };
+        return SpringApplication.run(ServerApplication.class, args);
+    }
+
+    private String activeProfiles() {
+        return extraProfiles.isBlank() ? "loadtest" : "loadtest," + extraProfiles.trim();
+    }
+
+    private static List<Integer> parseSteps(String raw, int fallback) {
+        if (raw == null || raw.isBlank()) {
+            return List.of(fallback);
+        }
+        return Arrays.stream(raw.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(Integer::parseInt)
+                .toList();
+    }
+
+    /**
+     * 부하용 데이터 시드 - 시나리오가 재고/잔액 부족으로 조기 종료되지 않도록 넉넉히 준비
+     */
+    private void seed(ConfigurableApplicationContext context) {
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        UserBalanceRepository userBalanceRepository = context.getBean(UserBalanceRepository.class);
+        CouponRepository couponRepository = context.getBean(CouponRepository.class);
+
+        loadProductId = productRepository.save(new Product("부하테스트 상품", new BigDecimal("10000"), 10_000_000)).getId();
+        browseProductIds = productRepository.findAll().stream().map(Product::getId).toList();
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            UserBalance balance = new UserBalance(userId);
+            for (int i = 0; i < 9; i++) {
+                balance.charge(new BigDecimal("1000000"));
+            }
+            userBalanceRepository.save(balance);
+        }
+
+        flashSaleCouponId = couponRepository.save(new Coupon("부하테스트 선착순 쿠폰", Coupon.DiscountType.FIXED,
+                new BigDecimal("1000"), userCount / 2, null, BigDecimal.ZERO,
+                LocalDateTime.now().plusDays(1))).getId();
+
+        log.info("🌱 시드 완료: users={}, loadProductId={}, couponId={}", userCount, loadProductId, flashSaleCouponId);
+    }
+
+    private void drive(ExecutorService executor, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<?>> users = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            users.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    execute(LoadScenario.pick(scenarios));
+                }
+            }));
+        }
+        for (Future<?> user : users) {
+            try {
+                user.get();
+            } catch (ExecutionException e) {
+                log.warn("가상 사용자 비정상 종료: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void execute(LoadScenario scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = random.nextLong(1, userCount + 1);
+
+        switch (scenario) {
+            case FLASH_SALE -> {
+                // 사용자마다 한 번씩 요청 (순번이 사용자 수를 넘으면 중복 요청 → 409 거절로 집계)
+                long flashUserId = flashSaleUserSequence.incrementAndGet();
+                post("POST /api/coupons/async/issue", "/api/coupons/async/issue",
+                        "{\"userId\":" + flashUserId + ",\"couponId\":" + flashSaleCouponId + "}");
+            }
+            case CHECKOUT -> post("POST /api/v1/orders", "/api/v1/orders",
+                    "{\"userId\":" + userId + ",\"items\":[{\"productId\":" + loadProductId + ",\"quantity\":1}]}");
+            case BROWSE -> {
+                if (random.nextBoolean()) {
+                    get("GET /api/v1/products", "/api/v1/products");
+                } else {
+                    Long productId = browseProductIds.get(random.nextInt(browseProductIds.size()));
+                    get("GET /api/v1/products/{id}", "/api/v1/products/" + productId);
+                }
+            }
+            case RANKING -> {
+                if (random.nextBoolean()) {
+                    get("GET /api/ranking/products/daily", "/api/ranking/products/daily?limit=10");
+                } else {
+                    get("GET /api/ranking/products/weekly", "/api/ranking/products/weekly?limit=10");
+                }
+            }
+        }
+    }
+
+    private void get(String endpoint, String path) {
+        send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private void post(String endpoint, String path, String body) {
+        send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private void send(String endpoint, HttpRequest.Builder builder) {
+        HttpRequest request = builder.timeout(Duration.ofSeconds(10)).build();
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = -1;
+        } catch (Exception e) {
+            status = -1;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        stats.computeIfAbsent(endpoint, EndpointStats::new).record(micros, status);
+    }
+
+    private void printReport(double elapsedSeconds) {
+        StringBuilder report = new StringBuilder();
+        report.append(System.lineSeparator())
+                .append(String.format("=== 부하 테스트 결과 (%.1fs, concurrency=%d, profiles=%s) ===",
+                        elapsedSeconds, concurrency, activeProfiles()))
+                .append(System.lineSeparator())
+                .append(EndpointStats.header())
+                .append(System.lineSeparator());
+
+        stats.keySet().stream().sorted().forEach(endpoint -> report
+                .append(stats.get(endpoint).format(elapsedSeconds))
+                .append(System.lineSeparator()));
+
+        System.out.println(report);
+    }
+}
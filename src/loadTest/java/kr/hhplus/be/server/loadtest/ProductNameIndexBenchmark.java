@@ -0,0 +1,121 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import kr.hhplus.be.server.product.search.ProductNameIndex;
+import kr.hhplus.be.server.product.search.ProductNameTokenizer;
+
+/**
+ * 상품명 검색 비교 (선형 contains 스캔 vs bigram 역색인)
+ * 
+ * 브랜드/품목/옵션 + 임의 음절 모델명으로 합성 카탈로그를 만들고, 같은 검색어 집합에 대해
+ * DB LIKE '%q%'와 같은 방식인 전체 스캔(일치 전부 수집)과 색인 검색(점수 상위 limit개)의 질의당 지연을 비교한다.
+ * (DB 없이 메모리 내 측정이므로 스캔 쪽은 네트워크/디스크 비용이 빠진 하한값)
+ * 
+ * 실행: ./gradlew productNameIndexBenchmark -Ploadtest.catalogSize=1000000 -Ploadtest.searchQueries=200
+ */
+public class ProductNameIndexBenchmark {
+
+    private static final String[] BRANDS = { "삼성", "애플", "엘지", "샤오미", "소니", "레노버", "로지텍", "다이슨", "나이키", "아디다스" };
+    private static final String[] ITEMS = { "노트북", "스마트폰", "태블릿", "무선 이어폰", "블루투스 스피커", "기계식 키보드",
+            "게이밍 마우스", "모니터", "청소기", "운동화", "백팩", "스마트워치", "충전기", "보조배터리", "케이스" };
+    private static final String[] OPTIONS = { "프로", "에어", "울트라", "미니", "라이트", "플러스", "2024", "2025", "블랙",
+            "화이트", "실버", "Pro", "Max", "SE" };
+    private static final String[] QUERIES = { "노트북", "무선 이어폰", "삼성 스마트폰", "애플 태블릿 프로", "pro",
+            "배터리 미니", "다이슨 청소기", "존재하지않는상품" };
+    private static final int MODEL_QUERIES = 4;
+
+    public static void main(String[] args) {
+        int catalogSize = Integer.getInteger("loadtest.catalogSize", 1_000_000);
+        int queries = Integer.getInteger("loadtest.searchQueries", 200);
+        int limit = Integer.getInteger("loadtest.searchLimit", 100);
+
+        Random random = new Random(42);
+        String[] names = new String[catalogSize];
+        String[] normalized = new String[catalogSize];
+        for (int i = 0; i < catalogSize; i++) {
+            names[i] = BRANDS[random.nextInt(BRANDS.length)] + " " + ITEMS[random.nextInt(ITEMS.length)] + " "
+                    + OPTIONS[random.nextInt(OPTIONS.length)] + " " + modelName(random);
+            normalized[i] = ProductNameTokenizer.normalize(names[i]);
+        }
+
+        ProductNameIndex index = new ProductNameIndex();
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < catalogSize; i++) {
+            index.upsert(i + 1L, names[i]);
+        }
+        long buildMs = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // 고정 검색어 + 카탈로그에 실제 있는 모델명 (선택도가 높은 검색)
+        List<String> searchTerms = new ArrayList<>(List.of(QUERIES));
+        for (int i = 0; i < MODEL_QUERIES; i++) {
+            String[] words = names[random.nextInt(catalogSize)].split(" ");
+            searchTerms.add(words[words.length - 1]);
+        }
+
+        // JIT 워밍업
+        for (int i = 0; i < Math.min(queries, 50); i++) {
+            String query = searchTerms.get(i % searchTerms.size());
+            linearScan(normalized, ProductNameTokenizer.normalize(query));
+            index.search(query, limit);
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(System.lineSeparator())
+                .append(String.format("catalog=%d, build=%dms, grams=%d", catalogSize, buildMs, index.gramCount()))
+                .append(System.lineSeparator())
+                .append(String.format("%-20s %10s %14s %14s %9s", "query", "matches", "scan(ms/q)", "index(ms/q)",
+                        "speedup"))
+                .append(System.lineSeparator());
+
+        int perQuery = Math.max(1, queries / searchTerms.size());
+        for (String query : searchTerms) {
+            String normalizedQuery = ProductNameTokenizer.normalize(query);
+
+            long scanStart = System.nanoTime();
+            int matches = 0;
+            for (int i = 0; i < perQuery; i++) {
+                matches = linearScan(normalized, normalizedQuery).size();
+            }
+            double scanMs = (System.nanoTime() - scanStart) / 1_000_000.0 / perQuery;
+
+            long indexStart = System.nanoTime();
+            for (int i = 0; i < perQuery; i++) {
+                index.search(query, limit);
+            }
+            double indexMs = (System.nanoTime() - indexStart) / 1_000_000.0 / perQuery;
+
+            report.append(String.format("%-20s %10d %14.3f %14.3f %8.1fx", query, matches, scanMs, indexMs,
+                    scanMs / Math.max(indexMs, 0.001)))
+                    .append(System.lineSeparator());
+        }
+        System.out.println(report);
+    }
+
+    /**
+     * findByNameContainingIgnoreCase와 같은 방식 - 모든 이름을 확인하고 일치 전부 반환
+     */
+    private static List<Integer> linearScan(String[] normalized, String query) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < normalized.length; i++) {
+            if (normalized[i].contains(query)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 임의 한글 음절 2~3자 + 숫자 모델명 (gram 다양성 확보)
+     */
+    private static String modelName(Random random) {
+        StringBuilder model = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            model.append((char) ('가' + random.nextInt(11_172)));
+        }
+        return model.append(random.nextInt(100)).toString();
+    }
+}
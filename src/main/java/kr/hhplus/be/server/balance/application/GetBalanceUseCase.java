@@ -6,6 +6,7 @@ import kr.hhplus.be.server.balance.dto.BalanceHistoryResponse;
 import kr.hhplus.be.server.balance.dto.BalanceResponse;
 import kr.hhplus.be.server.balance.service.BalanceService;
 import kr.hhplus.be.server.common.annotation.UseCase;
+import kr.hhplus.be.server.common.replica.ReplicaRead;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -29,6 +30,7 @@ public class GetBalanceUseCase {
     /**
      * 잔액 이력 조회 유스케이스 실행
      */
+    @ReplicaRead
     public List<BalanceHistoryResponse> executeHistoryQuery(Long userId, int limit) {
         return balanceService.getBalanceHistories(userId, limit);
     }
@@ -46,6 +46,10 @@ public class UserBalance {
     // @Version // 분산락 환경에서는 버전 체크 불필요
     // private Long version;
 
+    // 펜싱 토큰 가드 컬럼 - 조건부 UPDATE 쿼리로만 갱신
+    @Column(name = "fencing_token", insertable = false, updatable = false)
+    private Long fencingToken;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -1,9 +1,12 @@
 package kr.hhplus.be.server.balance.infrastructure.repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -35,4 +38,24 @@ public interface UserBalanceJpaRepository extends JpaRepository<UserBalance, Lon
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ub FROM UserBalance ub WHERE ub.userId = :userId")
     Optional<UserBalance> findByUserIdWithPessimisticLock(@Param("userId") Long userId);
+
+    /**
+     * 펜싱 토큰 가드 잔액 차감
+     * 🔒 더 큰 토큰으로 이미 갱신된 경우 0건 반영
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserBalance ub SET ub.balance = ub.balance - :amount, " +
+            "ub.fencingToken = :fencingToken, ub.updatedAt = :now " +
+            "WHERE ub.userId = :userId AND ub.balance >= :amount " +
+            "AND (ub.fencingToken IS NULL OR ub.fencingToken <= :fencingToken)")
+    int deductWithFencing(@Param("userId") Long userId,
+            @Param("amount") BigDecimal amount,
+            @Param("fencingToken") Long fencingToken,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 펜싱 토큰 조회 (가드 UPDATE 0건 원인 구분용, 영속성 컨텍스트를 거치지 않음)
+     */
+    @Query("SELECT ub.fencingToken FROM UserBalance ub WHERE ub.userId = :userId")
+    Long findFencingTokenByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
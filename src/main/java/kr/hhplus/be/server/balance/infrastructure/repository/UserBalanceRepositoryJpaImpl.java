@@ -1,15 +1,20 @@
 package kr.hhplus.be.server.balance.infrastructure.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.hhplus.be.server.balance.domain.BalanceHistory;
 import kr.hhplus.be.server.balance.domain.UserBalance; //  통합된 Entity+Domain
+import kr.hhplus.be.server.balance.exception.InsufficientBalanceException;
 import kr.hhplus.be.server.balance.repository.BalanceHistoryRepository;
 import kr.hhplus.be.server.balance.repository.UserBalanceRepository;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.lock.StaleFencingTokenException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -111,4 +116,46 @@ public class UserBalanceRepositoryJpaImpl implements UserBalanceRepository {
         
         log.debug("💳 잔액 차감 완료: userId = {}, 차감 후 잔액 = {}", userId, savedBalance.getBalance());
     }
+
+    @Override
+    @Transactional
+    public void deductBalanceWithTransaction(Long userId, BigDecimal amount, String orderId, Long fencingToken) {
+        if (fencingToken == null) {
+            deductBalanceWithTransaction(userId, amount, orderId);
+            return;
+        }
+
+        log.debug("💳 펜싱 잔액 차감 처리 시작: userId = {}, amount = {}, token = {}", userId, amount, fencingToken);
+
+        // 1. 사전 검증 - 엔티티를 변경하면 UPDATE 전 자동 flush로 이중 차감되므로 조회만 수행
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("차감 금액은 0보다 커야 합니다.");
+        }
+        UserBalance userBalance = findByUserId(userId)
+                .orElseThrow(() -> {
+                    log.error("잔액 차감 실패 - 사용자 잔액 없음: userId = {}", userId);
+                    return new IllegalArgumentException("사용자 잔액을 찾을 수 없습니다.");
+                });
+        if (!userBalance.hasEnoughBalance(amount)) {
+            throw new InsufficientBalanceException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        // 2. 가드 컬럼 조건부 차감
+        int updated = jpaRepository.deductWithFencing(userId, amount, fencingToken, LocalDateTime.now());
+        if (updated == 0) {
+            // 0건 반영 원인 구분: 더 큰 토큰으로 이미 갱신됐으면 펜싱 거부, 아니면 조회 이후 잔액 부족
+            Long currentToken = jpaRepository.findFencingTokenByUserId(userId);
+            if (currentToken != null && currentToken > fencingToken) {
+                throw new StaleFencingTokenException("user_balances:" + userId, fencingToken);
+            }
+            throw new InsufficientBalanceException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        // 3. 히스토리 저장 (차감 후 잔액 재조회)
+        UserBalance deducted = jpaRepository.findByUserId(userId).orElseThrow();
+        balanceHistoryRepository.save(BalanceHistory.createPaymentHistory(
+                userId, amount, deducted.getBalance(), orderId));
+
+        log.debug("💳 펜싱 잔액 차감 완료: userId = {}, 차감 후 잔액 = {}", userId, deducted.getBalance());
+    }
 }
@@ -80,4 +80,14 @@ public interface UserBalanceRepository {
      * @param orderId 주문 ID
      */
     void deductBalanceWithTransaction(Long userId, java.math.BigDecimal amount, String orderId);
+
+    /**
+     * 펜싱 토큰 가드 잔액 차감을 트랜잭션과 함께 처리
+     * 
+     * @param userId 사용자 ID
+     * @param amount 차감 금액
+     * @param orderId 주문 ID
+     * @param fencingToken 주문 락의 펜싱 토큰 (null이면 가드 없이 차감)
+     */
+    void deductBalanceWithTransaction(Long userId, java.math.BigDecimal amount, String orderId, Long fencingToken);
 }
@@ -65,6 +65,18 @@ public class BalanceService {
                 userBalanceRepository.deductBalanceWithTransaction(userId, amount, orderId);
         }
 
+        /**
+         * 잔액 차감 - 펜싱 토큰 가드 적용
+         * 락 리스가 만료된 뒤 늦게 도착한 차감은 StaleFencingTokenException으로 거부된다.
+         */
+        public void deductBalance(Long userId, BigDecimal amount, String orderId, Long fencingToken) {
+                if (fencingToken == null) {
+                        deductBalance(userId, amount, orderId);
+                        return;
+                }
+                userBalanceRepository.deductBalanceWithTransaction(userId, amount, orderId, fencingToken);
+        }
+
         public void refundBalance(Long userId, BigDecimal amount, String orderId) {
                 UserBalance userBalance = userBalanceRepository.findByUserId(userId)
                                 .orElseThrow(() -> {
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.common.codec;
+
+/**
+ * 값 직렬화 포맷
+ */
+public enum CodecFormat {
+    /**
+     * 텍스트 JSON (기존 포맷, 사람이 읽을 수 있음)
+     */
+    JSON,
+
+    /**
+     * Jackson Smile 바이너리 JSON (필드명/문자열 back-reference로 크기 축소)
+     */
+    SMILE
+}
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.common.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Kafka 값 Deserializer - __TypeId__ 헤더로 타입을 정하고 JSON/Smile/LZ4를 자동 감지
+ * 
+ * 기존 JsonSerializer로 발행된 메시지도 같은 헤더와 JSON 본문이므로 그대로 읽힌다.
+ * 타입은 JsonDeserializer의 trusted packages와 같은 규칙(패키지명 단순 패턴 일치)으로 제한한다.
+ */
+public class CodecKafkaDeserializer implements Deserializer<Object> {
+
+    private final PayloadCodec codec;
+    private final String[] trustedPackages;
+    private final Map<String, Class<?>> typeCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param trustedPackages 허용 패키지 패턴 (예: "kr.hhplus.be.server.*.event")
+     */
+    public CodecKafkaDeserializer(PayloadCodec codec, String... trustedPackages) {
+        this.codec = codec;
+        this.trustedPackages = trustedPackages;
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return data == null ? null : codec.decode(data, Object.class);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header typeHeader = headers.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        Class<?> type = typeHeader != null
+                ? resolve(new String(typeHeader.value(), StandardCharsets.UTF_8))
+                : Object.class;
+        return codec.decode(data, type);
+    }
+
+    private Class<?> resolve(String className) {
+        if (!PatternMatchUtils.simpleMatch(trustedPackages, ClassUtils.getPackageName(className))) {
+            throw new SerializationException("신뢰하지 않는 타입입니다: " + className);
+        }
+        return typeCache.computeIfAbsent(className, name -> {
+            try {
+                return Class.forName(name, false, CodecKafkaDeserializer.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new SerializationException("이벤트 타입을 찾을 수 없습니다: " + name, e);
+            }
+        });
+    }
+}
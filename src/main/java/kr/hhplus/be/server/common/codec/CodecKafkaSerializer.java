@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.common.codec;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+/**
+ * Kafka 값 Serializer - 토픽별 포맷으로 직렬화
+ * 
+ * JsonSerializer와 같은 __TypeId__ 헤더를 기록하므로 기존 JsonDeserializer Consumer도 JSON 토픽은 그대로 읽는다.
+ */
+public class CodecKafkaSerializer implements Serializer<Object> {
+
+    private final PayloadCodec codec;
+    private final CodecProperties properties;
+
+    public CodecKafkaSerializer(PayloadCodec codec, CodecProperties properties) {
+        this.codec = codec;
+        this.properties = properties;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return data == null ? null : codec.encode(data, properties.topicFormat(topic));
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                data.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        return serialize(topic, data);
+    }
+}
@@ -0,0 +1,62 @@
+package kr.hhplus.be.server.common.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 캐시/Kafka 값 코덱 설정 Properties
+ * 
+ * 읽기는 항상 포맷 자동 감지(JSON/Smile/LZ4)이므로 쓰기 포맷만 선택한다.
+ * 캐시와 Kafka 토픽 모두 읽는 쪽(이전 직렬화기 노드/Consumer)이 이 코덱으로 배포된 뒤에 SMILE/LZ4로 전환해야 한다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.codec")
+public class CodecProperties {
+
+    /**
+     * 캐시 기본 쓰기 포맷 (롤링 배포 중 이전 노드가 읽을 수 있도록 JSON, 배포 후 caches로 캐시별 SMILE 전환)
+     */
+    private CodecFormat cacheDefault = CodecFormat.JSON;
+
+    /**
+     * 캐시별 쓰기 포맷 (캐시명 → 포맷)
+     */
+    private Map<String, CodecFormat> caches = new HashMap<>();
+
+    /**
+     * Kafka 기본 쓰기 포맷
+     */
+    private CodecFormat topicDefault = CodecFormat.JSON;
+
+    /**
+     * 토픽별 쓰기 포맷 (토픽명 → 포맷)
+     */
+    private Map<String, CodecFormat> topics = new HashMap<>();
+
+    /**
+     * 캐시 값: 이 크기(바이트) 이상이면 LZ4 압축 (0 이하면 압축 안 함, 기본 꺼짐)
+     * 이전 직렬화기 노드는 압축 값을 읽지 못하므로 모든 노드 배포 후에 켠다.
+     */
+    private int compressionThreshold = 0;
+
+    /**
+     * Kafka 값: 이 크기(바이트) 이상이면 LZ4 압축 (0 이하면 압축 안 함, 기본 꺼짐)
+     * Producer가 배치 단위로 압축(compression-type)하므로 기본은 끄고,
+     * 켜려면 기존 JsonDeserializer Consumer가 모두 이 코덱으로 배포된 뒤에 켠다.
+     */
+    private int kafkaCompressionThreshold = 0;
+
+    public CodecFormat cacheFormat(String cacheName) {
+        return caches.getOrDefault(cacheName, cacheDefault);
+    }
+
+    public CodecFormat topicFormat(String topic) {
+        return topics.getOrDefault(topic, topicDefault);
+    }
+}
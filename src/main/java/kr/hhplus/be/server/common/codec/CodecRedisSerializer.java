@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.common.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값 RedisSerializer - 지정 포맷으로 쓰고, 읽을 때는 JSON/Smile/LZ4를 자동 감지
+ */
+public class CodecRedisSerializer implements RedisSerializer<Object> {
+
+    private final PayloadCodec codec;
+    private final CodecFormat format;
+
+    public CodecRedisSerializer(PayloadCodec codec, CodecFormat format) {
+        this.codec = codec;
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return codec.encode(value, format);
+        } catch (RuntimeException e) {
+            throw new SerializationException("캐시 값 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return codec.decode(bytes, Object.class);
+        } catch (RuntimeException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+}
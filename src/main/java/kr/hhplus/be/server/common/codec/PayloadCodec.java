@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.common.codec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * 포맷 자동 감지 값 코덱
+ * 
+ * 바이트 레이아웃:
+ * - JSON  : 그대로 ({, [, " 등 텍스트 시작)
+ * - SMILE : Smile 헤더 ":)\n"로 시작
+ * - LZ4   : [0xF1 'L' '4'][원본 길이 int][압축 블록] - 원본은 JSON 또는 SMILE
+ * 
+ * 읽기는 선두 바이트로 포맷을 판별하므로 기존 JSON 값과 신규 바이너리 값이 섞여 있어도 모두 해석된다.
+ */
+public class PayloadCodec {
+
+    private static final byte[] LZ4_MAGIC = { (byte) 0xF1, 'L', '4' };
+    private static final int LZ4_HEADER_LENGTH = LZ4_MAGIC.length + Integer.BYTES;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    /**
+     * @param jsonMapper           기준 ObjectMapper (모듈/타입 정보 설정을 Smile에도 그대로 복사)
+     * @param compressionThreshold 압축 기준 크기 (0 이하면 압축 안 함)
+     */
+    public PayloadCodec(ObjectMapper jsonMapper, int compressionThreshold) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = jsonMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES) // 반복되는 클래스명/문자열 참조로 축약
+                .build());
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public byte[] encode(Object value, CodecFormat format) {
+        try {
+            byte[] raw = format == CodecFormat.SMILE
+                    ? smileMapper.writeValueAsBytes(value)
+                    : jsonMapper.writeValueAsBytes(value);
+            return compressionThreshold > 0 && raw.length >= compressionThreshold ? compress(raw) : raw;
+        } catch (IOException e) {
+            throw new UncheckedIOException("값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        byte[] raw = isCompressed(bytes) ? decompress(bytes) : bytes;
+        try {
+            return isSmile(raw) ? smileMapper.readValue(raw, type) : jsonMapper.readValue(raw, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("값 역직렬화 실패: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 저장된 바이트의 포맷 판별 (모니터링/테스트용)
+     */
+    public static String describe(byte[] bytes) {
+        if (isCompressed(bytes)) {
+            return "LZ4";
+        }
+        return isSmile(bytes) ? CodecFormat.SMILE.name() : CodecFormat.JSON.name();
+    }
+
+    private byte[] compress(byte[] raw) {
+        int maxLength = compressor.maxCompressedLength(raw.length);
+        byte[] out = new byte[LZ4_HEADER_LENGTH + maxLength];
+        System.arraycopy(LZ4_MAGIC, 0, out, 0, LZ4_MAGIC.length);
+        ByteBuffer.wrap(out, LZ4_MAGIC.length, Integer.BYTES).putInt(raw.length);
+        int compressedLength = compressor.compress(raw, 0, raw.length, out, LZ4_HEADER_LENGTH, maxLength);
+
+        int total = LZ4_HEADER_LENGTH + compressedLength;
+        if (total >= raw.length) {
+            return raw; // 압축 이득이 없으면 원본 유지
+        }
+        byte[] result = new byte[total];
+        System.arraycopy(out, 0, result, 0, total);
+        return result;
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        int originalLength = ByteBuffer.wrap(bytes, LZ4_MAGIC.length, Integer.BYTES).getInt();
+        byte[] raw = new byte[originalLength];
+        decompressor.decompress(bytes, LZ4_HEADER_LENGTH, raw, 0, originalLength);
+        return raw;
+    }
+
+    private static boolean isCompressed(byte[] bytes) {
+        return bytes.length > LZ4_HEADER_LENGTH
+                && bytes[0] == LZ4_MAGIC[0] && bytes[1] == LZ4_MAGIC[1] && bytes[2] == LZ4_MAGIC[2];
+    }
+
+    private static boolean isSmile(byte[] bytes) {
+        return bytes.length >= 3 && bytes[0] == ':' && bytes[1] == ')' && bytes[2] == '\n';
+    }
+}
@@ -0,0 +1,154 @@
+package kr.hhplus.be.server.common.event;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발행률 기반 적응형 linger
+ * 
+ * Producer의 linger.ms(maxLingerMs)는 고정값이라 저부하 구간에서는 배치가 차지 않는데도 매번 그만큼 기다린다.
+ * 관측 발행률(EWMA)로 "targetBatchRecords가 모이는 시간"을 계산해 linger.ms 안에 차지 못하면 먼저 flush한다.
+ * 
+ * - 고부하: 모이는 시간 < maxLingerMs → flush하지 않고 Producer 배치(batch.size/linger.ms)에 맡김
+ * - 저부하: 모이는 시간 ≥ maxLingerMs → 기다려도 지연만 늘어나므로 minLingerMs만 모아서 flush
+ */
+@Slf4j
+@Component
+public class AdaptiveLingerFlusher {
+
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaProducerProperties properties;
+
+    private final AtomicLong sentSinceLastTick = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingSignal = lock.newCondition();
+    private boolean pending;
+
+    private volatile double ratePerMs;
+    private volatile long currentLingerMs;
+    private long lastTickNanos = System.nanoTime();
+
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "kafka-adaptive-linger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AdaptiveLingerFlusher(KafkaTemplate<String, Object> kafkaTemplate, KafkaProducerProperties properties,
+            MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.currentLingerMs = properties.getMinLingerMs();
+
+        Gauge.builder("kafka.producer.adaptive.linger", this, f -> f.currentLingerMs)
+                .baseUnit("milliseconds")
+                .description("발행률로 계산한 현재 linger")
+                .register(meterRegistry);
+        Gauge.builder("kafka.producer.publish.rate", this, f -> f.ratePerMs * 1000)
+                .description("관측 발행률 (초당, EWMA)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.isAdaptiveLinger() && properties.getMode() == KafkaProducerProperties.Mode.PIPELINED) {
+            flusher.execute(this::runLoop);
+            log.info("⏱️ 적응형 linger 시작: maxLinger={}ms, targetBatch={}",
+                    properties.getMaxLingerMs(), properties.getTargetBatchRecords());
+        }
+    }
+
+    /**
+     * 전송 요청 직후 호출
+     */
+    public void onSend() {
+        sentSinceLastTick.incrementAndGet();
+        if (!properties.isAdaptiveLinger()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!pending) {
+                pending = true;
+                pendingSignal.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    private void runLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                awaitPending();
+                long lingerMs = recomputeLinger();
+                if (lingerMs >= properties.getMaxLingerMs()) {
+                    // 배치가 linger.ms 안에 충분히 차는 부하 - Producer에 맡김
+                    TimeUnit.MILLISECONDS.sleep(properties.getMaxLingerMs());
+                    continue;
+                }
+                TimeUnit.MILLISECONDS.sleep(lingerMs);
+                kafkaTemplate.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("적응형 linger flush 실패", e);
+            }
+        }
+    }
+
+    private void awaitPending() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!pending) {
+                pendingSignal.await();
+            }
+            pending = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long recomputeLinger() {
+        return recomputeLinger(System.nanoTime());
+    }
+
+    /**
+     * 직전 계산 이후 전송 수로 발행률(EWMA)을 갱신하고 linger를 계산
+     * 
+     * @return maxLingerMs 이상이면 Producer에 맡김, 그보다 작으면 그만큼 기다린 뒤 flush
+     */
+    long recomputeLinger(long nowNanos) {
+        double elapsedMs = Math.max(1.0, (nowNanos - lastTickNanos) / 1_000_000.0);
+        lastTickNanos = nowNanos;
+
+        double observed = sentSinceLastTick.getAndSet(0) / elapsedMs;
+        ratePerMs = ratePerMs == 0 ? observed : EWMA_ALPHA * observed + (1 - EWMA_ALPHA) * ratePerMs;
+
+        double fillMs = ratePerMs > 0 ? properties.getTargetBatchRecords() / ratePerMs : Double.POSITIVE_INFINITY;
+        currentLingerMs = fillMs < properties.getMaxLingerMs()
+                ? properties.getMaxLingerMs()
+                : Math.min(properties.getMinLingerMs(), properties.getMaxLingerMs());
+        return currentLingerMs;
+    }
+}
@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.common.event;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.KafkaHeaders;
+
+/**
+ * DLT 레코드 생성 유틸
+ * 
+ * DeadLetterPublishingRecoverer와 같은 kafka_dlt-* 헤더(원본 토픽/파티션/오프셋, 예외)를 붙여서
+ * DLT 저장소가 어떤 경로로 들어온 실패든 같은 방식으로 메타데이터를 읽을 수 있게 한다.
+ */
+public final class DeadLetterRecords {
+
+    public static final String DLT_SUFFIX = ".DLT";
+
+    private DeadLetterRecords() {
+        // 인스턴스 생성 방지
+    }
+
+    public static ProducerRecord<String, Object> of(String sourceTopic, int partition, long offset, String key,
+            Object payload, Throwable cause) {
+        return to(sourceTopic + DLT_SUFFIX, sourceTopic, partition, offset, key, payload, cause);
+    }
+
+    /**
+     * 같은 헤더로 임의 목적지(재시도 토픽 등)에 보내는 레코드 생성
+     */
+    public static ProducerRecord<String, Object> to(String destination, String sourceTopic, int partition,
+            long offset, String key, Object payload, Throwable cause) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(destination, key, payload);
+        Headers headers = record.headers();
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, utf8(sourceTopic));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(partition).array());
+        headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(offset).array());
+        if (cause != null) {
+            headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, utf8(cause.getClass().getName()));
+            headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, utf8(String.valueOf(cause.getMessage())));
+        }
+        return record;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
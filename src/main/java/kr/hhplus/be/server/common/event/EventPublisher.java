@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.common.event;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 이벤트 발행 추상화 인터페이스
  * 
@@ -38,4 +40,20 @@ public interface EventPublisher {
      * @param event 발행할 도메인 이벤트
      */
     void publishEventAsync(DomainEvent event);
-}
\ No newline at end of file
+    
+    /**
+     * Non-blocking 이벤트 발행
+     * 발행 요청 후 즉시 리턴, 브로커 확인 시 완료되는 Future로 결과 전달
+     * 
+     * @param event 발행할 도메인 이벤트
+     * @return 발행 완료 Future (실패 시 예외로 완료)
+     */
+    default CompletableFuture<Void> publishEventFuture(DomainEvent event) {
+        try {
+            publishEvent(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
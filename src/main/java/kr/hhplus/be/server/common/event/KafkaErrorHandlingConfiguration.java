@@ -5,54 +5,81 @@ import java.util.Map;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
-import org.springframework.util.backoff.FixedBackOff;
-
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import kr.hhplus.be.server.common.codec.CodecKafkaDeserializer;
+import kr.hhplus.be.server.common.codec.CodecKafkaSerializer;
+import kr.hhplus.be.server.common.codec.CodecProperties;
+import kr.hhplus.be.server.common.codec.PayloadCodec;
+import kr.hhplus.be.server.common.event.metrics.KafkaListenerMetrics;
+import kr.hhplus.be.server.common.event.metrics.KafkaListenerMetricsProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Kafka 에러 처리 및 DLQ 설정
  * 
- * - Consumer 실패 시 자동 재시도
+ * - Consumer 실패 시 자동 재시도 (짧은 지수 백오프, Listener 스레드 블로킹)
  * - 최종 실패 시 DLQ(Dead Letter Queue)로 메시지 이동
- * - 재시도 전략 및 백오프 설정
+ * - 긴 지연 재시도는 Non-blocking 재시도 토픽(common.event.retry)이 담당
  * 
  * Consumer 내부 로직 최적화를 우선하고, DLQ는 최종 안전망으로 사용
  */
 @Slf4j
 @Configuration
 @EnableKafka
+@RequiredArgsConstructor
 public class KafkaErrorHandlingConfiguration {
 
+    private static final String TRUSTED_EVENT_PACKAGES = "kr.hhplus.be.server.*.event"; // JsonDeserializer 설정과 동일
+
+    private final CodecProperties codecProperties;
+    private final KafkaProducerProperties producerProperties;
+    private final KafkaListenerMetrics kafkaListenerMetrics;
+    private final KafkaListenerMetricsProperties kafkaListenerMetricsProperties;
+
     @Value("${app.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     /**
      * 에러 핸들러 설정
-     * - 3회 재시도 후 DLQ로 이동
-     * - 백오프: 1초 간격 재시도
+     * - 2회 재시도 (0.5초 → 1초 지수 백오프) 후 {topic}.DLT로 이동
+     * - 고정 간격으로 오래 붙잡으면 파티션 전체가 멈추므로 짧게 끝내고, 긴 재시도는 재시도 토픽으로
      */
     @Bean
     public DefaultErrorHandler kafkaErrorHandler() {
-        // 재시도 전략: 3회 시도, 1초 간격
-        FixedBackOff fixedBackOff = new FixedBackOff(1000L, 3L);
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(2);
+        backOff.setInitialInterval(500L);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(2000L);
+
+        // 재시도 소진 시 원본 파티션 수와 무관하게 DLT로 발행 (kafka_dlt-* 헤더 포함)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate(),
+                (record, exception) -> new TopicPartition(record.topic() + DeadLetterRecords.DLT_SUFFIX, -1));
 
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(fixedBackOff);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
 
-        // DLQ로 보낼 예외 타입들 설정
-        errorHandler.addNotRetryableExceptions(IllegalArgumentException.class);
+        // 재시도해도 소용없는 예외는 바로 DLQ로 (DeserializationException 등은 기본 포함)
+        errorHandler.addNotRetryableExceptions(IllegalArgumentException.class, ClassCastException.class);
 
-        log.info("🔧 Kafka Error Handler 설정 완료 - 재시도 3회, 백오프 1초");
+        log.info("🔧 Kafka Error Handler 설정 완료 - 재시도 2회, 지수 백오프 0.5초~, DLT 발행");
         return errorHandler;
     }
 
@@ -61,6 +88,74 @@ public class KafkaErrorHandlingConfiguration {
      */
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = newListenerContainerFactory();
+
+        // 기본 자동 커밋 사용 (Spring Boot 권장 방식)
+        log.info("🚀 Kafka Consumer Factory 설정 완료 - 동시성: 3, 자동 커밋");
+        return factory;
+    }
+
+    /**
+     * 처리 스레드가 Listener 스레드와 다른 Consumer용 Listener 팩토리 (데이터 플랫폼 배치 전송, 키 순서 병렬 처리)
+     * - MANUAL + asyncAcks: 다른 스레드에서 순서와 무관하게 ack, 연속 구간까지만 커밋
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> manualAckListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = newListenerContainerFactory();
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+
+        log.info("📦 비동기 ack Listener Factory 설정 완료 - MANUAL ack, asyncAcks");
+        return factory;
+    }
+
+    /**
+     * 재시도 토픽 단계 Listener 팩토리
+     * - MANUAL ack: 아직 due가 아닌 레코드는 ack하지 않고 그 파티션만 멈췄다가 다시 읽음 (RetryStageConsumer)
+     * - 단계 토픽은 양이 적으므로 동시성 1
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> retryStageListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = newListenerContainerFactory();
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(1);
+
+        log.info("🔁 재시도 단계 Listener Factory 설정 완료 - MANUAL ack, 파티션 단위 지연");
+        return factory;
+    }
+
+    /**
+     * poll 단위 일괄 처리 Listener 팩토리 (DLT 저장 등) - Listener 반환 후 배치 단위 커밋
+     * - *.DLT를 소비하므로 DLT 발행 없는 에러 핸들러 사용 (실패 레코드가 {topic}.DLT.DLT로 번지지 않게)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = newListenerContainerFactory();
+        factory.setBatchListener(true);
+        factory.setConcurrency(1);
+        factory.setCommonErrorHandler(deadLetterStoreErrorHandler());
+
+        log.info("📚 배치 Listener Factory 설정 완료");
+        return factory;
+    }
+
+    /**
+     * DLT 소비용 에러 핸들러
+     * - DB 장애 등 일시 오류를 넘기도록 길게 재시도 (1초 → 30초 지수 백오프, 10회)
+     * - 소진 시 다시 발행하지 않고 위치만 남기고 건너뜀 → 원본은 DLT 토픽에 보존되어 재처리 가능
+     */
+    private DefaultErrorHandler deadLetterStoreErrorHandler() {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(10);
+        backOff.setInitialInterval(1000L);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(30000L);
+
+        return new DefaultErrorHandler((record, exception) -> log.error(
+                "💥 DLT 레코드 처리 실패 - 재발행 없이 건너뜀: topic={}, partition={}, offset={}",
+                record.topic(), record.partition(), record.offset(), exception), backOff);
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, Object> newListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setCommonErrorHandler(kafkaErrorHandler());
@@ -68,8 +163,18 @@ public class KafkaErrorHandlingConfiguration {
         // Consumer 동시성 설정 - 파티션 수만큼 동시 처리 가능
         factory.setConcurrency(3);
 
-        // 기본 자동 커밋 사용 (Spring Boot 권장 방식)
-        log.info("🚀 Kafka Consumer Factory 설정 완료 - 동시성: 3, 자동 커밋");
+        // 종단 지연/처리 시간/파티션 Lag 계측 (레코드 Listener에만 적용, 배치 Listener는 무시)
+        if (kafkaListenerMetricsProperties.isEnabled()) {
+            factory.setRecordInterceptor(kafkaListenerMetrics);
+        }
+
+        // virtual 프로필(Java 21): 커스텀 팩토리라 Boot 자동 설정이 적용되지 않으므로 직접 지정
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("kafka-vt-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+            log.info("🧵 Kafka Listener Container 가상 스레드 사용");
+        }
         return factory;
     }
 
@@ -79,28 +184,41 @@ public class KafkaErrorHandlingConfiguration {
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "ecommerce-consumer-group");
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
 
         // Consumer 안정성 설정 - application.yml의 자동 커밋 설정 사용
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "kr.hhplus.be.server.*.event");
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        // 값은 __TypeId__ 헤더 + 포맷 자동 감지(JSON/Smile/LZ4)로 역직렬화 - 기존 JSON 메시지 호환
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(),
+                new CodecKafkaDeserializer(kafkaPayloadCodec(), TRUSTED_EVENT_PACKAGES));
     }
 
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // Producer 안정성 설정
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true); // 중복 방지
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3); // 재시도
         configProps.put(ProducerConfig.ACKS_CONFIG, "all"); // 모든 복제본 확인
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        // 배치/압축 - 토픽-파티션별로 모아 한 요청에 보내고 배치 단위로 압축 (요청 수, 브로커 CPU 감소)
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, producerProperties.getMaxLingerMs());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, producerProperties.getBatchSizeBytes());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producerProperties.getCompressionType());
+
+        // 값 포맷은 토픽별 설정(app.codec.topics)을 따른다
+        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(),
+                new CodecKafkaSerializer(kafkaPayloadCodec(), codecProperties));
+    }
+
+    /**
+     * Kafka 값 코덱 - JsonSerializer/JsonDeserializer와 같은 ObjectMapper 설정 사용
+     */
+    @Bean
+    public PayloadCodec kafkaPayloadCodec() {
+        return new PayloadCodec(JacksonUtils.enhancedObjectMapper(), codecProperties.getKafkaCompressionThreshold());
     }
 
     @Bean
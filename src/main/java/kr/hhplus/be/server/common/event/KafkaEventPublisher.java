@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
  * - 트랜잭션 커밋 후에만 Kafka로 메시지 발행 (절대 원칙)
  * - 멱등성 보장을 위한 이벤트 ID 포함
  * - 기존 EventPublisher 인터페이스 동일 사용
+ * - 기본(PIPELINED)은 이벤트마다 블로킹하지 않고 Producer 배치(linger/batch.size/압축)로 모아 전송
  */
 @Slf4j
 @Component
@@ -33,13 +34,37 @@ public class KafkaEventPublisher implements EventPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final KafkaProducerProperties producerProperties;
+    private final AdaptiveLingerFlusher adaptiveLingerFlusher;
 
+    /**
+     * 즉시 이벤트 발행
+     * 
+     * - SYNC: 전송 확인까지 대기, 실패 시 예외
+     * - PIPELINED: 전송 요청만 하고 반환 (실패는 로그) - 결과가 필요하면 publishEventFuture 사용
+     */
     @Override
     public void publishEvent(DomainEvent event) {
         log.info("🎯 Kafka 즉시 이벤트 발행: type={}, eventId={}, aggregateId={}",
                 event.getEventType(), event.getEventId(), event.getAggregateId());
 
-        sendToKafka(event);
+        if (producerProperties.getMode() == KafkaProducerProperties.Mode.SYNC) {
+            sendToKafka(event);
+        } else {
+            sendToKafkaAsync(event);
+        }
+    }
+
+    /**
+     * Non-blocking 발행 - 브로커 확인 시 완료되는 Future 반환
+     */
+    @Override
+    public CompletableFuture<Void> publishEventFuture(DomainEvent event) {
+        try {
+            return send(event).thenApply(result -> null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     @Override
@@ -70,29 +95,15 @@ public class KafkaEventPublisher implements EventPublisher {
      */
     private void sendToKafka(DomainEvent event) {
         try {
-            String topicName = generateTopicName(event.getEventType());
-            String partitionKey = generatePartitionKey(event);
-
-            // Kafka 메시지 구성 (메타데이터 포함)
-            Message<DomainEvent> message = MessageBuilder
-                    .withPayload(event)
-                    .setHeader(KafkaHeaders.TOPIC, topicName)
-                    .setHeader(KafkaHeaders.KEY, partitionKey)
-                    .setHeader("eventId", event.getEventId())
-                    .setHeader("eventType", event.getEventType())
-                    .setHeader("aggregateId", event.getAggregateId())
-                    .setHeader("occurredOn", event.getOccurredAt().toString())
-                    .build();
-
-            // 동기 전송으로 발송 보장 (타임아웃 5초)
-            SendResult<String, Object> result = kafkaTemplate.send(message)
-                    .get(5, TimeUnit.SECONDS);
+            // 동기 전송으로 발송 보장
+            SendResult<String, Object> result = send(event)
+                    .get(producerProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
 
             log.info("✅ Kafka 발행 성공: topic={}, partition={}, offset={}, key={}, eventId={}",
-                    topicName,
+                    result.getRecordMetadata().topic(),
                     result.getRecordMetadata().partition(),
                     result.getRecordMetadata().offset(),
-                    partitionKey,
+                    result.getProducerRecord().key(),
                     event.getEventId());
 
         } catch (Exception e) {
@@ -109,33 +120,16 @@ public class KafkaEventPublisher implements EventPublisher {
      */
     private void sendToKafkaAsync(DomainEvent event) {
         try {
-            String topicName = generateTopicName(event.getEventType());
-            String partitionKey = generatePartitionKey(event);
-
-            // Kafka 메시지 구성 (메타데이터 포함)
-            Message<DomainEvent> message = MessageBuilder
-                    .withPayload(event)
-                    .setHeader(KafkaHeaders.TOPIC, topicName)
-                    .setHeader(KafkaHeaders.KEY, partitionKey)
-                    .setHeader("eventId", event.getEventId())
-                    .setHeader("eventType", event.getEventType())
-                    .setHeader("aggregateId", event.getAggregateId())
-                    .setHeader("occurredOn", event.getOccurredAt().toString())
-                    .build();
-
-            // CompletableFuture를 통한 비동기 결과 처리
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(message);
-
-            future.whenComplete((result, failure) -> {
+            // CompletableFuture를 통한 비동기 결과 처리 - 호출 스레드는 배치 적재까지만
+            send(event).whenComplete((result, failure) -> {
                 if (failure != null) {
                     log.error("💥 Kafka 비동기 발행 실패: eventType={}, eventId={}",
                             event.getEventType(), event.getEventId(), failure);
                 } else {
-                    log.info("✅ Kafka 비동기 발행 성공: topic={}, partition={}, offset={}, key={}, eventId={}",
-                            topicName,
+                    log.debug("✅ Kafka 비동기 발행 성공: topic={}, partition={}, offset={}, eventId={}",
+                            result.getRecordMetadata().topic(),
                             result.getRecordMetadata().partition(),
                             result.getRecordMetadata().offset(),
-                            partitionKey,
                             event.getEventId());
                 }
             });
@@ -146,12 +140,35 @@ public class KafkaEventPublisher implements EventPublisher {
         }
     }
 
+    /**
+     * 메시지 구성 후 전송 요청 - Producer가 토픽-파티션별 배치에 적재하고 Future 반환
+     */
+    private CompletableFuture<SendResult<String, Object>> send(DomainEvent event) {
+        String topicName = generateTopicName(event.getEventType());
+        String partitionKey = generatePartitionKey(event);
+
+        // Kafka 메시지 구성 (메타데이터 포함)
+        Message<DomainEvent> message = MessageBuilder
+                .withPayload(event)
+                .setHeader(KafkaHeaders.TOPIC, topicName)
+                .setHeader(KafkaHeaders.KEY, partitionKey)
+                .setHeader("eventId", event.getEventId())
+                .setHeader("eventType", event.getEventType())
+                .setHeader("aggregateId", event.getAggregateId())
+                .setHeader("occurredOn", event.getOccurredAt().toString())
+                .build();
+
+        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(message);
+        adaptiveLingerFlusher.onSend();
+        return future;
+    }
+
     /**
      * 이벤트 타입에 따른 토픽명 생성
      */
     private String generateTopicName(String eventType) {
         return switch (eventType) {
-            case "ORDER_COMPLETED", "ORDER_COMPLETED_FOR_DATA_PLATFORM" -> KafkaTopics.ORDER_COMPLETED;
+            case "ORDER_PLACED", "ORDER_COMPLETED", "ORDER_COMPLETED_FOR_DATA_PLATFORM" -> KafkaTopics.ORDER_COMPLETED;
             case "COUPON_ISSUED" -> KafkaTopics.COUPON_ISSUE;
             case "USER_ACTIVITY" -> KafkaTopics.USER_ACTIVITY;
             case "BALANCE_CHARGED" -> KafkaTopics.BALANCE_ACTIVITY;
@@ -172,7 +189,7 @@ public class KafkaEventPublisher implements EventPublisher {
                 // 쿠폰별로 순서 보장 (동일 쿠폰 = 동일 파티션)
                 "coupon:" + event.getAggregateId();
 
-            case "ORDER_COMPLETED", "ORDER_COMPLETED_FOR_DATA_PLATFORM" ->
+            case "ORDER_PLACED", "ORDER_COMPLETED", "ORDER_COMPLETED_FOR_DATA_PLATFORM" ->
                 // 주문은 로드밸런싱 (순서 보장 불필요)
                 null;
 
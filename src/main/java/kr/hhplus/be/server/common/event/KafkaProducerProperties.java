@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.common.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 도메인 이벤트 Producer 배치/압축/발행 모드 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.kafka.producer")
+public class KafkaProducerProperties {
+
+    /**
+     * SYNC: 이벤트마다 전송 확인까지 대기 (기존 동작)
+     * PIPELINED: 전송 요청만 하고 반환 - Producer가 토픽-파티션별 배치로 모아 전송, 결과는 Future로 확인
+     */
+    private Mode mode = Mode.PIPELINED;
+
+    /**
+     * 배치 단위 압축 (none, gzip, snappy, lz4, zstd)
+     */
+    private String compressionType = "lz4";
+
+    /**
+     * 파티션별 배치 최대 크기 (바이트)
+     */
+    private int batchSizeBytes = 65_536;
+
+    /**
+     * Producer linger.ms - 적응형 linger의 상한
+     */
+    private long maxLingerMs = 20;
+
+    /**
+     * 관측 발행률로 linger를 줄임 - 배치가 차지 않을 저부하 구간에서 지연을 늘리지 않도록 조기 flush
+     */
+    private boolean adaptiveLinger = true;
+
+    /**
+     * 적응형 linger 목표 배치 레코드 수 - 발행률로 이만큼 모이는 시간이 maxLingerMs 이상이면 조기 flush
+     */
+    private int targetBatchRecords = 50;
+
+    /**
+     * 저부하 조기 flush 전 대기 시간 (밀리초) - 같은 순간 발행된 이벤트를 한 요청으로 묶는 정도
+     */
+    private long minLingerMs = 1;
+
+    /**
+     * SYNC 모드 전송 확인 타임아웃 (밀리초)
+     */
+    private long sendTimeoutMs = 5_000;
+
+    public enum Mode {
+        SYNC, PIPELINED
+    }
+}
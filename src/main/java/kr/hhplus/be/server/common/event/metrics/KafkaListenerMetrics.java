@@ -0,0 +1,255 @@
+package kr.hhplus.be.server.common.event.metrics;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import kr.hhplus.be.server.common.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka Listener 공통 계측 인터셉터 (모든 레코드 Listener 팩토리에 등록)
+ * 
+ * - kafka.consumer.e2e.latency: 이벤트 발생(DomainEvent.occurredAt, 없으면 레코드 타임스탬프) → Listener 처리 완료
+ * - kafka.consumer.processing: Listener 호출 시간 (outcome=success/failure)
+ * - kafka.consumer.lag: 레코드 수신 시점의 파티션 Lag 분포, kafka.consumer.partition.lag: 파티션별 최신 Lag
+ * 
+ * Lag는 Consumer가 fetch 응답으로 이미 알고 있는 값(currentLag)을 읽으므로 브로커 Admin 호출이 없다.
+ * 병렬 레인/배치 전송처럼 Listener가 처리를 넘기는 경우 processing은 제출 시간이며,
+ * 실제 처리 시간은 kafka.parallel.* / dataplatform.batch.* 메트릭을 본다.
+ */
+@Slf4j
+@Component
+public class KafkaListenerMetrics implements RecordInterceptor<String, Object> {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final KafkaListenerMetricsProperties properties;
+
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    private final Map<ListenerKey, ListenerMeters> listenerMeters = new ConcurrentHashMap<>();
+    private final Map<PartitionKey, PartitionLag> partitionLags = new ConcurrentHashMap<>();
+
+    public KafkaListenerMetrics(MeterRegistry meterRegistry, KafkaListenerMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public ConsumerRecord<String, Object> intercept(ConsumerRecord<String, Object> record,
+            Consumer<String, Object> consumer) {
+        startNanos.set(System.nanoTime());
+
+        OptionalLong lag = consumer.currentLag(new TopicPartition(record.topic(), record.partition()));
+        if (lag.isPresent()) {
+            String group = groupOf(consumer);
+            meters(record.topic(), group).lag().record(lag.getAsLong());
+            partitionLags.computeIfAbsent(new PartitionKey(record.topic(), group, record.partition()), this::registerLag)
+                    .update(lag.getAsLong());
+        }
+        return record;
+    }
+
+    @Override
+    public void success(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        complete(record, consumer, true);
+    }
+
+    @Override
+    public void failure(ConsumerRecord<String, Object> record, Exception exception,
+            Consumer<String, Object> consumer) {
+        complete(record, consumer, false);
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        startNanos.remove();
+    }
+
+    /**
+     * 토픽/Consumer 그룹별 요약 (모니터링 API용) - 로컬 Meter 스냅샷만 읽는다
+     */
+    public List<Map<String, Object>> listenerSummaries() {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        listenerMeters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(ListenerKey::topic).thenComparing(ListenerKey::group)))
+                .forEach(entry -> {
+                    ListenerMeters meters = entry.getValue();
+                    Map<String, Object> summary = new LinkedHashMap<>();
+                    summary.put("topic", entry.getKey().topic());
+                    summary.put("group", entry.getKey().group());
+                    summary.put("endToEndLatencyMs", timerSummary(meters.endToEnd()));
+                    summary.put("processingMs", timerSummary(meters.processingSuccess()));
+                    summary.put("failures", meters.processingFailure().count());
+                    summary.put("lag", summarySnapshot(meters.lag().takeSnapshot()));
+                    summaries.add(summary);
+                });
+        return summaries;
+    }
+
+    /**
+     * 파티션별 최신 Lag (모니터링 API용)
+     */
+    public List<Map<String, Object>> partitionLagSummaries() {
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        partitionLags.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(PartitionKey::topic)
+                        .thenComparing(PartitionKey::group).thenComparingInt(PartitionKey::partition)))
+                .forEach(entry -> {
+                    PartitionLag lag = entry.getValue();
+                    Map<String, Object> summary = new LinkedHashMap<>();
+                    summary.put("topic", entry.getKey().topic());
+                    summary.put("group", entry.getKey().group());
+                    summary.put("partition", entry.getKey().partition());
+                    summary.put("lag", lag.lag);
+                    summary.put("updatedAtMs", lag.updatedAt);
+                    summary.put("stale", now - lag.updatedAt > properties.getLagStaleAfterMs());
+                    summaries.add(summary);
+                });
+        return summaries;
+    }
+
+    private void complete(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer, boolean success) {
+        ListenerMeters meters = meters(record.topic(), groupOf(consumer));
+        Long start = startNanos.get();
+        if (start != null) {
+            (success ? meters.processingSuccess() : meters.processingFailure())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!success) {
+            return;
+        }
+
+        long endToEndMs = System.currentTimeMillis() - occurredAtMillis(record);
+        if (endToEndMs >= 0) {
+            meters.endToEnd().record(endToEndMs, TimeUnit.MILLISECONDS);
+        }
+        if (endToEndMs > properties.getSlowThresholdMs()) {
+            log.warn("🐌 Consumer 지연 감지: {}ms, topic={}, partition={}, offset={}",
+                    endToEndMs, record.topic(), record.partition(), record.offset());
+        }
+    }
+
+    private long occurredAtMillis(ConsumerRecord<String, Object> record) {
+        if (record.value() instanceof DomainEvent event && event.getOccurredAt() != null) {
+            return event.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        return record.timestamp();
+    }
+
+    private String groupOf(Consumer<String, Object> consumer) {
+        try {
+            return consumer.groupMetadata().groupId();
+        } catch (RuntimeException e) {
+            return "unknown";
+        }
+    }
+
+    private ListenerMeters meters(String topic, String group) {
+        return listenerMeters.computeIfAbsent(new ListenerKey(topic, group), key -> new ListenerMeters(
+                Timer.builder("kafka.consumer.e2e.latency")
+                        .tags("topic", topic, "group", group)
+                        .description("이벤트 발생부터 Listener 처리 완료까지")
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                processingTimer(topic, group, "success"),
+                processingTimer(topic, group, "failure"),
+                DistributionSummary.builder("kafka.consumer.lag")
+                        .tags("topic", topic, "group", group)
+                        .description("레코드 수신 시점의 파티션 Lag")
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)));
+    }
+
+    private Timer processingTimer(String topic, String group, String outcome) {
+        return Timer.builder("kafka.consumer.processing")
+                .tags("topic", topic, "group", group, "outcome", outcome)
+                .description("Listener 호출 시간")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private PartitionLag registerLag(PartitionKey key) {
+        PartitionLag lag = new PartitionLag();
+        Gauge.builder("kafka.consumer.partition.lag", lag, l -> l.lag)
+                .tags("topic", key.topic(), "group", key.group(), "partition", String.valueOf(key.partition()))
+                .description("파티션별 최신 Lag")
+                .register(meterRegistry);
+        return lag;
+    }
+
+    private Map<String, Object> timerSummary(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("mean", round(snapshot.mean(TimeUnit.MILLISECONDS)));
+        summary.put("max", round(snapshot.max(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            summary.put(percentileKey(percentile), round(percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        return summary;
+    }
+
+    private Map<String, Object> summarySnapshot(HistogramSnapshot snapshot) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("mean", round(snapshot.mean()));
+        summary.put("max", round(snapshot.max()));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            summary.put(percentileKey(percentile), round(percentile.value()));
+        }
+        return summary;
+    }
+
+    private String percentileKey(ValueAtPercentile percentile) {
+        return "p" + Math.round(percentile.percentile() * 100);
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private record ListenerKey(String topic, String group) {
+    }
+
+    private record PartitionKey(String topic, String group, int partition) {
+    }
+
+    private record ListenerMeters(Timer endToEnd, Timer processingSuccess, Timer processingFailure,
+            DistributionSummary lag) {
+    }
+
+    private static final class PartitionLag {
+
+        private volatile long lag;
+        private volatile long updatedAt;
+
+        void update(long value) {
+            this.lag = value;
+            this.updatedAt = System.currentTimeMillis();
+        }
+    }
+}
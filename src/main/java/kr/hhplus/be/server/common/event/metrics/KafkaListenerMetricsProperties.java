@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.common.event.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Kafka Listener 지연/처리 시간/Lag 계측 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.kafka.metrics")
+public class KafkaListenerMetricsProperties {
+
+    /**
+     * false면 Listener 인터셉터를 등록하지 않음
+     */
+    private boolean enabled = true;
+
+    /**
+     * 종단 지연(이벤트 발생 → 처리)이 이 값을 넘으면 경고 로그 (밀리초)
+     */
+    private long slowThresholdMs = 1000;
+
+    /**
+     * 이 시간 동안 갱신되지 않은 파티션 Lag는 요약 API에서 stale로 표시 (밀리초)
+     */
+    private long lagStaleAfterMs = 60_000;
+}
@@ -0,0 +1,236 @@
+package kr.hhplus.be.server.common.event.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.Acknowledgment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.event.retry.RetryTopicRouter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티션 내 키 순서 보장 병렬 실행기 (Listener 하나당 하나)
+ * 
+ * - 레코드 키의 해시로 레인(단일 스레드)을 고른다 → 같은 키(coupon:{id}, user:{id})는 항상 순서대로,
+ *   다른 키는 동시에 처리
+ * - 키가 없는 레코드는 순서 보장이 필요 없으므로 레인을 돌아가며 배정
+ * - 처리 완료 후 Acknowledgment → asyncAcks 컨테이너가 연속 구간까지만 커밋
+ * - 실패는 재시도 토픽(-retry-1s/10s/60s) 또는 {topic}.DLT로 보내고 커밋 (컨테이너 에러 핸들러는 Listener 스레드 전용이라 사용 불가)
+ *   → 일시 장애가 레인을 막지 않도록 레인 안 재시도는 기본 1회(max-attempts)
+ * - 재시도 토픽 발행까지 실패하면 ack 없이 그 오프셋으로 되감아 다시 읽음
+ *   (ack 없는 오프셋은 asyncAcks 컨테이너의 커밋을 영구히 막으므로 반드시 재전달시킨다)
+ */
+@Slf4j
+public class KeyOrderedExecutor {
+
+    private final String name;
+    private final ParallelConsumerProperties properties;
+    private final RetryTopicRouter retryTopicRouter;
+
+    private final List<ExecutorService> lanes;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final Semaphore pending;
+    private final Map<TopicPartition, PartitionOffsetTracker> trackers = new ConcurrentHashMap<>();
+
+    private final Counter processed;
+    private final Counter deadLettered;
+    private final Counter rewound;
+
+    KeyOrderedExecutor(String name, int concurrency, ParallelConsumerProperties properties,
+            RetryTopicRouter retryTopicRouter, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        this.retryTopicRouter = retryTopicRouter;
+        this.pending = new Semaphore(properties.getMaxPending());
+
+        this.lanes = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String threadName = "kafka-" + name + "-lane-" + i;
+            lanes.add(Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+
+        Gauge.builder("kafka.parallel.inflight", pending, s -> properties.getMaxPending() - s.availablePermits())
+                .tag("listener", name)
+                .description("제출 후 처리 중이거나 레인에서 대기 중인 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.parallel.uncommitted", this, KeyOrderedExecutor::uncommitted)
+                .tag("listener", name)
+                .description("앞선 오프셋 완료를 기다리느라 아직 커밋할 수 없는 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.parallel.concurrency", lanes, List::size)
+                .tag("listener", name)
+                .description("키 레인 수 (최대 동시 처리 수)")
+                .register(meterRegistry);
+        this.processed = Counter.builder("kafka.parallel.processed")
+                .tag("listener", name)
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("kafka.parallel.deadlettered")
+                .tag("listener", name)
+                .description("레인 처리 실패 후 재시도 토픽 또는 DLT로 넘긴 레코드 수")
+                .register(meterRegistry);
+        this.rewound = Counter.builder("kafka.parallel.rewound")
+                .tag("listener", name)
+                .description("재시도 토픽 발행 실패로 되감아 다시 읽게 한 레코드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레코드 처리 제출 (Listener 스레드에서 오프셋 순서대로 호출)
+     * 
+     * 병렬 모드가 꺼져 있으면 바로 실행하고 예외를 그대로 던져 컨테이너 에러 핸들러에 맡긴다.
+     * 
+     * @param rewinder 재시도 토픽 발행에 실패한 레코드를 다시 읽게 할 되감기 (Listener의 seek 콜백)
+     */
+    public void submit(String topic, int partition, long offset, String key, Object payload,
+            Acknowledgment acknowledgment, Rewinder rewinder, Runnable task) {
+        if (!properties.isEnabled()) {
+            task.run();
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        try {
+            pending.acquire(); // 미완료 레코드가 상한이면 대기 (백프레셔)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("병렬 처리 제출 중 인터럽트: " + name, e);
+        }
+
+        PartitionOffsetTracker tracker = trackers.computeIfAbsent(new TopicPartition(topic, partition),
+                tp -> new PartitionOffsetTracker());
+        tracker.begin(offset);
+
+        try {
+            laneFor(key).execute(() -> {
+                try {
+                    run(topic, partition, offset, key, payload, acknowledgment, rewinder, task);
+                } finally {
+                    tracker.complete(offset);
+                    pending.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            tracker.complete(offset);
+            pending.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 파티션별 커밋 가능 오프셋 (모니터링용)
+     */
+    public Map<TopicPartition, Long> committableOffsets() {
+        Map<TopicPartition, Long> snapshot = new ConcurrentHashMap<>();
+        trackers.forEach((tp, tracker) -> snapshot.put(tp, tracker.committableOffset()));
+        return snapshot;
+    }
+
+    void shutdown() {
+        lanes.forEach(ExecutorService::shutdown);
+        for (ExecutorService lane : lanes) {
+            try {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("⚠️ 병렬 Consumer 레인 종료 대기 초과 - 미커밋 레코드는 재시작 후 다시 전달됨: {}", name);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private ExecutorService laneFor(String key) {
+        int index = key != null
+                ? Math.floorMod(key.hashCode(), lanes.size())
+                : Math.floorMod(roundRobin.getAndIncrement(), lanes.size());
+        return lanes.get(index);
+    }
+
+    private void run(String topic, int partition, long offset, String key, Object payload,
+            Acknowledgment acknowledgment, Rewinder rewinder, Runnable task) {
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        RuntimeException lastFailure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                task.run();
+                acknowledgment.acknowledge();
+                processed.increment();
+                return;
+            } catch (RuntimeException e) {
+                lastFailure = e;
+                log.warn("⚠️ 병렬 Consumer 처리 실패 ({}/{}): listener={}, partition={}, offset={}, key={}",
+                        attempt, maxAttempts, name, partition, offset, key, e);
+            }
+            if (attempt < maxAttempts && !sleep(properties.getRetryBackoffMs())) {
+                rewind(rewinder, topic, partition, offset); // 인터럽트 - 커밋하지 않고 되감아 재전달
+                return;
+            }
+        }
+        deadLetter(topic, partition, offset, key, payload, acknowledgment, rewinder, lastFailure);
+    }
+
+    private void deadLetter(String topic, int partition, long offset, String key, Object payload,
+            Acknowledgment acknowledgment, Rewinder rewinder, Throwable cause) {
+        try {
+            retryTopicRouter.routeFailure(topic, RetryTopicRouter.MAIN_STAGE, partition, offset, key, payload, cause);
+            acknowledgment.acknowledge();
+            deadLettered.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rewind(rewinder, topic, partition, offset);
+        } catch (Exception e) {
+            log.error("💥 재시도/DLT 발행 실패 - 되감아 재전달: listener={}, partition={}, offset={}",
+                    name, partition, offset, e);
+            rewind(rewinder, topic, partition, offset);
+        }
+    }
+
+    private void rewind(Rewinder rewinder, String topic, int partition, long offset) {
+        rewound.increment();
+        try {
+            rewinder.rewind(new TopicPartition(topic, partition), offset);
+        } catch (RuntimeException e) {
+            log.error("💥 파티션 되감기 실패 - 리밸런스/재시작 시 재전달: listener={}, partition={}, offset={}",
+                    name, partition, offset, e);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private double uncommitted() {
+        return trackers.values().stream().mapToLong(PartitionOffsetTracker::uncommitted).sum();
+    }
+
+    /**
+     * 파티션 되감기 - 레인 스레드에서 호출되므로 다음 poll 전에 적용되는 seek이어야 한다
+     */
+    @FunctionalInterface
+    public interface Rewinder {
+
+        void rewind(TopicPartition topicPartition, long offset);
+    }
+}
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.common.event.parallel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.event.retry.RetryTopicRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listener별 키 순서 보장 병렬 실행기 레지스트리
+ * 
+ * 사용하는 Listener는 manualAckListenerContainerFactory(MANUAL + asyncAcks)로 등록해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelConsumerExecutors {
+
+    private final ParallelConsumerProperties properties;
+    private final RetryTopicRouter retryTopicRouter;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, KeyOrderedExecutor> executors = new ConcurrentHashMap<>();
+
+    public KeyOrderedExecutor forListener(String listenerName) {
+        return executors.computeIfAbsent(listenerName, name -> {
+            int concurrency = properties.concurrencyFor(name);
+            log.info("🔀 병렬 Consumer 실행기 생성: listener={}, concurrency={}, maxPending={}, enabled={}",
+                    name, concurrency, properties.getMaxPending(), properties.isEnabled());
+            return new KeyOrderedExecutor(name, concurrency, properties, retryTopicRouter, meterRegistry);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(KeyOrderedExecutor::shutdown);
+    }
+}
@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.common.event.parallel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 파티션 내 키 순서 보장 병렬 처리 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.kafka.parallel")
+public class ParallelConsumerProperties {
+
+    /**
+     * false면 Listener 스레드에서 바로 처리 (기존과 같은 순차 처리)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Listener별 기본 최대 동시 처리 수 (키 레인 수)
+     */
+    private int defaultMaxConcurrency = 16;
+
+    /**
+     * Listener별 최대 동시 처리 수 (Listener 이름 → 레인 수)
+     */
+    private Map<String, Integer> maxConcurrency = new HashMap<>();
+
+    /**
+     * Listener별 제출 후 미완료 레코드 상한 - 초과 시 Listener 스레드가 대기 (백프레셔)
+     */
+    private int maxPending = 1000;
+
+    /**
+     * 레인 안에서의 레코드당 처리 시도 횟수 - 모두 실패하면 재시도 토픽(app.kafka.retry)으로 보낸 뒤 커밋
+     * 
+     * 레인 안 재시도는 같은 키의 뒤 레코드를 막으므로 기본 1회, 지연 재시도는 재시도 토픽에 맡긴다
+     */
+    private int maxAttempts = 1;
+
+    /**
+     * 재시도 간격 (밀리초)
+     */
+    private long retryBackoffMs = 1000;
+
+    public int concurrencyFor(String listenerName) {
+        return Math.max(1, maxConcurrency.getOrDefault(listenerName, defaultMaxConcurrency));
+    }
+}
@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.common.event.parallel;
+
+import java.util.TreeSet;
+
+/**
+ * 파티션별 연속 커밋 가능 오프셋 추적
+ * 
+ * 레코드는 오프셋 순서로 제출되지만 완료 순서는 키마다 다르다.
+ * 커밋 가능한 오프셋 = 가장 오래된 미완료 오프셋 (없으면 마지막 제출 + 1)
+ * 실제 커밋은 asyncAcks 컨테이너가 같은 규칙으로 수행하고, 여기서는 모니터링용 깊이를 계산한다.
+ */
+class PartitionOffsetTracker {
+
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private long nextOffset = -1;
+
+    synchronized void begin(long offset) {
+        inFlight.add(offset);
+        nextOffset = Math.max(nextOffset, offset + 1);
+    }
+
+    synchronized void complete(long offset) {
+        inFlight.remove(offset);
+    }
+
+    synchronized long committableOffset() {
+        return inFlight.isEmpty() ? nextOffset : inFlight.first();
+    }
+
+    /**
+     * 제출됐지만 아직 커밋할 수 없는 레코드 수 (앞선 레코드 완료를 기다리는 완료분 포함)
+     */
+    synchronized long uncommitted() {
+        return inFlight.isEmpty() ? 0 : nextOffset - inFlight.first();
+    }
+}
@@ -0,0 +1,189 @@
+package kr.hhplus.be.server.common.event.retry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재시도 단계 Consumer (단계별 Listener 하나씩)
+ * 
+ * - due-at 이전 레코드는 그 파티션만 멈추고(pausePartition) 같은 오프셋으로 되감아 남은 시간 뒤 다시 읽음
+ *   → 원본 토픽은 물론, 같은 단계의 다른 원본 토픽 파티션도 막지 않음 (nack은 Consumer 전체를 멈춘다)
+ * - 단계 토픽은 실패 시각 순서로 쌓이므로 맨 앞 레코드만 기다리면 된다
+ * - due-at이 지나면 원본 토픽 핸들러로 다시 처리, 실패하면 다음 단계 또는 DLT
+ * - 단계가 섞이면 긴 지연이 짧은 지연을 막으므로 단계마다 별도 Listener(Consumer)로 구독
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RetryStageConsumer extends AbstractConsumerSeekAware {
+
+    private static final String LISTENER_ID_PREFIX = "retry-stage-";
+
+    private final RetryTopicProperties properties;
+    private final RetryTopicRouter router;
+    private final RetryableRecordHandlers handlers;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+
+    /**
+     * 대기 중인 파티션 → 되감은 오프셋 (같은 poll로 이미 받은 뒤 레코드는 이 오프셋이 다시 올 때까지 건너뜀)
+     */
+    private final Map<TopicPartition, Long> waitingOffsets = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService resumer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "retry-stage-resumer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong[] headTimestamps = new AtomicLong[RetryTopicProperties.STAGE_COUNT];
+    private final Timer[] lateness = new Timer[RetryTopicProperties.STAGE_COUNT];
+    private final Counter[] recovered = new Counter[RetryTopicProperties.STAGE_COUNT];
+
+    public RetryStageConsumer(RetryTopicProperties properties, RetryTopicRouter router,
+            RetryableRecordHandlers handlers, KafkaListenerEndpointRegistry listenerRegistry,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.router = router;
+        this.handlers = handlers;
+        this.listenerRegistry = listenerRegistry;
+
+        for (int stage = 0; stage < RetryTopicProperties.STAGE_COUNT; stage++) {
+            String stageTag = properties.stageSuffix(stage).substring("-retry-".length());
+            AtomicLong head = new AtomicLong();
+            headTimestamps[stage] = head;
+            Gauge.builder("kafka.retry.stage.lag", head,
+                    h -> h.get() == 0 ? 0 : Math.max(0, System.currentTimeMillis() - h.get()))
+                    .tag("stage", stageTag)
+                    .baseUnit("milliseconds")
+                    .description("단계가 현재 기다리거나 처리 중인 레코드의 나이 (유휴 시 0)")
+                    .register(meterRegistry);
+            lateness[stage] = Timer.builder("kafka.retry.stage.lateness")
+                    .tag("stage", stageTag)
+                    .description("due-at 대비 실제 재처리 시각 지연")
+                    .register(meterRegistry);
+            recovered[stage] = Counter.builder("kafka.retry.recovered")
+                    .tag("stage", stageTag)
+                    .description("재시도 단계에서 처리에 성공한 레코드 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    @KafkaListener(id = "retry-stage-0", topics = "#{@retryTopicProperties.stageTopics(0)}", groupId = "retry-stage-group", containerFactory = "retryStageListenerContainerFactory")
+    public void stage0(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) throws Exception {
+        handle(0, record, acknowledgment);
+    }
+
+    @KafkaListener(id = "retry-stage-1", topics = "#{@retryTopicProperties.stageTopics(1)}", groupId = "retry-stage-group", containerFactory = "retryStageListenerContainerFactory")
+    public void stage1(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) throws Exception {
+        handle(1, record, acknowledgment);
+    }
+
+    @KafkaListener(id = "retry-stage-2", topics = "#{@retryTopicProperties.stageTopics(2)}", groupId = "retry-stage-group", containerFactory = "retryStageListenerContainerFactory")
+    public void stage2(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) throws Exception {
+        handle(2, record, acknowledgment);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resumer.shutdownNow();
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partitions.forEach(waitingOffsets::remove);
+        super.onPartitionsRevoked(partitions);
+    }
+
+    void handle(int stage, ConsumerRecord<String, Object> record, Acknowledgment acknowledgment)
+            throws Exception {
+        TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+        Long waitingOffset = waitingOffsets.get(topicPartition);
+        if (waitingOffset != null) {
+            if (record.offset() != waitingOffset) {
+                return; // 되감기 전에 함께 받은 뒤 레코드 - ack 없이 건너뛰면 되감은 오프셋부터 다시 읽는다
+            }
+            waitingOffsets.remove(topicPartition);
+        }
+
+        Headers headers = record.headers();
+        headTimestamps[stage].set(record.timestamp());
+
+        Long dueAt = RetryTopicRouter.longHeader(headers, RetryTopicRouter.DUE_AT_HEADER);
+        long waitMs = dueAt != null ? dueAt - System.currentTimeMillis() : 0;
+        if (waitMs > 0) {
+            waitUntilDue(stage, topicPartition, record.offset(), Math.min(waitMs, properties.getMaxPauseMs()));
+            return;
+        }
+        lateness[stage].record(-waitMs, TimeUnit.MILLISECONDS);
+
+        String sourceTopic = RetryTopicRouter.stringHeader(headers, RetryTopicRouter.SOURCE_TOPIC_HEADER);
+        Integer sourcePartition = RetryTopicRouter.intHeader(headers, KafkaHeaders.DLT_ORIGINAL_PARTITION);
+        Long sourceOffset = RetryTopicRouter.longHeader(headers, KafkaHeaders.DLT_ORIGINAL_OFFSET);
+        if (sourceTopic == null) {
+            sourceTopic = record.topic().substring(0, record.topic().lastIndexOf("-retry-"));
+        }
+
+        RetryableRecordHandler handler = handlers.get(sourceTopic);
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("재시도 핸들러가 없는 토픽: " + sourceTopic);
+            }
+            handler.handle(record.key(), record.value());
+            recovered[stage].increment();
+            log.info("✅ 재시도 성공: stage={}, sourceTopic={}, key={}", record.topic(), sourceTopic, record.key());
+        } catch (Exception e) {
+            log.warn("⚠️ 재시도 실패: stage={}, sourceTopic={}, key={}, cause={}",
+                    record.topic(), sourceTopic, record.key(), e.toString());
+            router.routeFailure(sourceTopic, stage,
+                    sourcePartition != null ? sourcePartition : record.partition(),
+                    sourceOffset != null ? sourceOffset : record.offset(),
+                    record.key(), record.value(), e);
+        }
+
+        acknowledgment.acknowledge();
+        headTimestamps[stage].set(0);
+    }
+
+    /**
+     * 아직 이른 레코드의 파티션만 멈추고 같은 오프셋으로 되감은 뒤, 남은 시간이 지나면 재개
+     * (Listener 스레드는 다른 파티션을 계속 poll하므로 리밸런스 없음)
+     */
+    private void waitUntilDue(int stage, TopicPartition topicPartition, long offset, long pauseMs) {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID_PREFIX + stage);
+        List<ConsumerSeekCallback> callbacks = getSeekCallbacksFor(topicPartition);
+        if (container == null || callbacks == null || callbacks.isEmpty()) {
+            log.warn("재시도 단계 파티션 정지 불가 - 리밸런스 후 다시 읽음: {}, offset={}", topicPartition, offset);
+            return;
+        }
+
+        waitingOffsets.put(topicPartition, offset);
+        callbacks.forEach(callback -> callback.seek(topicPartition.topic(), topicPartition.partition(), offset));
+        container.pausePartition(topicPartition);
+        resumer.schedule(() -> container.resumePartition(topicPartition), pauseMs, TimeUnit.MILLISECONDS);
+        log.debug("⏸️ 재시도 단계 파티션 대기: {}, offset={}, pause={}ms", topicPartition, offset, pauseMs);
+    }
+}
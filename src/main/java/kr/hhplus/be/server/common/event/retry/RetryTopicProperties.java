@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.common.event.retry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Non-blocking 재시도 토픽 설정 Properties
+ * 
+ * 실패 레코드는 {topic}-retry-1s → -retry-10s → -retry-60s → {topic}.DLT 순서로 이동한다.
+ * 단계 수는 RetryStageConsumer의 Listener 수(3)와 같아야 하며, 지연 값만 바꿀 수 있다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.kafka.retry")
+public class RetryTopicProperties {
+
+    public static final int STAGE_COUNT = 3;
+
+    /**
+     * false면 실패 레코드를 바로 DLT로 보냄
+     */
+    private boolean enabled = true;
+
+    /**
+     * 재시도 토픽을 사용하는 원본 토픽
+     */
+    private List<String> sourceTopics = new ArrayList<>(List.of("coupon-issue", "order-completed"));
+
+    /**
+     * 단계별 기본 지연 (밀리초)
+     */
+    private List<Long> stageDelaysMs = new ArrayList<>(List.of(1_000L, 10_000L, 60_000L));
+
+    /**
+     * 지연 지터 비율 (0.2 → 기본 지연의 ±20%) - 동시에 실패한 레코드가 한꺼번에 재시도되지 않도록 분산
+     */
+    private double jitterRatio = 0.2;
+
+    /**
+     * 단계 파티션을 한 번에 멈춰 두는 최대 시간 (밀리초) - 지나면 다시 읽어 due-at을 확인
+     */
+    private long maxPauseMs = 30_000L;
+
+    /**
+     * 재시도해도 소용없는 예외 (원인 체인 포함) - 바로 DLT로 이동
+     */
+    private List<String> nonRetryableExceptions = new ArrayList<>(List.of(
+            "java.lang.IllegalArgumentException",
+            "java.lang.ClassCastException",
+            "java.lang.NullPointerException",
+            "kr.hhplus.be.server.common.exception.BusinessException",
+            "org.springframework.kafka.support.serializer.DeserializationException",
+            "org.springframework.messaging.converter.MessageConversionException"));
+
+    public long stageDelayMs(int stage) {
+        return stageDelaysMs.get(stage);
+    }
+
+    /**
+     * 단계 토픽 접미사 (예: 1000 → "-retry-1s", 1500 → "-retry-1500ms")
+     */
+    public String stageSuffix(int stage) {
+        long delayMs = stageDelayMs(stage);
+        return "-retry-" + (delayMs % 1000 == 0 ? (delayMs / 1000) + "s" : delayMs + "ms");
+    }
+
+    public String stageTopic(String sourceTopic, int stage) {
+        return sourceTopic + stageSuffix(stage);
+    }
+
+    /**
+     * 단계 Listener 구독 토픽 (SpEL에서 사용)
+     */
+    public String[] stageTopics(int stage) {
+        return sourceTopics.stream().map(topic -> stageTopic(topic, stage)).toArray(String[]::new);
+    }
+}
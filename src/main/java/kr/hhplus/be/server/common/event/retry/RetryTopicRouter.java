@@ -0,0 +1,147 @@
+package kr.hhplus.be.server.common.event.retry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.event.DeadLetterRecords;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실패 레코드 라우터 - 예외 분류 후 다음 재시도 단계 또는 DLT로 발행
+ * 
+ * - 재시도 불가 예외(원인 체인 포함)는 바로 DLT
+ * - 재시도 가능하면 다음 단계 토픽에 due-at(현재 + 지연 ± 지터) 헤더를 붙여 발행
+ * - 마지막 단계에서도 실패하면 DLT
+ * 
+ * 발행 실패 시 예외를 던지므로 호출 측은 원본 레코드를 커밋하지 않는다.
+ */
+@Slf4j
+@Component
+public class RetryTopicRouter {
+
+    public static final String SOURCE_TOPIC_HEADER = "retry-source-topic";
+    public static final String STAGE_HEADER = "retry-stage";
+    public static final String DUE_AT_HEADER = "retry-due-at";
+
+    /**
+     * 원본 토픽에서 처음 실패한 경우의 단계 값
+     */
+    public static final int MAIN_STAGE = -1;
+
+    private final RetryTopicProperties properties;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final List<Class<?>> nonRetryable = new ArrayList<>();
+    private final Map<String, Counter> routedCounters = new ConcurrentHashMap<>();
+
+    public RetryTopicRouter(RetryTopicProperties properties, KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        for (String className : properties.getNonRetryableExceptions()) {
+            try {
+                nonRetryable.add(Class.forName(className));
+            } catch (ClassNotFoundException e) {
+                log.warn("재시도 불가 예외 클래스를 찾을 수 없음: {}", className);
+            }
+        }
+    }
+
+    /**
+     * 실패 레코드를 다음 목적지로 발행
+     * 
+     * @param sourceTopic     원본 토픽
+     * @param failedStage     실패한 단계 (원본 토픽이면 MAIN_STAGE)
+     * @param sourcePartition 원본 파티션
+     * @param sourceOffset    원본 오프셋
+     */
+    public void routeFailure(String sourceTopic, int failedStage, int sourcePartition, long sourceOffset,
+            String key, Object payload, Throwable cause) throws Exception {
+        int nextStage = failedStage + 1;
+        boolean retryable = properties.isEnabled()
+                && properties.getSourceTopics().contains(sourceTopic)
+                && nextStage < RetryTopicProperties.STAGE_COUNT
+                && isRetryable(cause);
+
+        if (!retryable) {
+            kafkaTemplate.send(DeadLetterRecords.of(sourceTopic, sourcePartition, sourceOffset, key, payload, cause))
+                    .get(10, TimeUnit.SECONDS);
+            routed("dlt").increment();
+            log.error("🚨 DLT 이동: sourceTopic={}, failedStage={}, key={}, cause={}",
+                    sourceTopic, failedStage, key, cause != null ? cause.toString() : null);
+            return;
+        }
+
+        long dueAt = System.currentTimeMillis() + jittered(properties.stageDelayMs(nextStage));
+        ProducerRecord<String, Object> record = DeadLetterRecords.to(properties.stageTopic(sourceTopic, nextStage),
+                sourceTopic, sourcePartition, sourceOffset, key, payload, cause);
+        Headers headers = record.headers();
+        headers.add(SOURCE_TOPIC_HEADER, sourceTopic.getBytes(StandardCharsets.UTF_8));
+        headers.add(STAGE_HEADER, ByteBuffer.allocate(Integer.BYTES).putInt(nextStage).array());
+        headers.add(DUE_AT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+
+        kafkaTemplate.send(record).get(10, TimeUnit.SECONDS);
+        routed(properties.stageSuffix(nextStage).substring("-retry-".length())).increment();
+        log.warn("🔁 재시도 토픽 이동: {} → {}, key={}", sourceTopic, record.topic(), key);
+    }
+
+    boolean isRetryable(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            for (Class<?> type : nonRetryable) {
+                if (type.isInstance(current)) {
+                    return false;
+                }
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    private long jittered(long delayMs) {
+        double ratio = properties.getJitterRatio();
+        if (ratio <= 0) {
+            return delayMs;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+        return Math.max(0, (long) (delayMs * factor));
+    }
+
+    private Counter routed(String destination) {
+        return routedCounters.computeIfAbsent(destination, d -> Counter.builder("kafka.retry.routed")
+                .tag("destination", d)
+                .description("실패 후 재시도 단계/DLT로 이동한 레코드 수")
+                .register(meterRegistry));
+    }
+
+    static Long longHeader(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null && header.value().length == Long.BYTES ? ByteBuffer.wrap(header.value()).getLong() : null;
+    }
+
+    static Integer intHeader(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null && header.value().length == Integer.BYTES ? ByteBuffer.wrap(header.value()).getInt() : null;
+    }
+
+    static String stringHeader(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
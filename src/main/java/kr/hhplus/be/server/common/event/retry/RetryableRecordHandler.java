@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.common.event.retry;
+
+/**
+ * 재시도 단계에서 원본 토픽 레코드를 다시 처리하는 핸들러
+ * 
+ * 원본 Consumer가 자신의 토픽에 대해 등록하며, 실패 시 예외를 던지면 다음 단계로 이동한다.
+ */
+@FunctionalInterface
+public interface RetryableRecordHandler {
+
+    void handle(String key, Object payload);
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.common.event.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원본 토픽별 재시도 핸들러 레지스트리 - 원본 Consumer가 기동 시 등록
+ */
+@Slf4j
+@Component
+public class RetryableRecordHandlers {
+
+    private final Map<String, RetryableRecordHandler> handlers = new ConcurrentHashMap<>();
+
+    public void register(String sourceTopic, RetryableRecordHandler handler) {
+        handlers.put(sourceTopic, handler);
+        log.info("🔁 재시도 핸들러 등록: sourceTopic={}", sourceTopic);
+    }
+
+    public RetryableRecordHandler get(String sourceTopic) {
+        return handlers.get(sourceTopic);
+    }
+}
@@ -12,6 +12,7 @@ public enum ErrorCode {
     NOT_FOUND("NOT_FOUND", "요청한 리소스를 찾을 수 없습니다."),
     INTERNAL_ERROR("INTERNAL_ERROR", "서버 내부 오류가 발생했습니다."),
     CONFLICT("CONFLICT", "요청 처리 중 충돌이 발생했습니다."),
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 사용자 관련
     USER_NOT_FOUND("USER_NOT_FOUND", "사용자를 찾을 수 없습니다."),
@@ -47,7 +48,8 @@ public enum ErrorCode {
     COUPON_ALREADY_ISSUED("COUPON_ALREADY_ISSUED", "이미 발급받은 쿠폰입니다."),
     COUPON_ALREADY_USED("COUPON_ALREADY_USED", "이미 사용된 쿠폰입니다."),
     MINIMUM_ORDER_AMOUNT_NOT_MET("MINIMUM_ORDER_AMOUNT_NOT_MET", "최소 주문 금액을 만족하지 않습니다."),
-    COUPON_NOT_APPLICABLE("COUPON_NOT_APPLICABLE", "적용할 수 없는 쿠폰입니다.");
+    COUPON_NOT_APPLICABLE("COUPON_NOT_APPLICABLE", "적용할 수 없는 쿠폰입니다."),
+    COUPON_NOT_ADMITTED("COUPON_NOT_ADMITTED", "대기열 입장 순서가 아직 되지 않았습니다.");
 
     private final String code;
     private final String message;
@@ -125,7 +125,8 @@ public class GlobalExceptionHandler {
                 HttpStatus.CONFLICT;
 
             // 429 Too Many Requests (한도 초과)
-            case DAILY_CHARGE_LIMIT_EXCEEDED, MAX_BALANCE_LIMIT_EXCEEDED ->
+            case DAILY_CHARGE_LIMIT_EXCEEDED, MAX_BALANCE_LIMIT_EXCEEDED, TOO_MANY_REQUESTS,
+                    COUPON_NOT_ADMITTED ->
                 HttpStatus.TOO_MANY_REQUESTS;
 
             // 500 Internal Server Error
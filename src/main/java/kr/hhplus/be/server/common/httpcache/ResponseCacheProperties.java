@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.common.httpcache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 버전 기반 응답 바이트 캐시 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * 응답 캐시/ETag 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 노드별 최대 캐시 항목 수 (LRU)
+     */
+    private int maxEntries = 512;
+
+    /**
+     * 항목 최대 보관 시간 - 버전 증가 없이 바뀌는 값(카탈로그 스냅샷 갱신 등)의 지연 상한
+     */
+    private long ttlSeconds = 30;
+
+    /**
+     * 캐시 대상 엔드포인트
+     */
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Data
+    public static class Endpoint {
+        /**
+         * 메트릭 태그로 사용할 이름
+         */
+        private String name;
+
+        /**
+         * 요청 경로 패턴 (Ant 스타일, GET만)
+         */
+        private String pattern;
+
+        /**
+         * 응답이 의존하는 버전 이름 (ResponseCacheVersions.CATALOG, RANKING)
+         */
+        private List<String> versions = new ArrayList<>();
+    }
+}
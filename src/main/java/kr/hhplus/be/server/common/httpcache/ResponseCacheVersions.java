@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.common.httpcache;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응답 캐시 버전 카운터 (Redis INCR - 모든 노드가 같은 버전을 봄)
+ * 
+ * - catalog: 상품 생성/수정/삭제 커밋 이후 증가
+ *   (재고만 바뀌는 주문 경로는 올리지 않음 - 목록 재고는 카탈로그 스냅샷 주기와 TTL로 반영)
+ * - ranking: 랭킹 점수 반영 시 증가, 노드별로 5초 구간의 첫 변경(같은 파이프라인) + 이후 변경이 있었으면 구간 끝 1회로 합침
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheVersions {
+
+    public static final String CATALOG = "catalog";
+    public static final String RANKING = "ranking";
+
+    private static final String KEY_PREFIX = "ecommerce:response-version:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public static String key(String name) {
+        return KEY_PREFIX + name;
+    }
+
+    /**
+     * 버전 스탬프 (예: "12.408") - 한 번의 MGET
+     */
+    public String stamp(List<String> names) {
+        if (names.isEmpty()) {
+            return "";
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(names.stream()
+                .map(ResponseCacheVersions::key)
+                .toList());
+        StringBuilder stamp = new StringBuilder();
+        for (int i = 0; i < names.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            stamp.append(i == 0 ? "" : ".").append(value == null ? "0" : value);
+        }
+        return stamp.toString();
+    }
+
+    /**
+     * 버전 증가 (트랜잭션 안이면 커밋 이후) - 실패해도 TTL이 지연 상한
+     */
+    public void bumpAfterCommit(String name) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(name);
+                }
+            });
+        } else {
+            bump(name);
+        }
+    }
+
+    private void bump(String name) {
+        try {
+            stringRedisTemplate.opsForValue().increment(key(name));
+        } catch (Exception e) {
+            log.warn("응답 캐시 버전 증가 실패: name={}, error={}", name, e.getMessage());
+        }
+    }
+}
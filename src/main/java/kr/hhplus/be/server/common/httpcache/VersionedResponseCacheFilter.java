@@ -0,0 +1,217 @@
+package kr.hhplus.be.server.common.httpcache;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 버전 기반 응답 바이트 캐시 + 조건부 GET 필터
+ * 
+ * - 캐시 키: 경로 + 정렬된 쿼리 파라미터 + 의존 버전 스탬프 + 날짜(일간 랭킹 키 전환 대응)
+ * - 적중 시 컨트롤러/직렬화 없이 저장된 JSON 바이트를 그대로 응답
+ * - ETag는 본문 MD5 - If-None-Match가 같으면 본문 없이 304
+ * - 버전이 바뀌면 키가 달라져 자연히 새로 만들고, 옛 항목은 LRU/TTL로 밀려남
+ */
+@Slf4j
+@Component
+public class VersionedResponseCacheFilter extends OncePerRequestFilter {
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCacheVersions versions;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<CachedEndpoint> endpoints = new ArrayList<>();
+    private final Map<String, CachedResponse> cache;
+
+    public VersionedResponseCacheFilter(ResponseCacheProperties properties, ResponseCacheVersions versions,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.versions = versions;
+        int maxEntries = properties.getMaxEntries();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        for (ResponseCacheProperties.Endpoint endpoint : properties.getEndpoints()) {
+            endpoints.add(new CachedEndpoint(endpoint,
+                    counter(meterRegistry, endpoint, "hit"),
+                    counter(meterRegistry, endpoint, "miss"),
+                    counter(meterRegistry, endpoint, "not_modified")));
+            log.info("🗂️ 응답 캐시 등록: {} {} versions={}", endpoint.getName(), endpoint.getPattern(),
+                    endpoint.getVersions());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, ResponseCacheProperties.Endpoint endpoint,
+            String result) {
+        return Counter.builder("http.response.cache")
+                .description("버전 기반 응답 캐시 결과")
+                .tag("endpoint", endpoint.getName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || endpoints.isEmpty()
+                || !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CachedEndpoint endpoint = match(request);
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key;
+        try {
+            key = cacheKey(request, endpoint);
+        } catch (Exception e) {
+            // 버전 조회 실패 시 캐시 없이 처리
+            log.warn("응답 캐시 버전 조회 실패, 캐시 우회: {}", e.getMessage());
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = get(key);
+        if (cached != null) {
+            if (notModified(request, cached.etag())) {
+                endpoint.notModified().increment();
+                writeNotModified(response, cached.etag());
+            } else {
+                endpoint.hit().increment();
+                writeCached(response, cached);
+            }
+            return;
+        }
+
+        endpoint.miss().increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpStatus.OK.value()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        put(key, new CachedResponse(body, wrapper.getContentType(), etag, System.currentTimeMillis()));
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (notModified(request, etag)) {
+            wrapper.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private String cacheKey(HttpServletRequest request, CachedEndpoint endpoint) {
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            for (String value : values) {
+                key.append(name).append('=').append(value).append('&');
+            }
+        });
+        return key.append('#').append(versions.stamp(endpoint.config().getVersions()))
+                .append('#').append(LocalDate.now())
+                .toString();
+    }
+
+    private CachedResponse get(String key) {
+        CachedResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached == null) {
+            return null;
+        }
+        long ageMillis = System.currentTimeMillis() - cached.storedAtMillis();
+        return ageMillis > TimeUnit.SECONDS.toMillis(properties.getTtlSeconds()) ? null : cached;
+    }
+
+    private void put(String key, CachedResponse response) {
+        synchronized (cache) {
+            cache.put(key, response);
+        }
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeNotModified(HttpServletResponse response, String etag) {
+        response.setStatus(HttpStatus.NOT_MODIFIED.value());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    }
+
+    private static void writeCached(HttpServletResponse response, CachedResponse cached) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private CachedEndpoint match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (CachedEndpoint endpoint : endpoints) {
+            if (pathMatcher.match(endpoint.config().getPattern(), path)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private record CachedEndpoint(ResponseCacheProperties.Endpoint config, Counter hit, Counter miss,
+            Counter notModified) {
+    }
+
+    private record CachedResponse(byte[] body, String contentType, String etag, long storedAtMillis) {
+    }
+}
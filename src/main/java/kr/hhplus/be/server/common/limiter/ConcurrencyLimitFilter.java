@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.common.limiter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.response.CommonResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컨트롤러 앞단 적응형 동시성 제한 필터 (Load Shedding)
+ * 
+ * - 쿠폰 발급/주문 생성처럼 분산락 뒤에 줄 서는 엔드포인트에 적용
+ * - 한도 초과 요청은 락 대기 대신 즉시 429 + Retry-After로 거절
+ * - 한도/처리 중/거절 수는 http.concurrency.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<LimitedEndpoint> endpoints = new ArrayList<>();
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        for (ConcurrencyLimitProperties.Endpoint endpoint : properties.getEndpoints()) {
+            GradientLimiter limiter = new GradientLimiter(properties.getInitialLimit(), properties.getMinLimit(),
+                    properties.getMaxLimit(), properties.getSmoothing(), properties.getLongWindow());
+
+            Gauge.builder("http.concurrency.limit", limiter, GradientLimiter::getLimit)
+                    .description("엔드포인트별 현재 동시 처리 한도")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.inflight", limiter, GradientLimiter::getInFlight)
+                    .description("엔드포인트별 처리 중인 요청 수")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+            Counter shed = Counter.builder("http.concurrency.shed")
+                    .description("동시성 한도 초과로 거절된 요청 수")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+
+            endpoints.add(new LimitedEndpoint(endpoint, limiter, shed));
+            log.info("🚦 동시성 제한 등록: {} {} {}", endpoint.getName(), endpoint.getMethod(), endpoint.getPattern());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || endpoints.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LimitedEndpoint endpoint = match(request);
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        GradientLimiter limiter = endpoint.limiter();
+        if (!limiter.tryAcquire()) {
+            endpoint.shed().increment();
+            log.debug("🚦 요청 거절 (한도 초과): endpoint={}, limit={}", endpoint.config().getName(), limiter.getLimit());
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (completed) {
+                limiter.onComplete(System.nanoTime() - start);
+            } else {
+                limiter.onDropped();
+            }
+        }
+    }
+
+    private LimitedEndpoint match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (LimitedEndpoint endpoint : endpoints) {
+            if (endpoint.config().getMethod().equalsIgnoreCase(request.getMethod())
+                    && pathMatcher.match(endpoint.config().getPattern(), path)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(),
+                CommonResponse.error(errorCode.getCode(), errorCode.getMessage()));
+    }
+
+    private record LimitedEndpoint(ConcurrencyLimitProperties.Endpoint config, GradientLimiter limiter,
+            Counter shed) {
+    }
+}
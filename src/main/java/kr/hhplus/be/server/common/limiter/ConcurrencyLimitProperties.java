@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.common.limiter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 엔드포인트별 적응형 동시성 제한 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 동시성 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 초기 동시 처리 한도
+     */
+    private int initialLimit = 20;
+
+    /**
+     * 최소 동시 처리 한도
+     */
+    private int minLimit = 4;
+
+    /**
+     * 최대 동시 처리 한도
+     */
+    private int maxLimit = 200;
+
+    /**
+     * 한도 변경 평활 계수 (0~1, 클수록 빠르게 반영)
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 장기 RTT 이동평균 윈도우 (샘플 수)
+     */
+    private int longWindow = 600;
+
+    /**
+     * 429 응답 Retry-After 헤더 값 (초)
+     */
+    private int retryAfterSeconds = 1;
+
+    /**
+     * 제한 대상 엔드포인트
+     */
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Data
+    public static class Endpoint {
+        /**
+         * 메트릭 태그로 사용할 이름
+         */
+        private String name;
+
+        /**
+         * HTTP 메서드
+         */
+        private String method = "POST";
+
+        /**
+         * 요청 경로 패턴 (Ant 스타일)
+         */
+        private String pattern;
+    }
+}
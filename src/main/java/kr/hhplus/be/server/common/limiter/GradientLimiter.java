@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.common.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기반 적응형 동시성 한도 (Gradient 방식)
+ * 
+ * - 장기 RTT(기준선)와 최근 RTT의 비율(gradient)로 한도를 조정
+ * - 최근 RTT가 기준선보다 커지면(대기열 형성) 한도를 줄이고, 같으면 sqrt(limit)만큼 여유를 두고 늘림
+ * - 한도를 넘는 요청은 대기시키지 않고 즉시 거절 → 락 대기열이 짧게 유지되어 p99가 제한됨
+ */
+public class GradientLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double longAlpha;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+    private double shortRttNanos;
+
+    public GradientLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing, int longWindow) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("한도 범위가 올바르지 않습니다: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.longAlpha = 2.0 / (Math.max(longWindow, 1) + 1);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 진입 시도 - 한도 이내면 true (반드시 onComplete/onDropped로 반납)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 정상 처리 완료 - RTT 샘플 반영
+     */
+    public void onComplete(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        update(rttNanos, current);
+    }
+
+    /**
+     * 서버 오류 등으로 RTT 샘플이 의미 없을 때 - 한도만 반납
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos = rttNanos;
+        longRttNanos = longRttNanos + longAlpha * (rttNanos - longRttNanos);
+
+        // 기준선이 과부하 구간 RTT로 끌려 올라가지 않도록 빠르게 회복
+        if (longRttNanos / shortRttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        // 한도의 절반도 쓰지 않는 구간은 앱 여유 상태 → 한도를 키우지 않음
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRttNanos / shortRttNanos));
+        double queueSize = Math.sqrt(limit);
+        double target = limit * gradient + queueSize;
+        double next = limit * (1 - smoothing) + target * smoothing;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
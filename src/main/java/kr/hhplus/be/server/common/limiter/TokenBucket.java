@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.common.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 토큰 버킷 속도 제한기
+ * 
+ * - 초당 ratePerSecond개씩 토큰이 채워지고, 최대 burst개까지 쌓인다
+ * - acquire()는 토큰이 생길 때까지 호출 스레드를 대기시킨다 (DLT 재전송 등 백그라운드 작업용)
+ */
+public class TokenBucket {
+
+    private final double ratePerNano;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double ratePerSecond, double burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("ratePerSecond > 0, burst >= 1 이어야 합니다");
+        }
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 즉시 획득 시도
+     */
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 1개를 획득할 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill(System.nanoTime());
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / ratePerNano);
+            }
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("토큰 대기 중 인터럽트");
+            }
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * ratePerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Component;
  * 분산락 AOP
  * @DistributedLock 어노테이션이 적용된 메서드에 대해 분산락을 적용한다.
  * 
- * 실행 순서: 분산락 획득 → 트랜잭션 시작 → 비즈니스 로직 → 트랜잭션 커밋 → 분산락 해제
+ * 실행 순서: 분산락 획득 → 펜싱 토큰 발급 → 트랜잭션 시작 → 비즈니스 로직 → 트랜잭션 커밋 → 분산락 해제
  */
 @Aspect
 @Component
@@ -20,24 +20,32 @@ import org.springframework.stereotype.Component;
 public class DistributedLockAspect {
 
     private final DistributedLockService lockService;
+    private final LockMetrics lockMetrics;
 
     @Around("@annotation(distributedLock)")
     public Object around(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
         String lockKey = generateLockKey(joinPoint, distributedLock);
         
         boolean acquired = false;
+        long acquiredAt = 0L;
         try {
             // 분산락 획득 시도
+            long waitStart = System.nanoTime();
             acquired = lockService.tryLockWithTimeout(
                 lockKey,
                 distributedLock.waitTime(),
                 distributedLock.leaseTime()
             );
+            acquiredAt = System.nanoTime();
+            lockMetrics.recordAcquire(lockKey, acquiredAt - waitStart, acquired);
             
             if (!acquired) {
                 throw new DistributedLockException("분산락 획득 실패: " + lockKey);
             }
             
+            // 펜싱 토큰을 현재 스레드에 바인딩 (하위 쓰기 경로에서 가드 컬럼으로 사용)
+            LockContext.bind(lockKey, lockService.issueFencingToken(lockKey));
+
             log.debug("분산락 AOP: 락 획득 성공, 비즈니스 로직 실행 시작 - {}", lockKey);
             
             // 비즈니스 로직 실행
@@ -45,7 +53,9 @@ public class DistributedLockAspect {
             
         } finally {
             if (acquired) {
+                LockContext.unbind(lockKey);
                 lockService.releaseLock(lockKey);
+                lockMetrics.recordHold(lockKey, System.nanoTime() - acquiredAt);
                 log.debug("분산락 AOP: 락 해제 완료 - {}", lockKey);
             }
         }
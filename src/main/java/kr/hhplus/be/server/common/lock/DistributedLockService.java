@@ -3,30 +3,75 @@ package kr.hhplus.be.server.common.lock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 분산락 서비스
  * Redisson을 사용한 안전한 분산락 구현
+ * 
+ * - FIXED 모드: 지정한 leaseTime 후 자동 만료
+ * - WATCHDOG 모드: 워치독이 리스를 연장하되, maxLeaseTime 초과 시 보유 스레드 기준으로 해제
+ * - 펜싱 토큰: 락 획득마다 단조 증가 토큰을 발급하여 만료된 보유자의 쓰기를 차단
+ *   (Redis 서버 시각(마이크로초)을 하한으로 써서 flush/페일오버/만료 후에도 이전 토큰보다 커진다)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DistributedLockService {
 
+    private static final String FENCING_SUFFIX = ":fencing";
+
+    /**
+     * 펜싱 토큰 발급 스크립트
+     * next = max(현재 값 + 1, Redis TIME 마이크로초) → 카운터가 사라져도 단조 증가 유지, 만료 시간 갱신
+     * (마이크로초 값은 2^53 미만이라 Lua 숫자로 정확히 표현된다)
+     */
+    private static final String ISSUE_FENCING_TOKEN_SCRIPT =
+            "local now = redis.call('TIME') " +
+            "local floor = tonumber(now[1]) * 1000000 + tonumber(now[2]) " +
+            "local next = tonumber(redis.call('GET', KEYS[1]) or '0') + 1 " +
+            "if next < floor then next = floor end " +
+            "redis.call('SET', KEYS[1], string.format('%.0f', next), 'PX', ARGV[1]) " +
+            "return next";
+
     private final RedissonClient redissonClient;
+    private final LockProperties lockProperties;
+
+    // 워치독 모드 리스 상한 감시 (락 키 + 스레드 ID 기준)
+    private final Map<String, ScheduledFuture<?>> leaseCapGuards = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseCapScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "lock-lease-cap");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * 락 획득 시도 (타임아웃 있음)
+     * WATCHDOG 모드에서는 leaseTime을 무시하고 워치독 연장 + maxLeaseTime 상한을 적용한다.
      */
     public boolean tryLockWithTimeout(String key, long waitTime, long leaseTime) {
         RLock lock = redissonClient.getLock(key);
+        boolean watchdog = lockProperties.isWatchdogMode();
         try {
-            boolean acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.MILLISECONDS);
+            // leaseTime = -1 이면 Redisson 워치독이 리스를 자동 연장
+            boolean acquired = lock.tryLock(waitTime, watchdog ? -1 : leaseTime, TimeUnit.MILLISECONDS);
             if (acquired) {
+                if (watchdog) {
+                    scheduleLeaseCap(key, lock);
+                }
                 log.debug("분산락 획득 성공: {}", key);
             } else {
                 log.warn("분산락 획득 실패 (타임아웃): {}", key);
@@ -43,6 +88,7 @@ public class DistributedLockService {
      * 락 해제
      */
     public void releaseLock(String key) {
+        cancelLeaseCap(key);
         RLock lock = redissonClient.getLock(key);
         try {
             if (lock.isHeldByCurrentThread()) {
@@ -71,4 +117,57 @@ public class DistributedLockService {
         RLock lock = redissonClient.getLock(key);
         return lock.isHeldByCurrentThread();
     }
-}
\ No newline at end of file
+
+    /**
+     * 펜싱 토큰 발급
+     * 락 키별 단조 증가 카운터로, 보호 대상 데이터의 가드 컬럼과 비교된다.
+     * 카운터 키는 fencingTokenTtl 후 만료되며, 재생성 시에도 Redis 시각 하한 덕분에 이전 토큰보다 크다.
+     * 
+     * @param key 락 키
+     * @return 펜싱 토큰 (펜싱 비활성화 시 null)
+     */
+    public Long issueFencingToken(String key) {
+        if (!lockProperties.isFencingEnabled()) {
+            return null;
+        }
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ISSUE_FENCING_TOKEN_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(key + FENCING_SUFFIX),
+                String.valueOf(lockProperties.getFencingTokenTtl()));
+    }
+
+    private void scheduleLeaseCap(String key, RLock lock) {
+        long maxLeaseTime = lockProperties.getMaxLeaseTime();
+        long ownerThreadId = Thread.currentThread().getId();
+        ScheduledFuture<?> guard = leaseCapScheduler.schedule(() -> {
+            // 기록된 보유 스레드의 락만 해제 (소유자 확인 + 해제를 Redis에서 원자적으로 수행)
+            // 이미 해제되어 다른 보유자가 잡은 락은 건드리지 않는다 - 늦은 쓰기는 펜싱 토큰으로 거부됨
+            lock.unlockAsync(ownerThreadId).whenComplete((ignored, error) -> {
+                if (error == null) {
+                    log.warn("⏰ 분산락 최대 보유 시간 초과로 해제: key={}, maxLeaseTime={}ms", key, maxLeaseTime);
+                } else {
+                    log.debug("리스 상한 도달 시점에 이미 해제된 락: key={}", key);
+                }
+            });
+        }, maxLeaseTime, TimeUnit.MILLISECONDS);
+        leaseCapGuards.put(guardKey(key), guard);
+    }
+
+    private void cancelLeaseCap(String key) {
+        ScheduledFuture<?> guard = leaseCapGuards.remove(guardKey(key));
+        if (guard != null) {
+            guard.cancel(false);
+        }
+    }
+
+    private String guardKey(String key) {
+        return key + "#" + Thread.currentThread().getId();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseCapScheduler.shutdownNow();
+    }
+}
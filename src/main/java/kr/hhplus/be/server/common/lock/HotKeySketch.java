@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.common.lock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 알고리즘 기반 경합 상위 키 추적기
+ * 
+ * - 최대 capacity개의 카운터만 유지 (메모리 상한 고정)
+ * - 카운터가 가득 차면 최소 카운터를 새 키로 교체하고 error로 과대 추정치를 기록
+ * - 실제 빈도 ≥ count - error 가 보장되므로 상위 키 탐지에 충분
+ */
+public class HotKeySketch {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public HotKeySketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키 발생 기록
+     * 
+     * @param key 락 키
+     * @param weight 가중치 (경합 1회 = 1)
+     */
+    public synchronized void offer(String key, long weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, weight, 0));
+            return;
+        }
+
+        // 최소 카운터 교체 (capacity가 작으므로 선형 탐색으로 충분)
+        Counter min = null;
+        for (Counter c : counters.values()) {
+            if (min == null || c.count < min.count) {
+                min = c;
+            }
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, min.count + weight, min.count));
+    }
+
+    /**
+     * 상위 N개 키 조회
+     * 
+     * @param limit 조회 개수
+     * @return 추정 빈도 내림차순 목록
+     */
+    public synchronized List<HotKey> top(int limit) {
+        List<HotKey> result = new ArrayList<>(counters.size());
+        for (Counter c : counters.values()) {
+            result.add(new HotKey(c.key, c.count, c.error));
+        }
+        result.sort(Comparator.comparingLong(HotKey::count).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    public synchronized void clear() {
+        counters.clear();
+    }
+
+    /**
+     * 상위 키 추정 결과
+     * 
+     * @param key 락 키
+     * @param count 추정 빈도 (상한)
+     * @param error 최대 과대 추정치
+     */
+    public record HotKey(String key, long count, long error) {
+    }
+
+    private static final class Counter {
+        private final String key;
+        private long count;
+        private final long error;
+
+        private Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
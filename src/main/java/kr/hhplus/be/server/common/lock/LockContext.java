@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.common.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드가 보유한 락의 펜싱 토큰 보관소
+ * 
+ * AOP가 락 획득 시 토큰을 바인딩하고 해제 시 제거한다.
+ * 중첩 락(주문 락 → 재고 락)을 지원하기 위해 락 키별로 관리한다.
+ */
+public final class LockContext {
+
+    private static final ThreadLocal<Map<String, Long>> FENCING_TOKENS = ThreadLocal.withInitial(HashMap::new);
+
+    private LockContext() {
+        // 인스턴스 생성 방지
+    }
+
+    static void bind(String lockKey, Long fencingToken) {
+        if (fencingToken != null) {
+            FENCING_TOKENS.get().put(lockKey, fencingToken);
+        }
+    }
+
+    static void unbind(String lockKey) {
+        Map<String, Long> tokens = FENCING_TOKENS.get();
+        tokens.remove(lockKey);
+        if (tokens.isEmpty()) {
+            FENCING_TOKENS.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드가 보유한 락의 펜싱 토큰 조회
+     * 
+     * @param lockKey 락 키
+     * @return 펜싱 토큰 (락을 보유하지 않았거나 펜싱 비활성화 시 null)
+     */
+    public static Long currentFencingToken(String lockKey) {
+        return FENCING_TOKENS.get().get(lockKey);
+    }
+}
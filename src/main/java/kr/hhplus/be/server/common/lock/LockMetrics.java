@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.common.lock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분산락 경합 텔레메트리
+ * 
+ * - distributed.lock.wait: 락 획득 대기 시간 (family, result 태그)
+ * - distributed.lock.hold: 락 보유 시간 (family 태그)
+ * - 획득 실패 횟수는 distributed.lock.wait{result=timeout}의 count로 집계
+ * - 경합 키(대기 임계치 초과 또는 실패)는 Space-Saving 스케치로 상위 키 추적
+ * 
+ * family는 키의 마지막 ID 세그먼트를 제거한 값으로, 태그 카디널리티를 제한한다.
+ * 예) ecommerce:order:process:42 → ecommerce:order:process
+ */
+@Slf4j
+@Component
+public class LockMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final LockProperties lockProperties;
+    private final HotKeySketch hotKeySketch;
+
+    private final Map<String, Timer> acquiredTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timeoutTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+
+    public LockMetrics(MeterRegistry meterRegistry, LockProperties lockProperties) {
+        this.meterRegistry = meterRegistry;
+        this.lockProperties = lockProperties;
+        this.hotKeySketch = new HotKeySketch(lockProperties.getHotKeyCapacity());
+    }
+
+    /**
+     * 락 획득 시도 결과 기록
+     * 
+     * @param lockKey 락 키
+     * @param waitNanos 획득 대기 시간 (나노초)
+     * @param acquired 획득 여부
+     */
+    public void recordAcquire(String lockKey, long waitNanos, boolean acquired) {
+        String family = familyOf(lockKey);
+
+        if (acquired) {
+            acquiredTimers.computeIfAbsent(family, f -> waitTimer(f, "acquired"))
+                    .record(waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            timeoutTimers.computeIfAbsent(family, f -> waitTimer(f, "timeout"))
+                    .record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // 대기 임계치를 넘었거나 실패한 경우만 경합으로 간주
+        if (!acquired || TimeUnit.NANOSECONDS.toMillis(waitNanos) >= lockProperties.getContentionThresholdMs()) {
+            hotKeySketch.offer(lockKey, 1);
+        }
+    }
+
+    /**
+     * 락 보유 시간 기록
+     * 
+     * @param lockKey 락 키
+     * @param holdNanos 보유 시간 (나노초)
+     */
+    public void recordHold(String lockKey, long holdNanos) {
+        holdTimers.computeIfAbsent(familyOf(lockKey), f -> Timer.builder("distributed.lock.hold")
+                .description("분산락 보유 시간")
+                .tag("family", f)
+                .publishPercentileHistogram()
+                .register(meterRegistry))
+                .record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 경합 상위 키 조회
+     */
+    public List<HotKeySketch.HotKey> topContendedKeys(int limit) {
+        return hotKeySketch.top(limit);
+    }
+
+    public void resetHotKeys() {
+        hotKeySketch.clear();
+        log.info("🔄 분산락 경합 상위 키 초기화");
+    }
+
+    /**
+     * 락 키에서 family 추출 (마지막 세그먼트가 ID인 경우 제거)
+     */
+    public static String familyOf(String lockKey) {
+        int idx = lockKey.lastIndexOf(':');
+        if (idx <= 0 || idx == lockKey.length() - 1) {
+            return lockKey;
+        }
+        String lastSegment = lockKey.substring(idx + 1);
+        return lastSegment.chars().allMatch(Character::isDigit) ? lockKey.substring(0, idx) : lockKey;
+    }
+
+    private Timer waitTimer(String family, String result) {
+        return Timer.builder("distributed.lock.wait")
+                .description("분산락 획득 대기 시간")
+                .tag("family", family)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 분산락 리스 설정 Properties
+ * 
+ * - FIXED: @DistributedLock의 leaseTime을 그대로 사용 (기존 방식)
+ * - WATCHDOG: Redisson 워치독이 작업이 끝날 때까지 리스를 연장, maxLeaseTime으로 상한 제한
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.lock")
+public class LockProperties {
+
+    /**
+     * 리스 모드
+     */
+    private LeaseMode leaseMode = LeaseMode.FIXED;
+
+    /**
+     * 워치독 리스 단위 (밀리초)
+     * 워치독은 이 값의 1/3 주기로 리스를 연장한다.
+     */
+    private long watchdogTimeout = 30000L;
+
+    /**
+     * 워치독 모드에서 락을 보유할 수 있는 최대 시간 (밀리초)
+     * 초과 시 보유 스레드의 락을 해제하고, 이후 쓰기는 펜싱 토큰으로 차단된다.
+     */
+    private long maxLeaseTime = 30000L;
+
+    /**
+     * 펜싱 토큰 발급 여부
+     */
+    private boolean fencingEnabled = true;
+
+    /**
+     * 펜싱 토큰 카운터 키 만료 시간 (밀리초)
+     * 락 키마다 카운터가 남지 않도록 마지막 발급 후 이 시간이 지나면 삭제된다.
+     */
+    private long fencingTokenTtl = 86400000L;
+
+    /**
+     * 경합 상위 키 스케치 크기 (추적 카운터 수)
+     */
+    private int hotKeyCapacity = 100;
+
+    /**
+     * 경합으로 간주할 최소 대기 시간 (밀리초)
+     */
+    private long contentionThresholdMs = 50L;
+
+    public boolean isWatchdogMode() {
+        return leaseMode == LeaseMode.WATCHDOG;
+    }
+
+    public enum LeaseMode {
+        FIXED,
+        WATCHDOG
+    }
+}
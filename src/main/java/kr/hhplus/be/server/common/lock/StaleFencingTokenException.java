@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.common.lock;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+/**
+ * 리스가 만료된 락 보유자의 쓰기 거부 예외
+ * 더 큰 펜싱 토큰으로 이미 갱신된 데이터를 덮어쓰지 않도록 한다.
+ */
+public class StaleFencingTokenException extends BusinessException {
+
+    public StaleFencingTokenException(String resource, Long fencingToken) {
+        super(ErrorCode.CONFLICT,
+                String.format("만료된 펜싱 토큰으로 쓰기 거부: resource=%s, token=%d", resource, fencingToken));
+    }
+}
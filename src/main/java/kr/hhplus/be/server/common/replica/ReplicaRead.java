@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.common.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 레플리카 읽기 어노테이션
+ * 읽기 전용 트랜잭션을 열고, 그 안의 조회를 읽기 레플리카로 보내도 된다고 표시한다.
+ *
+ * 복제 지연만큼 오래된 데이터를 읽어도 되는 조회 유스케이스에만 붙인다.
+ * 분산락 안에서 읽고 쓰는 경로(재고 차감, 쿠폰 발급)나 캐시를 채우는 조회에는 붙이지 않는다.
+ * 라우팅이 비활성화(app.read-replica.enabled=false)면 일반 읽기 전용 트랜잭션과 같다.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Transactional(readOnly = true)
+public @interface ReplicaRead {
+}
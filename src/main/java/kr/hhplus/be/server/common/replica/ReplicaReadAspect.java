@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.common.replica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레플리카 읽기 AOP
+ * @ReplicaRead 가 적용된 클래스/메서드 실행 동안 ReplicaReadContext를 활성화한다.
+ *
+ * 실제 커넥션은 LazyConnectionDataSourceProxy가 첫 쿼리 시점에 가져오므로
+ * 트랜잭션 AOP와의 실행 순서와 무관하게 메서드 본문에서 라우팅이 결정된다.
+ */
+@Aspect
+@Component
+public class ReplicaReadAspect {
+
+    @Around("@within(kr.hhplus.be.server.common.replica.ReplicaRead)"
+            + " || @annotation(kr.hhplus.be.server.common.replica.ReplicaRead)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReplicaReadContext.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaReadContext.exit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.common.replica;
+
+/**
+ * 현재 스레드가 @ReplicaRead 범위 안에 있는지 보관
+ *
+ * AOP가 메서드 진입 시 깊이를 올리고 종료 시 내린다.
+ * 중첩 호출(유스케이스 → 다른 유스케이스)을 위해 깊이로 관리한다.
+ */
+public final class ReplicaReadContext {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private ReplicaReadContext() {
+        // 인스턴스 생성 방지
+    }
+
+    static void enter() {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+    }
+
+    static void exit() {
+        Integer depth = DEPTH.get();
+        if (depth == null || depth <= 1) {
+            DEPTH.remove();
+        } else {
+            DEPTH.set(depth - 1);
+        }
+    }
+
+    /**
+     * 현재 스레드가 레플리카 읽기를 허용한 범위 안에 있는지
+     */
+    public static boolean isActive() {
+        return DEPTH.get() != null;
+    }
+}
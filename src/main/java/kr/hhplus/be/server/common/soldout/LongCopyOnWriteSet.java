@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.common.soldout;
+
+import java.util.Arrays;
+
+/**
+ * long 원시값 Copy-On-Write 정렬 집합
+ * 
+ * - 조회: volatile 배열 이진 탐색 (락/박싱 없음)
+ * - 변경: 새 배열로 교체 (소진/재입고처럼 드문 쓰기 전제)
+ */
+public class LongCopyOnWriteSet {
+
+    private static final long[] EMPTY = new long[0];
+
+    private volatile long[] values = EMPTY;
+
+    public boolean contains(long value) {
+        long[] snapshot = values;
+        return snapshot.length > 0 && Arrays.binarySearch(snapshot, value) >= 0;
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    public synchronized boolean add(long value) {
+        long[] current = values;
+        int index = Arrays.binarySearch(current, value);
+        if (index >= 0) {
+            return false;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[current.length + 1];
+        System.arraycopy(current, 0, next, 0, insertAt);
+        next[insertAt] = value;
+        System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+        values = next;
+        return true;
+    }
+
+    /**
+     * @return 실제로 제거되었으면 true
+     */
+    public synchronized boolean remove(long value) {
+        long[] current = values;
+        int index = Arrays.binarySearch(current, value);
+        if (index < 0) {
+            return false;
+        }
+        long[] next = current.length == 1 ? EMPTY : new long[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        values = next;
+        return true;
+    }
+
+    public synchronized void clear() {
+        values = EMPTY;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public long[] toArray() {
+        return values.clone();
+    }
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.common.soldout;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 노드 로컬 품절 레지스트리 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sold-out")
+public class SoldOutProperties {
+
+    /**
+     * 로컬 품절 표시 유지 시간 (초) - 지나면 다시 Redis/DB로 확인 (놓친 재입고 브로드캐스트의 지연 상한)
+     */
+    private long entryTtlSeconds = 60;
+}
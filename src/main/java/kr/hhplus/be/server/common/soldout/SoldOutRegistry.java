@@ -0,0 +1,228 @@
+package kr.hhplus.be.server.common.soldout;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 품절/소진 레지스트리
+ * 
+ * - 쿠폰/상품 ID별 소진 여부를 원시 long 집합으로 보관 → 원격 호출 전에 조회
+ * - 소진/재입고 시 Redis pub/sub로 전 노드 동기화 (메시지: "{종류}:{+|-}{id}")
+ * - 브로드캐스트가 유실돼도 각 노드는 기존 Redis/DB 검증으로 같은 결론에 도달 (최적화 용도)
+ *   → 로컬 표시는 entry-ttl이 지나면 만료되어 다시 Redis/DB로 확인하고,
+ *     토픽 재구독(연결 끊김 후 복구) 시에는 그동안 놓친 메시지가 있을 수 있으므로 전부 비운다
+ * - 재고 변경과 순서가 어긋나면 안 되는 경우 Lua 스크립트가 재고 변경과 같은 스크립트에서
+ *   soldOutMessage / restockMessage를 TOPIC에 직접 PUBLISH 한다 (모든 노드가 재고 변경 순서대로 수신)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutRegistry {
+
+    public enum Kind {
+        COUPON, PRODUCT
+    }
+
+    public static final String TOPIC = "ecommerce:sold-out";
+
+    /**
+     * 재고가 아직 0 이하일 때만 품절 브로드캐스트 (확인과 발행 사이에 복구가 끼어들 수 없음)
+     * KEYS[1]=재고 키, ARGV[1]=품절 토픽, ARGV[2]=품절 메시지
+     */
+    public static final RedisScript<Long> PUBLISH_IF_DEPLETED_SCRIPT = new DefaultRedisScript<>("""
+            local raw = redis.call('GET', KEYS[1])
+            local stock = nil
+            if raw then
+                stock = tonumber((string.gsub(raw, '"', '')))
+            end
+            if stock ~= nil and stock <= 0 then
+                redis.call('PUBLISH', ARGV[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedissonClient redissonClient;
+    private final SoldOutProperties properties;
+
+    private final Map<Kind, LongCopyOnWriteSet> registries = new EnumMap<>(Map.of(
+            Kind.COUPON, new LongCopyOnWriteSet(),
+            Kind.PRODUCT, new LongCopyOnWriteSet()));
+
+    // 로컬 표시 시각 (만료 판단용, 쓰기 경로에서만 갱신)
+    private final Map<Kind, Map<Long, Long>> markedAt = new EnumMap<>(Map.of(
+            Kind.COUPON, new ConcurrentHashMap<>(),
+            Kind.PRODUCT, new ConcurrentHashMap<>()));
+
+    private final ScheduledExecutorService expirer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sold-out-expirer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RTopic topic;
+    private int listenerId;
+    private int statusListenerId;
+
+    @PostConstruct
+    public void subscribe() {
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> apply(message));
+        statusListenerId = topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                clearAll(); // 재구독 - 끊긴 동안의 재입고 메시지를 놓쳤을 수 있음
+            }
+        });
+
+        long period = Math.max(1, properties.getEntryTtlSeconds() / 2);
+        expirer.scheduleWithFixedDelay(() -> expireStale(System.currentTimeMillis()), period, period,
+                TimeUnit.SECONDS);
+        log.info("📡 품절 레지스트리 구독 시작: topic={}, entryTtl={}s", TOPIC, properties.getEntryTtlSeconds());
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        expirer.shutdownNow();
+        if (topic != null) {
+            topic.removeListener(listenerId, statusListenerId);
+        }
+    }
+
+    public boolean isSoldOut(Kind kind, Long id) {
+        return id != null && registries.get(kind).contains(id);
+    }
+
+    /**
+     * 소진 표시 - 로컬 즉시 반영 후 브로드캐스트
+     */
+    public void markSoldOut(Kind kind, Long id) {
+        if (addLocal(kind, id)) {
+            log.info("🛑 품절 등록: kind={}, id={}", kind, id);
+            publish(soldOutMessage(kind, id));
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서는 커밋 이후에 소진 표시 (롤백 시 잘못된 품절 방지)
+     */
+    public void markSoldOutAfterCommit(Kind kind, Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markSoldOut(kind, id);
+                }
+            });
+        } else {
+            markSoldOut(kind, id);
+        }
+    }
+
+    /**
+     * 재입고 - 소진 표시 해제 후 브로드캐스트
+     */
+    public void clearSoldOut(Kind kind, Long id) {
+        if (removeLocal(kind, id)) {
+            log.info("♻️ 품절 해제: kind={}, id={}", kind, id);
+        }
+        // 다른 노드에만 남아 있을 수 있으므로 항상 전파
+        publish(restockMessage(kind, id));
+    }
+
+    public static String soldOutMessage(Kind kind, long id) {
+        return kind + ":+" + id;
+    }
+
+    public static String restockMessage(Kind kind, long id) {
+        return kind + ":-" + id;
+    }
+
+    public long[] snapshot(Kind kind) {
+        return registries.get(kind).toArray();
+    }
+
+    void apply(String message) {
+        try {
+            int separator = message.indexOf(':');
+            Kind kind = Kind.valueOf(message.substring(0, separator));
+            char op = message.charAt(separator + 1);
+            long id = Long.parseLong(message.substring(separator + 2));
+            if (op == '+') {
+                addLocal(kind, id);
+            } else {
+                removeLocal(kind, id);
+            }
+        } catch (RuntimeException e) {
+            log.warn("품절 메시지 해석 실패: message={}", message);
+        }
+    }
+
+    /**
+     * entry-ttl이 지난 로컬 표시 제거 - 아직 소진 상태면 다음 요청의 Redis/DB 검증에서 다시 등록된다
+     * 
+     * @return 제거한 항목 수
+     */
+    int expireStale(long nowMillis) {
+        long expireBefore = nowMillis - TimeUnit.SECONDS.toMillis(properties.getEntryTtlSeconds());
+        int expired = 0;
+        for (Kind kind : Kind.values()) {
+            for (Map.Entry<Long, Long> entry : markedAt.get(kind).entrySet()) {
+                if (entry.getValue() < expireBefore
+                        && markedAt.get(kind).remove(entry.getKey(), entry.getValue())) {
+                    registries.get(kind).remove(entry.getKey());
+                    expired++;
+                }
+            }
+        }
+        if (expired > 0) {
+            log.debug("⏳ 품절 표시 만료: count={}", expired);
+        }
+        return expired;
+    }
+
+    void clearAll() {
+        for (Kind kind : Kind.values()) {
+            registries.get(kind).clear();
+            markedAt.get(kind).clear();
+        }
+        log.info("📡 품절 레지스트리 (재)구독 - 로컬 표시 초기화");
+    }
+
+    private boolean addLocal(Kind kind, long id) {
+        markedAt.get(kind).put(id, System.currentTimeMillis());
+        return registries.get(kind).add(id);
+    }
+
+    private boolean removeLocal(Kind kind, long id) {
+        markedAt.get(kind).remove(id);
+        return registries.get(kind).remove(id);
+    }
+
+    private void publish(String message) {
+        try {
+            topic.publish(message);
+        } catch (Exception e) {
+            log.warn("품절 브로드캐스트 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+}
@@ -37,15 +37,15 @@ public class DataLoader implements ApplicationRunner {
     @Transactional
     public void run(ApplicationArguments args) throws Exception {
 
-        // 기존 데이터가 있는지 확인
-        if (productRepository.findAll().isEmpty()) {
+        // 기존 데이터가 있는지 확인 (LIMIT 1 조회 - 전체 로딩 없음)
+        if (!productRepository.existsAny()) {
             initializeProducts();
             log.info("✅ 상품 초기 데이터 생성 완료!");
         } else {
             log.info("📦 기존 상품 데이터 존재, 초기화 생략");
         }
 
-        if (couponRepository.findAll().isEmpty()) {
+        if (!couponRepository.existsAny()) {
             initializeCoupons();
             log.info("✅ 쿠폰 초기 데이터 생성 완료!");
         } else {
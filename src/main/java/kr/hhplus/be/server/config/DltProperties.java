@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * DLT 저장소 / 재전송 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.dlt")
+public class DltProperties {
+
+    /**
+     * DLT 토픽 레코드를 DB에 저장할지 여부
+     */
+    private boolean storeEnabled = true;
+
+    private Replay replay = new Replay();
+
+    @Data
+    public static class Replay {
+        /**
+         * 요청에 속도가 없을 때 기본 재전송 속도 (건/초)
+         */
+        private int defaultRatePerSecond = 200;
+
+        /**
+         * 허용 최대 재전송 속도 (건/초) - Consumer 보호용 상한
+         */
+        private int maxRatePerSecond = 2000;
+
+        /**
+         * DB에서 한 번에 읽는 재전송 대상 수
+         */
+        private int pageSize = 500;
+
+        /**
+         * 완료된 작업 진행 상황 보관 개수
+         */
+        private int retainedJobs = 50;
+    }
+}
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 쿠폰 발급 사용자 인덱스 설정 Properties
+ * 
+ * 마이그레이션 순서: SET → DUAL (이중 기록 + 기존 Set 이관) → BITMAP
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.coupon.issued-index")
+public class IssuedIndexProperties {
+
+    public enum Mode {
+        SET,    // 기존 Redis Set (userId 문자열 멤버)
+        DUAL,   // Bitmap + Set 이중 기록, 조회는 Bitmap 우선 후 Set 확인
+        BITMAP  // Bitmap 전용
+    }
+
+    /**
+     * 인덱스 저장 방식
+     */
+    private Mode mode = Mode.DUAL;
+
+    /**
+     * Bitmap 청크 크기 (2^chunkBits 비트/청크) - 희소한 ID 공간에서 빈 구간 할당 방지
+     */
+    private int chunkBits = 20;
+
+    /**
+     * 인덱스 TTL (일)
+     */
+    private long ttlDays = 30L;
+}
@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.coupon.domain.Coupon;
+import kr.hhplus.be.server.coupon.repository.CouponRepository;
+import kr.hhplus.be.server.coupon.service.RedisCouponService;
+import kr.hhplus.be.server.product.cache.ProductCacheService;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.search.ProductNameSearchService;
+import kr.hhplus.be.server.product.snapshot.ProductCatalogSnapshotService;
+import kr.hhplus.be.server.ranking.dto.ProductRankingResponse;
+import kr.hhplus.be.server.ranking.service.ProductRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 워밍업 - 트래픽 수신 전 캐시/재고 사전 적재
+ * 
+ * 실행 순서: DataLoader(@Order 1) → 워밍업(@Order 2) → Readiness ACCEPTING_TRAFFIC
+ * 
+ * 1. 발급 가능 쿠폰 재고를 Redis에 파이프라인 적재 (첫 요청의 지연 초기화 경합 제거)
+ * 2. 인기 상품 목록 + 랭킹 상위 N개 상품을 캐시에 적재
+ * 3. 상품명 검색 색인 구성 (구성 전 검색은 DB LIKE로 처리)
+ * 4. 가격/재고 카탈로그 스냅샷 최초 구성 (이후 주기 갱신)
+ * 
+ * 단계별 실패는 기동을 막지 않고 경고만 남긴다 (지연 초기화 경로가 그대로 남아 있음).
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class StartupWarmUpRunner implements ApplicationRunner {
+
+    private final WarmUpProperties warmUpProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CouponRepository couponRepository;
+    private final RedisCouponService redisCouponService;
+    private final ProductCacheService productCacheService;
+    private final ProductRankingService productRankingService;
+    private final ProductNameSearchService productNameSearchService;
+    private final ProductCatalogSnapshotService productCatalogSnapshotService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmUpProperties.isEnabled()) {
+            log.info("⏭️ 기동 워밍업 비활성화");
+            return;
+        }
+
+        // 워밍업 동안 트래픽 차단 (완료 후 Spring Boot가 ACCEPTING_TRAFFIC 발행)
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long totalStart = System.nanoTime();
+
+        timed("coupon-stock", timings, this::warmUpCouponStocks);
+        timed("product-cache", timings, this::warmUpProductCache);
+        timed("product-search-index", timings, productNameSearchService::rebuild);
+        timed("catalog-snapshot", timings, productCatalogSnapshotService::refresh);
+
+        timings.put("total", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - totalStart));
+        log.info("🔥 기동 워밍업 완료: {}", timings);
+    }
+
+    private void warmUpCouponStocks() {
+        List<Coupon> coupons = couponRepository.findAvailableCoupons();
+        int loaded = redisCouponService.preloadCouponStocks(coupons);
+        log.info("🎫 쿠폰 재고 워밍업: 대상 {}개, 신규 적재 {}개", coupons.size(), loaded);
+    }
+
+    private void warmUpProductCache() {
+        int topN = warmUpProperties.getTopProducts();
+
+        // 인기 상품 목록 캐시 적재
+        List<Product> popularProducts = productCacheService.getPopularProducts();
+
+        // 랭킹 상위 상품 우선, 랭킹이 비어 있으면 인기 상품 목록 사용
+        List<Long> productIds = productRankingService.getDailyTopProducts(topN).stream()
+                .map(ProductRankingResponse::productId)
+                .toList();
+        if (productIds.isEmpty()) {
+            productIds = popularProducts.stream().map(Product::getId).limit(topN).toList();
+        }
+
+        productIds.forEach(productCacheService::findProductById);
+        log.info("📦 상품 캐시 워밍업: 인기 목록 {}개, 상세 {}개", popularProducts.size(), productIds.size());
+    }
+
+    private void timed(String phase, Map<String, Long> timings, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("⚠️ 워밍업 단계 실패 (지연 초기화로 대체): phase={}, error={}", phase, e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+        timings.put(phase, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        Timer.builder("startup.warmup")
+                .description("기동 워밍업 단계별 소요 시간")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 쿠폰 발급 상태 SSE 스트림 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.coupon.status-stream")
+public class StatusStreamProperties {
+
+    /**
+     * 노드당 최대 동시 SSE 연결 수 - 초과 시 429 (클라이언트는 폴링으로 대체)
+     */
+    private int maxConnections = 10000;
+
+    /**
+     * SSE 연결 유지 시간 (밀리초) - 만료 시 클라이언트가 재연결
+     */
+    private long timeoutMs = 30000L;
+}
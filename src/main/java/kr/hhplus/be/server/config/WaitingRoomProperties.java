@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 선착순 쿠폰 대기열(Waiting Room) 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.waiting-room")
+public class WaitingRoomProperties {
+
+    /**
+     * 대기열 입장 스케줄러 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 비동기 발급 시 입장권(pass) 필수 여부
+     */
+    private boolean requireAdmission = false;
+
+    /**
+     * 초당 입장 허용 인원 (쿠폰별)
+     */
+    private int admitRatePerSecond = 200;
+
+    /**
+     * 입장 배치 주기 (밀리초)
+     */
+    private long admitIntervalMs = 200L;
+
+    /**
+     * 입장권 유효 시간 (초) - 이 시간 안에 발급 요청해야 함
+     */
+    private long passTtlSeconds = 300L;
+
+    /**
+     * 대기열 키 TTL (시간)
+     */
+    private long queueTtlHours = 24L;
+
+    /**
+     * 배치당 입장 인원
+     */
+    public int getBatchSize() {
+        return (int) Math.max(1, admitRatePerSecond * admitIntervalMs / 1000);
+    }
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 기동 워밍업 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmUpProperties {
+
+    /**
+     * 워밍업 실행 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 미리 올릴 상위 상품 수
+     */
+    private int topProducts = 20;
+}
@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.config.jpa;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 입장 제한 설정 (app.db-admission.enabled=true 일 때만)
+ * 
+ * 커넥션 풀(HikariDataSource 빈)만 DbAdmissionDataSource로 감싼다.
+ * 읽기 레플리카 라우팅이 켜지면 애플리케이션 DataSource(Lazy 프록시 → 라우팅)는 감싸지 않으므로
+ * 한 커넥션이 허가를 두 번 얻는 중첩 입장이 생기지 않고, primary / replica 풀이 각자 허가를 가진다.
+ * 허가 수는 풀마다 maximum-pool-size를 상한으로 하며, 지정하지 않으면 풀 크기에 맞춘다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.db-admission", name = "enabled", havingValue = "true")
+public class DbAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor dbAdmissionDataSourcePostProcessor(
+            ObjectProvider<DbAdmissionProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+
+                DbAdmissionProperties props = properties.getObject();
+                int poolSize = hikari.getMaximumPoolSize();
+                int permits = props.getPermits() > 0 ? Math.min(props.getPermits(), poolSize) : poolSize;
+                if (permits <= 0) {
+                    return bean;
+                }
+
+                log.info("🚦 DB 입장 제한 활성화: dataSource={}, permits={}, timeout={}ms",
+                        beanName, permits, props.getAcquireTimeoutMs());
+                return new DbAdmissionDataSource(hikari, beanName, permits, props.getAcquireTimeoutMs(),
+                        meterRegistry.getObject());
+            }
+        };
+    }
+}
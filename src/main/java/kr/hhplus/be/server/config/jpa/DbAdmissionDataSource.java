@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.config.jpa;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세마포어 기반 DB 입장 제한 DataSource
+ * 
+ * - getConnection 시 허가(permit)를 획득하고, Connection.close 시 반납
+ * - 허가 수 = 커넥션 풀 크기 → 풀 대기열 대신 공정 세마포어에서 대기
+ * - 대기 시간 초과 시 SQLTransientConnectionException으로 빠른 실패
+ * - 풀마다 따로 감싸므로 메트릭은 dataSource(빈 이름) 태그로 구분
+ */
+@Slf4j
+public class DbAdmissionDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMs;
+    private final Counter rejectedCounter;
+
+    public DbAdmissionDataSource(DataSource target, String name, int maxPermits, long acquireTimeoutMs,
+            MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        Gauge.builder("db.admission.in.use", this, ds -> ds.maxPermits - ds.permits.availablePermits())
+                .description("DB 입장 허가 사용 중 수")
+                .tag("dataSource", name)
+                .register(meterRegistry);
+        Gauge.builder("db.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("DB 입장 대기 스레드 수")
+                .tag("dataSource", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("db.admission.rejected")
+                .description("DB 입장 대기 시간 초과 횟수")
+                .tag("dataSource", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return admitted(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return admitted(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                log.warn("🚦 DB 입장 대기 시간 초과: timeout={}ms, waiting={}", acquireTimeoutMs,
+                        permits.getQueueLength());
+                throw new SQLTransientConnectionException(
+                        "DB 입장 대기 시간 초과 (" + acquireTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 입장 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * close 시 허가를 한 번만 반납하는 Connection 프록시
+     */
+    private Connection admitted(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * DB 입장 제한(Admission) 설정 Properties
+ * 
+ * 가상 스레드 환경에서는 요청 수만큼 스레드가 생기므로,
+ * 커넥션 풀 크기만큼만 DB 접근을 허용하고 나머지는 세마포어에서 대기시킨다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.db-admission")
+public class DbAdmissionProperties {
+
+    /**
+     * 입장 제한 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 풀별 동시 DB 접근 허용 수 (0 이하이면 Hikari maximum-pool-size 사용, 풀 크기를 넘지 않음)
+     */
+    private int permits = 0;
+
+    /**
+     * 입장 대기 최대 시간 (밀리초) - 초과 시 빠른 실패
+     */
+    private long acquireTimeoutMs = 3000L;
+}
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 읽기 레플리카 라우팅 설정 Properties
+ *
+ * @ReplicaRead 로 표시된 읽기 전용 트랜잭션만 레플리카 풀로 보낸다.
+ * 복제 지연이 허용치를 넘거나 복제가 멈추면 모든 읽기를 primary로 되돌린다.
+ * 접속 정보(username/password)를 비워두면 spring.datasource 값을 그대로 쓴다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * 레플리카 라우팅 사용 여부 (false면 단일 DataSource 그대로)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 레플리카 JDBC URL
+     */
+    private String url;
+
+    /**
+     * 레플리카 접속 계정 (비어 있으면 primary 계정 사용)
+     */
+    private String username;
+
+    /**
+     * 레플리카 접속 비밀번호 (비어 있으면 primary 비밀번호 사용)
+     */
+    private String password;
+
+    /**
+     * 레플리카 풀 최대 커넥션 수
+     */
+    private int maximumPoolSize = 12;
+
+    /**
+     * 레플리카 풀 최소 유휴 커넥션 수
+     */
+    private int minimumIdle = 4;
+
+    /**
+     * 레플리카 커넥션 획득 타임아웃 (밀리초)
+     */
+    private long connectionTimeoutMs = 3000L;
+
+    /**
+     * 허용 복제 지연 (초) - 초과 시 primary로 폴백
+     */
+    private long maxLagSeconds = 1L;
+
+    /**
+     * 복제 지연 확인 주기 (밀리초)
+     */
+    private long lagCheckIntervalMs = 1000L;
+}
@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.config.jpa;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 레플리카 라우팅 설정 (app.read-replica.enabled=true 일 때만)
+ *
+ * primary / replica 풀을 각각 Hikari 빈으로 만들고(풀 이름 primary, replica),
+ * 애플리케이션 DataSource는 LazyConnectionDataSourceProxy → ReplicaRoutingDataSource 로 노출한다.
+ * 풀이 각각 빈이므로 hikaricp.* 메트릭이 pool 태그로 나뉘어 수집된다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaRoutingConfig {
+
+    /**
+     * primary 풀 - spring.datasource / spring.datasource.hikari 설정 그대로 사용
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * replica 풀 - app.read-replica 설정, 계정은 비어 있으면 primary 값 사용
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+            ReadReplicaProperties properties) {
+        if (!StringUtils.hasText(properties.getUrl())) {
+            throw new IllegalStateException("app.read-replica.url 설정이 필요합니다.");
+        }
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(StringUtils.hasText(properties.getUsername())
+                ? properties.getUsername()
+                : dataSourceProperties.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(properties.getPassword())
+                ? properties.getPassword()
+                : dataSourceProperties.determinePassword());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(properties.getMinimumIdle());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, properties, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 DataSource (JPA / JdbcTemplate / 트랜잭션 매니저가 사용)
+     *
+     * LazyConnectionDataSourceProxy가 첫 쿼리까지 커넥션 획득을 미루므로
+     * 트랜잭션 시작 시점이 아니라 readOnly 플래그가 바인딩된 뒤에 라우팅된다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        log.info("🔀 읽기 레플리카 라우팅 활성화: @ReplicaRead 읽기 전용 트랜잭션 → replica");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,155 @@
+package kr.hhplus.be.server.config.jpa;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레플리카 복제 지연 감시
+ *
+ * - 주기적으로 SHOW REPLICA STATUS의 Seconds_Behind_Source를 읽는다
+ * - 지연이 허용치 이하일 때만 healthy → 라우팅이 레플리카를 사용
+ * - 복제 스레드 정지(NULL), 복제 미설정, 조회 실패, 확인 결과가 오래됨 → unhealthy
+ *
+ * 레플리카 계정에는 REPLICATION CLIENT 권한이 필요하다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS = "SHOW REPLICA STATUS";
+    private static final String LEGACY_REPLICA_STATUS = "SHOW SLAVE STATUS";
+
+    /** 확인 결과 유효 기간 = 확인 주기 × 배수 (감시 스레드가 멈춰도 오래된 healthy를 믿지 않도록) */
+    private static final int STALE_CHECK_MULTIPLIER = 3;
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final long checkIntervalMs;
+    private final Counter checkFailureCounter;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean legacyStatusCommand = false;
+    private volatile long lagSeconds = -1L;
+    private volatile boolean withinLag = false;
+    private volatile long checkedAtNanos = 0L;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReadReplicaProperties properties,
+            MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = properties.getMaxLagSeconds();
+        this.checkIntervalMs = properties.getLagCheckIntervalMs();
+
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("레플리카 복제 지연 (초, 알 수 없으면 -1)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.healthy", this, monitor -> monitor.isHealthy() ? 1 : 0)
+                .description("레플리카 읽기 허용 여부 (1=레플리카, 0=primary 폴백)")
+                .register(meterRegistry);
+        this.checkFailureCounter = Counter.builder("db.replica.lag.check.failures")
+                .description("복제 지연 확인 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("🛰️ 레플리카 복제 지연 감시 시작: maxLag={}s, interval={}ms", maxLagSeconds, checkIntervalMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 레플리카로 읽어도 되는지 (최근 확인 결과가 허용 지연 이내)
+     */
+    public boolean isHealthy() {
+        if (!withinLag) {
+            return false;
+        }
+        long validForNanos = TimeUnit.MILLISECONDS.toNanos(checkIntervalMs * STALE_CHECK_MULTIPLIER);
+        return System.nanoTime() - checkedAtNanos <= validForNanos;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연 (초, 알 수 없으면 -1)
+     */
+    public long lagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * 복제 지연 1회 확인 (스케줄러에서 호출)
+     */
+    void check() {
+        boolean wasHealthy = withinLag;
+        try {
+            long lag = measureLagSeconds();
+            lagSeconds = lag;
+            withinLag = lag >= 0 && lag <= maxLagSeconds;
+        } catch (SQLException | RuntimeException e) {
+            checkFailureCounter.increment();
+            lagSeconds = -1L;
+            withinLag = false;
+            log.debug("레플리카 복제 지연 확인 실패: {}", e.getMessage());
+        }
+        checkedAtNanos = System.nanoTime();
+
+        if (wasHealthy != withinLag) {
+            if (withinLag) {
+                log.info("✅ 레플리카 읽기 재개: lag={}s", lagSeconds);
+            } else {
+                log.warn("⚠️ 레플리카 읽기 중단 → primary 폴백: lag={}s (허용 {}s)", lagSeconds, maxLagSeconds);
+            }
+        }
+    }
+
+    /**
+     * @return 복제 지연(초), 복제가 멈췄거나 설정되지 않았으면 -1
+     */
+    private long measureLagSeconds() throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            if (!legacyStatusCommand) {
+                try {
+                    return readLag(statement, REPLICA_STATUS, "Seconds_Behind_Source");
+                } catch (SQLSyntaxErrorException e) {
+                    // MySQL 8.0.22 미만은 REPLICA 구문을 지원하지 않음
+                    legacyStatusCommand = true;
+                }
+            }
+            return readLag(statement, LEGACY_REPLICA_STATUS, "Seconds_Behind_Master");
+        }
+    }
+
+    private long readLag(Statement statement, String query, String column) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(query)) {
+            if (!resultSet.next()) {
+                return -1L;
+            }
+            long lag = resultSet.getLong(column);
+            return resultSet.wasNull() ? -1L : lag;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.config.jpa;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.replica.ReplicaReadContext;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ *
+ * - @ReplicaRead 범위의 읽기 전용 트랜잭션 → 레플리카 (복제 지연 허용치 이내일 때)
+ * - 그 외 모든 커넥션 (쓰기, 락 범위 조회, 트랜잭션 밖 조회) → primary
+ *
+ * 라우팅은 커넥션을 실제로 가져오는 시점에 결정되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.primaryCounter = routingCounter(meterRegistry, "primary", "default");
+        this.replicaCounter = routingCounter(meterRegistry, "replica", "replica-read");
+        this.fallbackCounter = routingCounter(meterRegistry, "primary", "replica-unhealthy");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!ReplicaReadContext.isActive() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isHealthy()) {
+            fallbackCounter.increment();
+            return Target.PRIMARY;
+        }
+        replicaCounter.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing")
+                .description("커넥션 라우팅 결과")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
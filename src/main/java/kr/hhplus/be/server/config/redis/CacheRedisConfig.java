@@ -1,7 +1,9 @@
 package kr.hhplus.be.server.config.redis;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,10 +20,17 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.codec.CodecProperties;
+import kr.hhplus.be.server.common.codec.CodecRedisSerializer;
+import kr.hhplus.be.server.common.codec.PayloadCodec;
+import kr.hhplus.be.server.monitoring.InstrumentedCacheManager;
+
 /**
  * 캐시용 Redis 설정
  * - 단순한 GET/SET 연산에 최적화
@@ -99,24 +108,42 @@ public class CacheRedisConfig {
         return template;
     }
 
+    /**
+     * RedisCacheManager를 통계 수집 데코레이터로 감싸서 등록
+     * 히트/미스/저장/무효화/로딩 시간이 Micrometer 메트릭으로 노출된다.
+     * 
+     * 값은 캐시별 코덱(JSON/Smile + 임계 크기 이상 LZ4)으로 저장하며,
+     * 읽을 때 포맷을 자동 감지하므로 포맷 전환 중에도 기존 JSON 엔트리를 그대로 읽는다.
+     */
     @Bean
     @Primary
-    public CacheManager cacheManager() {
-        // Jackson2JsonRedisSerializer 생성 - 타입 정보 보존 설정
+    public CacheManager cacheManager(MeterRegistry meterRegistry, CodecProperties codecProperties) {
+        // 타입 정보 보존 설정 (Smile도 같은 설정을 복사해서 사용)
         ObjectMapper mapper = objectMapper.copy();
         mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
-        Jackson2JsonRedisSerializer<Object> jsonSerializer = new Jackson2JsonRedisSerializer<>(mapper, Object.class);
+        PayloadCodec codec = new PayloadCodec(mapper, codecProperties.getCompressionThreshold());
 
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMillis(defaultTtl))
-                .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(
-                        org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer));
+        RedisCacheConfiguration config = cacheConfiguration(
+                new CodecRedisSerializer(codec, codecProperties.getCacheDefault()));
+
+        Map<String, RedisCacheConfiguration> perCacheConfigs = new HashMap<>();
+        codecProperties.getCaches().forEach((cacheName, format) -> perCacheConfigs.put(cacheName,
+                cacheConfiguration(new CodecRedisSerializer(codec, format))));
 
-        return RedisCacheManager.builder(cacheRedisConnectionFactory())
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheRedisConnectionFactory())
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(perCacheConfigs)
                 .build();
+        // 빈으로 등록되지 않으므로 초기화 직접 호출
+        redisCacheManager.afterPropertiesSet();
+
+        return new InstrumentedCacheManager(redisCacheManager, meterRegistry);
+    }
+
+    private RedisCacheConfiguration cacheConfiguration(CodecRedisSerializer valueSerializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMillis(defaultTtl))
+                .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(SerializationPair.fromSerializer(valueSerializer));
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,8 @@ import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+
+import kr.hhplus.be.server.common.lock.LockProperties;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -28,10 +30,13 @@ public class RedissonConfig {
     private int redisPort;
 
     private final RedisProperties redisProperties;
+    private final LockProperties lockProperties;
 
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
+        // 워치독 리스 단위 (WATCHDOG 모드에서 1/3 주기로 연장)
+        config.setLockWatchdogTimeout(lockProperties.getWatchdogTimeout());
 
         if (redisProperties.isClusterMode()) {
             // 클러스터 설정 - 락용은 16개 커넥션으로 경합 상황 대응
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.coupon.application;
 import java.util.List;
 
 import kr.hhplus.be.server.common.annotation.UseCase;
+import kr.hhplus.be.server.common.replica.ReplicaRead;
 import kr.hhplus.be.server.coupon.dto.AvailableCouponResponse;
 import kr.hhplus.be.server.coupon.dto.UserCouponResponse;
 import kr.hhplus.be.server.coupon.service.CouponService;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
  * - "사용자가 특정 쿠폰을 조회한다"
  */
 @UseCase
+@ReplicaRead
 @RequiredArgsConstructor
 public class GetCouponsUseCase {
 
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.coupon.consumer;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.hhplus.be.server.coupon.domain.UserCoupon;
+import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
+import kr.hhplus.be.server.coupon.event.CouponIssueEvent;
+import kr.hhplus.be.server.coupon.repository.UserCouponRepository;
+import kr.hhplus.be.server.coupon.service.CouponRequestStatusNotifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿠폰 발급 이벤트 처리기
+ * 
+ * - 멱등성 보장: 중복 발급 체크 (쿠폰ID + 유저ID)
+ * - DB 영속화: 안정적인 쿠폰 발급 완료 처리
+ * - CouponIssueConsumer가 쿠폰 키 레인에서 호출 (같은 쿠폰은 순서대로, 다른 쿠폰은 병렬)
+ * 
+ * -> Consumer에서 비즈니스 멱등성을 직접 구현해야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueProcessor {
+
+    private final UserCouponRepository userCouponRepository;
+    private final CouponRequestStatusNotifier statusNotifier;
+
+    /**
+     * 쿠폰 발급 이벤트 처리 (레코드 단위 트랜잭션)
+     */
+    @Transactional
+    public void process(CouponIssueEvent event, int partition, long offset) {
+        try {
+            // 1단계: 멱등성 보장 - 중복 발급 체크
+            if (isAlreadyIssued(event.couponId(), event.userId())) {
+                log.info("⚠️ 이미 발급된 쿠폰 스킵: couponId={}, userId={}, eventId={}",
+                        event.couponId(), event.userId(), event.eventId());
+                return; // 처리 완료로 커밋됨
+            }
+
+            // 2단계: DB에 쿠폰 발급 정보 영속화
+            UserCoupon userCoupon = new UserCoupon(event.userId(), event.couponId());
+            UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
+
+            log.info("✅ 쿠폰 발급 완료: " +
+                    "userCouponId={}, couponId={}, userId={}, eventId={}",
+                    savedUserCoupon.getId(), event.couponId(), event.userId(), event.eventId());
+
+            // 3단계: 커밋 이후 요청 상태 완료 처리 + SSE 구독자 알림
+            if (event.requestId() != null) {
+                statusNotifier.updateAfterCommit(AsyncCouponIssueResponse.completed(
+                        event.requestId(), event.issuedAt(), LocalDateTime.now(), savedUserCoupon.getId()));
+            }
+
+            // 4단계: 처리 완료 로그 (모니터링용)
+            logProcessingMetrics(event, partition, offset);
+
+        } catch (Exception e) {
+            log.error("💥 쿠폰 발급 처리 실패: " +
+                    "eventId={}, couponId={}, userId={}, partition={}, offset={}",
+                    event.eventId(), event.couponId(), event.userId(), partition, offset, e);
+
+            // 병렬 실행기가 재시도 후 최종 실패 시 DLQ(Dead Letter Queue)로 이동
+            throw new RuntimeException("쿠폰 발급 처리 실패", e);
+        }
+    }
+
+    /**
+     * 중복 발급 체크 (멱등성 보장)
+     * 
+     * 쿠폰ID + 유저ID로 중복 방지
+     * 이미 발급받은 사용자면 '있어'라고 단순 응답
+     */
+    private boolean isAlreadyIssued(Long couponId, Long userId) {
+        return userCouponRepository.existsByUserIdAndCouponId(userId, couponId);
+    }
+
+    /**
+     * Consumer 성능 모니터링 로그
+     * 
+     * "Consumer Lag 모니터링 필수"
+     */
+    private void logProcessingMetrics(CouponIssueEvent event, int partition, long offset) {
+        long processingDelay = System.currentTimeMillis() -
+                event.occurredAt().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        if (processingDelay > 1000) { // 1초 이상 지연 시 경고
+            log.warn("🐌 Consumer 지연 감지: {}ms, partition={}, offset={}, eventId={}",
+                    processingDelay, partition, offset, event.eventId());
+        }
+
+        log.debug("📊 처리 완료: partition={}, offset={}, delay={}ms",
+                partition, offset, processingDelay);
+    }
+}
\ No newline at end of file
@@ -5,11 +5,18 @@ import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueRequest;
 import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
 import kr.hhplus.be.server.coupon.dto.SystemStatusResponse;
 import kr.hhplus.be.server.coupon.dto.CouponStockResponse;
+import kr.hhplus.be.server.coupon.dto.WaitingRoomEnterRequest;
+import kr.hhplus.be.server.coupon.dto.WaitingRoomStatusResponse;
+import kr.hhplus.be.server.coupon.service.CouponIssuedIndex;
+import kr.hhplus.be.server.coupon.service.CouponStatusStreamService;
+import kr.hhplus.be.server.coupon.service.CouponWaitingRoomService;
 import kr.hhplus.be.server.coupon.service.RedisCouponService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 
@@ -23,6 +30,9 @@ import jakarta.validation.Valid;
 public class CouponIssueController {
     
     private final RedisCouponService redisCouponService;
+    private final CouponWaitingRoomService waitingRoomService;
+    private final CouponIssuedIndex issuedIndex;
+    private final CouponStatusStreamService statusStreamService;
     
     @PostMapping("/issue")
     @ResponseStatus(HttpStatus.ACCEPTED)
@@ -32,6 +42,9 @@ public class CouponIssueController {
         log.info("🎫 비동기 쿠폰 발급 API 호출: userId={}, couponId={}", 
                 request.userId(), request.couponId());
         
+        // 소진 쿠폰은 Redis 접근 없이 즉시 거절, 입장권 필수 모드면 입장권 확인
+        waitingRoomService.checkAdmission(request.couponId(), request.userId());
+        
         try {
             AsyncCouponIssueResponse response = redisCouponService.requestCouponIssueAsync(request);
             
@@ -46,6 +59,27 @@ public class CouponIssueController {
         }
     }
     
+    @PostMapping("/{couponId}/waiting-room")
+    public CommonResponse<WaitingRoomStatusResponse> enterWaitingRoom(
+            @PathVariable Long couponId,
+            @Valid @RequestBody WaitingRoomEnterRequest request) {
+        
+        WaitingRoomStatusResponse response = waitingRoomService.enter(couponId, request.userId());
+        
+        log.debug("🚪 대기열 입장: couponId={}, userId={}, status={}, position={}", 
+                couponId, request.userId(), response.status(), response.position());
+        
+        return CommonResponse.success(response);
+    }
+    
+    @GetMapping("/{couponId}/waiting-room/{userId}")
+    public CommonResponse<WaitingRoomStatusResponse> getWaitingRoomStatus(
+            @PathVariable Long couponId,
+            @PathVariable Long userId) {
+        
+        return CommonResponse.success(waitingRoomService.getStatus(couponId, userId));
+    }
+    
     @GetMapping("/status/{requestId}")
     public CommonResponse<AsyncCouponIssueResponse> getIssueStatus(@PathVariable String requestId) {
         
@@ -64,6 +98,17 @@ public class CouponIssueController {
         }
     }
     
+    /**
+     * 발급 상태 SSE 스트림 - 폴링 대신 상태 변경 시점에 push (최종 상태 전송 후 종료)
+     */
+    @GetMapping(value = "/status/{requestId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIssueStatus(@PathVariable String requestId) {
+        
+        log.debug("📡 쿠폰 발급 상태 스트림 구독: requestId={}", requestId);
+        
+        return statusStreamService.open(requestId);
+    }
+    
     @PostMapping("/{couponId}/initialize-stock")
     public CommonResponse<String> initializeCouponStock(@PathVariable Long couponId) {
         
@@ -71,6 +116,7 @@ public class CouponIssueController {
         
         try {
             redisCouponService.initializeCouponStock(couponId);
+            waitingRoomService.clearSoldOut(couponId);
             
             log.info("✅ 쿠폰 재고 초기화 완료: couponId={}", couponId);
             
@@ -82,6 +128,14 @@ public class CouponIssueController {
         }
     }
     
+    @PostMapping("/{couponId}/issued-index/migrate")
+    public CommonResponse<Long> migrateIssuedIndex(@PathVariable Long couponId) {
+        
+        log.info("🔁 발급 인덱스 이관 요청: couponId={}", couponId);
+        
+        return CommonResponse.success(issuedIndex.migrateFromSet(couponId));
+    }
+    
     @GetMapping("/system/status")
     public CommonResponse<SystemStatusResponse> getSystemStatus() {
         
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.coupon.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 쿠폰 대기열 입장 요청 DTO
+ */
+public record WaitingRoomEnterRequest(
+    @NotNull(message = "사용자 ID는 필수입니다.")
+    Long userId
+) {
+}
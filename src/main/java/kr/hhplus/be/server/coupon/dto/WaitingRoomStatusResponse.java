@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.coupon.dto;
+
+/**
+ * 쿠폰 대기열 상태 응답 DTO
+ */
+public record WaitingRoomStatusResponse(
+    Long couponId,
+    Long userId,
+    Long ticket,          // 입장 순번 (단조 증가)
+    Long position,        // 내 앞 대기 인원 (0부터)
+    Status status,
+    Long estimatedWaitSeconds
+) {
+
+    public enum Status {
+        WAITING,      // 대기 중
+        ADMITTED,     // 입장 완료 - 발급 요청 가능
+        NOT_IN_QUEUE, // 대기열에 없음
+        SOLD_OUT      // 재고 소진
+    }
+
+    public static WaitingRoomStatusResponse waiting(Long couponId, Long userId, Long ticket, long position,
+            int admitRatePerSecond) {
+        long estimated = admitRatePerSecond > 0 ? position / admitRatePerSecond : 0;
+        return new WaitingRoomStatusResponse(couponId, userId, ticket, position, Status.WAITING, estimated);
+    }
+
+    public static WaitingRoomStatusResponse admitted(Long couponId, Long userId) {
+        return new WaitingRoomStatusResponse(couponId, userId, null, 0L, Status.ADMITTED, 0L);
+    }
+
+    public static WaitingRoomStatusResponse notInQueue(Long couponId, Long userId) {
+        return new WaitingRoomStatusResponse(couponId, userId, null, null, Status.NOT_IN_QUEUE, null);
+    }
+
+    public static WaitingRoomStatusResponse soldOut(Long couponId, Long userId) {
+        return new WaitingRoomStatusResponse(couponId, userId, null, null, Status.SOLD_OUT, null);
+    }
+}
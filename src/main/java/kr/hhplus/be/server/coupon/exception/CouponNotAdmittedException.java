@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.coupon.exception;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+/**
+ * 대기열 입장권 없이 선착순 발급을 요청했을 때 발생하는 예외
+ */
+public class CouponNotAdmittedException extends BusinessException {
+
+    public CouponNotAdmittedException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
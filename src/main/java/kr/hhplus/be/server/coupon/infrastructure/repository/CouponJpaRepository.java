@@ -29,5 +29,10 @@ public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
             """)
     List<Coupon> findAvailableCoupons(@Param("now") LocalDateTime now);
 
+    /**
+     * 첫 번째 쿠폰 조회 (LIMIT 1 - 존재 여부 확인용)
+     */
+    Optional<Coupon> findFirstByOrderByIdAsc();
+
     // 비관적 락 메서드 제거 - 분산락으로 대체
 }
@@ -51,6 +51,12 @@ public class CouponRepositoryJpaImpl implements CouponRepository {
         return jpaRepository.findAvailableCoupons(LocalDateTime.now());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsAny() {
+        return jpaRepository.findFirstByOrderByIdAsc().isPresent();
+    }
+
     @Override
     @Transactional
     public Coupon save(Coupon coupon) {
@@ -36,6 +36,11 @@ public interface CouponRepository {
      */
     List<Coupon> findAvailableCoupons();
 
+    /**
+     * 쿠폰 존재 여부 확인 (전체 조회 없이 1건만 확인)
+     */
+    boolean existsAny();
+
     /**
      * 쿠폰 저장 (생성 또는 수정)
      */
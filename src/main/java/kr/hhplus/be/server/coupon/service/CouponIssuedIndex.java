@@ -0,0 +1,178 @@
+package kr.hhplus.be.server.coupon.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.config.IssuedIndexProperties;
+import kr.hhplus.be.server.config.IssuedIndexProperties.Mode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿠폰 발급 사용자 인덱스 (중복 발급 방지)
+ * 
+ * 핵심 구현 방식:
+ * 1. userId를 비트 오프셋으로 쓰는 Redis Bitmap (SETBIT/GETBIT, O(1))
+ * 2. 2^chunkBits 단위 청크 키로 분할 → 희소한 ID 공간에서도 사용된 청크만 할당
+ *    (기본 2^20비트 = 청크당 최대 128KB)
+ * 3. 기존 Set(coupon:issued:{couponId})과 이중 기록/이관 지원
+ * 
+ * 메모리: Set은 멤버당 수십 바이트, Bitmap은 ID 공간 기준 사용자당 1비트
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssuedIndex {
+
+    private static final String ISSUED_SET_KEY = "coupon:issued:"; // + couponId (기존 Set)
+    private static final String ISSUED_BITMAP_KEY = "coupon:issued:bitmap:"; // + couponId:chunk
+    private static final int MIGRATION_BATCH = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final IssuedIndexProperties properties;
+
+    /**
+     * DUAL 모드는 GETBIT + SISMEMBER를 파이프라인 한 번으로 확인
+     */
+    public boolean isIssued(Long couponId, Long userId) {
+        Mode mode = properties.getMode();
+        if (mode == Mode.BITMAP) {
+            return Boolean.TRUE.equals(
+                    stringRedisTemplate.opsForValue().getBit(bitmapKey(couponId, userId), offset(userId)));
+        }
+        if (mode == Mode.SET) {
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(setKey(couponId), userId.toString()));
+        }
+
+        // DUAL: 이관 전 Set에만 있는 사용자도 확인
+        byte[] setMember = setMember(userId);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().getBit(bytes(bitmapKey(couponId, userId)), offset(userId));
+            connection.setCommands().sIsMember(bytes(setKey(couponId)), setMember);
+            return null;
+        });
+        return results.stream().anyMatch(Boolean.TRUE::equals);
+    }
+
+    /**
+     * 발급 표시 - 모드별 SETBIT/SADD와 TTL 갱신을 파이프라인 한 번으로 전송
+     * (DUAL 기준 왕복 4회 → 1회)
+     */
+    public void markIssued(Long couponId, Long userId) {
+        Mode mode = properties.getMode();
+        long ttlSeconds = Duration.ofDays(properties.getTtlDays()).toSeconds();
+        byte[] setMember = mode != Mode.BITMAP ? setMember(userId) : null;
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            if (mode != Mode.SET) {
+                byte[] key = bytes(bitmapKey(couponId, userId));
+                connection.stringCommands().setBit(key, offset(userId), true);
+                connection.keyCommands().expire(key, ttlSeconds);
+            }
+            if (mode != Mode.BITMAP) {
+                byte[] key = bytes(setKey(couponId));
+                connection.setCommands().sAdd(key, setMember);
+                connection.keyCommands().expire(key, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    public void unmarkIssued(Long couponId, Long userId) {
+        Mode mode = properties.getMode();
+        byte[] setMember = mode != Mode.BITMAP ? setMember(userId) : null;
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            if (mode != Mode.SET) {
+                connection.stringCommands().setBit(bytes(bitmapKey(couponId, userId)), offset(userId), false);
+            }
+            if (mode != Mode.BITMAP) {
+                connection.setCommands().sRem(bytes(setKey(couponId)), setMember);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 기존 Set 멤버를 Bitmap으로 이관 (SSCAN + 파이프라인 SETBIT)
+     * 
+     * @return 이관된 사용자 수
+     */
+    public long migrateFromSet(Long couponId) {
+        long migrated = 0;
+        List<Long> batch = new ArrayList<>(MIGRATION_BATCH);
+
+        try (Cursor<Object> cursor = redisTemplate.opsForSet().scan(setKey(couponId),
+                ScanOptions.scanOptions().count(MIGRATION_BATCH).build())) {
+            while (cursor.hasNext()) {
+                Object member = cursor.next();
+                try {
+                    batch.add(Long.parseLong(String.valueOf(member)));
+                } catch (NumberFormatException e) {
+                    log.warn("숫자가 아닌 발급 Set 멤버 건너뜀: couponId={}, member={}", couponId, member);
+                    continue;
+                }
+                if (batch.size() >= MIGRATION_BATCH) {
+                    migrated += writeBits(couponId, batch);
+                    batch.clear();
+                }
+            }
+        }
+        migrated += writeBits(couponId, batch);
+
+        log.info("🔁 발급 인덱스 이관 완료: couponId={}, migrated={}", couponId, migrated);
+        return migrated;
+    }
+
+    private int writeBits(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        long ttlSeconds = Duration.ofDays(properties.getTtlDays()).toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.stringCommands().setBit(
+                        bytes(bitmapKey(couponId, userId)), offset(userId), true);
+            }
+            userIds.stream().map(userId -> bitmapKey(couponId, userId)).distinct()
+                    .forEach(key -> connection.keyCommands().expire(bytes(key), ttlSeconds));
+            return null;
+        });
+        return userIds.size();
+    }
+
+    /**
+     * 기존 Set 멤버 직렬화 - redisTemplate 값 직렬화 방식을 그대로 사용 (기존 멤버와 같은 바이트)
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] setMember(Long userId) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(userId.toString());
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String setKey(Long couponId) {
+        return ISSUED_SET_KEY + couponId;
+    }
+
+    private String bitmapKey(Long couponId, Long userId) {
+        return ISSUED_BITMAP_KEY + couponId + ":" + (userId >>> properties.getChunkBits());
+    }
+
+    private long offset(Long userId) {
+        return userId & ((1L << properties.getChunkBits()) - 1);
+    }
+}
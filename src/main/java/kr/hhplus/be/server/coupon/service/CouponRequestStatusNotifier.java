@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.coupon.service;
+
+import java.time.Duration;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿠폰 발급 요청 상태 저장 + 변경 알림
+ * 
+ * - 상태 키(coupon:request:{requestId}) 저장은 기존 폴링 API와 동일한 형식 유지
+ * - 저장 직후 Redis pub/sub로 "requestId|json" 발행 → 각 노드의 SSE 구독자에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponRequestStatusNotifier {
+
+    public static final String STATUS_TOPIC = "coupon:request-status";
+    public static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 상태 저장 후 변경 알림 발행
+     */
+    public void update(AsyncCouponIssueResponse response) {
+        String statusJson;
+        try {
+            statusJson = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            log.error("상태 업데이트 실패: requestId={}", response.requestId(), e);
+            return;
+        }
+
+        redisTemplate.opsForValue().set(
+                RedisCouponService.REQUEST_STATUS_KEY + response.requestId(),
+                statusJson,
+                Duration.ofHours(24) // 24시간 TTL
+        );
+
+        try {
+            RTopic topic = redissonClient.getTopic(STATUS_TOPIC, StringCodec.INSTANCE);
+            topic.publish(response.requestId() + SEPARATOR + statusJson);
+        } catch (Exception e) {
+            // 알림 실패 시에도 상태 키는 저장되어 있으므로 폴링/재연결로 조회 가능
+            log.warn("상태 변경 알림 발행 실패: requestId={}, error={}", response.requestId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 상태 저장/알림 (롤백된 발급을 완료로 알리지 않도록)
+     */
+    public void updateAfterCommit(AsyncCouponIssueResponse response) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(response);
+                }
+            });
+        } else {
+            update(response);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry;
 import kr.hhplus.be.server.coupon.domain.Coupon;
 import kr.hhplus.be.server.coupon.domain.UserCoupon;
 import kr.hhplus.be.server.coupon.dto.AvailableCouponResponse;
@@ -31,6 +32,7 @@ public class CouponService {
 
         private final CouponRepository couponRepository;
         private final UserCouponRepository userCouponRepository;
+        private final SoldOutRegistry soldOutRegistry;
 
         public List<AvailableCouponResponse> getAvailableCoupons() {
                 List<Coupon> availableCoupons = couponRepository.findAvailableCoupons();
@@ -41,6 +43,8 @@ public class CouponService {
 
         // 분산락 기반 쿠폰 발급 (트랜잭션을 인프라 레이어로 이동)
         public IssuedCouponResponse issueCoupon(Long couponId, Long userId) {
+                // 품절 쿠폰은 락/DB 접근 없이 즉시 거절
+                rejectIfSoldOut(couponId);
                 return couponRepository.issueWithTransaction(couponId, userId,
                                 () -> processIssueCoupon(couponId, userId));
         }
@@ -61,6 +65,7 @@ public class CouponService {
                         if (coupon.isExhausted()) {
                                 log.warn("쿠폰 소진: couponId = {}, 발급량 = {}/{}",
                                                 couponId, coupon.getIssuedQuantity(), coupon.getTotalQuantity());
+                                soldOutRegistry.markSoldOut(SoldOutRegistry.Kind.COUPON, couponId);
                                 throw new kr.hhplus.be.server.coupon.exception.CouponExhaustedException(
                                                 ErrorCode.COUPON_EXHAUSTED);
                         }
@@ -84,6 +89,7 @@ public class CouponService {
                         // 검증 완료 후 수량 증가
                         coupon.issueWithoutValidation();
                         Coupon savedCoupon = couponRepository.save(coupon);
+                        markSoldOutIfExhausted(savedCoupon);
 
                         UserCoupon userCoupon = new UserCoupon(userId, couponId);
                         UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
@@ -104,6 +110,7 @@ public class CouponService {
          * 선착순 쿠폰 발급 (분산락 기반)
          */
         public IssuedCouponResponse issueFirstComeCoupon(Long couponId, Long userId) {
+                rejectIfSoldOut(couponId);
                 try {
                         Coupon coupon = couponRepository.findById(couponId)
                                         .orElseThrow(() -> new CouponNotFoundException(ErrorCode.COUPON_NOT_FOUND));
@@ -111,6 +118,7 @@ public class CouponService {
                         if (coupon.isExhausted()) {
                                 log.warn("선착순 쿠폰 소진: couponId = {}, 발급량 = {}/{}",
                                                 couponId, coupon.getIssuedQuantity(), coupon.getTotalQuantity());
+                                soldOutRegistry.markSoldOut(SoldOutRegistry.Kind.COUPON, couponId);
                                 throw new kr.hhplus.be.server.coupon.exception.CouponExhaustedException(
                                                 ErrorCode.COUPON_EXHAUSTED);
                         }
@@ -128,6 +136,7 @@ public class CouponService {
 
                         coupon.issue();
                         Coupon savedCoupon = couponRepository.save(coupon);
+                        markSoldOutIfExhausted(savedCoupon);
 
                         UserCoupon userCoupon = new UserCoupon(userId, couponId);
                         UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
@@ -140,6 +149,23 @@ public class CouponService {
                 }
         }
 
+        private void rejectIfSoldOut(Long couponId) {
+                if (soldOutRegistry.isSoldOut(SoldOutRegistry.Kind.COUPON, couponId)) {
+                        log.debug("품절 쿠폰 (로컬): couponId = {}", couponId);
+                        throw new kr.hhplus.be.server.coupon.exception.CouponExhaustedException(
+                                        ErrorCode.COUPON_EXHAUSTED);
+                }
+        }
+
+        /**
+         * 마지막 수량 발급 시 커밋 이후 품절 등록
+         */
+        private void markSoldOutIfExhausted(Coupon coupon) {
+                if (coupon.isExhausted()) {
+                        soldOutRegistry.markSoldOutAfterCommit(SoldOutRegistry.Kind.COUPON, coupon.getId());
+                }
+        }
+
         /**
          * 사용자 보유 쿠폰 목록 조회 - N+1 문제 해결
          */
@@ -0,0 +1,179 @@
+package kr.hhplus.be.server.coupon.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.config.StatusStreamProperties;
+import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿠폰 발급 상태 SSE 스트림 서비스
+ * 
+ * 핵심 구현 방식:
+ * 1. 노드당 pub/sub 구독 1개 → requestId별 로컬 SseEmitter로 팬아웃
+ * 2. 로컬 구독자가 없는 requestId 메시지는 JSON 파싱 없이 버림
+ * 3. 구독 등록 후 현재 상태를 한 번 조회해 전송 → 등록 전후 변경 유실 없음
+ * 4. 최종 상태(COMPLETED/FAILED) 전송 후 연결 종료, 노드당 연결 수 제한
+ */
+@Slf4j
+@Service
+public class CouponStatusStreamService {
+
+    private static final String EVENT_NAME = "status";
+    private static final Set<String> TERMINAL_STATUSES = Set.of("COMPLETED", "FAILED");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final StatusStreamProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    private RTopic topic;
+    private int listenerId;
+
+    public CouponStatusStreamService(RedisTemplate<String, Object> redisTemplate, RedissonClient redissonClient,
+            StatusStreamProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("coupon.status.stream.connections", connections, AtomicInteger::get)
+                .description("쿠폰 발급 상태 SSE 연결 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("coupon.status.stream.rejected")
+                .description("연결 수 제한으로 거절된 SSE 구독 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        topic = redissonClient.getTopic(CouponRequestStatusNotifier.STATUS_TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> dispatch(message));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    /**
+     * 요청 상태 스트림 구독
+     */
+    public SseEmitter open(String requestId) {
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        subscribers.compute(requestId, (id, emitters) -> {
+            Set<SseEmitter> target = emitters != null ? emitters : new CopyOnWriteArraySet<>();
+            target.add(emitter);
+            return target;
+        });
+
+        Runnable cleanup = () -> release(requestId, emitter);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(error -> cleanup.run());
+
+        // 등록 이후 현재 상태 전송 (이미 완료된 요청이면 바로 종료)
+        Object current = redisTemplate.opsForValue().get(RedisCouponService.REQUEST_STATUS_KEY + requestId);
+        if (current != null) {
+            send(requestId, emitter, current.toString());
+        }
+
+        return emitter;
+    }
+
+    void dispatch(String message) {
+        int separator = message.indexOf(CouponRequestStatusNotifier.SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+
+        String requestId = message.substring(0, separator);
+        Set<SseEmitter> emitters = subscribers.get(requestId);
+        if (emitters == null || emitters.isEmpty()) {
+            return; // 이 노드에 구독자 없음
+        }
+
+        String statusJson = message.substring(separator + 1);
+        for (SseEmitter emitter : emitters) {
+            send(requestId, emitter, statusJson);
+        }
+    }
+
+    private void send(String requestId, SseEmitter emitter, String statusJson) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(requestId)
+                    .name(EVENT_NAME)
+                    .data(statusJson, MediaType.APPLICATION_JSON));
+            if (isTerminal(statusJson)) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (연결 종료): requestId={}", requestId);
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 최종 상태 여부 - 상태 JSON을 역직렬화해 status 필드로 판단 (포맷/필드 순서와 무관)
+     */
+    boolean isTerminal(String statusJson) {
+        try {
+            AsyncCouponIssueResponse response = objectMapper.readValue(statusJson, AsyncCouponIssueResponse.class);
+            return TERMINAL_STATUSES.contains(response.status());
+        } catch (JsonProcessingException e) {
+            log.debug("상태 JSON 해석 실패, 연결 유지: {}", e.getOriginalMessage());
+            return false;
+        }
+    }
+
+    private void release(String requestId, SseEmitter emitter) {
+        subscribers.computeIfPresent(requestId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+}
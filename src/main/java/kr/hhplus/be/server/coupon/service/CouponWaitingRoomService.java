@@ -0,0 +1,233 @@
+package kr.hhplus.be.server.coupon.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry;
+import kr.hhplus.be.server.config.WaitingRoomProperties;
+import kr.hhplus.be.server.coupon.dto.WaitingRoomStatusResponse;
+import kr.hhplus.be.server.coupon.exception.CouponExhaustedException;
+import kr.hhplus.be.server.coupon.exception.CouponNotAdmittedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 선착순 쿠폰 대기열(Waiting Room) 서비스
+ * 
+ * 핵심 구현 방식:
+ * 1. INCR 기반 단조 증가 순번(ticket) → ZSET score로 사용해 선착순 보장
+ * 2. 입장 스케줄러가 초당 N명씩 ZPOPMIN → 입장권(pass) 키 발급
+ * 3. 순번 조회는 ZRANK 한 번 (O(log N))
+ * 4. 재고 소진 시 SoldOutRegistry(노드 로컬 + pub/sub)에 등록 → 이후 요청은 Redis 접근 없이 거절
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponWaitingRoomService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SoldOutRegistry soldOutRegistry;
+    private final WaitingRoomProperties properties;
+
+    // Redis 키 패턴
+    private static final String QUEUE_KEY = "coupon:waiting:"; // + couponId (ZSET, member=userId, score=ticket)
+    private static final String TICKET_KEY = "coupon:waiting:ticket:"; // + couponId
+    private static final String PASS_KEY = "coupon:waiting:pass:"; // + couponId:userId
+    private static final String ACTIVE_KEY = "coupon:waiting:active"; // 대기열이 열린 쿠폰 ID Set
+    private static final String COUPON_STOCK_KEY = "coupon:stock:"; // RedisCouponService와 동일
+
+    /**
+     * 대기열 종료 스크립트 - KEYS[1]=대기열 ZSET, KEYS[2]=활성 쿠폰 Set, ARGV[1]=couponId, ARGV[2]=강제 여부
+     */
+    private static final RedisScript<Long> CLOSE_QUEUE_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[2] ~= '1' and redis.call('ZCARD', KEYS[1]) > 0 then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 대기열 입장 - 이미 대기 중이면 기존 순번 유지
+     */
+    public WaitingRoomStatusResponse enter(Long couponId, Long userId) {
+        if (isSoldOut(couponId)) {
+            throw new CouponExhaustedException(ErrorCode.COUPON_EXHAUSTED);
+        }
+        if (hasPass(couponId, userId)) {
+            return WaitingRoomStatusResponse.admitted(couponId, userId);
+        }
+
+        String queueKey = QUEUE_KEY + couponId;
+        Long ticket = stringRedisTemplate.opsForValue().increment(TICKET_KEY + couponId);
+        Boolean added = stringRedisTemplate.opsForZSet().addIfAbsent(queueKey, userId.toString(), ticket);
+        if (!Boolean.TRUE.equals(added)) {
+            Double existing = stringRedisTemplate.opsForZSet().score(queueKey, userId.toString());
+            ticket = existing != null ? existing.longValue() : ticket;
+        } else {
+            Duration ttl = Duration.ofHours(properties.getQueueTtlHours());
+            stringRedisTemplate.expire(queueKey, ttl);
+            stringRedisTemplate.expire(TICKET_KEY + couponId, ttl);
+            stringRedisTemplate.opsForSet().add(ACTIVE_KEY, couponId.toString());
+        }
+
+        Long rank = stringRedisTemplate.opsForZSet().rank(queueKey, userId.toString());
+        if (rank == null) {
+            // ZADD와 조회 사이에 입장 처리된 경우
+            return hasPass(couponId, userId)
+                    ? WaitingRoomStatusResponse.admitted(couponId, userId)
+                    : WaitingRoomStatusResponse.notInQueue(couponId, userId);
+        }
+
+        log.debug("🚪 대기열 입장: couponId={}, userId={}, ticket={}, position={}", couponId, userId, ticket, rank);
+        return WaitingRoomStatusResponse.waiting(couponId, userId, ticket, rank, properties.getAdmitRatePerSecond());
+    }
+
+    /**
+     * 대기 순번 조회 (폴링용 경량 API)
+     */
+    public WaitingRoomStatusResponse getStatus(Long couponId, Long userId) {
+        if (isSoldOut(couponId)) {
+            return WaitingRoomStatusResponse.soldOut(couponId, userId);
+        }
+
+        String queueKey = QUEUE_KEY + couponId;
+        Long rank = stringRedisTemplate.opsForZSet().rank(queueKey, userId.toString());
+        if (rank != null) {
+            Double ticket = stringRedisTemplate.opsForZSet().score(queueKey, userId.toString());
+            return WaitingRoomStatusResponse.waiting(couponId, userId,
+                    ticket != null ? ticket.longValue() : null, rank, properties.getAdmitRatePerSecond());
+        }
+
+        return hasPass(couponId, userId)
+                ? WaitingRoomStatusResponse.admitted(couponId, userId)
+                : WaitingRoomStatusResponse.notInQueue(couponId, userId);
+    }
+
+    /**
+     * 발급 요청 전 입장 검증 - 소진이면 Redis 접근 없이 즉시 거절
+     */
+    public void checkAdmission(Long couponId, Long userId) {
+        if (isSoldOut(couponId)) {
+            throw new CouponExhaustedException(ErrorCode.COUPON_EXHAUSTED);
+        }
+        if (properties.isRequireAdmission() && !hasPass(couponId, userId)) {
+            throw new CouponNotAdmittedException(ErrorCode.COUPON_NOT_ADMITTED);
+        }
+    }
+
+    /**
+     * 대기열 앞에서 최대 limit명을 꺼내 입장권 발급
+     * 
+     * @return 입장 처리된 인원 수
+     */
+    public int admitBatch(Long couponId, int limit) {
+        if (limit <= 0) {
+            return 0;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> admitted =
+                stringRedisTemplate.opsForZSet().popMin(QUEUE_KEY + couponId, limit);
+        if (admitted == null || admitted.isEmpty()) {
+            return 0;
+        }
+
+        List<String> userIds = admitted.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+        Expiration ttl = Expiration.seconds(properties.getPassTtlSeconds());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : userIds) {
+                connection.stringCommands().set(
+                        (PASS_KEY + couponId + ":" + userId).getBytes(StandardCharsets.UTF_8),
+                        "1".getBytes(StandardCharsets.UTF_8),
+                        ttl,
+                        RedisStringCommands.SetOption.UPSERT);
+            }
+            return null;
+        });
+
+        log.debug("🎟️ 대기열 입장 처리: couponId={}, admitted={}", couponId, userIds.size());
+        return userIds.size();
+    }
+
+    /**
+     * 대기열이 열린 쿠폰 목록
+     */
+    public Set<String> getActiveCoupons() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_KEY);
+        return members != null ? members : Set.of();
+    }
+
+    /**
+     * 쿠폰 대기열 종료 (재고 소진) - 남은 대기자도 함께 정리
+     */
+    public void closeQueue(Long couponId) {
+        executeClose(couponId, true);
+    }
+
+    /**
+     * 대기 인원이 없을 때만 대기열 종료
+     * 
+     * 비어 있음 확인과 삭제를 Lua 스크립트 한 번으로 처리하므로,
+     * 확인 직후 입장한 사용자의 대기열을 지워 버리는 경쟁이 없다.
+     * (입장은 ZADD 뒤에 활성 목록에 다시 등록하므로 종료 직후 입장도 다음 틱에 처리된다)
+     * 
+     * @return 종료했으면 true, 대기자가 있어 유지했으면 false
+     */
+    public boolean closeQueueIfEmpty(Long couponId) {
+        return executeClose(couponId, false);
+    }
+
+    private boolean executeClose(Long couponId, boolean force) {
+        Long closed = stringRedisTemplate.execute(CLOSE_QUEUE_SCRIPT,
+                List.of(QUEUE_KEY + couponId, ACTIVE_KEY),
+                couponId.toString(), force ? "1" : "0");
+        return closed != null && closed == 1L;
+    }
+
+    public Long getQueueSize(Long couponId) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(QUEUE_KEY + couponId);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 재고 소진 브로드캐스트 - Redis 재고가 아직 0 이하일 때만 같은 스크립트에서 발행
+     * 
+     * 앞서 읽은 재고가 그 사이 롤백으로 복구됐으면 발행하지 않는다. 로컬 레지스트리는 구독으로 반영된다.
+     * 
+     * @return 발행했으면 true
+     */
+    public boolean publishSoldOutIfDepleted(Long couponId) {
+        Long published = stringRedisTemplate.execute(SoldOutRegistry.PUBLISH_IF_DEPLETED_SCRIPT,
+                List.of(COUPON_STOCK_KEY + couponId),
+                SoldOutRegistry.TOPIC, SoldOutRegistry.soldOutMessage(SoldOutRegistry.Kind.COUPON, couponId));
+        return published != null && published == 1L;
+    }
+
+    /**
+     * 재입고 시 소진 표시 해제
+     */
+    public void clearSoldOut(Long couponId) {
+        soldOutRegistry.clearSoldOut(SoldOutRegistry.Kind.COUPON, couponId);
+    }
+
+    public boolean isSoldOut(Long couponId) {
+        return soldOutRegistry.isSoldOut(SoldOutRegistry.Kind.COUPON, couponId);
+    }
+
+    private boolean hasPass(Long couponId, Long userId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(PASS_KEY + couponId + ":" + userId));
+    }
+}
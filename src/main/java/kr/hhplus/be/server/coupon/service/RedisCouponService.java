@@ -2,16 +2,32 @@ package kr.hhplus.be.server.coupon.service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PreDestroy;
 import kr.hhplus.be.server.common.event.EventPublisher;
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry;
 import kr.hhplus.be.server.coupon.domain.Coupon;
 import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueRequest;
 import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
@@ -28,7 +44,7 @@ import lombok.extern.slf4j.Slf4j;
  * Redis 기반 비동기 쿠폰 발급 서비스
  * 
  * 핵심 구현 방식:
- * 1. Redis Set을 활용한 중복 발급 방지 (O(1) 검증)
+ * 1. 발급 사용자 인덱스(Bitmap/Set)를 활용한 중복 발급 방지 (O(1) 검증)
  * 2. Redis String을 활용한 재고 관리 (원자성 보장)
  * 3. Redis Sorted Set을 활용한 비동기 처리 큐
  * 4. UUID 기반 요청 상태 추적
@@ -42,22 +58,61 @@ public class RedisCouponService {
     private final CouponRepository couponRepository;
     private final ObjectMapper objectMapper;
     private final EventPublisher eventPublisher;
+    private final SoldOutRegistry soldOutRegistry;
+    private final CouponIssuedIndex issuedIndex;
 
     // Redis 키 패턴
-    private static final String COUPON_ISSUED_KEY = "coupon:issued:"; // + couponId
     private static final String COUPON_STOCK_KEY = "coupon:stock:"; // + couponId
     private static final String COUPON_QUEUE_KEY = "coupon:queue:processing";
-    private static final String REQUEST_STATUS_KEY = "coupon:request:"; // + requestId
+    static final String REQUEST_STATUS_KEY = "coupon:request:"; // + requestId (상태 알림/SSE 스트림과 공유)
 
-    // Redis 타입 변환 유틸리티
-    private String toRedisString(Long value) {
-        return value != null ? value.toString() : null;
+    /**
+     * 재고 복구 - INCR 결과가 0보다 크면 같은 스크립트에서 품절 해제 브로드캐스트
+     * KEYS[1]=재고 키, ARGV[1]=품절 토픽, ARGV[2]=해제 메시지
+     */
+    private static final RedisScript<Long> RESTORE_STOCK_SCRIPT = new DefaultRedisScript<>("""
+            local restored = redis.call('INCR', KEYS[1])
+            if restored > 0 then
+                redis.call('PUBLISH', ARGV[1], ARGV[2])
+            end
+            return restored
+            """, Long.class);
+
+    private static final RedisSerializer<Long> LONG_RESULT = new GenericToStringSerializer<>(Long.class);
+
+    /**
+     * 발행 실패 후처리(롤백 + FAILED 저장) 전용 스레드
+     * - 발행 Future는 Producer I/O 스레드에서 완료되므로 그 위에서 Redis를 호출하지 않도록 분리
+     * - 큐가 가득 차면 완료 스레드에서 직접 실행 (후처리를 버리지 않음)
+     */
+    private final ExecutorService publishFailureExecutor = newPublishFailureExecutor();
+
+    private static ExecutorService newPublishFailureExecutor() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(10_000), r -> {
+            Thread thread = new Thread(r, "coupon-publish-failure-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
+    // Redis 타입 변환 유틸리티
     private String toRedisString(Integer value) {
         return value != null ? value.toString() : null;
     }
 
+    @PreDestroy
+    public void shutdown() {
+        publishFailureExecutor.shutdown();
+        try {
+            if (!publishFailureExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("⚠️ 쿠폰 발행 실패 후처리 종료 대기 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * 선착순 쿠폰 발급 요청 (비동기)
      * 
@@ -73,6 +128,13 @@ public class RedisCouponService {
         log.info("🎫 비동기 쿠폰 발급 요청: requestId={}, userId={}, couponId={}",
                 requestId, userId, couponId);
 
+        // 0단계: 노드 로컬 품절 확인 (Redis 접근 없이 즉시 거절)
+        if (soldOutRegistry.isSoldOut(SoldOutRegistry.Kind.COUPON, couponId)) {
+            log.debug("❌ 품절 쿠폰 (로컬): couponId={}", couponId);
+            throw new CouponExhaustedException(ErrorCode.COUPON_EXHAUSTED);
+        }
+
+        boolean reserved = false;
         try {
             // 1단계: Redis 기반 빠른 검증
             validateFromRedis(userId, couponId);
@@ -82,13 +144,14 @@ public class RedisCouponService {
                 log.warn("❌ 쿠폰 재고 소진: couponId={}", couponId);
                 throw new CouponExhaustedException(ErrorCode.COUPON_EXHAUSTED);
             }
+            reserved = true;
 
             // 3단계: 중복 발급 방지를 위해 Redis Set에 추가
             markAsIssued(userId, couponId);
 
-            // 4단계: Kafka로 쿠폰 발급 이벤트 발행 (즉시 발행)
+            // 4단계: Kafka로 쿠폰 발급 이벤트 발행 (블로킹 없이 Producer 배치에 적재)
             CouponIssueEvent couponIssueEvent = CouponIssueEvent.create(couponId, userId, requestId);
-            eventPublisher.publishEvent(couponIssueEvent);
+            CompletableFuture<Void> published = eventPublisher.publishEventFuture(couponIssueEvent);
 
             log.info("📤 Kafka로 쿠폰 발급 이벤트 발행: requestId={}, eventId={}",
                     requestId, couponIssueEvent.eventId());
@@ -97,14 +160,26 @@ public class RedisCouponService {
             AsyncCouponIssueResponse response = AsyncCouponIssueResponse.pending(requestId, requestedAt);
             saveRequestStatus(requestId, response);
 
+            // 발행 실패는 PENDING 저장 이후에 반영 (Producer 스레드가 아닌 후처리 스레드에서)
+            published.whenCompleteAsync((ignored, failure) -> {
+                if (failure != null) {
+                    log.error("❌ 쿠폰 발급 이벤트 발행 실패: requestId={}, error={}", requestId, failure.getMessage());
+                    rollbackRedisState(userId, couponId);
+                    saveRequestStatus(requestId, AsyncCouponIssueResponse.failed(
+                            requestId, requestedAt, LocalDateTime.now(), failure.getMessage()));
+                }
+            }, publishFailureExecutor);
+
             log.info("✅ 쿠폰 발급 요청 접수: requestId={}", requestId);
             return response;
 
         } catch (Exception e) {
             log.error("❌ 쿠폰 발급 요청 실패: requestId={}, error={}", requestId, e.getMessage());
 
-            // 실패 시 롤백
-            rollbackRedisState(userId, couponId);
+            // 재고를 차감한 뒤 실패한 경우만 롤백 (검증 단계 실패는 되돌릴 상태가 없음)
+            if (reserved) {
+                rollbackRedisState(userId, couponId);
+            }
 
             AsyncCouponIssueResponse failedResponse = AsyncCouponIssueResponse.failed(
                     requestId, requestedAt, LocalDateTime.now(), e.getMessage());
@@ -146,16 +221,67 @@ public class RedisCouponService {
 
         redisTemplate.opsForValue().set(stockKey, toRedisString(remainingStock), Duration.ofDays(30));
 
+        // 재입고면 품절 해제, 남은 재고가 없으면 품절 등록
+        if (remainingStock != null && remainingStock > 0) {
+            soldOutRegistry.clearSoldOut(SoldOutRegistry.Kind.COUPON, couponId);
+        } else {
+            soldOutRegistry.markSoldOut(SoldOutRegistry.Kind.COUPON, couponId);
+        }
+
         log.info("🔄 쿠폰 재고 Redis 초기화: couponId={}, stock={}", couponId, remainingStock);
     }
 
+    /**
+     * 발급 가능 쿠폰들의 재고를 Redis에 일괄 적재 (기동 시 워밍업)
+     * 
+     * - 파이프라인으로 한 번의 왕복에 SET NX 전송
+     * - 이미 Redis에 재고가 있으면 덮어쓰지 않음 (발급 진행 중인 재고 보존)
+     * - 파이프라인 미지원 환경(클러스터 등)에서는 키별 SET NX로 대체
+     * 
+     * @return 새로 적재된 쿠폰 수
+     */
+    @SuppressWarnings("unchecked")
+    public int preloadCouponStocks(List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return 0;
+        }
+
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Expiration ttl = Expiration.from(Duration.ofDays(30));
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Coupon coupon : coupons) {
+                    connection.stringCommands().set(
+                            keySerializer.serialize(COUPON_STOCK_KEY + coupon.getId()),
+                            valueSerializer.serialize(toRedisString(coupon.getRemainingQuantity())),
+                            ttl,
+                            RedisStringCommands.SetOption.SET_IF_ABSENT);
+                }
+                return null;
+            });
+            return (int) results.stream().filter(Boolean.TRUE::equals).count();
+        } catch (Exception e) {
+            log.warn("쿠폰 재고 파이프라인 적재 실패, 개별 적재로 전환: {}", e.getMessage());
+            int loaded = 0;
+            for (Coupon coupon : coupons) {
+                Boolean set = redisTemplate.opsForValue().setIfAbsent(COUPON_STOCK_KEY + coupon.getId(),
+                        toRedisString(coupon.getRemainingQuantity()), Duration.ofDays(30));
+                if (Boolean.TRUE.equals(set)) {
+                    loaded++;
+                }
+            }
+            return loaded;
+        }
+    }
+
     /**
      * Redis 기반 빠른 검증
      */
     private void validateFromRedis(Long userId, Long couponId) {
         // 중복 발급 체크 (O(1) 연산)
-        String issuedKey = COUPON_ISSUED_KEY + couponId;
-        if (redisTemplate.opsForSet().isMember(issuedKey, toRedisString(userId))) {
+        if (issuedIndex.isIssued(couponId, userId)) {
             log.warn("❌ 중복 발급 방지: userId={}, couponId={}", userId, couponId);
             throw new CouponAlreadyIssuedException(ErrorCode.COUPON_ALREADY_ISSUED);
         }
@@ -172,6 +298,7 @@ public class RedisCouponService {
 
         if (stock == null || Integer.parseInt(stock) <= 0) {
             log.warn("❌ 재고 부족: couponId={}, stock={}", couponId, stock);
+            publishSoldOutIfDepleted(couponId);
             throw new CouponExhaustedException(ErrorCode.COUPON_EXHAUSTED);
         }
     }
@@ -184,21 +311,40 @@ public class RedisCouponService {
         Long remaining = redisTemplate.opsForValue().decrement(stockKey);
 
         if (remaining != null && remaining >= 0) {
+            if (remaining == 0) {
+                // 마지막 재고 - 이후 요청은 로컬에서 거절
+                publishSoldOutIfDepleted(couponId);
+            }
             return true;
         } else {
             // 재고가 0 이하가 되면 다시 증가시켜 롤백
             redisTemplate.opsForValue().increment(stockKey);
+            publishSoldOutIfDepleted(couponId);
             return false;
         }
     }
 
     /**
-     * 중복 발급 방지를 위해 Redis Set에 사용자 추가
+     * 품절 브로드캐스트 - 재고가 아직 0 이하일 때만 Redis에서 직접 발행
+     * 
+     * 로컬 레지스트리는 구독으로 반영한다. 재고 복구 스크립트의 해제 메시지와 같은 채널에
+     * 재고 변경 순서대로 발행되므로, 복구와 경합해도 모든 노드가 마지막 상태(판매 중)로 수렴한다.
+     */
+    private void publishSoldOutIfDepleted(Long couponId) {
+        try {
+            redisTemplate.execute(SoldOutRegistry.PUBLISH_IF_DEPLETED_SCRIPT, RedisSerializer.string(), LONG_RESULT,
+                    List.of(COUPON_STOCK_KEY + couponId),
+                    SoldOutRegistry.TOPIC, SoldOutRegistry.soldOutMessage(SoldOutRegistry.Kind.COUPON, couponId));
+        } catch (Exception e) {
+            log.warn("품절 브로드캐스트 실패: couponId={}, error={}", couponId, e.getMessage());
+        }
+    }
+
+    /**
+     * 중복 발급 방지를 위해 발급 인덱스에 사용자 추가
      */
     private void markAsIssued(Long userId, Long couponId) {
-        String issuedKey = COUPON_ISSUED_KEY + couponId;
-        redisTemplate.opsForSet().add(issuedKey, toRedisString(userId));
-        redisTemplate.expire(issuedKey, Duration.ofDays(30)); // TTL 설정
+        issuedIndex.markIssued(couponId, userId);
     }
 
     /**
@@ -238,16 +384,19 @@ public class RedisCouponService {
 
     /**
      * 실패 시 Redis 상태 롤백
+     * 
+     * 재고 복구(INCR)와 품절 해제 발행을 한 스크립트로 처리해, 복구로 재고가 0보다 커지면
+     * 모든 노드(자신 포함, 구독 경유)의 품절 표시가 해제된다.
      */
     private void rollbackRedisState(Long userId, Long couponId) {
         try {
-            // 재고 복구
-            String stockKey = COUPON_STOCK_KEY + couponId;
-            redisTemplate.opsForValue().increment(stockKey);
+            // 재고 복구 + 품절 해제 브로드캐스트
+            redisTemplate.execute(RESTORE_STOCK_SCRIPT, RedisSerializer.string(), LONG_RESULT,
+                    List.of(COUPON_STOCK_KEY + couponId),
+                    SoldOutRegistry.TOPIC, SoldOutRegistry.restockMessage(SoldOutRegistry.Kind.COUPON, couponId));
 
             // 발급 표시 제거
-            String issuedKey = COUPON_ISSUED_KEY + couponId;
-            redisTemplate.opsForSet().remove(issuedKey, toRedisString(userId));
+            issuedIndex.unmarkIssued(couponId, userId);
 
             log.debug("🔄 Redis 상태 롤백: userId={}, couponId={}", userId, couponId);
 
@@ -1,6 +1,5 @@
 package kr.hhplus.be.server.coupon.worker;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 
 import org.springframework.dao.DataIntegrityViolationException;
@@ -22,6 +21,7 @@ import kr.hhplus.be.server.coupon.exception.CouponAlreadyIssuedException;
 import kr.hhplus.be.server.coupon.exception.CouponNotFoundException;
 import kr.hhplus.be.server.coupon.repository.CouponRepository;
 import kr.hhplus.be.server.coupon.repository.UserCouponRepository;
+import kr.hhplus.be.server.coupon.service.CouponRequestStatusNotifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,9 +40,9 @@ public class CouponIssueWorker {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final ObjectMapper objectMapper;
+    private final CouponRequestStatusNotifier statusNotifier;
 
     private static final String COUPON_QUEUE_KEY = "coupon:queue:processing";
-    private static final String REQUEST_STATUS_KEY = "coupon:request:";
     private static final int MAX_RETRY_COUNT = 3;
     
     // 스케줄링 관련 상수
@@ -111,7 +111,7 @@ public class CouponIssueWorker {
             // 성공 상태로 업데이트
             AsyncCouponIssueResponse completedResponse = AsyncCouponIssueResponse.completed(
                     requestId, requestedAt, LocalDateTime.now(), issuedCouponId);
-            updateRequestStatus(requestId, completedResponse);
+            statusNotifier.updateAfterCommit(completedResponse);
 
             log.info("✅ 쿠폰 발급 처리 완료: requestId={}, issuedCouponId={}",
                     requestId, issuedCouponId);
@@ -181,20 +181,10 @@ public class CouponIssueWorker {
     }
 
     /**
-     * 요청 상태 업데이트
+     * 요청 상태 업데이트 - 저장 후 SSE 구독자에게 변경 알림
      */
     private void updateRequestStatus(String requestId, AsyncCouponIssueResponse response) {
-        try {
-            String statusJson = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(
-                    REQUEST_STATUS_KEY + requestId,
-                    statusJson,
-                    Duration.ofHours(24) // 24시간 TTL
-            );
-
-        } catch (JsonProcessingException e) {
-            log.error("상태 업데이트 실패: requestId={}", requestId, e);
-        }
+        statusNotifier.update(response);
     }
 
     /**
@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.coupon.worker;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.config.WaitingRoomProperties;
+import kr.hhplus.be.server.coupon.service.CouponWaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿠폰 대기열 입장 스케줄러
+ * 
+ * - admitIntervalMs마다 쿠폰별로 batchSize명씩 입장 처리 (토큰 버킷과 같은 일정 속도)
+ * - 남은 재고보다 많이 입장시키지 않고, 재고 0이면 소진 브로드캐스트 후 대기열 종료
+ *   (브로드캐스트는 Redis에서 재고를 다시 확인하는 스크립트로 - 그 사이 복구됐으면 발행/종료하지 않음)
+ * - 여러 노드가 동시에 돌아도 쿠폰별 틱 락(SET NX PX)으로 한 노드만 입장 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.waiting-room", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponWaitingRoomAdmitter {
+
+    private static final String COUPON_STOCK_KEY = "coupon:stock:"; // RedisCouponService와 동일
+    private static final String TICK_LOCK_KEY = "coupon:waiting:tick:"; // + couponId
+
+    private final CouponWaitingRoomService waitingRoomService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WaitingRoomProperties properties;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "coupon-waiting-room");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.getAdmitIntervalMs();
+        scheduler.scheduleWithFixedDelay(this::admitAll, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("🚪 쿠폰 대기열 입장 스케줄러 시작: rate={}/s, interval={}ms, batch={}",
+                properties.getAdmitRatePerSecond(), interval, properties.getBatchSize());
+    }
+
+    public void admitAll() {
+        try {
+            for (String couponIdValue : waitingRoomService.getActiveCoupons()) {
+                admit(Long.valueOf(couponIdValue));
+            }
+        } catch (Exception e) {
+            log.warn("대기열 입장 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void admit(Long couponId) {
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(TICK_LOCK_KEY + couponId, "1",
+                Duration.ofMillis(properties.getAdmitIntervalMs()));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return; // 다른 노드가 이번 틱을 처리 중
+        }
+
+        Integer stock = readStock(couponId);
+        boolean depleted = stock != null ? stock <= 0 : waitingRoomService.isSoldOut(couponId);
+        if (depleted) {
+            if (stock != null && !waitingRoomService.publishSoldOutIfDepleted(couponId)) {
+                log.debug("🚪 재고 복구로 대기열 유지: couponId={}", couponId);
+                return; // 읽은 뒤 롤백으로 재고 복구 - 다음 틱에 다시 판단
+            }
+            waitingRoomService.closeQueue(couponId);
+            log.info("🛑 재고 소진으로 대기열 종료: couponId={}", couponId);
+            return;
+        }
+
+        int batch = properties.getBatchSize();
+        if (stock != null) {
+            batch = Math.min(batch, stock);
+        }
+
+        int admitted = waitingRoomService.admitBatch(couponId, batch);
+        if (admitted == 0 && waitingRoomService.closeQueueIfEmpty(couponId)) {
+            log.debug("🚪 대기 인원 없음으로 대기열 종료: couponId={}", couponId);
+        }
+    }
+
+    /**
+     * Redis 재고 조회 - 직렬화 방식과 무관하게 숫자만 해석, 알 수 없으면 null
+     */
+    private Integer readStock(Long couponId) {
+        String raw = stringRedisTemplate.opsForValue().get(COUPON_STOCK_KEY + couponId);
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(raw.replace("\"", "").trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.dlt.consumer;
+
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import kr.hhplus.be.server.dlt.service.DeadLetterStoreService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DLT 저장 Consumer
+ * 
+ * - 모든 *.DLT 토픽을 배치 Listener로 받아 DB에 일괄 저장 (알림은 DltMonitoringConsumer가 별도 그룹으로 처리)
+ * - 저장 트랜잭션이 끝난 뒤 poll 단위로 커밋, 실패하면 같은 배치가 재전달되고 저장된 오프셋은 건너뜀
+ * - {topic}.DLT.DLT처럼 DLT가 중첩된 토픽은 구독하지 않음 (DLT의 DLT 순환 방지)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.dlt", name = "store-enabled", havingValue = "true", matchIfMissing = true)
+public class DeadLetterStoreConsumer {
+
+    private final DeadLetterStoreService deadLetterStoreService;
+
+    @KafkaListener(topicPattern = ".*(?<!\\.DLT)\\.DLT", groupId = "dlt-store-group", containerFactory = "batchListenerContainerFactory")
+    public void store(List<ConsumerRecord<String, Object>> records) {
+        deadLetterStoreService.storeAll(records);
+    }
+}
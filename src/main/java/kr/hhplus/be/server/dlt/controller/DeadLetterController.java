@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.dlt.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import kr.hhplus.be.server.common.response.CommonResponse;
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+import kr.hhplus.be.server.dlt.dto.DeadLetterRecordResponse;
+import kr.hhplus.be.server.dlt.dto.DltReplayJobResponse;
+import kr.hhplus.be.server.dlt.dto.DltReplayRequest;
+import kr.hhplus.be.server.dlt.repository.DeadLetterRecordRepository;
+import kr.hhplus.be.server.dlt.service.DeadLetterReplayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT 관리자 API - 실패 레코드 조회 및 원본 토픽 일괄 재전송
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/dlt")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final DeadLetterRecordRepository deadLetterRecordRepository;
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    /**
+     * 실패 레코드 조회 (이벤트 타입/상태/기간, 최신순)
+     */
+    @GetMapping("/records")
+    public CommonResponse<List<DeadLetterRecordResponse>> getRecords(
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) DeadLetterRecord.Status status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+
+        List<DeadLetterRecordResponse> records = deadLetterRecordRepository.search(eventType, status,
+                from != null ? from : MIN_TIME,
+                to != null ? to : LocalDateTime.now().plusMinutes(1),
+                Math.max(0, page), Math.max(1, Math.min(size, 500)))
+                .stream()
+                .map(DeadLetterRecordResponse::from)
+                .toList();
+
+        return CommonResponse.success(records);
+    }
+
+    /**
+     * 일괄 재전송 시작 (속도 제한, 비동기)
+     */
+    @PostMapping("/replay")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CommonResponse<DltReplayJobResponse> replay(@Valid @RequestBody DltReplayRequest request) {
+        log.info("♻️ DLT 재전송 요청: eventType={}, from={}, to={}, rate={}",
+                request.eventType(), request.from(), request.to(), request.ratePerSecond());
+        return CommonResponse.success(deadLetterReplayService.startReplay(request));
+    }
+
+    @GetMapping("/replay")
+    public CommonResponse<List<DltReplayJobResponse>> getReplayJobs() {
+        return CommonResponse.success(deadLetterReplayService.getJobs());
+    }
+
+    @GetMapping("/replay/{jobId}")
+    public CommonResponse<DltReplayJobResponse> getReplayJob(@PathVariable String jobId) {
+        return CommonResponse.success(deadLetterReplayService.getJob(jobId));
+    }
+
+    @DeleteMapping("/replay/{jobId}")
+    public CommonResponse<DltReplayJobResponse> cancelReplay(@PathVariable String jobId) {
+        return CommonResponse.success(deadLetterReplayService.cancel(jobId));
+    }
+}
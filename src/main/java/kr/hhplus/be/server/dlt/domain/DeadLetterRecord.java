@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.dlt.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DLT 실패 레코드 (원본 페이로드 + 실패 메타데이터)
+ * 
+ * DLT 토픽 좌표(토픽/파티션/오프셋)로 중복 저장을 막고,
+ * 재전송 시 원본 토픽(sourceTopic)으로 payloadType 타입 그대로 다시 발행한다.
+ */
+@Entity
+@Table(name = "dead_letter_records", indexes = {
+        @Index(name = "idx_dlt_coordinate", columnList = "dlt_topic, dlt_partition, dlt_offset", unique = true),
+        @Index(name = "idx_dlt_type_failed", columnList = "event_type, failed_at"),
+        @Index(name = "idx_dlt_status_id", columnList = "status, id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeadLetterRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_topic", nullable = false)
+    private String sourceTopic;
+
+    @Column(name = "source_partition")
+    private Integer sourcePartition;
+
+    @Column(name = "source_offset")
+    private Long sourceOffset;
+
+    @Column(name = "dlt_topic", nullable = false)
+    private String dltTopic;
+
+    @Column(name = "dlt_partition", nullable = false)
+    private int dltPartition;
+
+    @Column(name = "dlt_offset", nullable = false)
+    private long dltOffset;
+
+    @Column(name = "record_key")
+    private String recordKey;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload_type", nullable = false)
+    private String payloadType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "error_class")
+    private String errorClass;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "replay_count", nullable = false)
+    private int replayCount;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    @Column(name = "replayed_at")
+    private LocalDateTime replayedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 재전송 상태
+     */
+    public enum Status {
+        PENDING, // 재전송 대기
+        REPLAYED // 원본 토픽으로 재전송 완료
+    }
+
+    @Builder
+    private DeadLetterRecord(String sourceTopic, Integer sourcePartition, Long sourceOffset,
+            String dltTopic, int dltPartition, long dltOffset, String recordKey,
+            String eventType, String payloadType, String payload,
+            String errorClass, String errorMessage, LocalDateTime failedAt) {
+        this.sourceTopic = sourceTopic;
+        this.sourcePartition = sourcePartition;
+        this.sourceOffset = sourceOffset;
+        this.dltTopic = dltTopic;
+        this.dltPartition = dltPartition;
+        this.dltOffset = dltOffset;
+        this.recordKey = recordKey;
+        this.eventType = eventType;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.errorClass = errorClass;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        this.failedAt = failedAt;
+        this.status = Status.PENDING;
+    }
+}
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.dlt.dto;
+
+import java.time.LocalDateTime;
+
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+
+/**
+ * DLT 레코드 조회 응답 DTO
+ */
+public record DeadLetterRecordResponse(
+    Long id,
+    String eventType,
+    String sourceTopic,
+    Integer sourcePartition,
+    Long sourceOffset,
+    String recordKey,
+    String errorClass,
+    String errorMessage,
+    String status,
+    int replayCount,
+    LocalDateTime failedAt,
+    LocalDateTime replayedAt,
+    String payload
+) {
+
+    public static DeadLetterRecordResponse from(DeadLetterRecord record) {
+        return new DeadLetterRecordResponse(
+            record.getId(),
+            record.getEventType(),
+            record.getSourceTopic(),
+            record.getSourcePartition(),
+            record.getSourceOffset(),
+            record.getRecordKey(),
+            record.getErrorClass(),
+            record.getErrorMessage(),
+            record.getStatus().name(),
+            record.getReplayCount(),
+            record.getFailedAt(),
+            record.getReplayedAt(),
+            record.getPayload()
+        );
+    }
+}
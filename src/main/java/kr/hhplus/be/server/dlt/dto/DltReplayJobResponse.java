@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.dlt.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DLT 재전송 작업 진행 상황 응답 DTO
+ */
+public record DltReplayJobResponse(
+    String jobId,
+    Status status,
+    String eventType,
+    int ratePerSecond,
+    long total,
+    long replayed,
+    long failed,
+    double throughputPerSecond,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String message
+) {
+
+    public enum Status {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+}
@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.dlt.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DLT 재전송 요청 DTO
+ * 
+ * 조건이 비어 있으면 전체 대기(PENDING) 레코드가 대상
+ */
+public record DltReplayRequest(
+    String eventType,
+    LocalDateTime from,
+    LocalDateTime to,
+    @Positive(message = "재전송 속도는 양수여야 합니다.")
+    Integer ratePerSecond,
+    @Positive(message = "최대 재전송 건수는 양수여야 합니다.")
+    Long maxRecords
+) {
+}
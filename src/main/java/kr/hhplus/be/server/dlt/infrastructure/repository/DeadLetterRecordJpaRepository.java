@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.dlt.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+
+/**
+ * DeadLetterRecord JPA Repository (Infrastructure Layer)
+ */
+public interface DeadLetterRecordJpaRepository extends JpaRepository<DeadLetterRecord, Long> {
+
+    @Query("SELECT r.dltOffset FROM DeadLetterRecord r " +
+            "WHERE r.dltTopic = :dltTopic AND r.dltPartition = :dltPartition " +
+            "AND r.dltOffset BETWEEN :fromOffset AND :toOffset")
+    List<Long> findStoredOffsets(@Param("dltTopic") String dltTopic,
+            @Param("dltPartition") int dltPartition,
+            @Param("fromOffset") long fromOffset,
+            @Param("toOffset") long toOffset);
+
+    @Query("SELECT r FROM DeadLetterRecord r " +
+            "WHERE (:eventType IS NULL OR r.eventType = :eventType) " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND r.failedAt >= :from AND r.failedAt < :to " +
+            "ORDER BY r.id DESC")
+    List<DeadLetterRecord> search(@Param("eventType") String eventType,
+            @Param("status") DeadLetterRecord.Status status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM DeadLetterRecord r " +
+            "WHERE r.status = 'PENDING' AND (:eventType IS NULL OR r.eventType = :eventType) " +
+            "AND r.failedAt >= :from AND r.failedAt < :to")
+    long countPending(@Param("eventType") String eventType,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM DeadLetterRecord r " +
+            "WHERE r.status = 'PENDING' AND r.id > :afterId " +
+            "AND (:eventType IS NULL OR r.eventType = :eventType) " +
+            "AND r.failedAt >= :from AND r.failedAt < :to " +
+            "ORDER BY r.id ASC")
+    List<DeadLetterRecord> findPendingAfter(@Param("eventType") String eventType,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterId") long afterId,
+            Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeadLetterRecord r SET r.status = 'REPLAYED', r.replayedAt = :replayedAt, " +
+            "r.replayCount = r.replayCount + 1 WHERE r.id IN :ids")
+    int markReplayed(@Param("ids") Collection<Long> ids, @Param("replayedAt") LocalDateTime replayedAt);
+}
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.dlt.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+import kr.hhplus.be.server.dlt.repository.DeadLetterRecordRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DeadLetterRecord Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class DeadLetterRecordRepositoryJpaImpl implements DeadLetterRecordRepository {
+
+    private final DeadLetterRecordJpaRepository jpaRepository;
+
+    @Override
+    public List<DeadLetterRecord> saveAll(List<DeadLetterRecord> records) {
+        return jpaRepository.saveAll(records);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findStoredOffsets(String dltTopic, int dltPartition, long fromOffset, long toOffset) {
+        return jpaRepository.findStoredOffsets(dltTopic, dltPartition, fromOffset, toOffset);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeadLetterRecord> search(String eventType, DeadLetterRecord.Status status,
+            LocalDateTime from, LocalDateTime to, int page, int size) {
+        return jpaRepository.search(eventType, status, from, to, PageRequest.of(page, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPending(String eventType, LocalDateTime from, LocalDateTime to) {
+        return jpaRepository.countPending(eventType, from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeadLetterRecord> findPendingAfter(String eventType, LocalDateTime from, LocalDateTime to,
+            long afterId, int limit) {
+        return jpaRepository.findPendingAfter(eventType, from, to, afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int markReplayed(Collection<Long> ids, LocalDateTime replayedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.markReplayed(ids, replayedAt);
+    }
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.dlt.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+
+/**
+ * DLT 레코드 저장소 인터페이스 (Domain Layer)
+ */
+public interface DeadLetterRecordRepository {
+
+    /**
+     * 일괄 저장 (poll 단위 한 트랜잭션)
+     */
+    List<DeadLetterRecord> saveAll(List<DeadLetterRecord> records);
+
+    /**
+     * 이미 저장된 DLT 오프셋 조회 (재전달 시 중복 저장 방지)
+     */
+    List<Long> findStoredOffsets(String dltTopic, int dltPartition, long fromOffset, long toOffset);
+
+    /**
+     * 조건 검색 (null 조건은 무시, 최신순)
+     */
+    List<DeadLetterRecord> search(String eventType, DeadLetterRecord.Status status,
+            LocalDateTime from, LocalDateTime to, int page, int size);
+
+    /**
+     * 재전송 대상 건수
+     */
+    long countPending(String eventType, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 재전송 대상 다음 페이지 (id 키셋 페이징)
+     */
+    List<DeadLetterRecord> findPendingAfter(String eventType, LocalDateTime from, LocalDateTime to,
+            long afterId, int limit);
+
+    /**
+     * 재전송 완료 표시
+     */
+    int markReplayed(Collection<Long> ids, LocalDateTime replayedAt);
+}
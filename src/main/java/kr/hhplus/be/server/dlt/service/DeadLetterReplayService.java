@@ -0,0 +1,320 @@
+package kr.hhplus.be.server.dlt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.PatternMatchUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.event.DomainEvent;
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.limiter.TokenBucket;
+import kr.hhplus.be.server.config.DltProperties;
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+import kr.hhplus.be.server.dlt.dto.DltReplayJobResponse;
+import kr.hhplus.be.server.dlt.dto.DltReplayRequest;
+import kr.hhplus.be.server.dlt.repository.DeadLetterRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT 일괄 재전송 서비스
+ * 
+ * - 조건(이벤트 타입/기간)에 맞는 PENDING 레코드를 id 키셋 페이징으로 읽어 원본 토픽에 재발행
+ * - 토큰 버킷으로 초당 재전송 건수를 제한 → 10만 건 복구도 Consumer를 몰아치지 않음
+ * - 페이지마다 발행 확인분만 REPLAYED로 표시 (중간에 멈춰도 남은 건은 다시 재전송 가능)
+ * - 작업은 전용 단일 스레드에서 순서대로 실행, 진행 상황은 jobId로 조회
+ * - 페이로드 타입은 이벤트 패키지(Kafka 역직렬화와 같은 신뢰 범위)의 DomainEvent 구현만 허용
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayService {
+
+    private static final String TRUSTED_EVENT_PACKAGES = "kr.hhplus.be.server.*.event"; // CodecKafkaDeserializer와 동일
+    private static final String REPLAY_HEADER = "dlt-replay-id";
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final DeadLetterRecordRepository deadLetterRecordRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final DltProperties.Replay properties;
+
+    private final Map<String, ReplayJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final ExecutorService replayExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "dlt-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter replayedRecords;
+    private final Counter failedRecords;
+
+    public DeadLetterReplayService(DeadLetterRecordRepository deadLetterRecordRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            DltProperties dltProperties,
+            MeterRegistry meterRegistry) {
+        this.deadLetterRecordRepository = deadLetterRecordRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = dltProperties.getReplay();
+
+        Gauge.builder("dlt.replay.active.jobs", activeJobs, AtomicInteger::get)
+                .description("실행 중이거나 대기 중인 DLT 재전송 작업 수")
+                .register(meterRegistry);
+        this.replayedRecords = Counter.builder("dlt.replay.records")
+                .tag("result", "success")
+                .description("원본 토픽으로 재전송된 DLT 레코드 수")
+                .register(meterRegistry);
+        this.failedRecords = Counter.builder("dlt.replay.records")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재전송 작업 시작 (비동기) - 즉시 jobId 반환
+     */
+    public DltReplayJobResponse startReplay(DltReplayRequest request) {
+        int rate = request.ratePerSecond() != null ? request.ratePerSecond() : properties.getDefaultRatePerSecond();
+        if (rate > properties.getMaxRatePerSecond()) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                    "재전송 속도는 초당 " + properties.getMaxRatePerSecond() + "건 이하여야 합니다.");
+        }
+        LocalDateTime from = request.from() != null ? request.from() : MIN_TIME;
+        LocalDateTime to = request.to() != null ? request.to() : LocalDateTime.now().plusMinutes(1);
+        long pending = deadLetterRecordRepository.countPending(request.eventType(), from, to);
+        long total = request.maxRecords() != null ? Math.min(pending, request.maxRecords()) : pending;
+
+        ReplayJob job = new ReplayJob(UUID.randomUUID().toString(), request.eventType(), from, to, rate, total);
+        evictFinishedJobs();
+        jobs.put(job.jobId, job);
+        activeJobs.incrementAndGet();
+        replayExecutor.execute(() -> run(job));
+
+        log.info("♻️ DLT 재전송 작업 등록: jobId={}, eventType={}, total={}, rate={}/s",
+                job.jobId, request.eventType(), total, rate);
+        return job.toResponse();
+    }
+
+    public DltReplayJobResponse getJob(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    public List<DltReplayJobResponse> getJobs() {
+        return jobs.values().stream()
+                .sorted((a, b) -> b.startedAt.compareTo(a.startedAt))
+                .map(ReplayJob::toResponse)
+                .toList();
+    }
+
+    /**
+     * 작업 취소 - 현재 페이지까지 발행된 건은 REPLAYED로 남고 나머지는 PENDING 유지
+     */
+    public DltReplayJobResponse cancel(String jobId) {
+        ReplayJob job = findJob(jobId);
+        job.cancelled = true;
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(job -> job.cancelled = true);
+        replayExecutor.shutdownNow();
+    }
+
+    private void run(ReplayJob job) {
+        job.status = DltReplayJobResponse.Status.RUNNING;
+        job.runningSince = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(job.ratePerSecond, Math.max(1, job.ratePerSecond / 10.0));
+        long afterId = 0;
+
+        try {
+            while (!job.cancelled && job.processed() < job.total) {
+                int limit = (int) Math.min(properties.getPageSize(), job.total - job.processed());
+                List<DeadLetterRecord> page = deadLetterRecordRepository.findPendingAfter(
+                        job.eventType, job.from, job.to, afterId, limit);
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+                replayPage(job, bucket, page);
+            }
+            job.finish(job.cancelled ? DltReplayJobResponse.Status.CANCELLED : DltReplayJobResponse.Status.COMPLETED,
+                    null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(DltReplayJobResponse.Status.CANCELLED, "종료 중 중단됨");
+        } catch (Exception e) {
+            log.error("💥 DLT 재전송 작업 실패: jobId={}", job.jobId, e);
+            job.finish(DltReplayJobResponse.Status.FAILED, e.getMessage());
+        } finally {
+            activeJobs.decrementAndGet();
+        }
+
+        log.info("♻️ DLT 재전송 작업 종료: jobId={}, status={}, replayed={}, failed={}, throughput={}/s",
+                job.jobId, job.status, job.replayed.get(), job.failed.get(),
+                String.format("%.1f", job.throughput()));
+    }
+
+    private void replayPage(ReplayJob job, TokenBucket bucket, List<DeadLetterRecord> page)
+            throws InterruptedException {
+        List<Long> sentIds = new ArrayList<>(page.size());
+        List<CompletableFuture<?>> futures = new ArrayList<>(page.size());
+
+        for (DeadLetterRecord record : page) {
+            if (job.cancelled) {
+                break;
+            }
+            bucket.acquire();
+            try {
+                ProducerRecord<String, Object> producerRecord = new ProducerRecord<>(
+                        record.getSourceTopic(), record.getRecordKey(), decode(record));
+                producerRecord.headers().add(REPLAY_HEADER, String.valueOf(record.getId()).getBytes(StandardCharsets.UTF_8));
+                futures.add(kafkaTemplate.send(producerRecord).whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        synchronized (sentIds) {
+                            sentIds.add(record.getId());
+                        }
+                        job.replayed.incrementAndGet();
+                        replayedRecords.increment();
+                    } else {
+                        markFailed(job, record, ex);
+                    }
+                }));
+            } catch (Exception e) {
+                markFailed(job, record, e);
+            }
+        }
+
+        // 페이지 발행 확인 후 성공분만 REPLAYED 표시
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception ignored) {
+                // 실패는 whenComplete에서 집계
+            }
+        }
+        synchronized (sentIds) {
+            deadLetterRecordRepository.markReplayed(sentIds, LocalDateTime.now());
+        }
+    }
+
+    private Object decode(DeadLetterRecord record) throws Exception {
+        String typeName = record.getPayloadType();
+        if (!PatternMatchUtils.simpleMatch(TRUSTED_EVENT_PACKAGES, ClassUtils.getPackageName(typeName))) {
+            throw new IllegalStateException("신뢰하지 않는 페이로드 타입: " + typeName);
+        }
+        Class<?> type = Class.forName(typeName, false, getClass().getClassLoader());
+        if (!DomainEvent.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("도메인 이벤트가 아닌 페이로드 타입: " + typeName);
+        }
+        return objectMapper.readValue(record.getPayload(), type);
+    }
+
+    private void markFailed(ReplayJob job, DeadLetterRecord record, Throwable cause) {
+        job.failed.incrementAndGet();
+        failedRecords.increment();
+        log.warn("⚠️ DLT 재전송 실패: jobId={}, recordId={}, reason={}", job.jobId, record.getId(), cause.getMessage());
+    }
+
+    private ReplayJob findJob(String jobId) {
+        ReplayJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "재전송 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job;
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < properties.getRetainedJobs()) {
+            return;
+        }
+        Iterator<ReplayJob> iterator = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted((a, b) -> a.finishedAt.compareTo(b.finishedAt))
+                .iterator();
+        while (jobs.size() >= properties.getRetainedJobs() && iterator.hasNext()) {
+            jobs.remove(iterator.next().jobId);
+        }
+    }
+
+    /**
+     * 재전송 작업 진행 상황 (재전송 스레드가 갱신, API 스레드가 조회)
+     */
+    private static final class ReplayJob {
+        private final String jobId;
+        private final String eventType;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final int ratePerSecond;
+        private final long total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private volatile DltReplayJobResponse.Status status = DltReplayJobResponse.Status.RUNNING;
+        private volatile boolean cancelled;
+        private volatile long runningSince;
+        private volatile long runningNanos;
+        private volatile LocalDateTime finishedAt;
+        private volatile String message;
+
+        ReplayJob(String jobId, String eventType, LocalDateTime from, LocalDateTime to, int ratePerSecond,
+                long total) {
+            this.jobId = jobId;
+            this.eventType = eventType;
+            this.from = from;
+            this.to = to;
+            this.ratePerSecond = ratePerSecond;
+            this.total = total;
+        }
+
+        long processed() {
+            return replayed.get() + failed.get();
+        }
+
+        void finish(DltReplayJobResponse.Status status, String message) {
+            this.runningNanos = runningSince > 0 ? System.nanoTime() - runningSince : 0;
+            this.status = status;
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        double throughput() {
+            long nanos = finishedAt != null ? runningNanos
+                    : runningSince > 0 ? System.nanoTime() - runningSince : 0;
+            double seconds = Duration.ofNanos(nanos).toMillis() / 1000.0;
+            return seconds > 0 ? replayed.get() / seconds : 0.0;
+        }
+
+        DltReplayJobResponse toResponse() {
+            return new DltReplayJobResponse(jobId, status, eventType, ratePerSecond, total, replayed.get(),
+                    failed.get(), throughput(), startedAt, finishedAt, message);
+        }
+    }
+}
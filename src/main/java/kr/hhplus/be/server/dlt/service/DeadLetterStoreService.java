@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.dlt.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.event.DeadLetterRecords;
+import kr.hhplus.be.server.common.event.DomainEvent;
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+import kr.hhplus.be.server.dlt.repository.DeadLetterRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT 레코드 저장 서비스
+ * 
+ * - poll 단위로 받은 DLT 레코드를 한 트랜잭션에서 일괄 저장
+ * - kafka_dlt-* 헤더에서 원본 토픽/파티션/오프셋, 예외 정보를 추출
+ * - DLT 좌표(토픽/파티션/오프셋)가 이미 저장된 레코드는 건너뜀 (재전달 멱등성)
+ */
+@Slf4j
+@Service
+public class DeadLetterStoreService {
+
+    private final DeadLetterRecordRepository deadLetterRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final Counter storedRecords;
+
+    public DeadLetterStoreService(DeadLetterRecordRepository deadLetterRecordRepository,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.deadLetterRecordRepository = deadLetterRecordRepository;
+        this.objectMapper = objectMapper;
+        this.storedRecords = Counter.builder("dlt.store.records")
+                .description("DB에 저장된 DLT 레코드 수")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public int storeAll(List<ConsumerRecord<String, Object>> records) {
+        Map<TopicPartition, List<ConsumerRecord<String, Object>>> byPartition = records.stream()
+                .collect(Collectors.groupingBy(r -> new TopicPartition(r.topic(), r.partition())));
+
+        List<DeadLetterRecord> toSave = new ArrayList<>(records.size());
+        byPartition.forEach((topicPartition, partitionRecords) -> {
+            long minOffset = partitionRecords.stream().mapToLong(ConsumerRecord::offset).min().orElse(0);
+            long maxOffset = partitionRecords.stream().mapToLong(ConsumerRecord::offset).max().orElse(0);
+            Set<Long> stored = new HashSet<>(deadLetterRecordRepository.findStoredOffsets(
+                    topicPartition.topic(), topicPartition.partition(), minOffset, maxOffset));
+
+            for (ConsumerRecord<String, Object> record : partitionRecords) {
+                if (record.value() != null && !stored.contains(record.offset())) {
+                    toSave.add(toEntity(record));
+                }
+            }
+        });
+
+        deadLetterRecordRepository.saveAll(toSave);
+        storedRecords.increment(toSave.size());
+        log.info("🗄️ DLT 레코드 저장: received={}, stored={}", records.size(), toSave.size());
+        return toSave.size();
+    }
+
+    private DeadLetterRecord toEntity(ConsumerRecord<String, Object> record) {
+        Object value = record.value();
+        String originalTopic = stringHeader(record, KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        String typeHeader = stringHeader(record, AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+        return DeadLetterRecord.builder()
+                .sourceTopic(originalTopic != null ? originalTopic : stripDltSuffix(record.topic()))
+                .sourcePartition(intHeader(record, KafkaHeaders.DLT_ORIGINAL_PARTITION))
+                .sourceOffset(longHeader(record, KafkaHeaders.DLT_ORIGINAL_OFFSET))
+                .dltTopic(record.topic())
+                .dltPartition(record.partition())
+                .dltOffset(record.offset())
+                .recordKey(record.key())
+                .eventType(value instanceof DomainEvent event ? event.getEventType() : value.getClass().getSimpleName())
+                .payloadType(typeHeader != null ? typeHeader : value.getClass().getName())
+                .payload(toJson(value))
+                .errorClass(stringHeader(record, KafkaHeaders.DLT_EXCEPTION_FQCN))
+                .errorMessage(stringHeader(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE))
+                .failedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("DLT 페이로드 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    private static String stripDltSuffix(String dltTopic) {
+        return dltTopic.endsWith(DeadLetterRecords.DLT_SUFFIX)
+                ? dltTopic.substring(0, dltTopic.length() - DeadLetterRecords.DLT_SUFFIX.length())
+                : dltTopic;
+    }
+
+    private static String stringHeader(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static Integer intHeader(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null && header.value().length == Integer.BYTES ? ByteBuffer.wrap(header.value()).getInt() : null;
+    }
+
+    private static Long longHeader(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null && header.value().length == Long.BYTES ? ByteBuffer.wrap(header.value()).getLong() : null;
+    }
+}
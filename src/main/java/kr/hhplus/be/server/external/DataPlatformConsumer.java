@@ -1,102 +1,112 @@
 package kr.hhplus.be.server.external;
 
+import java.util.List;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
-import kr.hhplus.be.server.order.event.OrderDataPlatformEvent;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.common.event.DomainEvent;
+import kr.hhplus.be.server.common.event.retry.RetryableRecordHandlers;
+import kr.hhplus.be.server.external.dataplatform.DataPlatformBatchDispatcher;
+import kr.hhplus.be.server.external.dataplatform.DataPlatformClient;
+import kr.hhplus.be.server.external.dataplatform.DataPlatformResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 외부 데이터 플랫폼 Mock Consumer
  * 
- * - 주문 완료 이벤트를 Kafka로부터 수신
- * - 외부 데이터 플랫폼으로의 데이터 전송 시뮬레이션
+ * - 주문 이벤트(OrderPlacedEvent, 주문당 1건)를 Kafka로부터 수신
+ * - 이전 형식(OrderDataPlatformEvent) 메시지도 같은 토픽에 남아 있을 수 있으므로 DomainEvent로 받는다
+ * - 파티션별 마이크로 배치로 모아 외부 데이터 플랫폼에 비동기 일괄 전송
+ * - 오프셋은 배치 전송이 확인된 뒤에만 커밋 (asyncAcks 컨테이너)
+ * - 확인 없이 끝난 배치는 seek 콜백으로 되감아 다시 읽음
  * - Consumer 멱등성 보장 및 에러 처리
  */
 @Slf4j
 @Component
-public class DataPlatformConsumer {
+@RequiredArgsConstructor
+public class DataPlatformConsumer extends AbstractConsumerSeekAware {
+
+    private final DataPlatformBatchDispatcher batchDispatcher;
+    private final DataPlatformClient dataPlatformClient;
+    private final RetryableRecordHandlers retryableRecordHandlers;
+
+    @Value("${kafka.topics.order-completed}")
+    private String orderCompletedTopic;
+
+    /**
+     * 재시도 토픽에서는 이벤트 단건 전송 - 실패 응답이면 예외로 다음 단계에 넘김
+     */
+    @PostConstruct
+    public void registerRetryHandler() {
+        retryableRecordHandlers.register(orderCompletedTopic, (key, payload) -> {
+            DataPlatformResponse response = dataPlatformClient.sendEventData((DomainEvent) payload);
+            if (!response.success()) {
+                throw new IllegalStateException("데이터 플랫폼 전송 실패: " + response.message());
+            }
+        });
+    }
 
     /**
      * 주문 완료 이벤트 처리
      * 
-     * - Consumer는 반드시 멱등성을 보장해야 함
-     * - 처리 실패 시 자동 재시도 (Spring Kafka 기본 설정)
+     * - Consumer는 반드시 멱등성을 보장해야 함 (미확인 배치는 리밸런스/재시작 시 재전달)
+     * - 전송/재시도/DLT 이동은 DataPlatformBatchDispatcher가 담당
      * - 비즈니스 로직은 최대한 단순하게 유지
      */
-    @KafkaListener(topics = "${kafka.topics.order-completed}", groupId = "${kafka.consumer-groups.data-platform}", concurrency = "${app.kafka.listeners.data-platform.concurrency:3}")
+    @KafkaListener(topics = "${kafka.topics.order-completed}", groupId = "${kafka.consumer-groups.data-platform}", concurrency = "${app.kafka.listeners.data-platform.concurrency:3}", containerFactory = "manualAckListenerContainerFactory")
     public void handleOrderCompleted(
-            @Payload OrderDataPlatformEvent event,
+            @Payload DomainEvent event,
             @Header(name = KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(name = KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(name = KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(name = KafkaHeaders.OFFSET) long offset,
-            @Header(name = "eventId", required = false) String eventId) {
-        log.info("📊 데이터 플랫폼 주문 완료 이벤트 수신: " +
-                "eventId={}, orderId={}, partition={}, offset={}",
-                eventId, event.orderId(), partition, offset);
-
-        try {
-            // 중복 처리 체크 (실무에서는 Redis나 DB로 중복 체크)
-            if (isAlreadyProcessed(eventId, event.orderId())) {
-                log.info("⚠️ 이미 처리된 이벤트 스킵: eventId={}, orderId={}",
-                        eventId, event.orderId());
-                return;
-            }
-
-            // 외부 데이터 플랫폼으로 데이터 전송 시뮬레이션
-            sendToDataPlatform(event);
-
-            // 처리 완료 기록 (실무에서는 처리 상태 저장)
-            markAsProcessed(eventId, event.orderId());
-
-            log.info("✅ 데이터 플랫폼 전송 완료: orderId={}, amount={}",
-                    event.orderId(), event.totalAmount());
-
-        } catch (Exception e) {
-            log.error("💥 데이터 플랫폼 처리 실패: eventId={}, orderId={}",
-                    eventId, event.orderId(), e);
-
-            // Spring Kafka의 기본 재시도 메커니즘에 의해 자동 재시도
-            // 최종 실패 시 DLQ(Dead Letter Queue)로 이동
-            throw new RuntimeException("데이터 플랫폼 처리 실패", e);
+            @Header(name = "eventId", required = false) String eventId,
+            Acknowledgment acknowledgment) {
+        log.debug("📊 데이터 플랫폼 주문 완료 이벤트 수신: " +
+                "eventId={}, type={}, orderId={}, partition={}, offset={}",
+                event.getEventId(), event.getEventType(), event.getAggregateId(), partition, offset);
+
+        // 중복 처리 체크 (실무에서는 Redis나 DB로 중복 체크)
+        if (isAlreadyProcessed(event.getEventId(), event.getAggregateId())) {
+            log.info("⚠️ 이미 처리된 이벤트 스킵: eventId={}, orderId={}",
+                    event.getEventId(), event.getAggregateId());
+            acknowledgment.acknowledge();
+            return;
         }
-    }
 
-    /**
-     * 외부 데이터 플랫폼으로 데이터 전송 (Mock)
-     */
-    private void sendToDataPlatform(OrderDataPlatformEvent event) {
-        // 실무에서는 HTTP API 호출이나 다른 메시징 시스템 사용
-        log.info("🚀 외부 API 전송 시뮬레이션: " +
-                "orderId={}, userId={}, amount={}, items={}",
-                event.orderId(), event.userId(),
-                event.totalAmount(), event.orderItems().size());
-
-        // API 호출 지연 시뮬레이션 (실제로는 네트워크 I/O)
-        simulateApiCall();
+        // 파티션별 배치에 적재 - 전송 확인 후 커밋
+        batchDispatcher.submit(topic, partition, offset, event, acknowledgment, this::rewind);
     }
 
     /**
-     * API 호출 지연 시뮬레이션
+     * 파티션 되감기 - seek 콜백은 다른 스레드에서 호출해도 다음 poll 전에 Listener 스레드에서 적용된다
+     * (이미 회수된 파티션이면 새 소유자가 커밋된 오프셋부터 다시 읽으므로 생략)
      */
-    private void simulateApiCall() {
-        try {
-            // 100-300ms 랜덤 지연으로 실제 API 호출 시뮬레이션
-            Thread.sleep(100 + (long) (Math.random() * 200));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("API 호출 중단됨", e);
+    private void rewind(TopicPartition topicPartition, long offset) {
+        List<ConsumerSeekCallback> callbacks = getSeekCallbacksFor(topicPartition);
+        if (callbacks == null || callbacks.isEmpty()) {
+            log.warn("되감기 생략 - 할당되지 않은 파티션: {}, offset={}", topicPartition, offset);
+            return;
         }
+        callbacks.forEach(callback -> callback.seek(topicPartition.topic(), topicPartition.partition(), offset));
+        log.info("⏪ 데이터 플랫폼 파티션 되감기: {}, offset={}", topicPartition, offset);
     }
 
     /**
      * 중복 처리 체크 (Mock 구현)
      * 실무에서는 Redis나 데이터베이스로 구현
      */
-    private boolean isAlreadyProcessed(String eventId, Long orderId) {
+    private boolean isAlreadyProcessed(String eventId, String orderId) {
         // Mock: 5% 확률로 중복 처리로 간주 (테스트용)
         boolean isDuplicate = Math.random() < 0.05;
 
@@ -106,12 +116,4 @@ public class DataPlatformConsumer {
 
         return isDuplicate;
     }
-
-    /**
-     * 처리 완료 기록 (Mock 구현)
-     */
-    private void markAsProcessed(String eventId, Long orderId) {
-        // Mock: 로그만 남김 (실무에서는 Redis/DB 저장)
-        log.debug("📝 처리 완료 기록: eventId={}, orderId={}", eventId, orderId);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,315 @@
+package kr.hhplus.be.server.external.dataplatform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.event.retry.RetryTopicRouter;
+import kr.hhplus.be.server.common.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 데이터 플랫폼 마이크로 배치 전송기
+ * 
+ * - 파티션별로 이벤트를 모아 maxSize에 도달하거나 lingerMs가 지나면 sendBatchEventData로 비동기 전송
+ * - 동시 전송 배치 수는 maxInFlight로 제한 (가득 차면 제출한 Listener 스레드가 대기 → 자연스러운 백프레셔)
+ * - 배치 전송이 확인된 뒤에만 Acknowledgment 처리 → 오프셋은 전송 완료분까지만 커밋 (asyncAcks 컨테이너 필요)
+ * - 재시도 후에도 실패한 배치는 이벤트별로 재시도 토픽(-retry-1s/10s/60s, 마지막엔 {topic}.DLT)에 보낸 뒤 커밋
+ * - 재시도 토픽 발행 실패/인터럽트로 확인 없이 끝난 배치는 첫 미확인 오프셋으로 되감아 다시 읽는다
+ *   (asyncAcks 컨테이너는 nack을 지원하지 않고, 확인되지 않은 오프셋이 남으면 그 뒤 커밋이 모두 멈춘다)
+ * 
+ * 리밸런스/종료 시 아직 확인되지 않은 이벤트는 커밋되지 않으므로 다시 전달된다 (at-least-once, Consumer 멱등성 전제).
+ */
+@Slf4j
+@Component
+public class DataPlatformBatchDispatcher {
+
+    private final DataPlatformClient dataPlatformClient;
+    private final DataPlatformProperties.Batch properties;
+    private final RetryTopicRouter retryTopicRouter;
+
+    private final Map<TopicPartition, PartitionBuffer> buffers = new ConcurrentHashMap<>();
+    private final Semaphore inFlight;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "data-platform-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter sentEvents;
+    private final Counter deadLetteredEvents;
+    private final DistributionSummary batchSizes;
+    private final Timer sendTimer;
+
+    public DataPlatformBatchDispatcher(DataPlatformClient dataPlatformClient,
+            DataPlatformProperties properties,
+            RetryTopicRouter retryTopicRouter,
+            MeterRegistry meterRegistry) {
+        this.dataPlatformClient = dataPlatformClient;
+        this.properties = properties.getBatch();
+        this.retryTopicRouter = retryTopicRouter;
+
+        int maxInFlight = Math.max(1, this.properties.getMaxInFlight());
+        this.inFlight = new Semaphore(maxInFlight);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(maxInFlight, r -> {
+            Thread thread = new Thread(r, "data-platform-sender-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("dataplatform.batch.inflight", inFlight, s -> maxInFlight - s.availablePermits())
+                .description("전송 중인 데이터 플랫폼 배치 수")
+                .register(meterRegistry);
+        this.sentEvents = Counter.builder("dataplatform.events.sent")
+                .description("데이터 플랫폼 전송 확인된 이벤트 수")
+                .register(meterRegistry);
+        this.deadLetteredEvents = Counter.builder("dataplatform.events.deadlettered")
+                .description("재시도 후 재시도 토픽 또는 DLT로 보낸 이벤트 수")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("dataplatform.batch.size")
+                .description("전송 배치 크기")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("dataplatform.batch.send")
+                .description("배치 전송 소요 시간 (재시도 포함)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long tick = Math.max(1, properties.getLingerMs() / 2);
+        flusher.scheduleWithFixedDelay(this::flushExpired, tick, tick, TimeUnit.MILLISECONDS);
+        log.info("📦 데이터 플랫폼 배치 전송기 시작: maxSize={}, linger={}ms, maxInFlight={}",
+                properties.getMaxSize(), properties.getLingerMs(), properties.getMaxInFlight());
+    }
+
+    /**
+     * 이벤트 제출 - 배치가 가득 차면 호출 스레드에서 바로 전송을 시작한다
+     * 
+     * @param rewinder 확인 없이 끝난 배치를 다시 읽게 할 되감기 (Listener의 seek 콜백)
+     */
+    public void submit(String topic, int partition, long offset, DomainEvent event, Acknowledgment acknowledgment,
+            Rewinder rewinder) {
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        PartitionBuffer buffer = buffers.computeIfAbsent(topicPartition, key -> new PartitionBuffer());
+        List<PendingEvent> full = buffer.add(new PendingEvent(event, offset, acknowledgment, rewinder),
+                properties.getMaxSize());
+        if (full != null) {
+            dispatch(topicPartition, full);
+        }
+    }
+
+    /**
+     * 대기 시간이 지난 배치 전송 (flusher 스레드)
+     */
+    public void flushExpired() {
+        try {
+            long lingerNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLingerMs());
+            long now = System.nanoTime();
+            buffers.forEach((topicPartition, buffer) -> {
+                List<PendingEvent> expired = buffer.drainIfOlderThan(now, lingerNanos);
+                if (expired != null) {
+                    dispatch(topicPartition, expired);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("데이터 플랫폼 배치 flush 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        buffers.forEach((topicPartition, buffer) -> {
+            List<PendingEvent> remaining = buffer.drain();
+            if (remaining != null) {
+                dispatch(topicPartition, remaining);
+            }
+        });
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("⚠️ 데이터 플랫폼 배치 전송 종료 대기 초과 - 미확인 이벤트는 재시작 후 다시 전달됨");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(TopicPartition topicPartition, List<PendingEvent> batch) {
+        try {
+            inFlight.acquire(); // 전송 슬롯이 없으면 대기 (백프레셔)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("배치 전송 대기 중 인터럽트 - 되감아 재전달: {}, size={}", topicPartition, batch.size());
+            rewind(topicPartition, batch.get(0));
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    send(topicPartition, batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            log.warn("배치 전송 작업 등록 실패 - 되감아 재전달: {}, size={}", topicPartition, batch.size());
+            rewind(topicPartition, batch.get(0));
+        }
+    }
+
+    private void send(TopicPartition topicPartition, List<PendingEvent> batch) {
+        List<DomainEvent> events = batch.stream().map(PendingEvent::event).toList();
+        batchSizes.record(events.size());
+
+        Timer.Sample sample = Timer.start();
+        boolean delivered = false;
+        String lastFailure = null;
+        try {
+            for (int attempt = 1; attempt <= properties.getMaxAttempts() && !delivered; attempt++) {
+                lastFailure = trySend(events, topicPartition, attempt);
+                delivered = lastFailure == null;
+                if (!delivered && attempt < properties.getMaxAttempts()) {
+                    Thread.sleep(properties.getRetryBackoffMs() * attempt);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("배치 전송 중 인터럽트 - 되감아 재전달: {}, size={}", topicPartition, batch.size());
+            rewind(topicPartition, batch.get(0));
+            return;
+        } finally {
+            sample.stop(sendTimer);
+        }
+
+        if (delivered) {
+            batch.forEach(pending -> pending.acknowledgment().acknowledge());
+            sentEvents.increment(batch.size());
+            log.debug("✅ 데이터 플랫폼 배치 전송 완료: {}, size={}", topicPartition, batch.size());
+        } else {
+            deadLetter(topicPartition, batch, new IllegalStateException(lastFailure));
+        }
+    }
+
+    /**
+     * @return 성공 시 null, 실패 시 실패 사유
+     */
+    private String trySend(List<DomainEvent> events, TopicPartition topicPartition, int attempt) {
+        try {
+            DataPlatformResponse response = dataPlatformClient.sendBatchEventData(events);
+            if (response.success()) {
+                return null;
+            }
+            log.warn("⚠️ 데이터 플랫폼 배치 전송 실패 ({}/{}): {}, size={}, reason={}",
+                    attempt, properties.getMaxAttempts(), topicPartition, events.size(), response.message());
+            return response.message();
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 데이터 플랫폼 배치 전송 예외 ({}/{}): {}, size={}",
+                    attempt, properties.getMaxAttempts(), topicPartition, events.size(), e);
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    /**
+     * 재시도 소진 배치는 이벤트별로 재시도 토픽(마지막엔 DLT)에 넘긴 뒤 커밋 - 발행까지 실패하면 그 이벤트부터 되감는다
+     */
+    private void deadLetter(TopicPartition topicPartition, List<PendingEvent> batch, Throwable cause) {
+        for (PendingEvent pending : batch) {
+            try {
+                retryTopicRouter.routeFailure(topicPartition.topic(), RetryTopicRouter.MAIN_STAGE,
+                        topicPartition.partition(), pending.offset(), pending.event().getAggregateId(),
+                        pending.event(), cause);
+                pending.acknowledgment().acknowledge();
+                deadLetteredEvents.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("재시도/DLT 발행 중 인터럽트 - 되감아 재전달: {}, offset={}", topicPartition, pending.offset());
+                rewind(topicPartition, pending);
+                return;
+            } catch (Exception e) {
+                log.error("💥 재시도/DLT 발행 실패 - 되감아 재전달: {}, eventId={}, offset={}",
+                        topicPartition, pending.event().getEventId(), pending.offset(), e);
+                rewind(topicPartition, pending);
+                return;
+            }
+        }
+        log.error("🚨 데이터 플랫폼 배치 재시도 토픽 이동: {}, size={}", topicPartition, batch.size());
+    }
+
+    /**
+     * 확인 없이 끝난 첫 이벤트 오프셋으로 되감기 - 같은 파티션의 이후 이벤트도 다시 전달된다 (중복은 멱등성으로 흡수)
+     */
+    private void rewind(TopicPartition topicPartition, PendingEvent first) {
+        try {
+            first.rewinder().rewind(topicPartition, first.offset());
+        } catch (RuntimeException e) {
+            log.error("💥 배치 되감기 실패 - 리밸런스/재시작 시 재전달: {}, offset={}", topicPartition, first.offset(), e);
+        }
+    }
+
+    /**
+     * 파티션 되감기 - Listener 스레드가 아닌 전송 스레드에서 호출되므로 다음 poll 전에 적용되는 seek이어야 한다
+     */
+    @FunctionalInterface
+    public interface Rewinder {
+
+        void rewind(TopicPartition topicPartition, long offset);
+    }
+
+    private record PendingEvent(DomainEvent event, long offset, Acknowledgment acknowledgment, Rewinder rewinder) {
+    }
+
+    /**
+     * 파티션별 대기 버퍼 - 같은 파티션 Listener 스레드와 flusher 스레드가 동시에 접근
+     */
+    private static final class PartitionBuffer {
+
+        private List<PendingEvent> events = new ArrayList<>();
+        private long firstArrivalNanos;
+
+        synchronized List<PendingEvent> add(PendingEvent event, int maxSize) {
+            if (events.isEmpty()) {
+                firstArrivalNanos = System.nanoTime();
+            }
+            events.add(event);
+            return events.size() >= maxSize ? drain() : null;
+        }
+
+        synchronized List<PendingEvent> drainIfOlderThan(long now, long lingerNanos) {
+            if (events.isEmpty() || now - firstArrivalNanos < lingerNanos) {
+                return null;
+            }
+            return drain();
+        }
+
+        synchronized List<PendingEvent> drain() {
+            if (events.isEmpty()) {
+                return null;
+            }
+            List<PendingEvent> drained = events;
+            events = new ArrayList<>();
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.external.dataplatform;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 데이터 플랫폼 전송 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.data-platform")
+public class DataPlatformProperties {
+
+    private Batch batch = new Batch();
+    private Mock mock = new Mock();
+
+    /**
+     * 마이크로 배치 전송 설정
+     */
+    @Data
+    public static class Batch {
+        /**
+         * 파티션별 최대 배치 크기 - 도달하면 즉시 전송
+         */
+        private int maxSize = 100;
+
+        /**
+         * 배치 최대 대기 시간 (밀리초) - 크기에 못 미쳐도 이 시간이 지나면 전송
+         */
+        private long lingerMs = 50;
+
+        /**
+         * 동시에 전송 중인 배치 수 상한 - 초과 시 Listener 스레드가 대기 (백프레셔)
+         */
+        private int maxInFlight = 8;
+
+        /**
+         * 배치당 전송 시도 횟수 - 모두 실패하면 DLT로 보낸 뒤 커밋
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 재시도 간격 (밀리초)
+         */
+        private long retryBackoffMs = 200;
+    }
+
+    /**
+     * Mock 클라이언트 지연/장애 설정 (부하 테스트에서 외부 API 응답 시간 재현)
+     */
+    @Data
+    public static class Mock {
+        /**
+         * 호출당 기본 지연 (밀리초)
+         */
+        private long baseLatencyMs = 100;
+
+        /**
+         * 추가 랜덤 지연 상한 (밀리초)
+         */
+        private long jitterMs = 200;
+
+        /**
+         * 배치 호출 시 이벤트당 추가 지연 (밀리초)
+         */
+        private double perEventLatencyMs = 1.0;
+
+        /**
+         * 실패 확률 (0.0 ~ 1.0)
+         */
+        private double failureRate = 0.02;
+    }
+}
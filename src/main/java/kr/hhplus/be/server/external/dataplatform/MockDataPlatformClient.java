@@ -18,18 +18,17 @@ import lombok.extern.slf4j.Slf4j;
 public class MockDataPlatformClient implements DataPlatformClient {
 
     private final ObjectMapper objectMapper;
+    private final DataPlatformProperties properties;
     private final Random random = new Random();
 
-    private static final double FAILURE_RATE = 0.02;
-
     @Override
     public DataPlatformResponse sendEventData(DomainEvent event) {
         try {
             // 네트워크 지연 시뮬레이션
-            Thread.sleep(100 + random.nextInt(200));
+            simulateLatency(1);
 
-            // 2% 확률 실패 시뮬레이션
-            if (random.nextDouble() < FAILURE_RATE) {
+            // 설정된 확률로 실패 시뮬레이션
+            if (isFailure()) {
                 log.warn("🚨 데이터 플랫폼 전송 실패 시뮬레이션 - eventType: {}, eventId: {}",
                         event.getEventType(), event.getEventId());
                 return DataPlatformResponse.failure("외부 데이터 플랫폼 일시적 장애");
@@ -54,9 +53,9 @@ public class MockDataPlatformClient implements DataPlatformClient {
     @Override
     public DataPlatformResponse sendEventData(String eventType, Object eventData) {
         try {
-            Thread.sleep(100 + random.nextInt(200));
+            simulateLatency(1);
 
-            if (random.nextDouble() < FAILURE_RATE) {
+            if (isFailure()) {
                 log.warn("🚨 데이터 플랫폼 전송 실패 시뮬레이션 - eventType: {}", eventType);
                 return DataPlatformResponse.failure("외부 데이터 플랫폼 일시적 장애");
             }
@@ -81,9 +80,9 @@ public class MockDataPlatformClient implements DataPlatformClient {
     @Override
     public DataPlatformResponse sendBatchEventData(List<DomainEvent> events) {
         try {
-            Thread.sleep(200 + random.nextInt(300)); // 배치는 좀 더 오래 걸림
+            simulateLatency(events.size()); // 배치는 이벤트 수만큼 조금씩 더 걸림
 
-            if (random.nextDouble() < FAILURE_RATE) {
+            if (isFailure()) {
                 log.warn("🚨 배치 데이터 플랫폼 전송 실패 시뮬레이션 - eventCount: {}", events.size());
                 return DataPlatformResponse.failure("배치 전송 중 외부 플랫폼 장애");
             }
@@ -107,4 +106,18 @@ public class MockDataPlatformClient implements DataPlatformClient {
     public boolean isHealthy() {
         return random.nextDouble() > 0.05; // 95% 정상
     }
+
+    /**
+     * 호출 지연 = 기본 지연 + 랜덤 지연 + (이벤트 수 - 1) * 이벤트당 지연
+     */
+    private void simulateLatency(int eventCount) throws InterruptedException {
+        DataPlatformProperties.Mock mock = properties.getMock();
+        long jitter = mock.getJitterMs() > 0 ? random.nextLong(mock.getJitterMs()) : 0;
+        long perEvent = (long) ((eventCount - 1) * mock.getPerEventLatencyMs());
+        Thread.sleep(mock.getBaseLatencyMs() + jitter + perEvent);
+    }
+
+    private boolean isFailure() {
+        return random.nextDouble() < properties.getMock().getFailureRate();
+    }
 }
\ No newline at end of file
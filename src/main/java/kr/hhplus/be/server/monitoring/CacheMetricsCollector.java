@@ -1,11 +1,12 @@
 package kr.hhplus.be.server.monitoring;
 
 import java.time.Duration;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.CacheManager;
@@ -21,7 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 캐시 성능 메트릭 수집기
- * - 캐시 히트율 추적
+ * - 캐시 히트율 추적 (InstrumentedCacheManager의 인프로세스 통계 조회)
  * - Redis 상태 모니터링
  * - 성능 지표 제공
  */
@@ -49,53 +50,31 @@ public class CacheMetricsCollector {
         return keys;
     }
 
-    /**
-     * 캐시 히트 기록
-     */
-    public void recordCacheHit(String cacheName) {
-        String metricKey = "ecommerce:metrics:cache:hit:" + LocalDate.now();
-        cacheRedisTemplate.opsForHash().increment(metricKey, cacheName, 1);
-        cacheRedisTemplate.expire(metricKey, Duration.ofDays(7));
-        log.debug("캐시 히트 기록: {}", cacheName);
-    }
-
-    /**
-     * 캐시 미스 기록
-     */
-    public void recordCacheMiss(String cacheName) {
-        String metricKey = "ecommerce:metrics:cache:miss:" + LocalDate.now();
-        cacheRedisTemplate.opsForHash().increment(metricKey, cacheName, 1);
-        cacheRedisTemplate.expire(metricKey, Duration.ofDays(7));
-        log.debug("캐시 미스 기록: {}", cacheName);
-    }
-
     /**
      * 캐시 메트릭 조회
+     * 인프로세스 통계(InstrumentedCacheManager) 기준 - Redis 왕복 없음
      */
     public Map<String, Object> getCacheMetrics() {
-        LocalDate today = LocalDate.now();
-        String hitKey = "ecommerce:metrics:cache:hit:" + today;
-        String missKey = "ecommerce:metrics:cache:miss:" + today;
-
-        Map<Object, Object> hits = cacheRedisTemplate.opsForHash().entries(hitKey);
-        Map<Object, Object> misses = cacheRedisTemplate.opsForHash().entries(missKey);
-
-        Map<String, Double> hitRates = new HashMap<>();
-        for (Object cache : hits.keySet()) {
-            long hitCount = Long.parseLong(hits.get(cache).toString());
-            long missCount = Long.parseLong(misses.getOrDefault(cache, "0").toString());
-
-            if (hitCount + missCount > 0) {
-                double hitRate = (double) hitCount / (hitCount + missCount) * 100;
-                hitRates.put(cache.toString(), hitRate);
+        Map<String, Object> caches = new TreeMap<>();
+        long totalHits = 0;
+        long totalMisses = 0;
+
+        if (cacheManager instanceof InstrumentedCacheManager instrumented) {
+            for (CacheStatistics stats : instrumented.getStatistics().values()) {
+                Map<String, Object> snapshot = stats.snapshot();
+                caches.put(stats.getCacheName(), snapshot);
+                totalHits += (long) snapshot.get("hits");
+                totalMisses += (long) snapshot.get("misses");
             }
         }
 
+        long total = totalHits + totalMisses;
         return Map.of(
-                "hitRates", hitRates,
-                "totalHits", hits.values().stream().mapToLong(v -> Long.parseLong(v.toString())).sum(),
-                "totalMisses", misses.values().stream().mapToLong(v -> Long.parseLong(v.toString())).sum(),
-                "date", today.toString());
+                "caches", caches,
+                "totalHits", totalHits,
+                "totalMisses", totalMisses,
+                "hitRate", total > 0 ? (double) totalHits / total * 100 : 0.0,
+                "timestamp", LocalDateTime.now().toString());
     }
 
     /**
@@ -113,11 +92,9 @@ public class CacheMetricsCollector {
             // 활성 키 개수 (SCAN 사용으로 성능 개선)
             Set<String> productKeys = scanKeys("ecommerce::products::*");
             Set<String> popularKeys = scanKeys("ecommerce::popular-products::*");
-            Set<String> lockKeys = scanKeys("ecommerce:lock:*");
 
             status.put("productCacheCount", productKeys.size());
             status.put("popularCacheCount", popularKeys.size());
-            status.put("activeLockCount", lockKeys.size());
 
         } catch (Exception e) {
             status.put("connected", false);
@@ -130,7 +107,9 @@ public class CacheMetricsCollector {
 }
 
 /**
- * 캐시 및 분산락 모니터링 API
+ * 캐시 모니터링 API
+ * 
+ * 분산락 상태는 Redisson 락 키(락 family 접두사)를 SCAN 페이징하는 /api/monitoring/redis/locks에서 조회한다.
  */
 @RestController
 @RequestMapping("/api/monitoring")
@@ -140,9 +119,6 @@ class CacheMonitoringController {
 
     private final CacheMetricsCollector metricsCollector;
 
-    @Qualifier("cacheRedisTemplate")
-    private final RedisTemplate<String, Object> cacheRedisTemplate;
-
     @GetMapping("/cache/metrics")
     public Map<String, Object> getCacheMetrics() {
         return metricsCollector.getCacheMetrics();
@@ -153,29 +129,6 @@ class CacheMonitoringController {
         return metricsCollector.getRedisStatus();
     }
 
-    @GetMapping("/locks/status")
-    public Map<String, Object> getLockStatus() {
-        Set<String> lockKeys = metricsCollector.scanKeys("ecommerce:lock:*");
-
-        Map<String, Object> lockStatus = new HashMap<>();
-        if (lockKeys != null) {
-            for (String key : lockKeys) {
-                String value = (String) cacheRedisTemplate.opsForValue().get(key);
-                Long ttl = cacheRedisTemplate.getExpire(key);
-
-                lockStatus.put(key, Map.of(
-                        "value", value != null ? value : "null",
-                        "ttl", ttl,
-                        "isLocked", value != null));
-            }
-        }
-
-        return Map.of(
-                "activeLocks", lockStatus.size(),
-                "locks", lockStatus,
-                "timestamp", System.currentTimeMillis());
-    }
-
     @GetMapping("/performance/summary")
     public Map<String, Object> getPerformanceSummary() {
         Map<String, Object> summary = new HashMap<>();
@@ -188,10 +141,6 @@ class CacheMonitoringController {
         Map<String, Object> redisStatus = metricsCollector.getRedisStatus();
         summary.put("redis", redisStatus);
 
-        // 활성 락 개수 (SCAN 사용)
-        Set<String> lockKeys = metricsCollector.scanKeys("ecommerce:lock:*");
-        summary.put("activeLocks", lockKeys.size());
-
         return summary;
     }
 }
\ No newline at end of file
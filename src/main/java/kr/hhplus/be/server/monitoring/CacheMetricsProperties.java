@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 캐시 메트릭 스냅샷 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.metrics")
+public class CacheMetricsProperties {
+
+    /**
+     * 노드별 캐시 통계 스냅샷을 Redis로 주기 전송할지 여부
+     */
+    private boolean snapshotEnabled = false;
+
+    /**
+     * 스냅샷 전송 주기 (초)
+     */
+    private long snapshotIntervalSeconds = 30;
+
+    /**
+     * 스냅샷 키 TTL (초) - 종료된 노드의 스냅샷은 자연 만료
+     */
+    private long snapshotTtlSeconds = 300;
+}
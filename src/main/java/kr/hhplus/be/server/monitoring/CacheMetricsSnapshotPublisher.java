@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.monitoring;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 캐시 통계 스냅샷 Redis 전송기 (선택)
+ * 
+ * 캐시 접근마다 Redis에 쓰지 않고, 인프로세스 누적값을 N초마다 한 번만 전송한다.
+ * 키: ecommerce:metrics:cache:snapshot:{nodeId} (Hash, field = 캐시명)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.cache.metrics", name = "snapshot-enabled", havingValue = "true")
+public class CacheMetricsSnapshotPublisher {
+
+    public static final String SNAPSHOT_KEY_PREFIX = "ecommerce:metrics:cache:snapshot:";
+
+    @Qualifier("cacheRedisTemplate")
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final CacheManager cacheManager;
+    private final CacheMetricsProperties properties;
+
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cache-metrics-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.getSnapshotIntervalSeconds();
+        scheduler.scheduleWithFixedDelay(this::publishSnapshot, interval, interval, TimeUnit.SECONDS);
+        log.info("📤 캐시 메트릭 스냅샷 전송 시작: nodeId = {}, interval = {}s", nodeId, interval);
+    }
+
+    public void publishSnapshot() {
+        if (!(cacheManager instanceof InstrumentedCacheManager instrumented)) {
+            return;
+        }
+
+        try {
+            Map<String, Object> snapshot = new HashMap<>();
+            instrumented.getStatistics().forEach((name, stats) -> snapshot.put(name, stats.snapshot()));
+            if (snapshot.isEmpty()) {
+                return;
+            }
+
+            String key = SNAPSHOT_KEY_PREFIX + nodeId;
+            cacheRedisTemplate.opsForHash().putAll(key, snapshot);
+            cacheRedisTemplate.expire(key, Duration.ofSeconds(properties.getSnapshotTtlSeconds()));
+            log.debug("📤 캐시 메트릭 스냅샷 전송: caches = {}", snapshot.keySet());
+        } catch (Exception e) {
+            // 메트릭 전송 실패는 서비스에 영향 주지 않음
+            log.warn("캐시 메트릭 스냅샷 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
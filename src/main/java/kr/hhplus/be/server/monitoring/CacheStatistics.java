@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 캐시별 인프로세스 통계
+ * 
+ * - 카운터는 LongAdder로 누적 (경합 없는 증가, Redis 왕복 없음)
+ * - Micrometer FunctionCounter가 조회 시점에 합산하여 노출
+ * - 메트릭 이름은 Micrometer 캐시 규약(cache.gets, cache.puts, cache.evictions, cache.load)을 따름
+ */
+public class CacheStatistics {
+
+    private final String cacheName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Timer loadTimer;
+
+    public CacheStatistics(String cacheName, MeterRegistry meterRegistry) {
+        this.cacheName = cacheName;
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::doubleValue)
+                .description("캐시 조회 결과")
+                .tags("cache", cacheName, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::doubleValue)
+                .description("캐시 조회 결과")
+                .tags("cache", cacheName, "result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.puts", puts, LongAdder::doubleValue)
+                .description("캐시 저장 횟수")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::doubleValue)
+                .description("캐시 무효화 횟수")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("cache.load")
+                .description("캐시 미스 후 원본 로딩 시간")
+                .tag("cache", cacheName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordPut() {
+        puts.increment();
+    }
+
+    public void recordEviction() {
+        evictions.increment();
+    }
+
+    public void recordLoad(long nanos) {
+        loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * 현재 누적값 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("hits", hitCount);
+        snapshot.put("misses", missCount);
+        snapshot.put("puts", puts.sum());
+        snapshot.put("evictions", evictions.sum());
+        snapshot.put("hitRate", total > 0 ? (double) hitCount / total * 100 : 0.0);
+        snapshot.put("loadCount", loadTimer.count());
+        snapshot.put("loadMeanMs", loadTimer.mean(TimeUnit.MILLISECONDS));
+        return snapshot;
+    }
+}
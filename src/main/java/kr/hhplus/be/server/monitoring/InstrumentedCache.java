@@ -0,0 +1,180 @@
+package kr.hhplus.be.server.monitoring;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+
+/**
+ * 통계 수집 캐시 데코레이터
+ * 
+ * 실제 캐시(RedisCache)에 위임하면서 히트/미스/저장/무효화/로딩 시간을 CacheStatistics에 기록한다.
+ * 
+ * @Cacheable(sync = false) 경로는 get → (미스) → 메서드 실행 → put 순서이므로,
+ * 같은 스레드에서 미스 직후 같은 키를 put 하면 그 간격을 로딩 시간으로 기록한다.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheStatistics statistics;
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+
+    public InstrumentedCache(Cache delegate, CacheStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        recordLookup(key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        recordLookup(key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = { false };
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            long start = System.nanoTime();
+            try {
+                return valueLoader.call();
+            } finally {
+                statistics.recordLoad(System.nanoTime() - start);
+            }
+        });
+        if (loaded[0]) {
+            statistics.recordMiss();
+            statistics.recordPut();
+        } else {
+            statistics.recordHit();
+        }
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> future = delegate.retrieve(key);
+        if (future == null) {
+            statistics.recordMiss();
+            return null;
+        }
+        return future.whenComplete((value, ex) -> {
+            if (value != null) {
+                statistics.recordHit();
+            } else {
+                statistics.recordMiss();
+            }
+        });
+    }
+
+    /**
+     * 비동기 로더 경로 (@Cacheable(sync = true) + 리액티브/CompletableFuture 반환 메서드)
+     * 로더가 호출되면 미스 + 저장, 로딩 시간은 로더 Future 완료까지로 기록한다.
+     */
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        return delegate.retrieve(key, () -> {
+            loaded.set(true);
+            long start = System.nanoTime();
+            return valueLoader.get()
+                    .whenComplete((value, ex) -> statistics.recordLoad(System.nanoTime() - start));
+        }).whenComplete((value, ex) -> {
+            if (loaded.get()) {
+                statistics.recordMiss();
+                if (ex == null) {
+                    statistics.recordPut();
+                }
+            } else if (ex == null) {
+                statistics.recordHit();
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        statistics.recordPut();
+        completePendingLoad(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            statistics.recordPut();
+        }
+        completePendingLoad(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        statistics.recordEviction();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            statistics.recordEviction();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        statistics.recordEviction();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        statistics.recordEviction();
+        return invalidated;
+    }
+
+    private void recordLookup(Object key, boolean hit) {
+        if (hit) {
+            statistics.recordHit();
+            pendingLoad.remove();
+        } else {
+            statistics.recordMiss();
+            pendingLoad.set(new PendingLoad(key, System.nanoTime()));
+        }
+    }
+
+    private void completePendingLoad(Object key) {
+        PendingLoad pending = pendingLoad.get();
+        if (pending != null && Objects.equals(pending.key(), key)) {
+            statistics.recordLoad(System.nanoTime() - pending.startNanos());
+        }
+        pendingLoad.remove();
+    }
+
+    private record PendingLoad(Object key, long startNanos) {
+    }
+}
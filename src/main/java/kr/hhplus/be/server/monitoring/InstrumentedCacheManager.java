@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.monitoring;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 통계 수집 CacheManager 데코레이터
+ * 
+ * 캐시 매니저가 돌려주는 모든 캐시를 InstrumentedCache로 감싸서
+ * @Cacheable/@CacheEvict 경로의 접근이 별도 호출 없이 자동으로 집계되게 한다.
+ */
+public class InstrumentedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, InstrumentedCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+
+    public InstrumentedCacheManager(CacheManager delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        InstrumentedCache cached = caches.get(name);
+        if (cached != null) {
+            return cached;
+        }
+
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new InstrumentedCache(cache, statisticsFor(n)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * 캐시별 통계 조회 (한 번 이상 접근된 캐시만 포함)
+     */
+    public Map<String, CacheStatistics> getStatistics() {
+        return statistics;
+    }
+
+    private CacheStatistics statisticsFor(String name) {
+        return statistics.computeIfAbsent(name, n -> new CacheStatistics(n, meterRegistry));
+    }
+}
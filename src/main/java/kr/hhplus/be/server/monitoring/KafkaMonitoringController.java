@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import kr.hhplus.be.server.common.event.metrics.KafkaListenerMetrics;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Kafka Consumer 모니터링 API
+ * 
+ * Listener 인터셉터가 쌓은 로컬 메트릭만 요약한다 - 요청마다 브로커 Admin API를 호출하지 않음
+ */
+@RestController
+@RequestMapping("/api/monitoring/kafka")
+@RequiredArgsConstructor
+public class KafkaMonitoringController {
+
+    private final KafkaListenerMetrics kafkaListenerMetrics;
+
+    /**
+     * 토픽/그룹별 종단 지연, 처리 시간, Lag 분포 + 파티션별 최신 Lag
+     */
+    @GetMapping
+    public Map<String, Object> getKafkaSummary() {
+        List<Map<String, Object>> partitions = kafkaListenerMetrics.partitionLagSummaries();
+        long totalLag = partitions.stream()
+                .filter(partition -> !(Boolean) partition.get("stale"))
+                .mapToLong(partition -> (Long) partition.get("lag"))
+                .sum();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("listeners", kafkaListenerMetrics.listenerSummaries());
+        result.put("partitions", partitions);
+        result.put("totalLag", totalLag);
+        result.put("timestamp", LocalDateTime.now());
+        return result;
+    }
+}
@@ -1,14 +1,22 @@
 package kr.hhplus.be.server.monitoring;
 
+import kr.hhplus.be.server.common.lock.LockMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -21,39 +29,121 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class RedisMonitoringController {
 
+    private static final String FENCING_SUFFIX = ":fencing";
+
     @Qualifier("cacheRedisTemplate")
     private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final LockMetrics lockMetrics;
 
     /**
-     * 현재 활성 락 상태 조회
+     * 현재 활성 락 상태 조회 (SCAN 커서 페이징)
+     * 
+     * KEYS는 Redis를 블로킹하므로 락 family 접두사({family}:*)만 SCAN 한 페이지씩 조회한다.
+     * Redisson 락은 Hash 타입(필드 = 보유자, 값 = 재진입 횟수)으로 저장되므로 Hash만 락으로 집계한다.
+     * 키별 TYPE/PTTL, Hash의 HLEN은 각각 파이프라인 한 번으로 묶는다 (페이지당 왕복 3회).
+     * 응답의 nextCursor가 "0"이면 순회 완료.
      */
     @GetMapping("/locks")
-    public Map<String, Object> getActiveLocks() {
-        Set<String> lockKeys = cacheRedisTemplate.keys("ecommerce:lock:*");
-        
-        Map<String, Object> result = new HashMap<>();
-        Map<String, Object> locks = new HashMap<>();
-        
-        if (lockKeys != null) {
+    public Map<String, Object> getActiveLocks(
+            @RequestParam(defaultValue = "0") String cursor,
+            @RequestParam(defaultValue = "ecommerce:product:stock") String family,
+            @RequestParam(defaultValue = "100") int count) {
+
+        ScanPage page = scanPage(cursor, family + ":*", Math.max(1, Math.min(count, 1000)));
+
+        // 펜싱 카운터(String)는 이름으로 먼저 제외
+        List<String> candidates = page.keys().stream()
+                .filter(key -> !key.endsWith(FENCING_SUFFIX))
+                .toList();
+
+        List<Object> typeAndTtl = cacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : candidates) {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.keyCommands().type(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+            }
+            return null;
+        });
+
+        List<String> lockKeys = new ArrayList<>();
+        List<Long> ttls = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (typeAndTtl.get(i * 2) == DataType.HASH) {
+                lockKeys.add(candidates.get(i));
+                ttls.add(typeAndTtl.get(i * 2 + 1) instanceof Long ttl ? ttl : -2L);
+            }
+        }
+
+        List<Object> holderCounts = cacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
             for (String key : lockKeys) {
-                String value = (String) cacheRedisTemplate.opsForValue().get(key);
-                Long ttl = cacheRedisTemplate.getExpire(key);
-                
-                locks.put(key, Map.of(
-                    "value", value != null ? value : "null",
-                    "ttl", ttl,
-                    "isActive", value != null && ttl > 0
-                ));
+                connection.hashCommands().hLen(key.getBytes(StandardCharsets.UTF_8));
             }
+            return null;
+        });
+
+        Map<String, Object> locks = new LinkedHashMap<>();
+        for (int i = 0; i < lockKeys.size(); i++) {
+            long ttl = ttls.get(i);
+            locks.put(lockKeys.get(i), Map.of(
+                "family", LockMetrics.familyOf(lockKeys.get(i)),
+                "holders", holderCounts.get(i) instanceof Long holders ? holders : 0L,
+                "ttlMs", ttl,
+                "isActive", ttl > 0
+            ));
         }
-        
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("family", family);
         result.put("activeLockCount", locks.size());
         result.put("locks", locks);
+        result.put("cursor", cursor);
+        result.put("nextCursor", page.nextCursor());
+        result.put("finished", "0".equals(page.nextCursor()));
+        result.put("timestamp", LocalDateTime.now());
+
+        return result;
+    }
+
+    /**
+     * 경합 상위 락 키 조회 (Space-Saving 스케치)
+     */
+    @GetMapping("/locks/hot")
+    public Map<String, Object> getHotLocks(@RequestParam(defaultValue = "10") int limit) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("hotKeys", lockMetrics.topContendedKeys(limit));
         result.put("timestamp", LocalDateTime.now());
-        
         return result;
     }
 
+    /**
+     * SCAN 단일 페이지 실행
+     */
+    private ScanPage scanPage(String cursor, String pattern, int count) {
+        Object reply = cacheRedisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("SCAN",
+                cursor.getBytes(StandardCharsets.UTF_8),
+                "MATCH".getBytes(StandardCharsets.UTF_8), pattern.getBytes(StandardCharsets.UTF_8),
+                "COUNT".getBytes(StandardCharsets.UTF_8), String.valueOf(count).getBytes(StandardCharsets.UTF_8)));
+
+        if (!(reply instanceof List<?> parts) || parts.size() < 2) {
+            return new ScanPage("0", List.of());
+        }
+
+        List<String> keys = new ArrayList<>();
+        if (parts.get(1) instanceof List<?> rawKeys) {
+            for (Object rawKey : rawKeys) {
+                keys.add(asString(rawKey));
+            }
+        }
+        return new ScanPage(asString(parts.get(0)), keys);
+    }
+
+    private String asString(Object value) {
+        return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private record ScanPage(String nextCursor, List<String> keys) {
+    }
+
     /**
      * 현재 캐시 상태 조회
      */
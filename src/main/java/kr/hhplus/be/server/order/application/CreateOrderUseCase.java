@@ -9,6 +9,7 @@ import kr.hhplus.be.server.balance.service.BalanceService;
 import kr.hhplus.be.server.common.annotation.UseCase;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.common.lock.LockContext;
 import kr.hhplus.be.server.common.lock.Lockable;
 import kr.hhplus.be.server.coupon.service.CouponService;
 import kr.hhplus.be.server.order.dto.CreateOrderRequest;
@@ -157,7 +158,9 @@ public class CreateOrderUseCase implements Lockable {
 
         // 잔액 차감 (주문 ID는 아직 생성되지 않아서 임시 ID 사용)
         String tempOrderId = "TEMP_" + userId + "_" + System.currentTimeMillis();
-        balanceService.deductBalance(userId, amount, tempOrderId);
+        // 주문 락의 펜싱 토큰으로 잔액 가드 컬럼 갱신
+        Long fencingToken = LockContext.currentFencingToken(new OrderProcessLock(userId).getLockKey());
+        balanceService.deductBalance(userId, amount, tempOrderId, fencingToken);
     }
 
     /**
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.order.application;
 import java.util.List;
 
 import kr.hhplus.be.server.common.annotation.UseCase;
+import kr.hhplus.be.server.common.replica.ReplicaRead;
 import kr.hhplus.be.server.order.dto.OrderResponse;
 import kr.hhplus.be.server.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
  * - UseCase가 실제 비즈니스 로직 수행
  */
 @UseCase
+@ReplicaRead
 @RequiredArgsConstructor
 public class GetOrdersUseCase {
 
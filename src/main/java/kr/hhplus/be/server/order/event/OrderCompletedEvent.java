@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
  * 주문 완료 이벤트
  * 
  * 랭킹 시스템에서 상품별 주문 수량을 추적하기 위한 이벤트
+ * 
+ * 주문 처리에서는 주문 단위 OrderPlacedEvent를 발행한다 - 상품 단건 반영이 필요한 경우에만 사용
  */
 public class OrderCompletedEvent {
 
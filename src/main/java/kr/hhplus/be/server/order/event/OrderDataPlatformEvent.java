@@ -14,6 +14,8 @@ import java.util.UUID;
  * STEP 15: Application Event 구현
  * - 트랜잭션 커밋 후 외부 데이터 플랫폼으로 주문 정보 전송
  * - 핵심 비즈니스 로직(주문 처리)과 부가 로직(데이터 전송)의 관심사 분리
+ * 
+ * 신규 발행은 OrderPlacedEvent로 통합됨 - 토픽에 남은 기존 메시지 역직렬화 호환용으로 유지
  */
 public record OrderDataPlatformEvent(
     String eventId,
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.order.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import kr.hhplus.be.server.common.event.DomainEvent;
+import kr.hhplus.be.server.order.domain.Order;
+import kr.hhplus.be.server.order.domain.OrderItem;
+
+/**
+ * 주문 단위 통합 이벤트 (주문 1건 = 이벤트 1건)
+ * 
+ * - 상품별 OrderCompletedEvent N건 + OrderDataPlatformEvent 1건을 대체
+ * - 주문 항목은 같은 인덱스끼리 한 줄인 병렬 배열로 담아 직렬화 크기를 줄임 (상품명 등은 소비자가 필요 시 조회)
+ * - 금액은 주문 컬럼(scale 2) 그대로 BigDecimal로 전달 (소수 금액이 잘리지 않도록)
+ * - 트랜잭션 커밋 후 한 번만 발행: 랭킹은 같은 JVM에서, 데이터 플랫폼 등은 Kafka로 수신
+ */
+public record OrderPlacedEvent(
+        String eventId,
+        Long orderId,
+        Long userId,
+        BigDecimal totalAmount,
+        BigDecimal finalAmount,
+        String orderStatus,
+        long[] productIds,
+        int[] quantities,
+        BigDecimal[] unitPrices,
+        LocalDateTime occurredAt) implements DomainEvent {
+
+    public static final String EVENT_TYPE = "ORDER_PLACED";
+
+    public record Line(long productId, int quantity, BigDecimal unitPrice) {
+
+        public BigDecimal subtotal() {
+            return unitPrice.multiply(BigDecimal.valueOf(quantity));
+        }
+    }
+
+    public static OrderPlacedEvent of(Order order, List<OrderItem> orderItems) {
+        int size = orderItems.size();
+        long[] productIds = new long[size];
+        int[] quantities = new int[size];
+        BigDecimal[] unitPrices = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            OrderItem item = orderItems.get(i);
+            productIds[i] = item.getProductId();
+            quantities[i] = item.getQuantity();
+            unitPrices[i] = item.getProductPrice();
+        }
+
+        return new OrderPlacedEvent(
+                UUID.randomUUID().toString(),
+                order.getId(),
+                order.getUserId(),
+                order.getTotalAmount(),
+                order.getFinalAmount(),
+                order.getStatus().name(),
+                productIds,
+                quantities,
+                unitPrices,
+                LocalDateTime.now());
+    }
+
+    public int lineCount() {
+        return productIds.length;
+    }
+
+    public Line line(int index) {
+        return new Line(productIds[index], quantities[index], unitPrices[index]);
+    }
+
+    public List<Line> lines() {
+        Line[] lines = new Line[productIds.length];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = line(i);
+        }
+        return List.of(lines);
+    }
+
+    @Override
+    public String getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String getEventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return orderId.toString();
+    }
+}
@@ -9,7 +9,6 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import kr.hhplus.be.server.common.exception.ErrorCode;
@@ -20,8 +19,7 @@ import kr.hhplus.be.server.order.dto.CreateOrderRequest;
 import kr.hhplus.be.server.order.dto.OrderItemRequest;
 import kr.hhplus.be.server.order.dto.OrderItemResponse;
 import kr.hhplus.be.server.order.dto.OrderResponse;
-import kr.hhplus.be.server.order.event.OrderCompletedEvent;
-import kr.hhplus.be.server.order.event.OrderDataPlatformEvent;
+import kr.hhplus.be.server.order.event.OrderPlacedEvent;
 import kr.hhplus.be.server.common.event.EventPublisher;
 import kr.hhplus.be.server.order.exception.OrderNotFoundException;
 import kr.hhplus.be.server.order.repository.OrderItemRepository;
@@ -42,7 +40,6 @@ public class OrderService {
         private final OrderItemRepository orderItemRepository;
         private final PaymentRepository paymentRepository;
         private final ProductService productService;
-        private final ApplicationEventPublisher eventPublisher;
         private final EventPublisher domainEventPublisher;
 
         public OrderResponse createOrderWithProductInfo(CreateOrderRequest request, BigDecimal totalAmount,
@@ -73,11 +70,8 @@ public class OrderService {
                 savedOrder.complete();
                 orderRepository.save(savedOrder);
 
-                // 6. 주문 완료 이벤트 발행 (랭킹 시스템용)
-                publishOrderCompletedEvents(savedOrder, orderItems);
-                
-                // 7. 데이터 플랫폼 전송 이벤트 발행 (트랜잭션 커밋 후 비동기 처리)
-                publishOrderDataPlatformEvent(savedOrder);
+                // 6. 주문 이벤트 발행 (랭킹, 데이터 플랫폼 - 트랜잭션 커밋 후 주문당 1건)
+                publishOrderPlacedEvent(savedOrder, orderItems);
 
                 log.info("✅ 주문 생성 완료: 주문번호 = {}, ID = {}", orderNumber, savedOrder.getId());
 
@@ -216,8 +210,9 @@ public class OrderService {
 
         /**
          * Order와 OrderItem을 OrderResponse DTO로 변환
+         * (JMH 벤치마크에서 직접 호출하므로 package-private)
          */
-        private OrderResponse convertToOrderResponse(Order order, List<OrderItem> orderItems) {
+        OrderResponse convertToOrderResponse(Order order, List<OrderItem> orderItems) {
                 List<OrderItemResponse> itemResponses = orderItems.stream()
                                 .map(item -> new OrderItemResponse(
                                                 item.getProductId(),
@@ -240,43 +235,21 @@ public class OrderService {
         }
 
         /**
-         * 주문 완료 이벤트 발행
+         * 주문 단위 통합 이벤트 발행 (트랜잭션 커밋 후 1건)
+         * 
+         * 상품별 이벤트 N건 + 데이터 플랫폼 이벤트 1건 대신 주문 1건당 이벤트 1건
+         * - 랭킹: 같은 JVM에서 AFTER_COMMIT 수신
+         * - 데이터 플랫폼 등: Kafka(order-completed)로 수신
          */
-        private void publishOrderCompletedEvents(Order order, List<OrderItem> orderItems) {
-                for (OrderItem item : orderItems) {
-                        try {
-                                OrderCompletedEvent event = new OrderCompletedEvent(
-                                        order.getId(),
-                                        order.getUserId(),
-                                        item.getProductId(),
-                                        item.getProductName(),
-                                        item.getQuantity(),
-                                        order.getCreatedAt()
-                                );
-
-                                eventPublisher.publishEvent(event);
-                                log.debug("📤 주문 완료 이벤트 발행: orderId={}, productId={}, quantity={}", 
-                                        order.getId(), item.getProductId(), item.getQuantity());
-
-                        } catch (Exception e) {
-                                log.error("❌ 주문 완료 이벤트 발행 실패: orderId={}, productId={}", 
-                                        order.getId(), item.getProductId(), e);
-                        }
-                }
-        }
-
-        /**
-         * 데이터 플랫폼 전송 이벤트 발행
-         */
-        private void publishOrderDataPlatformEvent(Order order) {
+        private void publishOrderPlacedEvent(Order order, List<OrderItem> orderItems) {
                 try {
-                        OrderDataPlatformEvent event = OrderDataPlatformEvent.from(order);
+                        OrderPlacedEvent event = OrderPlacedEvent.of(order, orderItems);
                         domainEventPublisher.publishEventAfterCommit(event);
-                        log.debug("📤 데이터 플랫폼 전송 이벤트 발행: orderId={}, eventId={}", 
-                                order.getId(), event.getEventId());
+                        log.debug("📤 주문 이벤트 발행: orderId={}, eventId={}, lines={}",
+                                order.getId(), event.getEventId(), event.lineCount());
 
                 } catch (Exception e) {
-                        log.error("❌ 데이터 플랫폼 전송 이벤트 발행 실패: orderId={}", order.getId(), e);
+                        log.error("❌ 주문 이벤트 발행 실패: orderId={}", order.getId(), e);
                 }
         }
-}
\ No newline at end of file
+}
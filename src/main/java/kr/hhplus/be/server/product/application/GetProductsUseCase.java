@@ -4,8 +4,11 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import kr.hhplus.be.server.common.annotation.UseCase;
+import kr.hhplus.be.server.common.replica.ReplicaRead;
 import kr.hhplus.be.server.product.dto.PopularProductResponse;
+import kr.hhplus.be.server.product.dto.ProductPageResponse;
 import kr.hhplus.be.server.product.dto.ProductResponse;
+import kr.hhplus.be.server.product.dto.ProductSearchCondition;
 import kr.hhplus.be.server.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +18,7 @@ import lombok.RequiredArgsConstructor;
  * 구체적인 요구사항들:
  * - "사용자가 상품 목록을 조회한다"
  * - "사용자가 상품을 검색한다"
+ * - "사용자가 여러 조건을 조합해 상품 목록을 넘겨본다"
  * - "사용자가 인기 상품을 조회한다"
  * - "사용자가 재고를 확인한다"
  */
@@ -27,6 +31,7 @@ public class GetProductsUseCase {
     /**
      * 전체 상품 목록 조회
      */
+    @ReplicaRead
     public List<ProductResponse> executeGetAll() {
         return productService.getAllProducts();
     }
@@ -41,6 +46,7 @@ public class GetProductsUseCase {
     /**
      * 상품명 검색
      */
+    @ReplicaRead
     public List<ProductResponse> executeSearch(String name) {
         return productService.searchProductsByName(name);
     }
@@ -48,13 +54,23 @@ public class GetProductsUseCase {
     /**
      * 가격 범위 검색
      */
+    @ReplicaRead
     public List<ProductResponse> executeSearchByPrice(BigDecimal minPrice, BigDecimal maxPrice) {
         return productService.getProductsByPriceRange(minPrice, maxPrice);
     }
 
+    /**
+     * 복합 조건 상품 목록 조회 (이름 + 가격 + 재고, 정렬, 키셋 페이징)
+     */
+    @ReplicaRead
+    public ProductPageResponse executeQuery(ProductSearchCondition condition, int size) {
+        return productService.queryProducts(condition, size);
+    }
+
     /**
      * 재고 있는 상품만 조회
      */
+    @ReplicaRead
     public List<ProductResponse> executeGetAvailable() {
         return productService.getAvailableProducts();
     }
@@ -62,6 +78,7 @@ public class GetProductsUseCase {
     /**
      * 인기 상품 조회
      */
+    @ReplicaRead
     public List<PopularProductResponse> executeGetPopular(int limit, int days) {
         return productService.getPopularProducts(limit, days);
     }
@@ -69,6 +86,7 @@ public class GetProductsUseCase {
     /**
      * 재고 확인
      */
+    @ReplicaRead
     public boolean executeStockCheck(Long productId, int quantity) {
         return productService.hasEnoughStock(productId, quantity);
     }
@@ -12,7 +12,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.hhplus.be.server.common.response.CommonResponse;
 import kr.hhplus.be.server.product.application.GetProductsUseCase;
 import kr.hhplus.be.server.product.dto.PopularProductResponse;
+import kr.hhplus.be.server.product.dto.ProductCursor;
+import kr.hhplus.be.server.product.dto.ProductPageResponse;
 import kr.hhplus.be.server.product.dto.ProductResponse;
+import kr.hhplus.be.server.product.dto.ProductSearchCondition;
+import kr.hhplus.be.server.product.dto.ProductSort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,6 +53,30 @@ public class ProductController {
     return CommonResponse.success(products);
   }
 
+  /**
+   * 복합 조건 상품 목록 조회 - 조건 조합 + 정렬 + 키셋 페이징
+   */
+  @GetMapping("/search")
+  @Operation(summary = "상품 복합 조회", description = "상품명/가격 범위/재고 조건을 조합하고 정렬 기준별 커서로 페이지를 넘깁니다.")
+  public CommonResponse<ProductPageResponse> queryProducts(
+      @Parameter(description = "상품명 검색 (부분 일치)", example = "노트북") @RequestParam(required = false) String name,
+      @Parameter(description = "최소 가격", example = "100000") @RequestParam(required = false) BigDecimal minPrice,
+      @Parameter(description = "최대 가격", example = "2000000") @RequestParam(required = false) BigDecimal maxPrice,
+      @Parameter(description = "재고 있는 상품만 조회", example = "true") @RequestParam(defaultValue = "false") boolean onlyAvailable,
+      @Parameter(description = "정렬 기준", example = "PRICE_ASC") @RequestParam(defaultValue = "NEWEST") ProductSort sort,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+      @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size) {
+
+    if (size <= 0 || size > 100) {
+      throw new IllegalArgumentException("페이지 크기는 1-100 사이여야 합니다.");
+    }
+
+    ProductSearchCondition condition = new ProductSearchCondition(name, minPrice, maxPrice, onlyAvailable, sort,
+        cursor != null && !cursor.isBlank() ? ProductCursor.decode(cursor, sort) : null);
+
+    return CommonResponse.success(getProductsUseCase.executeQuery(condition, size));
+  }
+
   /**
    * 특정 상품 상세 조회
    */
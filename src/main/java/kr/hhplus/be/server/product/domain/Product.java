@@ -17,9 +17,14 @@ import lombok.NoArgsConstructor;
 /**
  * Entity + Domain 통합 - 불필요한 인덱스 제거
  * 실제 쿼리 패턴에 맞는 최소한의 인덱스만 유지
+ * - (price, id): 가격 범위 + 가격순 키셋 페이징
+ * - (stock_quantity, id): 재고 있는 상품 + 재고순 키셋 페이징
  */
 @Entity
-@Table(name = "products") // 불필요한 인덱스 제거
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_price_id", columnList = "price, id"),
+        @Index(name = "idx_products_stock_id", columnList = "stock_quantity, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -38,6 +43,10 @@ public class Product {
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
 
+    // 펜싱 토큰 가드 컬럼 - 조건부 UPDATE 쿼리로만 갱신
+    @Column(name = "fencing_token", insertable = false, updatable = false)
+    private Long fencingToken;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
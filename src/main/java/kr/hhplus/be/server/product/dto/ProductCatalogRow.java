@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.product.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 응답 컬럼 프로젝션 (카탈로그 스냅샷 적재용 - 펜싱 토큰 등 제외)
+ */
+public record ProductCatalogRow(Long id, String name, BigDecimal price, Integer stockQuantity,
+        LocalDateTime createdAt) {
+}
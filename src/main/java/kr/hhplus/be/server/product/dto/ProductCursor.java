@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.product.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 키셋 커서 - 마지막으로 반환한 상품의 (정렬 키, id)
+ * 
+ * 클라이언트에는 "정렬|키|id"를 URL-safe Base64로 감싼 불투명 문자열로 전달하고,
+ * 다른 정렬의 커서를 섞어 쓰면 거부한다.
+ */
+public record ProductCursor(ProductSort sort, String key, long id) {
+
+    public static ProductCursor after(ProductSort sort, ProductResponse last) {
+        String key = switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> last.price().toPlainString();
+            case STOCK_ASC, STOCK_DESC -> String.valueOf(last.stockQuantity());
+            case NEWEST -> "";
+        };
+        return new ProductCursor(sort, key, last.id());
+    }
+
+    public String encode() {
+        String raw = sort.name() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String encoded, ProductSort expectedSort) {
+        ProductCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("cursor parts: " + parts.length);
+            }
+            cursor = new ProductCursor(ProductSort.valueOf(parts[0]), parts[1], Long.parseLong(parts[2]));
+            cursor.validateKey();
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함 - 손상된 커서는 모두 같은 메시지로
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.", e);
+        }
+        if (cursor.sort() != expectedSort) {
+            throw new IllegalArgumentException("정렬 기준과 맞지 않는 커서입니다.");
+        }
+        return cursor;
+    }
+
+    public BigDecimal priceKey() {
+        return new BigDecimal(key);
+    }
+
+    public Integer stockKey() {
+        return Integer.valueOf(key);
+    }
+
+    private void validateKey() {
+        switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> priceKey();
+            case STOCK_ASC, STOCK_DESC -> stockKey();
+            case NEWEST -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.product.dto;
+
+/**
+ * 상품 ID + 이름 프로젝션 (검색 색인 적재용 - 엔티티 전체를 읽지 않음)
+ */
+public record ProductNameRow(Long id, String name) {
+}
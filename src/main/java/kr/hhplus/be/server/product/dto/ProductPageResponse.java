@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.product.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 목록 페이지 (키셋 페이징)")
+public record ProductPageResponse(
+        @Schema(description = "상품 목록") List<ProductResponse> items,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext) {
+}
@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.product.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 복합 조회 조건 - null 조건은 적용하지 않음
+ * 
+ * @param name 상품명 부분 일치
+ * @param minPrice 최소 가격 (이상)
+ * @param maxPrice 최대 가격 (이하)
+ * @param onlyAvailable 재고 있는 상품만
+ * @param sort 정렬 기준
+ * @param cursor 이전 페이지 마지막 상품 (첫 페이지는 null)
+ */
+public record ProductSearchCondition(
+        String name,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        boolean onlyAvailable,
+        ProductSort sort,
+        ProductCursor cursor) {
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.product.dto;
+
+/**
+ * 상품 목록 정렬 기준
+ * 
+ * 모든 정렬은 id를 마지막 정렬 키로 포함해 순서가 유일하다. (키셋 페이징 조건)
+ * - PRICE_*: (price, id) 인덱스
+ * - STOCK_*: (stock_quantity, id) 인덱스
+ * - NEWEST: PK 역순 (IDENTITY id가 생성 순서와 같으므로 created_at 인덱스 불필요)
+ */
+public enum ProductSort {
+
+    NEWEST(null, true),
+    PRICE_ASC("price", false),
+    PRICE_DESC("price", true),
+    STOCK_ASC("stockQuantity", false),
+    STOCK_DESC("stockQuantity", true);
+
+    private final String keyAttribute;
+    private final boolean descending;
+
+    ProductSort(String keyAttribute, boolean descending) {
+        this.keyAttribute = keyAttribute;
+        this.descending = descending;
+    }
+
+    /**
+     * id 앞에 오는 정렬 속성 (NEWEST는 null)
+     */
+    public String keyAttribute() {
+        return keyAttribute;
+    }
+
+    public boolean descending() {
+        return descending;
+    }
+}
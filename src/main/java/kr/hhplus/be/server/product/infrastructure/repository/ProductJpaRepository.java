@@ -1,11 +1,19 @@
 package kr.hhplus.be.server.product.infrastructure.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kr.hhplus.be.server.product.domain.Product; // ✅ 통합된 Entity+Domain
+import kr.hhplus.be.server.product.dto.ProductCatalogRow;
+import kr.hhplus.be.server.product.dto.ProductNameRow;
 
 /**
  * ✅ Entity-Domain 통합 버전 JPA Repository
@@ -19,6 +27,20 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
      */
     List<Product> findByNameContainingIgnoreCase(String name);
 
+    /**
+     * 상품 ID + 이름 키셋 페이지 (PK 범위 스캔)
+     */
+    @Query("SELECT new kr.hhplus.be.server.product.dto.ProductNameRow(p.id, p.name) FROM Product p " +
+            "WHERE p.id > :afterId ORDER BY p.id")
+    List<ProductNameRow> findNamesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 카탈로그 스냅샷 적재용 id 키셋 페이지
+     */
+    @Query("SELECT new kr.hhplus.be.server.product.dto.ProductCatalogRow(p.id, p.name, p.price, p.stockQuantity, p.createdAt) " +
+            "FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<ProductCatalogRow> findCatalogRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * 가격 범위 검색
      */
@@ -28,4 +50,29 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
      * 재고가 있는 상품만 조회
      */
     List<Product> findByStockQuantityGreaterThan(Integer quantity);
+
+    /**
+     * 첫 번째 상품 조회 (LIMIT 1 - 존재 여부 확인용)
+     */
+    Optional<Product> findFirstByOrderByIdAsc();
+
+    /**
+     * 펜싱 토큰 가드 재고 차감
+     * 🔒 더 큰 토큰으로 이미 갱신된 경우 0건 반영
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, " +
+            "p.fencingToken = :fencingToken, p.updatedAt = :now " +
+            "WHERE p.id = :productId AND p.stockQuantity >= :quantity " +
+            "AND (p.fencingToken IS NULL OR p.fencingToken <= :fencingToken)")
+    int reduceStockWithFencing(@Param("productId") Long productId,
+            @Param("quantity") int quantity,
+            @Param("fencingToken") Long fencingToken,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 펜싱 토큰 조회 (가드 UPDATE 0건 원인 구분용, 영속성 컨텍스트를 거치지 않음)
+     */
+    @Query("SELECT p.fencingToken FROM Product p WHERE p.id = :productId")
+    Long findFencingTokenById(@Param("productId") Long productId);
 }
\ No newline at end of file
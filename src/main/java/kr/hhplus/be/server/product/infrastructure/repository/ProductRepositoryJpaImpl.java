@@ -1,13 +1,28 @@
 package kr.hhplus.be.server.product.infrastructure.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import kr.hhplus.be.server.common.lock.StaleFencingTokenException;
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.dto.ProductCatalogRow;
+import kr.hhplus.be.server.product.dto.ProductCursor;
+import kr.hhplus.be.server.product.dto.ProductNameRow;
+import kr.hhplus.be.server.product.dto.ProductSearchCondition;
+import kr.hhplus.be.server.product.dto.ProductSort;
 import kr.hhplus.be.server.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductRepositoryJpaImpl implements ProductRepository {
 
     private final ProductJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
@@ -65,15 +81,125 @@ public class ProductRepositoryJpaImpl implements ProductRepository {
         return jpaRepository.findByNameContainingIgnoreCase(name);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductNameRow> findNamesAfter(Long afterId, int limit) {
+        return jpaRepository.findNamesAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductCatalogRow> findCatalogRowsAfter(Long afterId, int limit) {
+        return jpaRepository.findCatalogRowsAfter(afterId, PageRequest.of(0, limit));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Product> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
         return jpaRepository.findByPriceBetween(minPrice, maxPrice);
     }
 
+    /**
+     * 조건 조합이 가변이라 Criteria로 구성
+     * 
+     * 키셋 조건은 (key > k) OR (key = k AND id > i) 형태로 풀어 써서
+     * MySQL이 (key, id) 복합 인덱스 범위 스캔 + 정렬 생략(filesort 없음)으로 처리하게 한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> search(ProductSearchCondition condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> product = query.from(Product.class);
+        ProductSort sort = condition.sort();
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.name() != null && !condition.name().isBlank()) {
+            predicates.add(cb.like(cb.lower(product.get("name")),
+                    "%" + escapeLike(condition.name().trim().toLowerCase()) + "%", '\\'));
+        }
+        if (condition.minPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(product.get("price"), condition.minPrice()));
+        }
+        if (condition.maxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(product.get("price"), condition.maxPrice()));
+        }
+        if (condition.onlyAvailable()) {
+            predicates.add(cb.greaterThan(product.get("stockQuantity"), 0));
+        }
+        if (condition.cursor() != null) {
+            predicates.add(afterCursor(cb, product, condition.cursor()));
+        }
+
+        Path<Long> id = product.get("id");
+        if (sort.keyAttribute() == null) {
+            query.orderBy(sort.descending() ? cb.desc(id) : cb.asc(id));
+        } else {
+            Path<Object> key = product.get(sort.keyAttribute());
+            query.orderBy(sort.descending()
+                    ? List.of(cb.desc(key), cb.desc(id))
+                    : List.of(cb.asc(key), cb.asc(id)));
+        }
+
+        query.select(product).where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Predicate afterCursor(CriteriaBuilder cb, Root<Product> product, ProductCursor cursor) {
+        ProductSort sort = cursor.sort();
+        Path<Long> id = product.get("id");
+        return switch (sort) {
+            case NEWEST -> cb.lessThan(id, cursor.id());
+            case PRICE_ASC, PRICE_DESC -> keyset(cb, product.get("price"), cursor.priceKey(), id, cursor.id(),
+                    sort.descending());
+            case STOCK_ASC, STOCK_DESC -> keyset(cb, product.get("stockQuantity"), cursor.stockKey(), id,
+                    cursor.id(), sort.descending());
+        };
+    }
+
+    private <T extends Comparable<? super T>> Predicate keyset(CriteriaBuilder cb, Path<T> key, T lastKey,
+            Path<Long> id, long lastId, boolean descending) {
+        if (descending) {
+            return cb.or(cb.lessThan(key, lastKey),
+                    cb.and(cb.equal(key, lastKey), cb.lessThan(id, lastId)));
+        }
+        return cb.or(cb.greaterThan(key, lastKey),
+                cb.and(cb.equal(key, lastKey), cb.greaterThan(id, lastId)));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Product> findByStockQuantityGreaterThan(Integer quantity) {
         return jpaRepository.findByStockQuantityGreaterThan(quantity);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsAny() {
+        return jpaRepository.findFirstByOrderByIdAsc().isPresent();
+    }
+
+    @Override
+    @Transactional
+    public boolean reduceStockWithFencing(Long productId, int quantity, Long fencingToken) {
+        int updated = jpaRepository.reduceStockWithFencing(productId, quantity, fencingToken, LocalDateTime.now());
+        log.debug("📦 펜싱 재고 차감: productId = {}, quantity = {}, token = {}, updated = {}",
+                productId, quantity, fencingToken, updated);
+        if (updated > 0) {
+            return true;
+        }
+
+        // 0건 반영 원인 구분: 더 큰 토큰으로 이미 갱신됐으면 펜싱 거부, 아니면 재고 부족
+        Long currentToken = jpaRepository.findFencingTokenById(productId);
+        if (currentToken != null && currentToken > fencingToken) {
+            throw new StaleFencingTokenException("products:" + productId, fencingToken);
+        }
+        return false;
+    }
 }
\ No newline at end of file
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.dto.ProductCatalogRow;
+import kr.hhplus.be.server.product.dto.ProductNameRow;
+import kr.hhplus.be.server.product.dto.ProductSearchCondition;
 
 /**
  * 상품 저장소 인터페이스
@@ -74,6 +77,24 @@ public interface ProductRepository {
      */
     List<Product> findByNameContaining(String name);
 
+    /**
+     * 상품 ID + 이름 키셋 페이지 조회 (검색 색인 적재용)
+     * 
+     * @param afterId 이 ID보다 큰 상품부터
+     * @param limit 최대 건수
+     * @return ID 오름차순 목록
+     */
+    List<ProductNameRow> findNamesAfter(Long afterId, int limit);
+
+    /**
+     * 상품 목록 컬럼 키셋 페이지 조회 (카탈로그 스냅샷 적재용)
+     * 
+     * @param afterId 이 ID보다 큰 상품부터
+     * @param limit 최대 건수
+     * @return ID 오름차순 목록
+     */
+    List<ProductCatalogRow> findCatalogRowsAfter(Long afterId, int limit);
+
     /**
      * 가격 범위로 상품 검색
      * 
@@ -83,10 +104,37 @@ public interface ProductRepository {
      */
     List<Product> findByPriceBetween(java.math.BigDecimal minPrice, java.math.BigDecimal maxPrice);
 
+    /**
+     * 복합 조건 + 정렬 + 키셋 페이징 조회
+     * 
+     * @param condition 조회 조건 (cursor가 있으면 그 다음부터)
+     * @param limit 최대 건수
+     * @return 정렬 순서대로 최대 limit건
+     */
+    List<Product> search(ProductSearchCondition condition, int limit);
+
     /**
      * 재고가 있는 상품만 조회
      * 
      * @return 재고가 0보다 큰 상품 목록
      */
     List<Product> findByStockQuantityGreaterThan(Integer quantity);
+
+    /**
+     * 상품 존재 여부 확인 (전체 조회 없이 1건만 확인)
+     * 
+     * @return 상품이 하나라도 있으면 true
+     */
+    boolean existsAny();
+
+    /**
+     * 펜싱 토큰 가드 재고 차감
+     * 
+     * @param productId 상품 ID
+     * @param quantity 차감 수량
+     * @param fencingToken 재고 락의 펜싱 토큰
+     * @return 반영 여부 (재고 부족이면 false)
+     * @throws kr.hhplus.be.server.common.lock.StaleFencingTokenException 더 큰 토큰으로 이미 갱신된 경우
+     */
+    boolean reduceStockWithFencing(Long productId, int quantity, Long fencingToken);
 }
\ No newline at end of file
@@ -0,0 +1,316 @@
+package kr.hhplus.be.server.product.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명 역색인 (메모리, bigram posting list)
+ * 
+ * - 상품마다 내부 순번(ordinal)을 부여하고 bigram → 순번 목록(오름차순 int 배열)을 유지
+ * - 검색: 질의 bigram의 posting을 짧은 것부터 교집합 → 후보만 원문 포함 여부 검증 → 점수순 상위 N개
+ *   → 검색 비용이 카탈로그 크기가 아닌 가장 짧은 posting 길이에 비례
+ * - 수정/삭제는 기존 순번을 tombstone 처리하고 새 순번 추가 (posting은 append-only라 항상 정렬 상태)
+ * - tombstone이 일정 비율을 넘으면 살아 있는 상품만으로 다시 색인 (compaction)
+ * 
+ * 읽기/쓰기는 ReadWriteLock으로 보호 - 상품 변경은 드물고 검색은 많다.
+ */
+public class ProductNameIndex {
+
+    private static final double COMPACTION_RATIO = 0.2;
+
+    /**
+     * 점수 내림차순, 같은 점수면 상품 ID 오름차순
+     */
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingLong(Hit::productId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] productIds = new long[1024];
+    private String[] names = new String[1024];
+    private int size;
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+    private Map<Integer, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+
+    public record Hit(long productId, int score) {
+    }
+
+    /**
+     * 상품 추가 또는 이름 변경 반영
+     */
+    public void upsert(long productId, String name) {
+        String normalized = ProductNameTokenizer.normalize(name);
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(productId);
+            if (existing != null) {
+                if (names[existing].equals(normalized)) {
+                    return;
+                }
+                tombstone(existing);
+            }
+            append(productId, normalized);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.remove(productId);
+            if (existing != null) {
+                tombstone(existing);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 limit개 검색 - 질의의 모든 단어를 포함하는 상품만, 일치 품질 점수순
+     */
+    public List<Hit> search(String query, int limit) {
+        String normalizedQuery = ProductNameTokenizer.normalize(query);
+        List<String> terms = ProductNameTokenizer.words(normalizedQuery);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, 1024), HIT_ORDER.reversed());
+            int[] candidates = candidates(terms);
+            if (candidates == null) {
+                // 모든 단어가 한 글자이고 해당 unigram 단어가 없는 경우 등 - 부분 일치는 전체 확인
+                for (int ordinal = 0; ordinal < size; ordinal++) {
+                    collect(ordinal, normalizedQuery, terms, top, limit);
+                }
+            } else {
+                for (int ordinal : candidates) {
+                    collect(ordinal, normalizedQuery, terms, top, limit);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(HIT_ORDER);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 단어의 gram posting 교집합 (짧은 것부터)
+     * 
+     * @return 후보 순번, 교집합을 만들 수 없으면(두 글자 이상 단어가 없음) null
+     */
+    private int[] candidates(List<String> terms) {
+        List<IntList> lists = new ArrayList<>();
+        for (String term : terms) {
+            if (term.length() < 2) {
+                continue; // 한 글자 단어는 다른 단어 안에도 나오므로 검증 단계에서 확인
+            }
+            for (int gram : ProductNameTokenizer.grams(term)) {
+                IntList list = postings.get(gram);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+        }
+        if (lists.isEmpty()) {
+            return null;
+        }
+
+        lists.sort(Comparator.comparingInt(IntList::size));
+        int[] result = Arrays.copyOf(lists.get(0).values, lists.get(0).size);
+        int length = result.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            length = intersect(result, length, lists.get(i));
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * 정렬된 두 목록의 교집합을 result 앞쪽에 덮어씀 - 긴 쪽은 지수 탐색으로 건너뜀
+     */
+    private int intersect(int[] result, int length, IntList other) {
+        int written = 0;
+        int from = 0;
+        for (int i = 0; i < length && from < other.size; i++) {
+            int target = result[i];
+            int found = other.seek(target, from);
+            if (found < other.size && other.values[found] == target) {
+                result[written++] = target;
+                from = found + 1;
+            } else {
+                from = found;
+            }
+        }
+        return written;
+    }
+
+    private void collect(int ordinal, String query, List<String> terms, PriorityQueue<Hit> top, int limit) {
+        if (deleted.get(ordinal)) {
+            return;
+        }
+        String name = names[ordinal];
+        int score = score(name, query, terms);
+        if (score <= 0) {
+            return;
+        }
+        Hit hit = new Hit(productIds[ordinal], score);
+        if (top.size() < limit) {
+            top.offer(hit);
+        } else if (HIT_ORDER.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.offer(hit);
+        }
+    }
+
+    /**
+     * 일치 품질 점수 (0이면 불일치)
+     * 
+     * 전체 일치 > 질의로 시작 > 질의 구문 포함 > 단어 시작 일치 > 단어 포함, 짧은 이름(질의 비중이 큰 이름) 우대
+     */
+    static int score(String name, String query, List<String> terms) {
+        int score = 0;
+        for (String term : terms) {
+            int position = name.indexOf(term);
+            if (position < 0) {
+                return 0;
+            }
+            boolean wordStart = position == 0 || name.charAt(position - 1) == ' ';
+            score += wordStart ? 200 : 100;
+        }
+
+        if (name.equals(query)) {
+            score += 10_000;
+        } else if (name.startsWith(query)) {
+            score += 5_000;
+        } else if (terms.size() > 1 && name.contains(query)) {
+            score += 2_000;
+        }
+        score += 1_000 * query.length() / Math.max(1, name.length());
+        return score;
+    }
+
+    private void append(long productId, String normalized) {
+        if (size == productIds.length) {
+            int capacity = size * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+        }
+        int ordinal = size++;
+        productIds[ordinal] = productId;
+        names[ordinal] = normalized;
+        ordinals.put(productId, ordinal);
+
+        for (String word : ProductNameTokenizer.words(normalized)) {
+            for (int gram : ProductNameTokenizer.grams(word)) {
+                postings.computeIfAbsent(gram, g -> new IntList()).appendUnique(ordinal);
+            }
+        }
+    }
+
+    private void tombstone(int ordinal) {
+        if (!deleted.get(ordinal)) {
+            deleted.set(ordinal);
+            deletedCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount < 1024 || deletedCount < size * COMPACTION_RATIO) {
+            return;
+        }
+        long[] liveIds = new long[size - deletedCount];
+        String[] liveNames = new String[liveIds.length];
+        int live = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (!deleted.get(ordinal)) {
+                liveIds[live] = productIds[ordinal];
+                liveNames[live++] = names[ordinal];
+            }
+        }
+
+        size = 0;
+        deleted.clear();
+        deletedCount = 0;
+        postings = new HashMap<>();
+        ordinals.clear();
+        for (int i = 0; i < live; i++) {
+            append(liveIds[i], liveNames[i]);
+        }
+    }
+
+    /**
+     * 오름차순 int 목록 (posting list)
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void appendUnique(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return; // 같은 이름에 같은 bigram이 여러 번 나온 경우
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1) + 1);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * from 이후에서 target 이상인 첫 위치 (지수 탐색 + 이진 탐색)
+         */
+        int seek(int target, int from) {
+            int bound = 1;
+            while (from + bound < size && values[from + bound] < target) {
+                bound <<= 1;
+            }
+            int low = from + (bound >> 1);
+            int high = Math.min(from + bound, size - 1);
+            if (low > high || values[high] < target) {
+                return high + 1;
+            }
+            int index = Arrays.binarySearch(values, low, high + 1, target);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package kr.hhplus.be.server.product.search;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.product.dto.ProductNameRow;
+import kr.hhplus.be.server.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품명 검색 색인 관리
+ * 
+ * - 기동 워밍업에서 전체 상품명을 id 키셋 페이징으로 읽어 색인 구성 (구성 전에는 isReady=false → DB 검색)
+ * - 상품 생성/수정/삭제는 커밋 이후 로컬 색인에 반영하고 Redis pub/sub로 다른 노드에 전파
+ *   (메시지: "+{id}" 변경 → 수신 노드가 DB에서 이름 조회, "-{id}" 삭제)
+ * - 재구성 중 변경된 상품 ID는 모아 두었다가 교체 직후 DB에서 다시 읽어 새 색인에 반영
+ */
+@Slf4j
+@Component
+public class ProductNameSearchService {
+
+    private static final String TOPIC = "ecommerce:product-search-index";
+
+    private final ProductRepository productRepository;
+    private final ProductSearchProperties properties;
+    private final RedissonClient redissonClient;
+    private final Timer searchTimer;
+
+    private volatile ProductNameIndex index = new ProductNameIndex();
+    private volatile boolean ready;
+
+    /**
+     * 재구성 중 변경된 상품 ID (재구성 중이 아니면 null) - 색인 반영과 교체를 같은 락으로 직렬화
+     */
+    private final Object rebuildLock = new Object();
+    private Set<Long> changedDuringRebuild;
+
+    private RTopic topic;
+    private int listenerId;
+
+    public ProductNameSearchService(ProductRepository productRepository, ProductSearchProperties properties,
+            RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.redissonClient = redissonClient;
+        this.searchTimer = Timer.builder("product.search.index")
+                .description("상품명 색인 검색 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("product.search.index.size", this, service -> service.index.size())
+                .description("색인된 상품 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> apply(message));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    public boolean isReady() {
+        return properties.isEnabled() && ready;
+    }
+
+    /**
+     * 전체 재구성 - 새 색인을 만든 뒤 교체 (구성 중 검색은 기존 색인/DB로)
+     * 
+     * 이미 읽은 페이지의 상품이 구성 중에 바뀌면 새 색인에는 옛 이름이 남으므로,
+     * 그 사이 변경된 ID를 모아 교체 직후 DB 기준으로 다시 반영한다.
+     */
+    public int rebuild() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long startedAt = System.nanoTime();
+        synchronized (rebuildLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        ProductNameIndex rebuilt = new ProductNameIndex();
+        int loaded = 0;
+        Set<Long> changed;
+        try {
+            long afterId = 0L;
+            List<ProductNameRow> page;
+            do {
+                page = productRepository.findNamesAfter(afterId, properties.getBuildPageSize());
+                for (ProductNameRow row : page) {
+                    rebuilt.upsert(row.id(), row.name());
+                    afterId = row.id();
+                }
+                loaded += page.size();
+            } while (page.size() == properties.getBuildPageSize());
+
+            synchronized (rebuildLock) {
+                index = rebuilt;
+                changed = changedDuringRebuild;
+            }
+        } finally {
+            // 구성 실패 시에도 변경 수집을 멈춤 (남겨 두면 이후 모든 변경이 쌓이기만 함)
+            synchronized (rebuildLock) {
+                changedDuringRebuild = null;
+            }
+        }
+        changed.forEach(this::reload);
+        ready = true;
+        log.info("🔎 상품명 색인 구성 완료: products={}, grams={}, replayed={}, {}ms",
+                loaded, rebuilt.gramCount(), changed.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return loaded;
+    }
+
+    /**
+     * 점수순 상품 ID 목록 (maxResults 상한, 0 이하면 전부)
+     */
+    public List<Long> search(String query) {
+        return searchTimer.record(() -> index.search(query, limit()).stream()
+                .map(ProductNameIndex.Hit::productId)
+                .toList());
+    }
+
+    /**
+     * 검색 결과 상한 - 색인 구성 전 DB 검색 경로도 같은 값을 사용
+     */
+    public int limit() {
+        return properties.getMaxResults() > 0 ? properties.getMaxResults() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 상품 생성/이름 변경 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void indexAfterCommit(Long productId, String name) {
+        afterCommit(() -> {
+            upsert(productId, name);
+            publish("+" + productId);
+        });
+    }
+
+    /**
+     * 상품 삭제 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void removeAfterCommit(Long productId) {
+        afterCommit(() -> {
+            remove(productId);
+            publish("-" + productId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 다른 노드의 변경 반영 - 같은 이름이면 색인은 바뀌지 않으므로 자기 메시지를 받아도 무해
+     */
+    private void apply(String message) {
+        try {
+            long productId = Long.parseLong(message.substring(1));
+            if (message.charAt(0) == '-') {
+                remove(productId);
+            } else {
+                reload(productId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("상품명 색인 메시지 처리 실패: message={}", message, e);
+        }
+    }
+
+    /**
+     * DB의 현재 이름으로 반영 (없으면 제거)
+     */
+    private void reload(Long productId) {
+        productRepository.findById(productId).ifPresentOrElse(
+                product -> upsert(productId, product.getName()),
+                () -> remove(productId));
+    }
+
+    private void upsert(Long productId, String name) {
+        synchronized (rebuildLock) {
+            index.upsert(productId, name);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(productId);
+            }
+        }
+    }
+
+    private void remove(Long productId) {
+        synchronized (rebuildLock) {
+            index.remove(productId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(productId);
+            }
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            topic.publish(message);
+        } catch (Exception e) {
+            log.warn("상품명 색인 브로드캐스트 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품명 토크나이저 (한국어 음절 bigram)
+ * 
+ * - NFKC 정규화: 전각 문자 → 반각, 조합형 자모 → 완성형 음절, 라틴 문자는 소문자
+ * - 문자/숫자가 아닌 문자는 단어 구분자로 취급 (공백, 괄호, 하이픈 등)
+ * - 단어마다 음절 bigram을 만든다 ("무선마우스" → 무선, 선마, 마우, 우스) - 형태소 분석 없이 부분 일치 지원
+ * - 한 글자 단어는 unigram 하나로 색인
+ * 
+ * bigram은 두 char를 int 하나로 묶어 표현한다 (unigram은 하위 16비트가 0).
+ */
+public final class ProductNameTokenizer {
+
+    private ProductNameTokenizer() {
+        // 인스턴스 생성 방지
+    }
+
+    /**
+     * 정규화 - 단어 사이는 공백 하나로
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean separator = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && !builder.isEmpty()) {
+                    builder.append(' ');
+                }
+                builder.append(c);
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 단어 목록
+     */
+    public static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i == normalized.length() || normalized.charAt(i) == ' ') {
+                if (i > start) {
+                    words.add(normalized.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 단어의 bigram 키 (한 글자 단어는 unigram 키)
+     */
+    public static int[] grams(String word) {
+        if (word.length() == 1) {
+            return new int[] { key(word.charAt(0), '\0') };
+        }
+        int[] grams = new int[word.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = key(word.charAt(i), word.charAt(i + 1));
+        }
+        return grams;
+    }
+
+    private static int key(char first, char second) {
+        return (first << 16) | second;
+    }
+}
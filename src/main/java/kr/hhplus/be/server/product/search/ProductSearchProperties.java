@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.product.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 상품명 검색 색인 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product-search")
+public class ProductSearchProperties {
+
+    /**
+     * false면 기존 DB LIKE 검색 사용 (색인은 기동 워밍업 단계에서 구성되므로 app.warmup.enabled도 필요)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 검색 결과 최대 건수 (점수 상위, 0 이하: 무제한) - 색인 구성 전 DB LIKE 경로에도 같은 상한 적용
+     */
+    private int maxResults = 0;
+
+    /**
+     * 기동 시 색인 적재 페이지 크기 (id 키셋 페이징)
+     */
+    private int buildPageSize = 10_000;
+}
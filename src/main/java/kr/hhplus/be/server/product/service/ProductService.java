@@ -4,22 +4,33 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.httpcache.ResponseCacheVersions;
 import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.common.lock.LockContext;
 import kr.hhplus.be.server.common.lock.Lockable;
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import kr.hhplus.be.server.order.repository.OrderItemRepository;
 import kr.hhplus.be.server.product.cache.ProductCacheService;
 import kr.hhplus.be.server.product.domain.Product;
 import kr.hhplus.be.server.product.dto.PopularProductResponse;
+import kr.hhplus.be.server.product.dto.ProductCursor;
+import kr.hhplus.be.server.product.dto.ProductPageResponse;
 import kr.hhplus.be.server.product.dto.ProductResponse;
+import kr.hhplus.be.server.product.dto.ProductSearchCondition;
 import kr.hhplus.be.server.product.exception.ProductNotFoundException;
 import kr.hhplus.be.server.product.repository.ProductRepository;
+import kr.hhplus.be.server.product.search.ProductNameSearchService;
+import kr.hhplus.be.server.product.snapshot.ProductCatalogSnapshot;
+import kr.hhplus.be.server.product.snapshot.ProductCatalogSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +43,10 @@ public class ProductService implements Lockable {
     private final ProductRepository productRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductCacheService productCacheService;
+    private final SoldOutRegistry soldOutRegistry;
+    private final ProductNameSearchService productNameSearchService;
+    private final ProductCatalogSnapshotService productCatalogSnapshotService;
+    private final ResponseCacheVersions responseCacheVersions;
 
     private Long currentProductId; // 현재 처리 중인 상품 ID
 
@@ -67,13 +82,59 @@ public class ProductService implements Lockable {
             return getAllProducts();
         }
 
-        List<Product> products = productRepository.findByNameContaining(name.trim());
-        return products.stream()
+        // 색인 구성 전(기동 직후)이나 비활성화 시에는 DB LIKE 검색 (결과 상한은 색인 경로와 동일)
+        if (!productNameSearchService.isReady()) {
+            List<Product> products = productRepository.findByNameContaining(name.trim());
+            return products.stream()
+                    .limit(productNameSearchService.limit())
+                    .map(this::convertToResponse)
+                    .toList();
+        }
+
+        // 색인에서 점수순 ID를 얻고 상세 정보만 PK로 조회 (순서 유지)
+        List<Long> rankedIds = productNameSearchService.search(name.trim());
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> productsById = productRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        return rankedIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    /**
+     * 복합 조건 상품 목록 (키셋 페이징)
+     * 
+     * size + 1건을 읽어 다음 페이지 존재 여부를 판단하고, 마지막 상품으로 다음 커서를 만든다.
+     */
+    public ProductPageResponse queryProducts(ProductSearchCondition condition, int size) {
+        if (condition.minPrice() != null && condition.maxPrice() != null
+                && condition.minPrice().compareTo(condition.maxPrice()) > 0) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+
+        List<Product> products = productRepository.search(condition, size + 1);
+        boolean hasNext = products.size() > size;
+        List<ProductResponse> items = products.stream()
+                .limit(size)
                 .map(this::convertToResponse)
                 .toList();
+        String nextCursor = hasNext
+                ? ProductCursor.after(condition.sort(), items.get(items.size() - 1)).encode()
+                : null;
+        return new ProductPageResponse(items, nextCursor, hasNext);
     }
 
     public List<ProductResponse> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        // 허용 지연 안의 카탈로그 스냅샷이 있으면 이진 탐색으로 처리 (가격 오름차순)
+        Optional<ProductCatalogSnapshot> snapshot = productCatalogSnapshotService.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().findByPriceBetween(minPrice, maxPrice);
+        }
+
         List<Product> products = productRepository.findByPriceBetween(minPrice, maxPrice);
         return products.stream()
                 .map(this::convertToResponse)
@@ -81,6 +142,11 @@ public class ProductService implements Lockable {
     }
 
     public List<ProductResponse> getAvailableProducts() {
+        Optional<ProductCatalogSnapshot> snapshot = productCatalogSnapshotService.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().findAvailable();
+        }
+
         List<Product> products = productRepository.findByStockQuantityGreaterThan(0);
         return products.stream()
                 .map(this::convertToResponse)
@@ -142,6 +208,11 @@ public class ProductService implements Lockable {
     }
 
     public boolean hasEnoughStock(Long productId, int quantity) {
+        // 품절 상품은 DB 조회 없이 즉시 판단
+        if (quantity > 0 && soldOutRegistry.isSoldOut(SoldOutRegistry.Kind.PRODUCT, productId)) {
+            return false;
+        }
+
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
@@ -157,9 +228,20 @@ public class ProductService implements Lockable {
                 .orElseThrow(() -> new ProductNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         product.reduceStock(quantity);
-        productRepository.save(product);
 
-        // 재고 변경 시 캐시 무효화
+        Long fencingToken = LockContext.currentFencingToken(getLockKey(new Object[] { productId }));
+        if (fencingToken == null) {
+            productRepository.save(product);
+        } else if (!productRepository.reduceStockWithFencing(productId, quantity, fencingToken)) {
+            // 조회 이후 재고가 줄어든 경우 (만료된 토큰은 Repository에서 StaleFencingTokenException)
+            throw new kr.hhplus.be.server.product.exception.InsufficientStockException(
+                    ErrorCode.INSUFFICIENT_STOCK,
+                    String.format("재고 부족: 상품 '%s', 요청 %d", product.getName(), quantity));
+        }
+
+        markSoldOutIfEmpty(product);
+
+        // 재고 변경 시 캐시 무효화 (목록 응답은 카탈로그 스냅샷 주기로 반영 - catalog 버전은 올리지 않음)
         productCacheService.evictProductCache(productId);
     }
 
@@ -178,8 +260,9 @@ public class ProductService implements Lockable {
 
         product.reduceStock(quantity);
         productRepository.save(product);
+        markSoldOutIfEmpty(product);
 
-        // 재고 변경 시 캐시 무효화
+        // 재고 변경 시 캐시 무효화 (목록 응답은 카탈로그 스냅샷 주기로 반영 - catalog 버전은 올리지 않음)
         productCacheService.evictProductCache(productId);
     }
 
@@ -190,13 +273,29 @@ public class ProductService implements Lockable {
         product.restoreStock(quantity);
         productRepository.save(product);
 
-        // 재고 복원 시 캐시 무효화
+        // 재입고 - 품절 해제
+        if (product.isAvailable()) {
+            soldOutRegistry.clearSoldOut(SoldOutRegistry.Kind.PRODUCT, productId);
+        }
+
+        // 재고 복원 시 캐시 무효화 (목록 응답은 카탈로그 스냅샷 주기로 반영 - catalog 버전은 올리지 않음)
         productCacheService.evictProductCache(productId);
     }
 
+    /**
+     * 재고가 0이 되면 커밋 이후 품절 등록 (주문 롤백 시 잘못된 품절 방지)
+     */
+    private void markSoldOutIfEmpty(Product product) {
+        if (!product.isAvailable()) {
+            soldOutRegistry.markSoldOutAfterCommit(SoldOutRegistry.Kind.PRODUCT, product.getId());
+        }
+    }
+
     public ProductResponse createProduct(String name, BigDecimal price, Integer stockQuantity) {
         Product product = new Product(name, price, stockQuantity);
         Product savedProduct = productRepository.save(product);
+        productNameSearchService.indexAfterCommit(savedProduct.getId(), savedProduct.getName());
+        responseCacheVersions.bumpAfterCommit(ResponseCacheVersions.CATALOG);
 
         return convertToResponse(savedProduct);
     }
@@ -207,6 +306,8 @@ public class ProductService implements Lockable {
 
         product.updateProductInfo(name, price);
         Product savedProduct = productRepository.save(product);
+        productNameSearchService.indexAfterCommit(savedProduct.getId(), savedProduct.getName());
+        responseCacheVersions.bumpAfterCommit(ResponseCacheVersions.CATALOG);
 
         return convertToResponse(savedProduct);
     }
@@ -216,6 +317,8 @@ public class ProductService implements Lockable {
                 .orElseThrow(() -> new ProductNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
 
         productRepository.delete(product);
+        productNameSearchService.removeAfterCommit(productId);
+        responseCacheVersions.bumpAfterCommit(ResponseCacheVersions.CATALOG);
     }
 
     private ProductResponse convertToResponse(Product product) {
@@ -0,0 +1,261 @@
+package kr.hhplus.be.server.product.snapshot;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import kr.hhplus.be.server.product.dto.ProductResponse;
+
+/**
+ * 상품 카탈로그 컬럼 스냅샷 (불변)
+ * 
+ * 가격(소수 2자리 x100 long) 오름차순, 같은 가격은 id 오름차순으로 정렬한 위치(position)를 기준으로
+ * 컬럼별 원시 타입 배열에 저장한다. (참조가 없는 배열이라 GC가 내부를 추적하지 않고, 교체된 스냅샷은 일반 힙 객체로 회수)
+ * - 가격 범위: 하한/상한 이진 탐색 → 연속 구간
+ * - 재고 있음: id 순으로 모아 둔 재고 있는 위치 목록 (DB 조회 경로와 같은 id 오름차순)
+ * 
+ * 응답에 필요한 상품명(가변 길이)과 생성 시각(DB 조회 경로와 같은 정밀도 유지)은 객체 배열로 둔다.
+ */
+public final class ProductCatalogSnapshot {
+
+    private final int size;
+    private final long[] priceCents;
+    private final long[] productIds;
+    private final int[] stocks;
+    private final LocalDateTime[] createdAts;
+    private final String[] names;
+    private final int[] availablePositions;
+    private final long builtAtMillis;
+
+    private ProductCatalogSnapshot(int size, long[] priceCents, long[] productIds, int[] stocks,
+            LocalDateTime[] createdAts, String[] names, int[] availablePositions, long builtAtMillis) {
+        this.size = size;
+        this.priceCents = priceCents;
+        this.productIds = productIds;
+        this.stocks = stocks;
+        this.createdAts = createdAts;
+        this.names = names;
+        this.availablePositions = availablePositions;
+        this.builtAtMillis = builtAtMillis;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int availableCount() {
+        return availablePositions.length;
+    }
+
+    public long builtAtMillis() {
+        return builtAtMillis;
+    }
+
+    /**
+     * 가격 범위 상품 (가격 오름차순) - 경계 포함, null 경계는 열린 구간
+     */
+    public List<ProductResponse> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        int from = rangeStart(minPrice);
+        int to = rangeEnd(maxPrice);
+        List<ProductResponse> result = new ArrayList<>(Math.max(0, to - from));
+        for (int position = from; position < to; position++) {
+            result.add(toResponse(position));
+        }
+        return result;
+    }
+
+    public int countByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        return Math.max(0, rangeEnd(maxPrice) - rangeStart(minPrice));
+    }
+
+    /**
+     * 재고 있는 상품 (id 오름차순)
+     */
+    public List<ProductResponse> findAvailable() {
+        List<ProductResponse> result = new ArrayList<>(availablePositions.length);
+        for (int position : availablePositions) {
+            result.add(toResponse(position));
+        }
+        return result;
+    }
+
+    private int rangeStart(BigDecimal minPrice) {
+        return minPrice == null ? 0 : lowerBound(toCents(minPrice, RoundingMode.CEILING));
+    }
+
+    private int rangeEnd(BigDecimal maxPrice) {
+        return maxPrice == null ? size : upperBound(toCents(maxPrice, RoundingMode.FLOOR));
+    }
+
+    /**
+     * price >= cents 인 첫 위치
+     */
+    private int lowerBound(long cents) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (priceCents[mid] < cents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * price > cents 인 첫 위치
+     */
+    private int upperBound(long cents) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (priceCents[mid] <= cents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private ProductResponse toResponse(int position) {
+        return new ProductResponse(
+                productIds[position],
+                names[position],
+                BigDecimal.valueOf(priceCents[position], 2),
+                stocks[position],
+                createdAts[position]);
+    }
+
+    private static long toCents(BigDecimal price, RoundingMode rounding) {
+        return price.setScale(2, rounding).unscaledValue().longValueExact();
+    }
+
+    /**
+     * id 순으로 읽은 행을 모아 가격순 컬럼으로 변환 (행 번호 = 추가 순서 = id 순)
+     */
+    public static final class Builder {
+
+        private static final int ROW_BITS = 29;
+        private static final long ROW_MASK = (1L << ROW_BITS) - 1;
+        private static final long MAX_PACKED_CENTS = 1L << (Long.SIZE - 1 - ROW_BITS);
+
+        private long[] ids;
+        private long[] prices;
+        private int[] stockValues;
+        private LocalDateTime[] createdAt;
+        private String[] nameValues;
+        private int count;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            ids = new long[capacity];
+            prices = new long[capacity];
+            stockValues = new int[capacity];
+            createdAt = new LocalDateTime[capacity];
+            nameValues = new String[capacity];
+        }
+
+        public Builder add(long productId, String name, BigDecimal price, int stockQuantity, LocalDateTime createdAtTime) {
+            if (count == ids.length) {
+                int capacity = count * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                stockValues = Arrays.copyOf(stockValues, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+                nameValues = Arrays.copyOf(nameValues, capacity);
+            }
+            ids[count] = productId;
+            nameValues[count] = name;
+            prices[count] = toCents(price, RoundingMode.HALF_UP);
+            stockValues[count] = stockQuantity;
+            createdAt[count] = createdAtTime;
+            count++;
+            return this;
+        }
+
+        public ProductCatalogSnapshot build() {
+            int[] order = sortedOrder();
+
+            long[] priceColumn = new long[count];
+            long[] idColumn = new long[count];
+            LocalDateTime[] createdAtColumn = new LocalDateTime[count];
+            int[] stockColumn = new int[count];
+            String[] sortedNames = new String[count];
+            int[] positionOfRow = new int[count];
+            int availableCount = 0;
+
+            for (int position = 0; position < count; position++) {
+                int row = order[position];
+                priceColumn[position] = prices[row];
+                idColumn[position] = ids[row];
+                createdAtColumn[position] = createdAt[row];
+                stockColumn[position] = stockValues[row];
+                sortedNames[position] = nameValues[row];
+                positionOfRow[row] = position;
+                if (stockValues[row] > 0) {
+                    availableCount++;
+                }
+            }
+
+            // 재고 있는 상품은 행 순서(id 순)로 위치를 모아 둔다
+            int[] availablePositions = new int[availableCount];
+            int next = 0;
+            for (int row = 0; row < count; row++) {
+                if (stockValues[row] > 0) {
+                    availablePositions[next++] = positionOfRow[row];
+                }
+            }
+
+            return new ProductCatalogSnapshot(count, priceColumn, idColumn, stockColumn, createdAtColumn,
+                    sortedNames, availablePositions, System.currentTimeMillis());
+        }
+
+        /**
+         * 가격순 행 번호 - (가격 << 29 | 행 번호)를 long 하나로 묶어 원시 정렬
+         * 
+         * 같은 가격은 행 번호(= id 순으로 추가된 순서) 오름차순이 된다.
+         * price 컬럼(precision 10, scale 2) 최대값이 2^34 미만이라 항상 들어가지만,
+         * 범위를 벗어나면 박싱 안정 정렬로 처리한다.
+         */
+        private int[] sortedOrder() {
+            int[] order = new int[count];
+            boolean packable = count <= ROW_MASK + 1;
+            for (int i = 0; i < count && packable; i++) {
+                packable = prices[i] >= 0 && prices[i] < MAX_PACKED_CENTS;
+            }
+
+            if (packable) {
+                long[] keys = new long[count];
+                for (int i = 0; i < count; i++) {
+                    keys[i] = prices[i] << ROW_BITS | i;
+                }
+                Arrays.sort(keys);
+                for (int i = 0; i < count; i++) {
+                    order[i] = (int) (keys[i] & ROW_MASK);
+                }
+                return order;
+            }
+
+            Integer[] boxed = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, (a, b) -> Long.compare(prices[a], prices[b]));
+            for (int i = 0; i < count; i++) {
+                order[i] = boxed[i];
+            }
+            return order;
+        }
+    }
+}
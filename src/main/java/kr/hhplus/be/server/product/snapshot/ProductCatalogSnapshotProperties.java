@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.product.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 상품 카탈로그 스냅샷 설정 Properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.catalog-snapshot")
+public class ProductCatalogSnapshotProperties {
+
+    /**
+     * false면 가격 범위/재고 있음 목록을 항상 DB에서 조회
+     */
+    private boolean enabled = true;
+
+    /**
+     * 스냅샷 재구성 주기 (직전 구성 완료 기준)
+     */
+    private long refreshIntervalSeconds = 30;
+
+    /**
+     * 허용 지연 상한 - 스냅샷이 이보다 오래되면(재구성 실패 등) DB 조회로 대체
+     */
+    private long maxStalenessSeconds = 120;
+
+    /**
+     * 구성 시 id 키셋 페이지 크기
+     */
+    private int buildPageSize = 10_000;
+}
@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.product.snapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.product.dto.ProductCatalogRow;
+import kr.hhplus.be.server.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 카탈로그 스냅샷 관리
+ * 
+ * - 기동 워밍업에서 최초 구성, 이후 refresh-interval마다 새 스냅샷을 만들어 참조만 교체 (읽기는 잠금 없음)
+ * - 가격/재고는 읽기량에 비해 드물게 바뀌므로 목록 조회는 최대 refresh-interval만큼 지연된 값을 허용
+ *   (주문 시 재고 차감은 항상 DB 기준)
+ * - 재구성이 계속 실패해 max-staleness를 넘기면 current()가 비어 DB 조회로 돌아감
+ */
+@Slf4j
+@Component
+public class ProductCatalogSnapshotService {
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogSnapshotProperties properties;
+    private final Timer refreshTimer;
+    private final Counter staleCounter;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "catalog-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ProductCatalogSnapshot snapshot;
+
+    public ProductCatalogSnapshotService(ProductRepository productRepository,
+            ProductCatalogSnapshotProperties properties, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.refreshTimer = Timer.builder("product.catalog.snapshot.refresh")
+                .description("카탈로그 스냅샷 구성 시간")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("product.catalog.snapshot.stale")
+                .description("스냅샷이 허용 지연을 넘겨 DB로 대체한 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("product.catalog.snapshot.size", this, service -> {
+            ProductCatalogSnapshot current = service.snapshot;
+            return current == null ? 0 : current.size();
+        }).description("스냅샷 상품 수").register(meterRegistry);
+        Gauge.builder("product.catalog.snapshot.age", this, service -> {
+            ProductCatalogSnapshot current = service.snapshot;
+            return current == null ? -1 : (System.currentTimeMillis() - current.builtAtMillis()) / 1000.0;
+        }).description("스냅샷 경과 시간(초)").baseUnit("seconds").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long interval = properties.getRefreshIntervalSeconds();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 허용 지연 안의 스냅샷 (없거나 오래됐으면 empty → 호출자가 DB 조회)
+     */
+    public Optional<ProductCatalogSnapshot> current() {
+        ProductCatalogSnapshot current = snapshot;
+        if (!properties.isEnabled() || current == null) {
+            return Optional.empty();
+        }
+        long ageMillis = System.currentTimeMillis() - current.builtAtMillis();
+        if (ageMillis > TimeUnit.SECONDS.toMillis(properties.getMaxStalenessSeconds())) {
+            staleCounter.increment();
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    /**
+     * 전체 재구성 후 교체
+     */
+    public int refresh() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long startedAt = System.nanoTime();
+        int pageSize = properties.getBuildPageSize();
+        ProductCatalogSnapshot previous = snapshot;
+        ProductCatalogSnapshot.Builder builder = ProductCatalogSnapshot.builder(previous == null ? pageSize : previous.size());
+
+        long afterId = 0L;
+        List<ProductCatalogRow> page;
+        do {
+            page = productRepository.findCatalogRowsAfter(afterId, pageSize);
+            for (ProductCatalogRow row : page) {
+                builder.add(row.id(), row.name(), row.price(), row.stockQuantity(), row.createdAt());
+                afterId = row.id();
+            }
+        } while (page.size() == pageSize);
+
+        ProductCatalogSnapshot rebuilt = builder.build();
+        snapshot = rebuilt;
+        long elapsed = System.nanoTime() - startedAt;
+        refreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("📸 카탈로그 스냅샷 교체: products={}, available={}, {}ms",
+                rebuilt.size(), rebuilt.availableCount(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return rebuilt.size();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 실패해도 직전 스냅샷 유지 - max-staleness를 넘기면 current()가 DB로 돌림
+            log.warn("카탈로그 스냅샷 재구성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -2,18 +2,32 @@ package kr.hhplus.be.server.ranking.service;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.httpcache.ResponseCacheVersions;
+import kr.hhplus.be.server.common.replica.ReplicaRead;
 import kr.hhplus.be.server.order.event.OrderCompletedEvent;
+import kr.hhplus.be.server.order.event.OrderPlacedEvent;
 import kr.hhplus.be.server.product.dto.ProductResponse;
 import kr.hhplus.be.server.product.service.ProductService;
 import kr.hhplus.be.server.ranking.dto.ProductRankingResponse;
@@ -38,6 +52,30 @@ public class ProductRankingService {
     // Redis 키 패턴
     private static final String DAILY_RANKING_KEY_PREFIX = "ranking:product:daily:";
     private static final String WEEKLY_RANKING_KEY_PREFIX = "ranking:product:3days:";
+    private static final String RANKING_VERSION_KEY = ResponseCacheVersions.key(ResponseCacheVersions.RANKING);
+
+    // 랭킹 응답 캐시 버전 증가 구간 - 주문마다 올리지 않고 구간 첫 변경 + 구간 끝 1회
+    private static final long RANKING_VERSION_BUCKET_MS = 5_000L;
+
+    private final AtomicLong rankingVersionBucket = new AtomicLong(-1);
+    private final AtomicBoolean rankingVersionPending = new AtomicBoolean();
+
+    private final ScheduledExecutorService rankingVersionFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ranking-version-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void startRankingVersionFlusher() {
+        rankingVersionFlusher.scheduleWithFixedDelay(this::flushPendingRankingVersion,
+                RANKING_VERSION_BUCKET_MS, RANKING_VERSION_BUCKET_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rankingVersionFlusher.shutdownNow();
+    }
 
     /**
      * 주문 완료 이벤트 처리 - 랭킹 메트릭 수집
@@ -59,6 +97,50 @@ public class ProductRankingService {
         }
     }
 
+    /**
+     * 주문 단위 이벤트 처리 - 주문 항목 전체를 한 번의 파이프라인으로 반영
+     * 
+     * 같은 상품이 여러 줄이면 먼저 합산하고, ZINCRBY N건 + EXPIRE 1건을 한 왕복으로 보낸다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderPlaced(OrderPlacedEvent event) {
+        try {
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            for (int i = 0; i < event.lineCount(); i++) {
+                quantities.merge(event.productIds()[i], event.quantities()[i], Integer::sum);
+            }
+            if (quantities.isEmpty()) {
+                return;
+            }
+
+            String dailyKey = DAILY_RANKING_KEY_PREFIX + LocalDate.now();
+            boolean bumpVersion = shouldBumpRankingVersion();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    quantities.forEach((productId, quantity) ->
+                            operations.opsForZSet().incrementScore(dailyKey, productId.toString(), quantity));
+                    operations.expire(dailyKey, Duration.ofDays(5));
+                    // 랭킹 응답 캐시 버전 - 구간 첫 변경이면 같은 왕복에 포함
+                    if (bumpVersion) {
+                        operations.opsForValue().increment(RANKING_VERSION_KEY);
+                    }
+                    return null;
+                }
+            });
+            if (!bumpVersion) {
+                rankingVersionPending.set(true); // 반영 이후에 표시 - 구간 끝 증가가 점수보다 앞서지 않도록
+            }
+
+            log.info("📊 랭킹 메트릭 수집 (주문 단위): orderId={}, products={}", event.orderId(), quantities.size());
+
+        } catch (Exception e) {
+            log.error("❌ 랭킹 메트릭 수집 실패: orderId={}", event.orderId(), e);
+            // 랭킹 업데이트 실패는 비즈니스 로직에 영향주지 않음
+        }
+    }
+
     /**
      * 일간 랭킹 업데이트
      */
@@ -70,14 +152,47 @@ public class ProductRankingService {
 
         // TTL 설정: 5일 후 자동 만료 (여유롭게 설정)
         redisTemplate.expire(dailyKey, Duration.ofDays(5));
+        if (shouldBumpRankingVersion()) {
+            redisTemplate.opsForValue().increment(RANKING_VERSION_KEY);
+        } else {
+            rankingVersionPending.set(true);
+        }
 
         log.debug("📈 일간 랭킹 업데이트: key={}, productId={}, quantity={}",
                 dailyKey, productId, quantity);
     }
 
+    /**
+     * 이번 구간에 아직 랭킹 버전을 올리지 않았으면 true
+     * 
+     * false면 호출자가 점수 반영 후 pending으로 표시하고, 구간 끝 flush가 한 번 더 올린다.
+     */
+    private boolean shouldBumpRankingVersion() {
+        long bucket = System.currentTimeMillis() / RANKING_VERSION_BUCKET_MS;
+        long last = rankingVersionBucket.get();
+        return last != bucket && rankingVersionBucket.compareAndSet(last, bucket);
+    }
+
+    /**
+     * 구간 끝 버전 증가 - 첫 변경 이후 같은 구간에 반영된 점수 변경이 있었을 때만
+     * (조용한 구간에도 마지막 변경이 응답 캐시 TTL이 아니라 최대 한 구간 안에 반영됨)
+     */
+    void flushPendingRankingVersion() {
+        if (!rankingVersionPending.getAndSet(false)) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().increment(RANKING_VERSION_KEY);
+        } catch (Exception e) {
+            rankingVersionPending.set(true); // 다음 구간에 다시 시도
+            log.warn("랭킹 응답 캐시 버전 증가 실패: error={}", e.getMessage());
+        }
+    }
+
     /**
      * 일간 TOP 랭킹 조회
      */
+    @ReplicaRead
     public List<ProductRankingResponse> getDailyTopProducts(int limit) {
         String dailyKey = DAILY_RANKING_KEY_PREFIX + LocalDate.now();
         return getTopProductsFromKey(dailyKey, limit);
@@ -86,6 +201,7 @@ public class ProductRankingService {
     /**
      * 3일 집계 랭킹 조회 (ZUNIONSTORE 활용)
      */
+    @ReplicaRead
     public List<ProductRankingResponse> getWeeklyTopProducts(int limit) {
         LocalDate today = LocalDate.now();
         String weeklyKey = WEEKLY_RANKING_KEY_PREFIX + today;
@@ -183,6 +299,7 @@ public class ProductRankingService {
     public void clearRankingData(LocalDate date) {
         String dailyKey = DAILY_RANKING_KEY_PREFIX + date;
         redisTemplate.delete(dailyKey);
+        redisTemplate.opsForValue().increment(RANKING_VERSION_KEY);
         log.info("🗑️ 랭킹 데이터 초기화: date={}", date);
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.common.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import kr.hhplus.be.server.coupon.event.CouponIssueEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CodecKafkaDeserializer / CodecKafkaSerializer 단위 테스트
+ */
+class CodecKafkaDeserializerTest {
+
+    private final PayloadCodec codec = new PayloadCodec(JacksonUtils.enhancedObjectMapper(), 0);
+    private final CodecKafkaDeserializer deserializer =
+            new CodecKafkaDeserializer(codec, "kr.hhplus.be.server.*.event");
+
+    @Test
+    @DisplayName("이벤트 패키지의 타입은 __TypeId__ 헤더대로 역직렬화한다")
+    void deserialize_TrustedEventType() {
+        // Given
+        CouponIssueEvent event = CouponIssueEvent.create(1L, 1001L, "REQ-1");
+        RecordHeaders headers = new RecordHeaders();
+        byte[] payload = new CodecKafkaSerializer(codec, new CodecProperties()).serialize("coupon-issue", headers, event);
+
+        // When
+        Object decoded = deserializer.deserialize("coupon-issue", headers, payload);
+
+        // Then
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("이벤트 패키지가 아닌 애플리케이션 타입은 거절한다")
+    void deserialize_RejectsNonEventPackage() {
+        // Given
+        RecordHeaders headers = typeHeader("kr.hhplus.be.server.coupon.domain.Coupon");
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThatThrownBy(() -> deserializer.deserialize("coupon-issue", headers, payload))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("신뢰하지 않는 타입");
+    }
+
+    @Test
+    @DisplayName("애플리케이션 밖의 타입은 거절한다")
+    void deserialize_RejectsForeignType() {
+        // Given
+        RecordHeaders headers = typeHeader(Map.class.getName());
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThatThrownBy(() -> deserializer.deserialize("coupon-issue", headers, payload))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("Kafka 압축 임계값 기본값은 꺼져 있어 큰 값도 JSON 그대로 발행된다")
+    void kafkaCompressionThreshold_DefaultsOff() {
+        // Given
+        CodecProperties properties = new CodecProperties();
+        PayloadCodec kafkaCodec = new PayloadCodec(JacksonUtils.enhancedObjectMapper(),
+                properties.getKafkaCompressionThreshold());
+        Map<String, String> large = Map.of("payload", "x".repeat(4096));
+
+        // When
+        byte[] bytes = new CodecKafkaSerializer(kafkaCodec, properties).serialize("order-completed", large);
+
+        // Then
+        assertThat(PayloadCodec.describe(bytes)).isEqualTo("JSON");
+    }
+
+    private static RecordHeaders typeHeader(String className) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, className.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.common.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PayloadCodec 단위 테스트
+ */
+class PayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Smile로 쓴 값은 Smile 헤더로 저장되고 JSON보다 작으며 원래 값으로 복원된다")
+    void encodeSmile_ShouldRoundTripAndBeSmaller() {
+        // Given
+        PayloadCodec codec = new PayloadCodec(objectMapper, 0);
+        Map<String, Object> value = Map.of("couponId", 1L, "userId", 1001L, "requestId", "REQ-0001");
+
+        // When
+        byte[] json = codec.encode(value, CodecFormat.JSON);
+        byte[] smile = codec.encode(value, CodecFormat.SMILE);
+
+        // Then
+        assertThat(PayloadCodec.describe(smile)).isEqualTo("SMILE");
+        assertThat(smile.length).isLessThan(json.length);
+        assertThat(codec.decode(smile, Map.class)).isEqualTo(codec.decode(json, Map.class));
+    }
+
+    @Test
+    @DisplayName("임계 크기 이상의 값은 LZ4로 압축되고 읽을 때 자동으로 해제된다")
+    void encode_ShouldCompressAboveThreshold() {
+        // Given
+        PayloadCodec codec = new PayloadCodec(objectMapper, 256);
+        Map<String, Object> value = Map.of("description", "반복되는 상품 설명 ".repeat(100));
+
+        // When
+        byte[] encoded = codec.encode(value, CodecFormat.JSON);
+
+        // Then
+        assertThat(PayloadCodec.describe(encoded)).isEqualTo("LZ4");
+        assertThat(codec.decode(encoded, Map.class)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("코덱 도입 전에 저장된 일반 JSON 값도 그대로 읽힌다")
+    void decode_ShouldReadLegacyJson() {
+        // Given
+        PayloadCodec codec = new PayloadCodec(objectMapper, 1024);
+        byte[] legacy = "{\"productId\":1,\"name\":\"노트북\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        Map<?, ?> decoded = codec.decode(legacy, Map.class);
+
+        // Then
+        assertThat(decoded.get("productId")).isEqualTo(1);
+        assertThat(decoded.get("name")).isEqualTo("노트북");
+    }
+}
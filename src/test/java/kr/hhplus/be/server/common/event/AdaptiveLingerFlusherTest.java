@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AdaptiveLingerFlusher linger 결정 단위 테스트
+ *
+ * 시각을 직접 넘겨 발행률을 만든다 (maxLinger 20ms, 목표 배치 50건, minLinger 1ms).
+ */
+class AdaptiveLingerFlusherTest {
+
+    private static final long START = 1_000_000_000L;
+
+    private KafkaProducerProperties properties;
+    private AdaptiveLingerFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KafkaProducerProperties();
+        properties.setMaxLingerMs(20);
+        properties.setTargetBatchRecords(50);
+        properties.setMinLingerMs(1);
+        flusher = new AdaptiveLingerFlusher(null, properties, new SimpleMeterRegistry());
+        flusher.recomputeLinger(START); // 기준 시각
+    }
+
+    @Test
+    @DisplayName("저부하: linger 안에 배치가 차지 않으면 minLinger 후 조기 flush한다")
+    void lowRate_FlushesEarly() {
+        // Given - 100ms에 1건 (50건 모이는 데 5초)
+        flusher.onSend();
+
+        // When
+        long lingerMs = flusher.recomputeLinger(START + TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Then
+        assertThat(lingerMs).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("고부하: linger 안에 배치가 차면 flush하지 않고 Producer 배치에 맡긴다")
+    void highRate_LeavesBatchingToProducer() {
+        // Given - 10ms에 1000건 (50건 모이는 데 0.5ms)
+        for (int i = 0; i < 1000; i++) {
+            flusher.onSend();
+        }
+
+        // When
+        long lingerMs = flusher.recomputeLinger(START + TimeUnit.MILLISECONDS.toNanos(10));
+
+        // Then
+        assertThat(lingerMs).isEqualTo(properties.getMaxLingerMs());
+    }
+
+    @Test
+    @DisplayName("발행률이 떨어지면 Producer 위임에서 조기 flush로 전환된다")
+    void rateDrops_SwitchesToEarlyFlush() {
+        // Given - 고부하 구간
+        for (int i = 0; i < 1000; i++) {
+            flusher.onSend();
+        }
+        long now = START + TimeUnit.MILLISECONDS.toNanos(10);
+        assertThat(flusher.recomputeLinger(now)).isEqualTo(20L);
+
+        // When - 이후 1초마다 1건 (EWMA가 낮아질 때까지)
+        long lingerMs = 0;
+        for (int tick = 0; tick < 20; tick++) {
+            flusher.onSend();
+            now += TimeUnit.SECONDS.toNanos(1);
+            lingerMs = flusher.recomputeLinger(now);
+        }
+
+        // Then
+        assertThat(lingerMs).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.common.event.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * KafkaListenerMetrics 단위 테스트
+ */
+class KafkaListenerMetricsTest {
+
+    @Test
+    @DisplayName("레코드 처리 시 토픽/그룹별 지연과 파티션 Lag가 기록된다")
+    void intercept_ShouldRecordLatencyAndLag() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        KafkaListenerMetrics metrics = new KafkaListenerMetrics(registry, new KafkaListenerMetricsProperties());
+
+        @SuppressWarnings("unchecked")
+        Consumer<String, Object> consumer = mock(Consumer.class);
+        when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata("test-group"));
+        when(consumer.currentLag(any(TopicPartition.class))).thenReturn(OptionalLong.of(42L));
+
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("coupon-issue", 1, 10L,
+                System.currentTimeMillis() - 50, TimestampType.CREATE_TIME, 0, 0, "coupon:1", "payload", new RecordHeaders(),
+                Optional.empty());
+
+        // When
+        metrics.intercept(record, consumer);
+        metrics.success(record, consumer);
+        metrics.afterRecord(record, consumer);
+
+        // Then
+        assertThat(registry.get("kafka.consumer.e2e.latency").tag("topic", "coupon-issue")
+                .tag("group", "test-group").timer().count()).isEqualTo(1);
+        assertThat(registry.get("kafka.consumer.partition.lag").tag("partition", "1").gauge().value())
+                .isEqualTo(42.0);
+
+        List<Map<String, Object>> partitions = metrics.partitionLagSummaries();
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.get(0)).containsEntry("lag", 42L).containsEntry("stale", false);
+    }
+}
@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.common.event.parallel;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.event.retry.RetryTopicRouter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KeyOrderedExecutor 단위 테스트
+ */
+class KeyOrderedExecutorTest {
+
+    @Test
+    @DisplayName("같은 키의 레코드는 제출 순서대로 처리되고 모두 ack된다")
+    void submit_ShouldKeepPerKeyOrder() throws Exception {
+        // Given
+        ParallelConsumerProperties properties = new ParallelConsumerProperties();
+        KeyOrderedExecutor executor = new KeyOrderedExecutor("test", 4, properties, null, new SimpleMeterRegistry());
+        Map<String, List<Long>> processedByKey = new ConcurrentHashMap<>();
+        int records = 200;
+        CountDownLatch acked = new CountDownLatch(records);
+
+        // When
+        for (long offset = 0; offset < records; offset++) {
+            String key = "coupon:" + (offset % 5);
+            long current = offset;
+            executor.submit("coupon-issue", 0, offset, key, null, acked::countDown, (tp, o) -> { },
+                    () -> processedByKey.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(current));
+        }
+
+        // Then
+        assertThat(acked.await(5, TimeUnit.SECONDS)).isTrue();
+        processedByKey.values().forEach(offsets -> assertThat(offsets).isSorted());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("처리 실패 후 재시도 토픽 발행까지 실패하면 ack하지 않고 그 오프셋으로 되감는다")
+    void routeFailure_RewindsToFailedOffset() throws Exception {
+        // Given
+        ParallelConsumerProperties properties = new ParallelConsumerProperties();
+        properties.setMaxAttempts(1);
+        RetryTopicRouter retryTopicRouter = mock(RetryTopicRouter.class);
+        doThrow(new IllegalStateException("브로커 연결 실패")).when(retryTopicRouter).routeFailure(anyString(),
+                anyInt(), anyInt(), anyLong(), any(), any(), any());
+        KeyOrderedExecutor executor = new KeyOrderedExecutor("test", 2, properties, retryTopicRouter,
+                new SimpleMeterRegistry());
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        KeyOrderedExecutor.Rewinder rewinder = mock(KeyOrderedExecutor.Rewinder.class);
+
+        // When
+        executor.submit("coupon-issue", 3, 42L, "coupon:1", null, acknowledgment, rewinder, () -> {
+            throw new IllegalStateException("발급 실패");
+        });
+
+        // Then
+        verify(rewinder, timeout(1000)).rewind(new TopicPartition("coupon-issue", 3), 42L);
+        verify(acknowledgment, after(200).never()).acknowledge();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 발행 중 인터럽트되어도 ack하지 않고 되감는다")
+    void routeInterrupted_RewindsToFailedOffset() throws Exception {
+        // Given
+        ParallelConsumerProperties properties = new ParallelConsumerProperties();
+        properties.setMaxAttempts(1);
+        RetryTopicRouter retryTopicRouter = mock(RetryTopicRouter.class);
+        doThrow(new InterruptedException()).when(retryTopicRouter).routeFailure(anyString(),
+                anyInt(), anyInt(), anyLong(), any(), any(), any());
+        KeyOrderedExecutor executor = new KeyOrderedExecutor("test", 1, properties, retryTopicRouter,
+                new SimpleMeterRegistry());
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        KeyOrderedExecutor.Rewinder rewinder = mock(KeyOrderedExecutor.Rewinder.class);
+
+        // When
+        executor.submit("coupon-issue", 0, 7L, "coupon:2", null, acknowledgment, rewinder, () -> {
+            throw new IllegalStateException("발급 실패");
+        });
+
+        // Then
+        verify(rewinder, timeout(1000)).rewind(new TopicPartition("coupon-issue", 0), 7L);
+        verify(acknowledgment, never()).acknowledge();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("앞선 오프셋이 끝나지 않으면 뒤 오프셋이 완료돼도 커밋 가능 오프셋은 앞에 머문다")
+    void tracker_ShouldAdvanceOnlyContiguously() {
+        // Given
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+        tracker.begin(10);
+        tracker.begin(11);
+        tracker.begin(12);
+
+        // When
+        tracker.complete(11);
+        tracker.complete(12);
+
+        // Then
+        assertThat(tracker.committableOffset()).isEqualTo(10);
+        assertThat(tracker.uncommitted()).isEqualTo(3);
+
+        // When - 가장 오래된 오프셋 완료
+        tracker.complete(10);
+
+        // Then
+        assertThat(tracker.committableOffset()).isEqualTo(13);
+        assertThat(tracker.uncommitted()).isZero();
+    }
+}
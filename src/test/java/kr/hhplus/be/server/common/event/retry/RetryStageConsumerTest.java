@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.common.event.retry;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RetryStageConsumer 파티션 단위 대기 단위 테스트
+ */
+class RetryStageConsumerTest {
+
+    private static final TopicPartition COUPON_STAGE = new TopicPartition("coupon-issue-retry-1s", 0);
+    private static final TopicPartition ORDER_STAGE = new TopicPartition("order-completed-retry-1s", 0);
+
+    private RetryTopicProperties properties;
+    private RetryableRecordHandler couponHandler;
+    private RetryableRecordHandler orderHandler;
+    private MessageListenerContainer container;
+    private ConsumerSeekCallback seekCallback;
+    private RetryStageConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetryTopicProperties();
+        properties.setMaxPauseMs(100L);
+
+        couponHandler = mock(RetryableRecordHandler.class);
+        orderHandler = mock(RetryableRecordHandler.class);
+        RetryableRecordHandlers handlers = new RetryableRecordHandlers();
+        handlers.register("coupon-issue", couponHandler);
+        handlers.register("order-completed", orderHandler);
+
+        container = mock(MessageListenerContainer.class);
+        KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+        when(registry.getListenerContainer("retry-stage-0")).thenReturn(container);
+
+        consumer = new RetryStageConsumer(properties, mock(RetryTopicRouter.class), handlers, registry,
+                new SimpleMeterRegistry());
+        seekCallback = mock(ConsumerSeekCallback.class);
+        consumer.onPartitionsAssigned(Map.of(COUPON_STAGE, 0L, ORDER_STAGE, 0L), seekCallback);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.shutdown();
+    }
+
+    @Test
+    @DisplayName("due-at 이전 레코드는 그 파티션만 멈추고 같은 오프셋으로 되감은 뒤 남은 시간이 지나면 재개한다")
+    void notDue_PausesOnlyItsPartition() throws Exception {
+        // Given
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // When
+        consumer.handle(0, record(COUPON_STAGE, 5L, System.currentTimeMillis() + 60_000L), acknowledgment);
+
+        // Then
+        verify(seekCallback).seek("coupon-issue-retry-1s", 0, 5L);
+        verify(container).pausePartition(COUPON_STAGE);
+        verify(container, never()).pause();
+        verify(acknowledgment, never()).acknowledge();
+        verify(couponHandler, never()).handle(any(), any());
+        verify(container, timeout(1000)).resumePartition(COUPON_STAGE);
+    }
+
+    @Test
+    @DisplayName("한 원본 토픽 단계 파티션이 대기 중이어도 다른 원본 토픽의 due 레코드는 바로 처리한다")
+    void notDue_DoesNotBlockOtherSourceTopic() throws Exception {
+        // Given
+        consumer.handle(0, record(COUPON_STAGE, 5L, System.currentTimeMillis() + 60_000L),
+                mock(Acknowledgment.class));
+        Acknowledgment orderAck = mock(Acknowledgment.class);
+
+        // When
+        consumer.handle(0, record(ORDER_STAGE, 9L, System.currentTimeMillis() - 1L), orderAck);
+
+        // Then
+        verify(orderHandler).handle("key", "payload");
+        verify(orderAck).acknowledge();
+        verify(container, never()).pausePartition(ORDER_STAGE);
+    }
+
+    @Test
+    @DisplayName("되감기 전에 같은 poll로 받은 뒤 레코드는 건너뛰고, 되감은 오프셋이 다시 오면 처리한다")
+    void waitingPartition_SkipsLaterRecordsUntilRewoundOffset() throws Exception {
+        // Given
+        consumer.handle(0, record(COUPON_STAGE, 5L, System.currentTimeMillis() + 60_000L),
+                mock(Acknowledgment.class));
+        Acknowledgment laterAck = mock(Acknowledgment.class);
+        Acknowledgment rewoundAck = mock(Acknowledgment.class);
+
+        // When
+        consumer.handle(0, record(COUPON_STAGE, 6L, System.currentTimeMillis() - 1L), laterAck);
+        consumer.handle(0, record(COUPON_STAGE, 5L, System.currentTimeMillis() - 1L), rewoundAck);
+
+        // Then
+        verify(laterAck, never()).acknowledge();
+        verify(rewoundAck).acknowledge();
+        verify(couponHandler).handle("key", "payload");
+    }
+
+    private static ConsumerRecord<String, Object> record(TopicPartition topicPartition, long offset, long dueAt) {
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(topicPartition.topic(),
+                topicPartition.partition(), offset, "key", "payload");
+        record.headers().add(RetryTopicRouter.DUE_AT_HEADER,
+                ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        return record;
+    }
+}
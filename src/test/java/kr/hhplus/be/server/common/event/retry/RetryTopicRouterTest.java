@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.common.event.retry;
+
+import java.net.SocketTimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RetryTopicRouter 예외 분류 / 단계 토픽 이름 단위 테스트
+ */
+class RetryTopicRouterTest {
+
+    private final RetryTopicProperties properties = new RetryTopicProperties();
+    private final RetryTopicRouter router = new RetryTopicRouter(properties, null, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("일시적 장애 예외는 재시도 대상이다")
+    void isRetryable_TransientFailure() {
+        // When & Then
+        assertThat(router.isRetryable(new IllegalStateException("timeout"))).isTrue();
+        assertThat(router.isRetryable(new RuntimeException(new SocketTimeoutException()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("원인 체인에 재시도 불가 예외가 있으면 바로 DLT 대상이다")
+    void isRetryable_NonRetryableInCauseChain() {
+        // Given
+        RuntimeException wrapped = new RuntimeException("listener failed",
+                new BusinessException(ErrorCode.INVALID_PARAMETER, "잘못된 이벤트"));
+
+        // When & Then
+        assertThat(router.isRetryable(wrapped)).isFalse();
+        assertThat(router.isRetryable(new ClassCastException())).isFalse();
+    }
+
+    @Test
+    @DisplayName("단계 토픽 이름은 지연 시간으로 만들어진다")
+    void stageTopics() {
+        // When & Then
+        assertThat(properties.stageTopic("coupon-issue", 0)).isEqualTo("coupon-issue-retry-1s");
+        assertThat(properties.stageTopic("coupon-issue", 1)).isEqualTo("coupon-issue-retry-10s");
+        assertThat(properties.stageTopics(2)).containsExactly("coupon-issue-retry-60s", "order-completed-retry-60s");
+    }
+}
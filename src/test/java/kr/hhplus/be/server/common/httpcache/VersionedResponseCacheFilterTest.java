@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.common.httpcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * VersionedResponseCacheFilter 단위 테스트
+ */
+class VersionedResponseCacheFilterTest {
+
+    private ResponseCacheVersions versions;
+    private VersionedResponseCacheFilter filter;
+    private AtomicInteger handlerCalls;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties.Endpoint endpoint = new ResponseCacheProperties.Endpoint();
+        endpoint.setName("product-list");
+        endpoint.setPattern("/api/v1/products");
+        endpoint.setVersions(List.of(ResponseCacheVersions.CATALOG));
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEndpoints(List.of(endpoint));
+
+        versions = mock(ResponseCacheVersions.class);
+        filter = new VersionedResponseCacheFilter(properties, versions, new SimpleMeterRegistry());
+        handlerCalls = new AtomicInteger();
+        chain = (request, response) -> {
+            int call = handlerCalls.incrementAndGet();
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 컨트롤러를 다시 호출하지 않고 저장된 바이트와 ETag를 응답한다")
+    void cacheHitWithinVersion() throws Exception {
+        // Given
+        when(versions.stamp(anyList())).thenReturn("1");
+
+        // When
+        MockHttpServletResponse first = execute(get("/api/v1/products"));
+        MockHttpServletResponse second = execute(get("/api/v1/products"));
+
+        // Then
+        assertThat(handlerCalls).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"call\":1}");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(second.getContentType()).isEqualTo("application/json");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답한다")
+    void notModified() throws Exception {
+        // Given
+        when(versions.stamp(anyList())).thenReturn("1");
+        String etag = execute(get("/api/v1/products")).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest conditional = get("/api/v1/products");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        // When
+        MockHttpServletResponse response = execute(conditional);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(handlerCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌거나 쿼리 파라미터가 다르면 새로 만든다 (파라미터 순서는 무관)")
+    void missOnVersionOrParams() throws Exception {
+        // Given
+        when(versions.stamp(anyList())).thenReturn("1", "1", "1", "2");
+        MockHttpServletRequest ab = get("/api/v1/products");
+        ab.addParameter("minPrice", "100");
+        ab.addParameter("maxPrice", "200");
+        MockHttpServletRequest ba = get("/api/v1/products");
+        ba.addParameter("maxPrice", "200");
+        ba.addParameter("minPrice", "100");
+
+        // When
+        execute(ab);
+        execute(ba);
+        execute(get("/api/v1/products"));
+        MockHttpServletResponse afterBump = execute(get("/api/v1/products"));
+
+        // Then
+        assertThat(handlerCalls).hasValue(3);
+        assertThat(afterBump.getContentAsString()).isEqualTo("{\"call\":3}");
+    }
+
+    @Test
+    @DisplayName("대상이 아닌 경로와 200이 아닌 응답은 캐시하지 않는다")
+    void bypass() throws Exception {
+        // Given
+        when(versions.stamp(anyList())).thenReturn("1");
+        FilterChain failing = (request, response) -> {
+            handlerCalls.incrementAndGet();
+            ((jakarta.servlet.http.HttpServletResponse) response).setStatus(500);
+        };
+
+        // When
+        execute(get("/api/v1/products/1"));
+        execute(get("/api/v1/products/1"));
+        filter.doFilter(get("/api/v1/products"), new MockHttpServletResponse(), failing);
+        MockHttpServletResponse retried = execute(get("/api/v1/products"));
+
+        // Then
+        assertThat(handlerCalls).hasValue(4);
+        assertThat(retried.getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.common.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GradientLimiter 단위 테스트
+ */
+class GradientLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("한도만큼 처리 중이면 추가 요청은 대기 없이 거절된다")
+    void tryAcquire_ShouldRejectBeyondLimit() {
+        // Given
+        GradientLimiter limiter = new GradientLimiter(3, 1, 10, 0.2, 100);
+
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+        boolean fourth = limiter.tryAcquire();
+
+        // Then
+        assertThat(first && second && third).isTrue();
+        assertThat(fourth).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("포화 상태에서 지연이 안정적이면 한도가 늘고, 지연이 커지면 한도가 줄어든다")
+    void onComplete_ShouldAdaptToLatency() {
+        // Given
+        GradientLimiter limiter = new GradientLimiter(20, 4, 200, 0.2, 600);
+
+        // When - 안정 구간
+        saturateAndComplete(limiter, FAST, 100);
+        int stableLimit = limiter.getLimit();
+
+        // When - 대기열 형성 구간 (지연 10배)
+        saturateAndComplete(limiter, SLOW, 50);
+        int congestedLimit = limiter.getLimit();
+
+        // Then
+        assertThat(stableLimit).isGreaterThan(20);
+        assertThat(congestedLimit).isLessThan(stableLimit);
+        assertThat(congestedLimit).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("오류로 반납된 요청은 한도 계산에 반영되지 않는다")
+    void onDropped_ShouldOnlyReleasePermit() {
+        // Given
+        GradientLimiter limiter = new GradientLimiter(5, 1, 10, 0.2, 100);
+        limiter.tryAcquire();
+
+        // When
+        limiter.onDropped();
+
+        // Then
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    private void saturateAndComplete(GradientLimiter limiter, long rttNanos, int samples) {
+        for (int i = 0; i < samples; i++) {
+            while (limiter.tryAcquire()) {
+                // 한도까지 채움
+            }
+            limiter.onComplete(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.common.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenBucket 단위 테스트
+ */
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("버스트만큼은 즉시 획득되고, 이후는 채워지는 속도만큼만 허용된다")
+    void tryAcquire_ShouldAllowBurstThenRate() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, 5);
+
+        // When
+        int immediate = 0;
+        while (bucket.tryAcquire()) {
+            immediate++;
+        }
+        Thread.sleep(50); // 100/s → 약 5개 충전
+
+        int refilled = 0;
+        while (bucket.tryAcquire()) {
+            refilled++;
+        }
+
+        // Then
+        assertThat(immediate).isEqualTo(5);
+        assertThat(refilled).isBetween(3, 5);
+    }
+
+    @Test
+    @DisplayName("acquire는 토큰이 채워질 때까지 대기해서 평균 속도를 지킨다")
+    void acquire_ShouldPaceCallers() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(200, 1);
+        long startedAt = System.nanoTime();
+
+        // When - 버스트 1개 + 20개 추가 획득 → 최소 약 100ms
+        for (int i = 0; i < 21; i++) {
+            bucket.acquire();
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(90);
+    }
+}
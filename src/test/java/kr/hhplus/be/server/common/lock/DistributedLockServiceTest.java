@@ -0,0 +1,140 @@
+package kr.hhplus.be.server.common.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.misc.CompletableFutureWrapper;
+
+/**
+ * DistributedLockService 리스 상한 / 펜싱 토큰 단위 테스트
+ */
+class DistributedLockServiceTest {
+
+    private static final String KEY = "ecommerce:product:stock:1";
+
+    private RedissonClient redissonClient;
+    private RLock lock;
+    private LockProperties lockProperties;
+    private DistributedLockService lockService;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        redissonClient = mock(RedissonClient.class);
+        lock = mock(RLock.class);
+        when(redissonClient.getLock(KEY)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.unlockAsync(anyLong())).thenReturn(new CompletableFutureWrapper<>((Void) null));
+
+        lockProperties = new LockProperties();
+        lockProperties.setLeaseMode(LockProperties.LeaseMode.WATCHDOG);
+        lockProperties.setMaxLeaseTime(50L);
+        lockService = new DistributedLockService(redissonClient, lockProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockService.shutdown();
+    }
+
+    @Test
+    @DisplayName("리스 상한이 지나면 락을 획득한 스레드 기준으로만 해제한다 (forceUnlock 금지)")
+    void leaseCap_UnlocksOnlyRecordedOwner() throws InterruptedException {
+        // Given
+        long ownerThreadId = Thread.currentThread().getId();
+
+        // When
+        boolean acquired = lockService.tryLockWithTimeout(KEY, 100L, 1000L);
+
+        // Then
+        assertThat(acquired).isTrue();
+        verify(lock).tryLock(100L, -1L, TimeUnit.MILLISECONDS);
+        verify(lock, timeout(1000)).unlockAsync(ownerThreadId);
+        verify(lock, never()).forceUnlock();
+    }
+
+    @Test
+    @DisplayName("리스 상한 전에 해제하면 상한 감시가 취소되어 다음 보유자의 락을 건드리지 않는다")
+    void leaseCap_CancelledOnRelease() throws InterruptedException {
+        // Given
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        lockService.tryLockWithTimeout(KEY, 100L, 1000L);
+
+        // When
+        lockService.releaseLock(KEY);
+        Thread.sleep(200);
+
+        // Then
+        verify(lock).unlock();
+        verify(lock, never()).unlockAsync(anyLong());
+        verify(lock, never()).forceUnlock();
+    }
+
+    @Test
+    @DisplayName("FIXED 모드는 leaseTime을 그대로 사용하고 리스 상한 감시를 두지 않는다")
+    void fixedMode_NoLeaseCap() throws InterruptedException {
+        // Given
+        lockProperties.setLeaseMode(LockProperties.LeaseMode.FIXED);
+
+        // When
+        lockService.tryLockWithTimeout(KEY, 100L, 1000L);
+        Thread.sleep(200);
+
+        // Then
+        verify(lock).tryLock(100L, 1000L, TimeUnit.MILLISECONDS);
+        verify(lock, never()).unlockAsync(anyLong());
+    }
+
+    @Test
+    @DisplayName("펜싱 토큰은 카운터 키와 만료 시간을 넘겨 Lua 스크립트로 발급한다")
+    @SuppressWarnings("unchecked")
+    void issueFencingToken_UsesScriptWithTtl() {
+        // Given
+        lockProperties.setFencingTokenTtl(60000L);
+        RScript script = mock(RScript.class);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+        when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                any())).thenReturn(1_700_000_000_000_001L);
+
+        // When
+        Long token = lockService.issueFencingToken(KEY);
+
+        // Then
+        assertThat(token).isEqualTo(1_700_000_000_000_001L);
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of(KEY + ":fencing")), eq("60000"));
+    }
+
+    @Test
+    @DisplayName("펜싱이 비활성화되면 토큰을 발급하지 않는다")
+    void issueFencingToken_Disabled() {
+        // Given
+        lockProperties.setFencingEnabled(false);
+
+        // When
+        Long token = lockService.issueFencingToken(KEY);
+
+        // Then
+        assertThat(token).isNull();
+        verify(redissonClient, never()).getScript(any());
+    }
+}
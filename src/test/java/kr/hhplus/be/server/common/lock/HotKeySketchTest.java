@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HotKeySketch 단위 테스트
+ */
+class HotKeySketchTest {
+
+    @Test
+    @DisplayName("용량을 초과하는 키가 들어와도 가장 경합이 심한 키가 상위에 남는다")
+    void top_ShouldKeepHeavyHitter() {
+        // Given
+        HotKeySketch sketch = new HotKeySketch(3);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            sketch.offer("ecommerce:product:stock:1", 1);
+            sketch.offer("ecommerce:product:stock:" + (100 + i), 1); // 한 번씩만 등장하는 키
+        }
+
+        // Then
+        List<HotKeySketch.HotKey> top = sketch.top(1);
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).key()).isEqualTo("ecommerce:product:stock:1");
+        assertThat(top.get(0).count() - top.get(0).error()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("락 키의 마지막 ID 세그먼트를 제거해 family를 만든다")
+    void familyOf_ShouldStripIdSegment() {
+        assertThat(LockMetrics.familyOf("ecommerce:order:process:42")).isEqualTo("ecommerce:order:process");
+        assertThat(LockMetrics.familyOf("ecommerce:product:stock:default")).isEqualTo("ecommerce:product:stock:default");
+    }
+}
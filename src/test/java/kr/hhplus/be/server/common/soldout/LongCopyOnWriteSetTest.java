@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.common.soldout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LongCopyOnWriteSet 단위 테스트
+ */
+class LongCopyOnWriteSetTest {
+
+    @Test
+    @DisplayName("추가한 값은 정렬 상태로 보관되고 중복 추가는 false를 반환한다")
+    void add_KeepsSortedAndRejectsDuplicates() {
+        // Given
+        LongCopyOnWriteSet set = new LongCopyOnWriteSet();
+
+        // When
+        boolean first = set.add(30L);
+        set.add(10L);
+        set.add(20L);
+        boolean duplicate = set.add(10L);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(set.toArray()).containsExactly(10L, 20L, 30L);
+        assertThat(set.contains(20L)).isTrue();
+        assertThat(set.contains(25L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("제거는 실제로 있던 값일 때만 true를 반환하고, 마지막 값까지 제거할 수 있다")
+    void remove_ReturnsWhetherRemoved() {
+        // Given
+        LongCopyOnWriteSet set = new LongCopyOnWriteSet();
+        set.add(1L);
+        set.add(2L);
+
+        // When & Then
+        assertThat(set.remove(3L)).isFalse();
+        assertThat(set.remove(1L)).isTrue();
+        assertThat(set.toArray()).containsExactly(2L);
+        assertThat(set.remove(2L)).isTrue();
+        assertThat(set.size()).isZero();
+        assertThat(set.contains(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("toArray는 복사본이라 바꿔도 집합에 영향이 없고, clear는 모두 비운다")
+    void toArray_ReturnsCopyAndClearEmpties() {
+        // Given
+        LongCopyOnWriteSet set = new LongCopyOnWriteSet();
+        set.add(5L);
+
+        // When
+        long[] snapshot = set.toArray();
+        snapshot[0] = 99L;
+
+        // Then
+        assertThat(set.contains(5L)).isTrue();
+        assertThat(set.contains(99L)).isFalse();
+
+        set.clear();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 추가해도 유실 없이 모든 값이 반영된다")
+    void add_ConcurrentWritersLoseNothing() throws InterruptedException {
+        // Given
+        LongCopyOnWriteSet set = new LongCopyOnWriteSet();
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            executor.submit(() -> {
+                for (long i = 0; i < perThread; i++) {
+                    set.add(base + i);
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(set.size()).isEqualTo(threads * perThread);
+        assertThat(set.toArray()).isSorted();
+    }
+}
@@ -0,0 +1,167 @@
+package kr.hhplus.be.server.common.soldout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.api.listener.StatusListener;
+import org.redisson.client.codec.StringCodec;
+
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry.Kind;
+
+/**
+ * SoldOutRegistry 단위 테스트
+ */
+class SoldOutRegistryTest {
+
+    private RTopic topic;
+    private SoldOutRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getTopic(SoldOutRegistry.TOPIC, StringCodec.INSTANCE)).thenReturn(topic);
+        when(topic.addListener(eq(String.class), any(MessageListener.class))).thenReturn(1);
+
+        SoldOutProperties properties = new SoldOutProperties();
+        properties.setEntryTtlSeconds(60);
+        registry = new SoldOutRegistry(redissonClient, properties);
+        registry.subscribe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.unsubscribe();
+    }
+
+    @Test
+    @DisplayName("소진 표시는 로컬에 즉시 반영하고, 새로 등록된 경우에만 한 번 브로드캐스트한다")
+    void markSoldOut_AppliesLocallyAndPublishesOnce() {
+        // When
+        registry.markSoldOut(Kind.COUPON, 7L);
+        registry.markSoldOut(Kind.COUPON, 7L);
+
+        // Then
+        assertThat(registry.isSoldOut(Kind.COUPON, 7L)).isTrue();
+        assertThat(registry.isSoldOut(Kind.PRODUCT, 7L)).isFalse();
+        verify(topic, times(1)).publish("COUPON:+7");
+    }
+
+    @Test
+    @DisplayName("품절 해제는 로컬에 없어도 다른 노드에 남아 있을 수 있으므로 항상 브로드캐스트한다")
+    void clearSoldOut_AlwaysPublishes() {
+        // Given
+        registry.markSoldOut(Kind.PRODUCT, 3L);
+
+        // When
+        registry.clearSoldOut(Kind.PRODUCT, 3L);
+        registry.clearSoldOut(Kind.PRODUCT, 3L);
+
+        // Then
+        assertThat(registry.isSoldOut(Kind.PRODUCT, 3L)).isFalse();
+        verify(topic, times(2)).publish("PRODUCT:-3");
+    }
+
+    @Test
+    @DisplayName("다른 노드(또는 Lua 스크립트)가 발행한 메시지를 순서대로 적용한다")
+    void apply_FollowsPublishedOrder() {
+        // When - 소진 → 복구 순서로 수신
+        registry.apply(SoldOutRegistry.soldOutMessage(Kind.COUPON, 11L));
+        boolean soldOutAfterFirst = registry.isSoldOut(Kind.COUPON, 11L);
+        registry.apply(SoldOutRegistry.restockMessage(Kind.COUPON, 11L));
+
+        // Then
+        assertThat(soldOutAfterFirst).isTrue();
+        assertThat(registry.isSoldOut(Kind.COUPON, 11L)).isFalse();
+        verify(topic, never()).publish(anyString());
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 메시지는 무시한다")
+    void apply_IgnoresMalformedMessage() {
+        // When
+        registry.apply("UNKNOWN:+1");
+        registry.apply("COUPON:+abc");
+        registry.apply("garbage");
+
+        // Then
+        assertThat(registry.snapshot(Kind.COUPON)).isEmpty();
+        assertThat(registry.snapshot(Kind.PRODUCT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("브로드캐스트가 실패해도 로컬 소진 표시는 유지된다")
+    void markSoldOut_KeepsLocalStateWhenPublishFails() {
+        // Given
+        when(topic.publish(anyString())).thenThrow(new IllegalStateException("Redis 연결 끊김"));
+
+        // When
+        registry.markSoldOut(Kind.COUPON, 5L);
+
+        // Then
+        assertThat(registry.isSoldOut(Kind.COUPON, 5L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("entry-ttl이 지난 로컬 품절 표시는 만료되어 다시 Redis/DB로 확인하게 된다")
+    void expireStale_RemovesOnlyExpiredEntries() {
+        // Given
+        registry.markSoldOut(Kind.COUPON, 1L);
+        registry.apply(SoldOutRegistry.soldOutMessage(Kind.PRODUCT, 2L));
+        long now = System.currentTimeMillis();
+
+        // When - 아직 ttl 안
+        int expiredEarly = registry.expireStale(now + 30_000L);
+
+        // Then
+        assertThat(expiredEarly).isZero();
+        assertThat(registry.isSoldOut(Kind.COUPON, 1L)).isTrue();
+
+        // When - ttl 경과
+        int expired = registry.expireStale(now + 61_000L);
+
+        // Then
+        assertThat(expired).isEqualTo(2);
+        assertThat(registry.isSoldOut(Kind.COUPON, 1L)).isFalse();
+        assertThat(registry.isSoldOut(Kind.PRODUCT, 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토픽을 다시 구독하면 끊긴 동안 놓친 재입고가 있을 수 있으므로 로컬 표시를 모두 비운다")
+    void resubscribe_ClearsLocalEntries() {
+        // Given
+        ArgumentCaptor<StatusListener> statusListener = ArgumentCaptor.forClass(StatusListener.class);
+        verify(topic).addListener(statusListener.capture());
+        registry.markSoldOut(Kind.COUPON, 9L);
+        registry.apply(SoldOutRegistry.soldOutMessage(Kind.PRODUCT, 4L));
+
+        // When
+        statusListener.getValue().onSubscribe(SoldOutRegistry.TOPIC);
+
+        // Then
+        assertThat(registry.snapshot(Kind.COUPON)).isEmpty();
+        assertThat(registry.snapshot(Kind.PRODUCT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("null ID는 품절이 아니다")
+    void isSoldOut_NullIdIsFalse() {
+        assertThat(registry.isSoldOut(Kind.COUPON, null)).isFalse();
+    }
+}
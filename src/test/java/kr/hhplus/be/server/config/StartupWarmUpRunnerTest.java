@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.coupon.domain.Coupon;
+import kr.hhplus.be.server.coupon.repository.CouponRepository;
+import kr.hhplus.be.server.coupon.service.RedisCouponService;
+import kr.hhplus.be.server.product.cache.ProductCacheService;
+import kr.hhplus.be.server.product.search.ProductNameSearchService;
+import kr.hhplus.be.server.product.snapshot.ProductCatalogSnapshotService;
+import kr.hhplus.be.server.ranking.dto.ProductRankingResponse;
+import kr.hhplus.be.server.ranking.service.ProductRankingService;
+
+/**
+ * StartupWarmUpRunner 단위 테스트 - 단계별 실패 격리 / 트래픽 차단
+ */
+@ExtendWith(MockitoExtension.class)
+class StartupWarmUpRunnerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private RedisCouponService redisCouponService;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private ProductRankingService productRankingService;
+
+    @Mock
+    private ProductNameSearchService productNameSearchService;
+
+    @Mock
+    private ProductCatalogSnapshotService productCatalogSnapshotService;
+
+    private WarmUpProperties warmUpProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private StartupWarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        warmUpProperties = new WarmUpProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new StartupWarmUpRunner(warmUpProperties, eventPublisher, couponRepository, redisCouponService,
+                productCacheService, productRankingService, productNameSearchService,
+                productCatalogSnapshotService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("워밍업 동안 트래픽을 차단하고 쿠폰 재고 → 상품 캐시 → 검색 색인 → 스냅샷 순으로 적재한다")
+    @SuppressWarnings("unchecked")
+    void run_WarmsUpAllPhases() {
+        // Given
+        List<Coupon> coupons = List.of(mock(Coupon.class), mock(Coupon.class));
+        when(couponRepository.findAvailableCoupons()).thenReturn(coupons);
+        when(productCacheService.getPopularProducts()).thenReturn(List.of());
+        when(productRankingService.getDailyTopProducts(20)).thenReturn(List.of(ranking(1001L), ranking(1002L)));
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        ArgumentCaptor<AvailabilityChangeEvent<ReadinessState>> event = ArgumentCaptor.forClass(
+                AvailabilityChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+
+        verify(redisCouponService).preloadCouponStocks(coupons);
+        verify(productCacheService).findProductById(1001L);
+        verify(productCacheService).findProductById(1002L);
+        verify(productNameSearchService).rebuild();
+        verify(productCatalogSnapshotService).refresh();
+    }
+
+    @Test
+    @DisplayName("한 단계가 실패해도 기동을 막지 않고 나머지 단계를 계속 실행한다")
+    void run_FailingPhase_DoesNotAbortStartup() {
+        // Given - 쿠폰 재고 / 검색 색인 단계 실패
+        when(couponRepository.findAvailableCoupons())
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+        when(productNameSearchService.rebuild()).thenThrow(new IllegalStateException("색인 구성 실패"));
+        when(productCacheService.getPopularProducts()).thenReturn(List.of());
+        when(productRankingService.getDailyTopProducts(anyInt())).thenReturn(List.of());
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(redisCouponService, never()).preloadCouponStocks(any());
+        verify(productCacheService).getPopularProducts();
+        verify(productCatalogSnapshotService).refresh();
+        for (String phase : List.of("coupon-stock", "product-cache", "product-search-index", "catalog-snapshot")) {
+            assertThat(meterRegistry.get("startup.warmup").tag("phase", phase).timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("워밍업이 비활성화되면 트래픽 차단도 적재도 하지 않는다")
+    void run_Disabled_DoesNothing() {
+        // Given
+        warmUpProperties.setEnabled(false);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(eventPublisher, couponRepository, redisCouponService, productCacheService,
+                productRankingService, productNameSearchService, productCatalogSnapshotService);
+    }
+
+    private static ProductRankingResponse ranking(Long productId) {
+        return new ProductRankingResponse(1, productId, "상품 " + productId, BigDecimal.valueOf(10000), 10, 5L,
+                5.0, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DbAdmissionConfig 후처리기 단위 테스트 - 커넥션 풀만, 풀마다 따로 감싸는지 확인
+ */
+class DbAdmissionConfigTest {
+
+    private DbAdmissionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BeanPostProcessor postProcessor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new DbAdmissionProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<DbAdmissionProperties> propertiesProvider = mock(ObjectProvider.class);
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(propertiesProvider.getObject()).thenReturn(properties);
+        when(meterRegistryProvider.getObject()).thenReturn(meterRegistry);
+        postProcessor = DbAdmissionConfig.dbAdmissionDataSourcePostProcessor(propertiesProvider,
+                meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("HikariDataSource가 아닌 DataSource(라우팅/Lazy 프록시 등)는 감싸지 않는다")
+    void postProcess_NonHikariDataSource_Untouched() {
+        // Given
+        DataSource routing = mock(DataSource.class);
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(routing);
+
+        // When & Then
+        assertThat(postProcessor.postProcessAfterInitialization(routing, "routingDataSource")).isSameAs(routing);
+        assertThat(postProcessor.postProcessAfterInitialization(lazy, "dataSource")).isSameAs(lazy);
+    }
+
+    @Test
+    @DisplayName("primary / replica 풀은 각자 풀 크기만큼의 세마포어를 따로 가진다")
+    void postProcess_EachPoolGetsOwnSemaphore() {
+        // Given
+        HikariDataSource primary = pool(10);
+        HikariDataSource replica = pool(5);
+
+        // When
+        Object wrappedPrimary = postProcessor.postProcessAfterInitialization(primary, "primaryDataSource");
+        Object wrappedReplica = postProcessor.postProcessAfterInitialization(replica, "replicaDataSource");
+
+        // Then
+        assertThat(wrappedPrimary).isInstanceOf(DbAdmissionDataSource.class);
+        assertThat(wrappedReplica).isInstanceOf(DbAdmissionDataSource.class);
+        assertThat(((DbAdmissionDataSource) wrappedPrimary).getTargetDataSource()).isSameAs(primary);
+        assertThat(((DbAdmissionDataSource) wrappedReplica).getTargetDataSource()).isSameAs(replica);
+        assertThat(ReflectionTestUtils.getField(wrappedPrimary, "maxPermits")).isEqualTo(10);
+        assertThat(ReflectionTestUtils.getField(wrappedReplica, "maxPermits")).isEqualTo(5);
+        assertThat(ReflectionTestUtils.getField(wrappedPrimary, "permits"))
+                .isNotSameAs(ReflectionTestUtils.getField(wrappedReplica, "permits"));
+        assertThat(meterRegistry.find("db.admission.in.use").tag("dataSource", "primaryDataSource").gauge())
+                .isNotNull();
+        assertThat(meterRegistry.find("db.admission.in.use").tag("dataSource", "replicaDataSource").gauge())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("지정한 허가 수는 풀 크기를 넘지 않는다")
+    void postProcess_PermitsCappedByPoolSize() {
+        // Given
+        properties.setPermits(20);
+
+        // When
+        Object wrapped = postProcessor.postProcessAfterInitialization(pool(8), "primaryDataSource");
+
+        // Then
+        assertThat(ReflectionTestUtils.getField(wrapped, "maxPermits")).isEqualTo(8);
+    }
+
+    private static HikariDataSource pool(int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+}
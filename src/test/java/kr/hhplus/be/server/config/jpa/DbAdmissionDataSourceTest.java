@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DbAdmissionDataSource 허가 획득/반납 단위 테스트
+ */
+class DbAdmissionDataSourceTest {
+
+    private DataSource target;
+    private SimpleMeterRegistry meterRegistry;
+    private DbAdmissionDataSource admissionDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        meterRegistry = new SimpleMeterRegistry();
+        admissionDataSource = new DbAdmissionDataSource(target, "primary", 1, 50, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가가 반납되어 다음 요청이 입장할 수 있다")
+    void close_ReleasesPermit() throws SQLException {
+        // Given
+        Connection first = admissionDataSource.getConnection();
+        assertThat(inUse()).isEqualTo(1.0);
+
+        // When
+        first.close();
+
+        // Then
+        assertThat(inUse()).isZero();
+        Connection second = admissionDataSource.getConnection();
+        assertThat(second).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 커넥션을 두 번 닫아도 허가는 한 번만 반납된다")
+    void close_Twice_ReleasesOnce() throws SQLException {
+        // Given
+        DbAdmissionDataSource twoPermits = new DbAdmissionDataSource(target, "replica", 2, 50, meterRegistry);
+        Connection first = twoPermits.getConnection();
+        twoPermits.getConnection();
+
+        // When
+        first.close();
+        first.close();
+
+        // Then - 반납은 1개뿐이므로 한 번만 더 입장 가능
+        assertThat(twoPermits.getConnection()).isNotNull();
+        assertThatThrownBy(twoPermits::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("실제 close가 실패해도 허가는 반납된다")
+    void close_FailingDelegate_StillReleasesPermit() throws SQLException {
+        // Given
+        Connection raw = mock(Connection.class);
+        doThrow(new SQLException("close 실패")).when(raw).close();
+        when(target.getConnection()).thenReturn(raw);
+        Connection connection = admissionDataSource.getConnection();
+
+        // When & Then
+        assertThatThrownBy(connection::close).isInstanceOf(SQLException.class);
+        verify(raw).close();
+        assertThat(inUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("풀에서 커넥션 획득이 실패하면 얻었던 허가를 돌려준다")
+    void getConnection_Failure_ReturnsPermit() throws SQLException {
+        // Given
+        when(target.getConnection())
+                .thenThrow(new SQLTransientConnectionException("풀 고갈"))
+                .thenAnswer(invocation -> mock(Connection.class));
+
+        // When & Then
+        assertThatThrownBy(admissionDataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(inUse()).isZero();
+        assertThat(admissionDataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("허가가 모두 사용 중이면 대기 시간 초과 후 빠르게 실패한다")
+    void getConnection_NoPermit_FailsFast() throws SQLException {
+        // Given
+        admissionDataSource.getConnection();
+
+        // When & Then
+        assertThatThrownBy(admissionDataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("DB 입장 대기 시간 초과");
+        assertThat(meterRegistry.get("db.admission.rejected").tag("dataSource", "primary").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private double inUse() {
+        return meterRegistry.get("db.admission.in.use").tag("dataSource", "primary").gauge().value();
+    }
+}
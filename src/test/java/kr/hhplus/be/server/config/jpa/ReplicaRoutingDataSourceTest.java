@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.replica.ReplicaReadAspect;
+
+/**
+ * ReplicaRoutingDataSource 라우팅 규칙 단위 테스트
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaReadAspect replicaReadAspect = new ReplicaReadAspect();
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(
+                mock(DataSource.class), mock(DataSource.class), lagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead 범위의 읽기 전용 트랜잭션은 레플리카로 라우팅된다")
+    void replicaReadRoutesToReplica() throws Throwable {
+        // Given
+        when(lagMonitor.isHealthy()).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object target = lookupWithinReplicaRead();
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+        assertThat(routingCount("replica", "replica-read")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead가 없는 읽기 전용 트랜잭션은 primary로 라우팅된다 (락 범위 조회 보호)")
+    void readOnlyWithoutReplicaReadRoutesToPrimary() {
+        // Given
+        when(lagMonitor.isHealthy()).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object target = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        assertThat(routingCount("primary", "default")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead 범위라도 쓰기 트랜잭션은 primary로 라우팅된다")
+    void writeWithinReplicaReadRoutesToPrimary() throws Throwable {
+        // Given
+        when(lagMonitor.isHealthy()).thenReturn(true);
+
+        // When
+        Object target = lookupWithinReplicaRead();
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 레플리카 읽기도 primary로 폴백한다")
+    void laggingReplicaFallsBackToPrimary() throws Throwable {
+        // Given
+        when(lagMonitor.isHealthy()).thenReturn(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object target = lookupWithinReplicaRead();
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        assertThat(routingCount("primary", "replica-unhealthy")).isEqualTo(1.0);
+        assertThat(routingCount("replica", "replica-read")).isZero();
+    }
+
+    private Object lookupWithinReplicaRead() throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> routingDataSource.determineCurrentLookupKey());
+        return replicaReadAspect.around(joinPoint);
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry.get("db.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.coupon.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import kr.hhplus.be.server.common.test.IntegrationTestBase;
+import kr.hhplus.be.server.coupon.dto.WaitingRoomStatusResponse;
+import kr.hhplus.be.server.coupon.service.CouponWaitingRoomService;
+
+/**
+ * 쿠폰 대기열 종료 통합 테스트
+ *
+ * 입장 스케줄러를 끄고 실제 Redis에서 대기열 종료 스크립트가
+ * 대기자가 있으면 대기열을 유지하고, 비어 있을 때만 닫는지 확인한다.
+ */
+@TestPropertySource(properties = "app.waiting-room.enabled=false")
+@DisplayName("쿠폰 대기열 종료 통합 테스트")
+class CouponWaitingRoomIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private CouponWaitingRoomService waitingRoomService;
+
+    private final Long couponId = ThreadLocalRandom.current().nextLong(1_000_000L, 2_000_000L);
+
+    @AfterEach
+    void tearDown() {
+        waitingRoomService.closeQueue(couponId);
+        waitingRoomService.clearSoldOut(couponId);
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 조건부 종료는 대기열을 유지한다")
+    void closeQueueIfEmpty_KeepsQueueWithWaitingUsers() {
+        // Given
+        waitingRoomService.enter(couponId, 1L);
+
+        // When
+        boolean closed = waitingRoomService.closeQueueIfEmpty(couponId);
+
+        // Then
+        assertThat(closed).isFalse();
+        assertThat(waitingRoomService.getActiveCoupons()).contains(couponId.toString());
+        assertThat(waitingRoomService.getStatus(couponId, 1L).status())
+                .isEqualTo(WaitingRoomStatusResponse.Status.WAITING);
+    }
+
+    @Test
+    @DisplayName("모두 입장하면 조건부 종료로 대기열이 닫히고, 이후 입장하면 다시 열린다")
+    void closeQueueIfEmpty_ClosesEmptyQueueAndReopensOnEnter() {
+        // Given
+        waitingRoomService.enter(couponId, 1L);
+        assertThat(waitingRoomService.admitBatch(couponId, 10)).isEqualTo(1);
+
+        // When
+        boolean closed = waitingRoomService.closeQueueIfEmpty(couponId);
+        waitingRoomService.enter(couponId, 2L);
+
+        // Then
+        assertThat(closed).isTrue();
+        assertThat(waitingRoomService.getActiveCoupons()).contains(couponId.toString());
+        assertThat(waitingRoomService.getQueueSize(couponId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("소진 종료는 남은 대기자와 함께 대기열을 정리한다")
+    void closeQueue_RemovesWaitingUsers() {
+        // Given
+        waitingRoomService.enter(couponId, 1L);
+        waitingRoomService.enter(couponId, 2L);
+
+        // When
+        waitingRoomService.closeQueue(couponId);
+
+        // Then
+        assertThat(waitingRoomService.getActiveCoupons()).doesNotContain(couponId.toString());
+        assertThat(waitingRoomService.getQueueSize(couponId)).isZero();
+    }
+}
@@ -0,0 +1,188 @@
+package kr.hhplus.be.server.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import kr.hhplus.be.server.config.IssuedIndexProperties;
+import kr.hhplus.be.server.config.IssuedIndexProperties.Mode;
+
+/**
+ * CouponIssuedIndex 단위 테스트
+ *
+ * 파이프라인 콜백을 모의 커넥션으로 실행해 전송되는 명령과 왕복 횟수를 확인한다.
+ */
+class CouponIssuedIndexTest {
+
+    private static final long COUPON_ID = 7L;
+    private static final long USER_ID = (3L << 20) + 5L; // 청크 3, 오프셋 5
+    private static final long TTL_SECONDS = 30L * 24 * 60 * 60;
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
+    private IssuedIndexProperties properties;
+    private CouponIssuedIndex issuedIndex;
+
+    private RedisStringCommands stringCommands;
+    private RedisSetCommands setCommands;
+    private RedisKeyCommands keyCommands;
+    private List<Object> pipelineResults = List.of();
+
+    @BeforeEach
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.getValueSerializer()).thenReturn((RedisSerializer) RedisSerializer.json());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        stringCommands = mock(RedisStringCommands.class);
+        setCommands = mock(RedisSetCommands.class);
+        keyCommands = mock(RedisKeyCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.setCommands()).thenReturn(setCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return pipelineResults;
+        });
+
+        properties = new IssuedIndexProperties();
+        issuedIndex = new CouponIssuedIndex(redisTemplate, stringRedisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("DUAL 모드 발급 표시는 SETBIT/SADD/EXPIRE 4개 명령을 파이프라인 한 번으로 보낸다")
+    @SuppressWarnings("unchecked")
+    void markIssued_DualSendsOnePipeline() {
+        // Given
+        properties.setMode(Mode.DUAL);
+
+        // When
+        issuedIndex.markIssued(COUPON_ID, USER_ID);
+
+        // Then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(stringCommands).setBit(bytes("coupon:issued:bitmap:7:3"), 5L, true);
+        verify(keyCommands).expire(bytes("coupon:issued:bitmap:7:3"), TTL_SECONDS);
+        verify(setCommands).sAdd(bytes("coupon:issued:7"), setMember(USER_ID));
+        verify(keyCommands).expire(bytes("coupon:issued:7"), TTL_SECONDS);
+        verify(redisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    @DisplayName("BITMAP 모드는 기존 Set을 건드리지 않는다")
+    void markIssued_BitmapSkipsSet() {
+        // Given
+        properties.setMode(Mode.BITMAP);
+
+        // When
+        issuedIndex.markIssued(COUPON_ID, USER_ID);
+
+        // Then
+        verify(stringCommands).setBit(bytes("coupon:issued:bitmap:7:3"), 5L, true);
+        verify(setCommands, never()).sAdd(any(byte[].class), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("기존 Set 멤버는 redisTemplate 값 직렬화와 같은 바이트로 기록된다")
+    void markIssued_SetMemberMatchesLegacyEncoding() {
+        // Given
+        properties.setMode(Mode.SET);
+
+        // When
+        issuedIndex.markIssued(COUPON_ID, USER_ID);
+
+        // Then
+        verify(setCommands).sAdd(bytes("coupon:issued:7"), setMember(USER_ID));
+        verify(stringCommands, never()).setBit(any(byte[].class), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("DUAL 모드 조회는 Bitmap 또는 기존 Set 중 하나라도 있으면 발급된 것으로 본다")
+    @SuppressWarnings("unchecked")
+    void isIssued_DualChecksBothInOnePipeline() {
+        // Given
+        properties.setMode(Mode.DUAL);
+        pipelineResults = List.of(false, true); // Bitmap 미기록, Set에만 존재 (이관 전)
+
+        // When
+        boolean issued = issuedIndex.isIssued(COUPON_ID, USER_ID);
+
+        // Then
+        assertThat(issued).isTrue();
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(stringCommands).getBit(bytes("coupon:issued:bitmap:7:3"), 5L);
+        verify(setCommands).sIsMember(bytes("coupon:issued:7"), setMember(USER_ID));
+    }
+
+    @Test
+    @DisplayName("DUAL 모드 조회에서 둘 다 없으면 미발급이다")
+    void isIssued_DualNotIssued() {
+        // Given
+        properties.setMode(Mode.DUAL);
+        pipelineResults = List.of(false, false);
+
+        // When & Then
+        assertThat(issuedIndex.isIssued(COUPON_ID, USER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("BITMAP 모드 조회는 GETBIT 한 번만 사용한다")
+    @SuppressWarnings("unchecked")
+    void isIssued_BitmapUsesGetBit() {
+        // Given
+        properties.setMode(Mode.BITMAP);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.getBit("coupon:issued:bitmap:7:3", 5L)).thenReturn(true);
+
+        // When & Then
+        assertThat(issuedIndex.isIssued(COUPON_ID, USER_ID)).isTrue();
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("발급 표시 해제는 모드에 맞는 구조에서 한 번의 파이프라인으로 제거한다")
+    void unmarkIssued_DualClearsBoth() {
+        // Given
+        properties.setMode(Mode.DUAL);
+
+        // When
+        issuedIndex.unmarkIssued(COUPON_ID, USER_ID);
+
+        // Then
+        verify(stringCommands).setBit(bytes("coupon:issued:bitmap:7:3"), 5L, false);
+        verify(setCommands).sRem(bytes("coupon:issued:7"), setMember(USER_ID));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] setMember(long userId) {
+        return RedisSerializer.json().serialize(Long.toString(userId));
+    }
+}
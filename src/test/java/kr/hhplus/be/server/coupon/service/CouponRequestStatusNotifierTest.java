@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
+
+/**
+ * CouponRequestStatusNotifier 단위 테스트
+ */
+class CouponRequestStatusNotifierTest {
+
+    private ValueOperations<String, Object> valueOperations;
+    private RTopic topic;
+    private ObjectMapper objectMapper;
+    private CouponRequestStatusNotifier notifier;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getTopic(CouponRequestStatusNotifier.STATUS_TOPIC, StringCodec.INSTANCE))
+                .thenReturn(topic);
+
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        notifier = new CouponRequestStatusNotifier(redisTemplate, redissonClient, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("상태를 폴링 API와 같은 키에 24시간 TTL로 저장하고 \"requestId|json\"으로 알린다")
+    void update_SavesStatusAndPublishes() throws Exception {
+        // Given
+        AsyncCouponIssueResponse response = completed("req-1");
+        String json = objectMapper.writeValueAsString(response);
+
+        // When
+        notifier.update(response);
+
+        // Then
+        verify(valueOperations).set(RedisCouponService.REQUEST_STATUS_KEY + "req-1", json, Duration.ofHours(24));
+        verify(topic).publish("req-1" + CouponRequestStatusNotifier.SEPARATOR + json);
+    }
+
+    @Test
+    @DisplayName("알림 발행이 실패해도 상태 저장은 유지되고 예외를 전파하지 않는다")
+    void update_PublishFailureIsSwallowed() {
+        // Given
+        when(topic.publish(anyString())).thenThrow(new IllegalStateException("Redis 연결 끊김"));
+
+        // When & Then
+        assertThatCode(() -> notifier.update(completed("req-2"))).doesNotThrowAnyException();
+        verify(valueOperations).set(eq(RedisCouponService.REQUEST_STATUS_KEY + "req-2"),
+                anyString(), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에만 상태를 저장/알린다")
+    void updateAfterCommit_DefersUntilCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        notifier.updateAfterCommit(completed("req-3"));
+
+        // Then - 커밋 전에는 아무것도 하지 않음
+        verify(topic, never()).publish(anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(topic).publish(startsWith("req-3" + CouponRequestStatusNotifier.SEPARATOR));
+    }
+
+    private static AsyncCouponIssueResponse completed(String requestId) {
+        LocalDateTime now = LocalDateTime.now();
+        return AsyncCouponIssueResponse.completed(requestId, now, now, 1L);
+    }
+}
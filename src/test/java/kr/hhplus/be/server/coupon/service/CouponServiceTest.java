@@ -20,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry;
 import kr.hhplus.be.server.coupon.domain.Coupon;
 import kr.hhplus.be.server.coupon.domain.UserCoupon;
 import kr.hhplus.be.server.coupon.dto.AvailableCouponResponse;
@@ -56,6 +57,9 @@ class CouponServiceTest {
         @Mock
         private UserCouponRepository userCouponRepository;
 
+        @Mock
+        private SoldOutRegistry soldOutRegistry;
+
         @InjectMocks
         private CouponService couponService;
 
@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.config.StatusStreamProperties;
+import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
+
+/**
+ * CouponStatusStreamService 단위 테스트
+ */
+class CouponStatusStreamServiceTest {
+
+    private static final String REQUEST_ID = "req-1";
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, Object> valueOperations;
+    private StatusStreamProperties properties;
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private CouponStatusStreamService streamService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RTopic topic = mock(RTopic.class);
+        when(redissonClient.getTopic(CouponRequestStatusNotifier.STATUS_TOPIC, StringCodec.INSTANCE))
+                .thenReturn(topic);
+        when(topic.addListener(eq(String.class), any(MessageListener.class))).thenReturn(1);
+
+        properties = new StatusStreamProperties();
+        objectMapper = spy(JsonMapper.builder().findAndAddModules().build());
+        meterRegistry = new SimpleMeterRegistry();
+        streamService = new CouponStatusStreamService(redisTemplate, redissonClient, properties, objectMapper,
+                meterRegistry);
+        streamService.subscribe();
+    }
+
+    @Test
+    @DisplayName("최종 상태는 JSON 포맷(공백/들여쓰기)과 무관하게 역직렬화한 status로 판단한다")
+    void isTerminal_UsesDeserializedStatus() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        String completedPretty = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(
+                AsyncCouponIssueResponse.completed(REQUEST_ID, now, now, 10L));
+        String failed = objectMapper.writeValueAsString(
+                AsyncCouponIssueResponse.failed(REQUEST_ID, now, now, "재고 소진"));
+        String pending = objectMapper.writeValueAsString(AsyncCouponIssueResponse.pending(REQUEST_ID, now));
+
+        // When & Then
+        assertThat(streamService.isTerminal(completedPretty)).isTrue();
+        assertThat(streamService.isTerminal(failed)).isTrue();
+        assertThat(streamService.isTerminal(pending)).isFalse();
+    }
+
+    @Test
+    @DisplayName("메시지 본문에 최종 상태 문자열이 들어 있어도 status 필드가 아니면 최종 상태가 아니다")
+    void isTerminal_IgnoresStatusTextInOtherFields() {
+        // Given
+        String processing = "{\"requestId\":\"req-1\",\"status\":\"PROCESSING\","
+                + "\"message\":\"\\\"status\\\":\\\"COMPLETED\\\"\"}";
+
+        // When & Then
+        assertThat(streamService.isTerminal(processing)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 상태 JSON은 최종 상태로 보지 않고 연결을 유지한다")
+    void isTerminal_MalformedJsonIsNotTerminal() {
+        assertThat(streamService.isTerminal("not-json")).isFalse();
+    }
+
+    @Test
+    @DisplayName("구독 시 공유 상태 키에서 현재 상태를 조회한다")
+    void open_ReadsCurrentStatusFromSharedKey() {
+        // When
+        streamService.open(REQUEST_ID);
+
+        // Then
+        verify(valueOperations).get(RedisCouponService.REQUEST_STATUS_KEY + REQUEST_ID);
+        assertThat(streamService.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("노드당 최대 연결 수를 넘으면 429로 거절하고 거절 수를 집계한다")
+    void open_RejectsOverMaxConnections() {
+        // Given
+        properties.setMaxConnections(1);
+        streamService.open(REQUEST_ID);
+
+        // When & Then
+        assertThatThrownBy(() -> streamService.open("req-2")).isInstanceOf(BusinessException.class);
+        assertThat(streamService.getConnectionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("coupon.status.stream.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이 노드에 구독자가 없는 요청의 알림은 JSON 해석 없이 버린다")
+    void dispatch_SkipsRequestsWithoutLocalSubscribers() throws Exception {
+        // When
+        streamService.dispatch("other-request" + CouponRequestStatusNotifier.SEPARATOR
+                + "{\"status\":\"COMPLETED\"}");
+        streamService.dispatch("no-separator");
+
+        // Then
+        verify(objectMapper, never()).readValue(anyString(), eq(AsyncCouponIssueResponse.class));
+    }
+}
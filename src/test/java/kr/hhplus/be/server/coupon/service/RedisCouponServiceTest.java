@@ -5,7 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +17,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import kr.hhplus.be.server.common.event.EventPublisher;
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry;
 import kr.hhplus.be.server.coupon.domain.Coupon;
 import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueRequest;
 import kr.hhplus.be.server.coupon.dto.AsyncCouponIssueResponse;
@@ -46,10 +57,16 @@ class RedisCouponServiceTest {
     private ValueOperations<String, Object> valueOperations;
 
     @Mock
-    private SetOperations<String, Object> setOperations;
+    private ZSetOperations<String, Object> zSetOperations;
 
     @Mock
-    private ZSetOperations<String, Object> zSetOperations;
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private CouponIssuedIndex issuedIndex;
 
     @InjectMocks
     private RedisCouponService redisCouponService;
@@ -59,7 +76,6 @@ class RedisCouponServiceTest {
     void requestCouponIssueAsync_ShouldSuccess() throws Exception {
         // Given
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
 
         Long userId = 1L;
@@ -67,7 +83,7 @@ class RedisCouponServiceTest {
         AsyncCouponIssueRequest request = new AsyncCouponIssueRequest(userId, couponId);
 
         // Redis 검증 Mock
-        when(setOperations.isMember(anyString(), anyString())).thenReturn(false); // 중복 발급 아님
+        when(issuedIndex.isIssued(anyLong(), anyLong())).thenReturn(false); // 중복 발급 아님
         when(valueOperations.get(anyString())).thenReturn("10"); // 재고 10개
         when(valueOperations.decrement(anyString())).thenReturn(9L); // 재고 차감 성공
 
@@ -84,9 +100,9 @@ class RedisCouponServiceTest {
         assertThat(response.message()).contains("대기열에 추가");
 
         // Redis 연산 검증
-        verify(setOperations).isMember(contains("coupon:issued:"), eq("1"));
+        verify(issuedIndex).isIssued(100L, 1L);
         verify(valueOperations).decrement(contains("coupon:stock:"));
-        verify(setOperations).add(contains("coupon:issued:"), eq("1"));
+        verify(issuedIndex).markIssued(100L, 1L);
         verify(zSetOperations).add(eq("coupon:queue:processing"), anyString(), anyDouble());
     }
 
@@ -94,14 +110,13 @@ class RedisCouponServiceTest {
     @DisplayName("중복 발급 시 예외가 발생한다")
     void requestCouponIssueAsync_ShouldThrowException_WhenAlreadyIssued() {
         // Given
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations); // saveRequestStatus에서 필요
 
         Long userId = 1L;
         Long couponId = 100L;
         AsyncCouponIssueRequest request = new AsyncCouponIssueRequest(userId, couponId);
 
-        when(setOperations.isMember(anyString(), anyString())).thenReturn(true); // 이미 발급됨
+        when(issuedIndex.isIssued(anyLong(), anyLong())).thenReturn(true); // 이미 발급됨
 
         // When & Then
         assertThatThrownBy(() -> redisCouponService.requestCouponIssueAsync(request))
@@ -116,14 +131,13 @@ class RedisCouponServiceTest {
     @DisplayName("재고 부족 시 예외가 발생한다")
     void requestCouponIssueAsync_ShouldThrowException_WhenStockExhausted() {
         // Given
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
         Long userId = 1L;
         Long couponId = 100L;
         AsyncCouponIssueRequest request = new AsyncCouponIssueRequest(userId, couponId);
 
-        when(setOperations.isMember(anyString(), anyString())).thenReturn(false);
+        when(issuedIndex.isIssued(anyLong(), anyLong())).thenReturn(false);
         when(valueOperations.get(anyString())).thenReturn("0"); // 재고 0개
 
         // When & Then
@@ -137,14 +151,13 @@ class RedisCouponServiceTest {
     @DisplayName("재고 차감 실패 시 예외가 발생한다")
     void requestCouponIssueAsync_ShouldThrowException_WhenDecrementFails() {
         // Given
-        when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
         Long userId = 1L;
         Long couponId = 100L;
         AsyncCouponIssueRequest request = new AsyncCouponIssueRequest(userId, couponId);
 
-        when(setOperations.isMember(anyString(), anyString())).thenReturn(false);
+        when(issuedIndex.isIssued(anyLong(), anyLong())).thenReturn(false);
         when(valueOperations.get(anyString())).thenReturn("5");
         when(valueOperations.decrement(anyString())).thenReturn(-1L); // 재고 차감 후 음수
 
@@ -156,6 +169,49 @@ class RedisCouponServiceTest {
         verify(valueOperations, atLeast(1)).increment(anyString());
     }
 
+    @Test
+    @DisplayName("이벤트 발행이 실패하면 재고 복구와 품절 해제 발행을 한 스크립트로 수행한다")
+    @SuppressWarnings("unchecked")
+    void requestCouponIssueAsync_PublishFailure_RestoresStockAndClearsSoldOut() throws Exception {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        Long userId = 1L;
+        Long couponId = 100L;
+        when(issuedIndex.isIssued(anyLong(), anyLong())).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn("1");
+        when(valueOperations.decrement(anyString())).thenReturn(0L); // 마지막 재고
+        when(eventPublisher.publishEventFuture(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 다운")));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+
+        // When
+        redisCouponService.requestCouponIssueAsync(new AsyncCouponIssueRequest(userId, couponId));
+
+        // Then
+        verify(redisTemplate, timeout(1000)).execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), eq(List.of("coupon:stock:" + couponId)),
+                eq(SoldOutRegistry.TOPIC), eq("COUPON:-" + couponId));
+        verify(issuedIndex, timeout(1000)).unmarkIssued(couponId, userId);
+        verify(valueOperations, never()).increment(anyString());
+    }
+
+    @Test
+    @DisplayName("재고를 차감하기 전(검증 단계)에 실패하면 재고/발급 표시를 되돌리지 않는다")
+    @SuppressWarnings("unchecked")
+    void requestCouponIssueAsync_ValidationFailure_DoesNotRollback() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(issuedIndex.isIssued(anyLong(), anyLong())).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> redisCouponService.requestCouponIssueAsync(new AsyncCouponIssueRequest(1L, 100L)))
+                .isInstanceOf(CouponAlreadyIssuedException.class);
+        verify(issuedIndex, never()).unmarkIssued(anyLong(), anyLong());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class),
+                any(RedisSerializer.class), anyList(), any(), any());
+    }
+
     @Test
     @DisplayName("요청 상태 조회가 정상 동작한다")
     void getRequestStatus_ShouldReturnCorrectStatus() throws Exception {
@@ -267,6 +323,78 @@ class RedisCouponServiceTest {
         assertThat(currentStock).isNull();
     }
 
+    @Test
+    @DisplayName("기동 재고 적재는 한 번의 파이프라인으로 SET NX 하여 재고 키가 없는 쿠폰만 새로 적재한다")
+    @SuppressWarnings("unchecked")
+    void preloadCouponStocks_PipelinedSetIfAbsent() {
+        // Given - 2번 쿠폰은 이미 재고 키가 있음 (SET NX 결과 false)
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        doReturn(RedisSerializer.string()).when(redisTemplate).getKeySerializer();
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of(true, false, true);
+        });
+        List<Coupon> coupons = List.of(stockCoupon(1L, 10), stockCoupon(2L, 20), stockCoupon(3L, 30));
+
+        // When
+        int loaded = redisCouponService.preloadCouponStocks(coupons);
+
+        // Then
+        assertThat(loaded).isEqualTo(2);
+        for (long couponId = 1; couponId <= 3; couponId++) {
+            verify(stringCommands).set(eq(bytes("coupon:stock:" + couponId)), eq(bytes(String.valueOf(couponId * 10))),
+                    any(Expiration.class), eq(RedisStringCommands.SetOption.SET_IF_ABSENT));
+        }
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("파이프라인을 쓸 수 없으면 쿠폰별 SET NX로 대체해 기존 재고 키를 덮어쓰지 않는다")
+    @SuppressWarnings("unchecked")
+    void preloadCouponStocks_FallsBackToSetIfAbsentPerKey() {
+        // Given
+        doReturn(RedisSerializer.string()).when(redisTemplate).getKeySerializer();
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new UnsupportedOperationException("파이프라인 미지원"));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent("coupon:stock:1", "10", Duration.ofDays(30))).thenReturn(true);
+        when(valueOperations.setIfAbsent("coupon:stock:2", "20", Duration.ofDays(30))).thenReturn(false);
+
+        // When
+        int loaded = redisCouponService.preloadCouponStocks(List.of(stockCoupon(1L, 10), stockCoupon(2L, 20)));
+
+        // Then
+        assertThat(loaded).isEqualTo(1);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("적재할 쿠폰이 없으면 Redis를 호출하지 않는다")
+    void preloadCouponStocks_Empty_NoRedisCall() {
+        // When
+        int loaded = redisCouponService.preloadCouponStocks(List.of());
+
+        // Then
+        assertThat(loaded).isZero();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private Coupon stockCoupon(Long couponId, Integer remainingQuantity) {
+        Coupon coupon = mock(Coupon.class);
+        when(coupon.getId()).thenReturn(couponId);
+        when(coupon.getRemainingQuantity()).thenReturn(remainingQuantity);
+        return coupon;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     private Coupon createMockCoupon(Long couponId, Integer remainingQuantity) {
         Coupon coupon = mock(Coupon.class);
         when(coupon.getRemainingQuantity()).thenReturn(remainingQuantity);
@@ -0,0 +1,155 @@
+package kr.hhplus.be.server.coupon.worker;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import kr.hhplus.be.server.config.WaitingRoomProperties;
+import kr.hhplus.be.server.coupon.service.CouponWaitingRoomService;
+
+/**
+ * CouponWaitingRoomAdmitter 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CouponWaitingRoomAdmitterTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    @Mock
+    private CouponWaitingRoomService waitingRoomService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private WaitingRoomProperties properties;
+    private CouponWaitingRoomAdmitter admitter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WaitingRoomProperties();
+        properties.setAdmitRatePerSecond(100);
+        properties.setAdmitIntervalMs(100L); // 배치 10명
+
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(waitingRoomService.getActiveCoupons()).thenReturn(Set.of(COUPON_ID.toString()));
+
+        admitter = new CouponWaitingRoomAdmitter(waitingRoomService, stringRedisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("남은 재고보다 많이 입장시키지 않는다")
+    void admitAll_LimitsBatchToRemainingStock() {
+        // Given
+        when(valueOperations.get("coupon:stock:" + COUPON_ID)).thenReturn("3");
+        when(waitingRoomService.admitBatch(COUPON_ID, 3)).thenReturn(3);
+
+        // When
+        admitter.admitAll();
+
+        // Then
+        verify(waitingRoomService).admitBatch(COUPON_ID, 3);
+        verify(waitingRoomService, never()).closeQueueIfEmpty(anyLong());
+        verify(waitingRoomService, never()).closeQueue(anyLong());
+    }
+
+    @Test
+    @DisplayName("재고가 0이면 Redis에서 재확인한 품절 발행 후 대기열을 종료하고 입장시키지 않는다")
+    void admitAll_SoldOutClosesQueue() {
+        // Given
+        when(valueOperations.get("coupon:stock:" + COUPON_ID)).thenReturn("0");
+        when(waitingRoomService.publishSoldOutIfDepleted(COUPON_ID)).thenReturn(true);
+
+        // When
+        admitter.admitAll();
+
+        // Then
+        verify(waitingRoomService).publishSoldOutIfDepleted(COUPON_ID);
+        verify(waitingRoomService).closeQueue(COUPON_ID);
+        verify(waitingRoomService, never()).admitBatch(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재고를 읽은 뒤 롤백으로 복구됐으면 품절 발행도 대기열 종료도 하지 않는다")
+    void admitAll_RestockedAfterReadKeepsQueue() {
+        // Given
+        when(valueOperations.get("coupon:stock:" + COUPON_ID)).thenReturn("0");
+        when(waitingRoomService.publishSoldOutIfDepleted(COUPON_ID)).thenReturn(false);
+
+        // When
+        admitter.admitAll();
+
+        // Then
+        verify(waitingRoomService, never()).closeQueue(anyLong());
+        verify(waitingRoomService, never()).admitBatch(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("로컬 품절 표시가 남아 있어도 Redis 재고가 있으면 대기열을 닫지 않는다")
+    void admitAll_StaleLocalSoldOutDoesNotCloseQueue() {
+        // Given
+        when(waitingRoomService.isSoldOut(COUPON_ID)).thenReturn(true);
+        when(valueOperations.get("coupon:stock:" + COUPON_ID)).thenReturn("5");
+        when(waitingRoomService.admitBatch(COUPON_ID, 5)).thenReturn(5);
+
+        // When
+        admitter.admitAll();
+
+        // Then
+        verify(waitingRoomService, never()).closeQueue(anyLong());
+        verify(waitingRoomService).admitBatch(COUPON_ID, 5);
+    }
+
+    @Test
+    @DisplayName("입장 인원이 없으면 비어 있을 때만 닫는 원자적 종료를 사용한다")
+    void admitAll_EmptyBatchUsesConditionalClose() {
+        // Given
+        when(valueOperations.get("coupon:stock:" + COUPON_ID)).thenReturn("100");
+        when(waitingRoomService.admitBatch(COUPON_ID, 10)).thenReturn(0);
+
+        // When
+        admitter.admitAll();
+
+        // Then
+        verify(waitingRoomService).closeQueueIfEmpty(COUPON_ID);
+        verify(waitingRoomService, never()).closeQueue(anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이번 틱 락을 잡았으면 아무것도 하지 않는다")
+    void admitAll_SkipsWhenTickLockHeldElsewhere() {
+        // Given
+        when(valueOperations.setIfAbsent(eq("coupon:waiting:tick:" + COUPON_ID), anyString(),
+                any(Duration.class))).thenReturn(false);
+
+        // When
+        admitter.admitAll();
+
+        // Then
+        verify(waitingRoomService, never()).admitBatch(anyLong(), anyInt());
+        verify(waitingRoomService, never()).closeQueueIfEmpty(anyLong());
+    }
+}
@@ -0,0 +1,180 @@
+package kr.hhplus.be.server.dlt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.config.DltProperties;
+import kr.hhplus.be.server.coupon.event.CouponIssueEvent;
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+import kr.hhplus.be.server.dlt.dto.DltReplayJobResponse;
+import kr.hhplus.be.server.dlt.dto.DltReplayRequest;
+import kr.hhplus.be.server.dlt.repository.DeadLetterRecordRepository;
+import kr.hhplus.be.server.order.event.OrderCompletedEvent;
+
+/**
+ * DeadLetterReplayService 단위 테스트
+ *
+ * - id 키셋 페이징 (afterId = 직전 페이지 마지막 id, limit = 남은 건수 상한)
+ * - 페이지 발행 확인 후에만 REPLAYED 표시
+ * - 신뢰 범위 밖 페이로드 타입 거부
+ */
+class DeadLetterReplayServiceTest {
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private DeadLetterRecordRepository repository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private DeadLetterReplayService replayService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(DeadLetterRecordRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+
+        DltProperties dltProperties = new DltProperties();
+        dltProperties.getReplay().setPageSize(2);
+        replayService = new DeadLetterReplayService(repository, kafkaTemplate, objectMapper, dltProperties,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        replayService.shutdown();
+    }
+
+    @Test
+    @DisplayName("id 키셋 페이징으로 직전 페이지 마지막 id 이후를 남은 건수만큼 조회한다")
+    @SuppressWarnings("unchecked")
+    void replay_PagesByIdKeyset() throws Exception {
+        // Given - pageSize 2, 대상 3건
+        when(repository.countPending(isNull(), any(), any())).thenReturn(3L);
+        when(repository.findPendingAfter(isNull(), any(), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(couponRecord(1L), couponRecord(2L)));
+        when(repository.findPendingAfter(isNull(), any(), any(), eq(2L), eq(1)))
+                .thenReturn(List.of(couponRecord(3L)));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        String jobId = replayService.startReplay(new DltReplayRequest(null, null, null, 1000, null)).jobId();
+        DltReplayJobResponse job = awaitFinished(jobId);
+
+        // Then
+        assertThat(job.status()).isEqualTo(DltReplayJobResponse.Status.COMPLETED);
+        assertThat(job.replayed()).isEqualTo(3);
+        InOrder order = inOrder(repository);
+        order.verify(repository).findPendingAfter(isNull(), any(), any(), eq(0L), eq(2));
+        order.verify(repository).markReplayed(eq(List.of(1L, 2L)), any());
+        order.verify(repository).findPendingAfter(isNull(), any(), any(), eq(2L), eq(1));
+        order.verify(repository).markReplayed(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("페이지의 발행이 확인되기 전에는 REPLAYED로 표시하지 않는다")
+    @SuppressWarnings("unchecked")
+    void replay_MarksReplayedOnlyAfterSendCompletes() throws Exception {
+        // Given
+        CompletableFuture<SendResult<String, Object>> sendFuture = new CompletableFuture<>();
+        when(repository.countPending(isNull(), any(), any())).thenReturn(1L);
+        when(repository.findPendingAfter(isNull(), any(), any(), eq(0L), anyInt()))
+                .thenReturn(List.of(couponRecord(1L)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sendFuture);
+
+        // When
+        String jobId = replayService.startReplay(new DltReplayRequest(null, null, null, 1000, null)).jobId();
+        Thread.sleep(200);
+
+        // Then - 발행 미확인 상태에서는 표시 없음
+        verify(kafkaTemplate).send(any(ProducerRecord.class));
+        verify(repository, never()).markReplayed(any(), any());
+        assertThat(replayService.getJob(jobId).status()).isEqualTo(DltReplayJobResponse.Status.RUNNING);
+
+        // When - 브로커 ack 도착
+        sendFuture.complete(mock(SendResult.class));
+        DltReplayJobResponse job = awaitFinished(jobId);
+
+        // Then
+        assertThat(job.replayed()).isEqualTo(1);
+        verify(repository).markReplayed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("이벤트 패키지 밖이거나 DomainEvent가 아닌 페이로드 타입은 재전송하지 않는다")
+    @SuppressWarnings("unchecked")
+    void replay_RejectsUntrustedPayloadTypes() throws Exception {
+        // Given
+        DeadLetterRecord untrusted = record(1L, HashMap.class.getName(), "{}");
+        DeadLetterRecord notDomainEvent = record(2L, OrderCompletedEvent.class.getName(), "{}");
+        when(repository.countPending(isNull(), any(), any())).thenReturn(2L);
+        when(repository.findPendingAfter(isNull(), any(), any(), eq(0L), anyInt()))
+                .thenReturn(List.of(untrusted, notDomainEvent));
+
+        // When
+        String jobId = replayService.startReplay(new DltReplayRequest(null, null, null, 1000, null)).jobId();
+        DltReplayJobResponse job = awaitFinished(jobId);
+
+        // Then
+        assertThat(job.failed()).isEqualTo(2);
+        assertThat(job.replayed()).isZero();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        verify(repository).markReplayed(eq(List.of()), any());
+    }
+
+    private DltReplayJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        DltReplayJobResponse job = replayService.getJob(jobId);
+        while (job.status() == DltReplayJobResponse.Status.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = replayService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private DeadLetterRecord couponRecord(long id) throws Exception {
+        CouponIssueEvent event = CouponIssueEvent.create(1L, id, "request-" + id);
+        return record(id, CouponIssueEvent.class.getName(), objectMapper.writeValueAsString(event));
+    }
+
+    private static DeadLetterRecord record(long id, String payloadType, String payload) {
+        DeadLetterRecord record = DeadLetterRecord.builder()
+                .sourceTopic("coupon-issue")
+                .dltTopic("coupon-issue.DLT")
+                .dltOffset(id)
+                .recordKey("coupon:1")
+                .eventType("COUPON_ISSUE")
+                .payloadType(payloadType)
+                .payload(payload)
+                .failedAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(record, "id", id);
+        return record;
+    }
+}
@@ -0,0 +1,103 @@
+package kr.hhplus.be.server.dlt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.support.JacksonUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.coupon.event.CouponIssueEvent;
+import kr.hhplus.be.server.dlt.domain.DeadLetterRecord;
+import kr.hhplus.be.server.dlt.repository.DeadLetterRecordRepository;
+
+/**
+ * DeadLetterStoreService 일괄 저장 멱등성 단위 테스트
+ */
+class DeadLetterStoreServiceTest {
+
+    private static final String DLT_TOPIC = "coupon-issue.DLT";
+
+    private DeadLetterRecordRepository repository;
+    private DeadLetterStoreService storeService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DeadLetterRecordRepository.class);
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        storeService = new DeadLetterStoreService(repository, JacksonUtils.enhancedObjectMapper(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("재전달된 배치는 DLT 토픽/파티션/오프셋이 이미 저장된 레코드를 건너뛰고 나머지만 저장한다")
+    @SuppressWarnings("unchecked")
+    void storeAll_SkipsAlreadyStoredCoordinates() {
+        // Given - 파티션 0의 5번은 이미 저장됨, 파티션 1의 5번은 다른 좌표
+        when(repository.findStoredOffsets(DLT_TOPIC, 0, 5L, 6L)).thenReturn(List.of(5L));
+        when(repository.findStoredOffsets(DLT_TOPIC, 1, 5L, 5L)).thenReturn(List.of());
+        List<ConsumerRecord<String, Object>> records = List.of(
+                record(0, 5L, "event-1"),
+                record(0, 6L, "event-2"),
+                record(1, 5L, "event-3"));
+
+        // When
+        int stored = storeService.storeAll(records);
+
+        // Then
+        ArgumentCaptor<List<DeadLetterRecord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        assertThat(stored).isEqualTo(2);
+        assertThat(saved.getValue())
+                .extracting(DeadLetterRecord::getDltPartition, DeadLetterRecord::getDltOffset)
+                .containsExactlyInAnyOrder(
+                        tuple(0, 6L),
+                        tuple(1, 5L));
+        assertThat(saved.getValue()).allSatisfy(record -> {
+            assertThat(record.getDltTopic()).isEqualTo(DLT_TOPIC);
+            assertThat(record.getSourceTopic()).isEqualTo("coupon-issue");
+            assertThat(record.getPayloadType()).isEqualTo(CouponIssueEvent.class.getName());
+        });
+    }
+
+    @Test
+    @DisplayName("같은 배치를 두 번 받아도 두 번째에는 아무것도 저장하지 않는다")
+    void storeAll_SameBatchTwiceStoresOnce() {
+        // Given
+        List<ConsumerRecord<String, Object>> records = List.of(record(0, 10L, "event-1"), record(0, 11L, "event-2"));
+        when(repository.findStoredOffsets(DLT_TOPIC, 0, 10L, 11L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(10L, 11L));
+
+        // When
+        int first = storeService.storeAll(records);
+        int second = storeService.storeAll(records);
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+    }
+
+    private static ConsumerRecord<String, Object> record(int partition, long offset, String eventId) {
+        CouponIssueEvent event = CouponIssueEvent.builder()
+                .eventId(eventId)
+                .couponId(1L)
+                .userId(2L)
+                .requestId("request-" + eventId)
+                .issuedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .occurredAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+        return new ConsumerRecord<>(DLT_TOPIC, partition, offset, "coupon:1", event);
+    }
+}
@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.external.dataplatform;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.event.DomainEvent;
+import kr.hhplus.be.server.common.event.retry.RetryTopicRouter;
+
+/**
+ * DataPlatformBatchDispatcher 확인/되감기 단위 테스트
+ *
+ * 배치 크기 2로 두 번째 제출에서 바로 전송되게 하고, 전송 스레드의 결과를 timeout 검증으로 기다린다.
+ */
+class DataPlatformBatchDispatcherTest {
+
+    private static final String TOPIC = "order-completed";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private DataPlatformClient client;
+    private RetryTopicRouter retryTopicRouter;
+    private DataPlatformBatchDispatcher.Rewinder rewinder;
+    private DataPlatformBatchDispatcher dispatcher;
+
+    private final Acknowledgment firstAck = mock(Acknowledgment.class);
+    private final Acknowledgment secondAck = mock(Acknowledgment.class);
+    private final DomainEvent firstEvent = mock(DomainEvent.class);
+    private final DomainEvent secondEvent = mock(DomainEvent.class);
+
+    @BeforeEach
+    void setUp() {
+        client = mock(DataPlatformClient.class);
+        retryTopicRouter = mock(RetryTopicRouter.class);
+        rewinder = mock(DataPlatformBatchDispatcher.Rewinder.class);
+
+        DataPlatformProperties properties = new DataPlatformProperties();
+        properties.getBatch().setMaxSize(2);
+        properties.getBatch().setMaxAttempts(1);
+        properties.getBatch().setLingerMs(60000);
+        dispatcher = new DataPlatformBatchDispatcher(client, properties, retryTopicRouter, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("배치 전송이 확인되면 모든 이벤트를 ack하고 되감지 않는다")
+    void delivered_AcksAll() {
+        // Given
+        when(client.sendBatchEventData(anyList())).thenReturn(DataPlatformResponse.success("m-1"));
+
+        // When
+        submitBoth();
+
+        // Then
+        verify(firstAck, timeout(1000)).acknowledge();
+        verify(secondAck, timeout(1000)).acknowledge();
+        verify(rewinder, never()).rewind(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("전송 실패 배치를 재시도 토픽으로 모두 넘기면 ack하고 되감지 않는다")
+    void deadLettered_AcksAll() throws Exception {
+        // Given
+        when(client.sendBatchEventData(anyList())).thenReturn(DataPlatformResponse.failure("503"));
+
+        // When
+        submitBoth();
+
+        // Then
+        verify(secondAck, timeout(1000)).acknowledge();
+        verify(firstAck).acknowledge();
+        verify(retryTopicRouter).routeFailure(eq(TOPIC), eq(RetryTopicRouter.MAIN_STAGE), eq(0), eq(11L),
+                any(), eq(secondEvent), any());
+        verify(rewinder, never()).rewind(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 발행이 실패하면 그 이벤트 오프셋으로 되감고 이후 이벤트는 ack하지 않는다")
+    void deadLetterPublishFailure_RewindsToFailedOffset() throws Exception {
+        // Given
+        when(client.sendBatchEventData(anyList())).thenReturn(DataPlatformResponse.failure("503"));
+        doNothing().when(retryTopicRouter).routeFailure(anyString(), eq(RetryTopicRouter.MAIN_STAGE), eq(0),
+                eq(10L), any(), any(), any());
+        doThrow(new IllegalStateException("브로커 연결 실패")).when(retryTopicRouter).routeFailure(anyString(),
+                eq(RetryTopicRouter.MAIN_STAGE), eq(0), eq(11L), any(), any(), any());
+
+        // When
+        submitBoth();
+
+        // Then
+        verify(rewinder, timeout(1000)).rewind(PARTITION, 11L);
+        verify(firstAck).acknowledge();
+        verify(secondAck, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 발행 중 인터럽트되면 첫 미확인 오프셋으로 되감는다")
+    void deadLetterInterrupted_RewindsToFirstUnacked() throws Exception {
+        // Given
+        when(client.sendBatchEventData(anyList())).thenReturn(DataPlatformResponse.failure("503"));
+        doThrow(new InterruptedException()).when(retryTopicRouter).routeFailure(anyString(), anyInt(),
+                anyInt(), anyLong(), any(), any(), any());
+
+        // When
+        submitBoth();
+
+        // Then
+        verify(rewinder, timeout(1000)).rewind(PARTITION, 10L);
+        verify(firstAck, after(200).never()).acknowledge();
+        verify(secondAck, never()).acknowledge();
+    }
+
+    private void submitBoth() {
+        dispatcher.submit(TOPIC, 0, 10L, firstEvent, firstAck, rewinder);
+        dispatcher.submit(TOPIC, 0, 11L, secondEvent, secondAck, rewinder);
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
@@ -21,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 import kr.hhplus.be.server.balance.application.ChargeBalanceUseCase;
 import kr.hhplus.be.server.balance.domain.UserBalance;
 import kr.hhplus.be.server.balance.repository.UserBalanceRepository;
+import kr.hhplus.be.server.common.lock.DistributedLockService;
 import kr.hhplus.be.server.config.TestcontainersConfiguration;
 import kr.hhplus.be.server.coupon.application.IssueCouponUseCase;
 import kr.hhplus.be.server.coupon.domain.Coupon;
@@ -56,6 +59,12 @@ class DistributedLockIntegrationTest {
     @Autowired
     private TestDataHelper testDataHelper;
 
+    @Autowired
+    private DistributedLockService distributedLockService;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -218,4 +227,23 @@ class DistributedLockIntegrationTest {
         log.info("잔액 충전 결과 - 성공: {}, 최종 잔액: {}",
                 successCount.get(), updatedBalance.getBalance());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("펜싱 카운터 키가 사라져도(flush/만료) 다음 토큰은 이전 토큰보다 크고 만료 시간이 설정된다")
+    void 펜싱_카운터_유실후에도_단조_증가() {
+        // Given
+        String lockKey = "ecommerce:test:fencing:" + System.nanoTime();
+        String counterKey = lockKey + ":fencing";
+        Long first = distributedLockService.issueFencingToken(lockKey);
+        Long second = distributedLockService.issueFencingToken(lockKey);
+
+        // When - Redis flush/페일오버로 카운터 유실
+        redissonClient.getKeys().delete(counterKey);
+        Long afterReset = distributedLockService.issueFencingToken(lockKey);
+
+        // Then
+        assertThat(second).isGreaterThan(first);
+        assertThat(afterReset).isGreaterThan(second);
+        assertThat(redissonClient.getBucket(counterKey, StringCodec.INSTANCE).remainTimeToLive()).isPositive();
+    }
+}
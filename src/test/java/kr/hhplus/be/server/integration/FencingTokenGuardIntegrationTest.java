@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import kr.hhplus.be.server.balance.exception.InsufficientBalanceException;
+import kr.hhplus.be.server.balance.repository.UserBalanceRepository;
+import kr.hhplus.be.server.common.lock.StaleFencingTokenException;
+import kr.hhplus.be.server.common.test.IntegrationTestBase;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.repository.ProductRepository;
+import kr.hhplus.be.server.support.TestDataHelper;
+
+/**
+ * 펜싱 토큰 가드 UPDATE 통합 테스트
+ *
+ * 가드 UPDATE가 0건일 때 재고/잔액 부족과 만료된 토큰을 구분하는지 확인한다.
+ */
+@DisplayName("펜싱 토큰 가드 통합 테스트")
+class FencingTokenGuardIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserBalanceRepository userBalanceRepository;
+
+    @Autowired
+    private TestDataHelper testDataHelper;
+
+    @Test
+    @DisplayName("재고가 부족하면 펜싱 거부가 아니라 false를 반환한다")
+    void 재고부족은_펜싱거부가_아니다() {
+        // Given
+        Product product = testDataHelper.createTestProduct(generateUniqueProductName("펜싱재고"),
+                BigDecimal.valueOf(10000), 3);
+
+        // When
+        boolean reduced = productRepository.reduceStockWithFencing(product.getId(), 5, 100L);
+
+        // Then
+        assertThat(reduced).isFalse();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("더 큰 토큰으로 갱신된 상품에 작은 토큰으로 차감하면 펜싱 거부된다")
+    void 만료된_토큰은_재고_차감_거부() {
+        // Given
+        Product product = testDataHelper.createTestProduct(generateUniqueProductName("펜싱토큰"),
+                BigDecimal.valueOf(10000), 10);
+        assertThat(productRepository.reduceStockWithFencing(product.getId(), 1, 200L)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> productRepository.reduceStockWithFencing(product.getId(), 1, 100L))
+                .isInstanceOf(StaleFencingTokenException.class);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("잔액 가드 차감도 잔액 부족과 만료된 토큰을 구분한다")
+    void 잔액_부족과_펜싱거부_구분() {
+        // Given
+        Long userId = generateUniqueUserId();
+        testDataHelper.createUserBalanceWithAmount(userId, BigDecimal.valueOf(1000));
+        userBalanceRepository.deductBalanceWithTransaction(userId, BigDecimal.valueOf(500), "order-1", 200L);
+
+        // When & Then - 토큰은 유효하지만 잔액 부족
+        assertThatThrownBy(() -> userBalanceRepository.deductBalanceWithTransaction(
+                userId, BigDecimal.valueOf(600), "order-2", 300L))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        // When & Then - 잔액은 충분하지만 만료된 토큰
+        assertThatThrownBy(() -> userBalanceRepository.deductBalanceWithTransaction(
+                userId, BigDecimal.valueOf(100), "order-3", 100L))
+                .isInstanceOf(StaleFencingTokenException.class);
+    }
+}
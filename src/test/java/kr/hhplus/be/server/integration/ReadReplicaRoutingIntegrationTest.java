@@ -0,0 +1,290 @@
+package kr.hhplus.be.server.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.lifecycle.Startables;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.replica.ReplicaRead;
+import kr.hhplus.be.server.config.jpa.ReplicaLagMonitor;
+import kr.hhplus.be.server.product.application.GetProductsUseCase;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.dto.ProductResponse;
+import kr.hhplus.be.server.product.repository.ProductRepository;
+
+/**
+ * 읽기 레플리카 라우팅 통합 테스트
+ *
+ * MySQL 두 대를 GTID 복제(source → replica)로 묶고
+ * - @ReplicaRead 읽기 전용 트랜잭션은 replica(server_id=2)에서,
+ * - 쓰기와 표시 없는 읽기 전용 트랜잭션은 source(server_id=1)에서 처리되는지,
+ * - 복제가 멈추면 읽기가 source로 폴백되는지 확인한다.
+ */
+@SpringBootTest
+@Import(ReadReplicaRoutingIntegrationTest.ServerIdProbe.class)
+@ActiveProfiles("test")
+@DisplayName("읽기 레플리카 라우팅 통합 테스트")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String SOURCE_ALIAS = "mysql-source";
+    private static final long SOURCE_SERVER_ID = 1L;
+    private static final long REPLICA_SERVER_ID = 2L;
+
+    private static final Network network = Network.newNetwork();
+    private static final MySQLContainer<?> source = mysql(SOURCE_SERVER_ID).withNetworkAliases(SOURCE_ALIAS);
+    private static final MySQLContainer<?> replica = mysql(REPLICA_SERVER_ID);
+
+    static {
+        // 스키마 생성(DDL)이 복제되도록 스프링 컨텍스트보다 먼저 복제를 구성
+        Startables.deepStart(source, replica).join();
+        configureReplication();
+    }
+
+    @Autowired
+    private ServerIdProbe serverIdProbe;
+
+    @Autowired
+    private GetProductsUseCase getProductsUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", source::getJdbcUrl);
+        registry.add("spring.datasource.username", source::getUsername);
+        registry.add("spring.datasource.password", source::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "3");
+        registry.add("spring.datasource.hikari.minimum-idle", () -> "1");
+
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.hbm2ddl.auto", () -> "create-drop");
+        registry.add("spring.sql.init.mode", () -> "never");
+
+        registry.add("app.read-replica.enabled", () -> "true");
+        registry.add("app.read-replica.url", replica::getJdbcUrl);
+        registry.add("app.read-replica.maximum-pool-size", () -> "3");
+        registry.add("app.read-replica.minimum-idle", () -> "1");
+        registry.add("app.read-replica.max-lag-seconds", () -> "1");
+        registry.add("app.read-replica.lag-check-interval-ms", () -> "200");
+    }
+
+    @AfterEach
+    void resumeReplication() {
+        executeAsRoot(replica, "START REPLICA SQL_THREAD");
+        awaitUntil(replicaLagMonitor::isHealthy, "레플리카 읽기 재개");
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead 읽기 전용 트랜잭션은 replica, 쓰기와 표시 없는 읽기는 source로 간다")
+    void routesByTransactionType() {
+        // Given
+        awaitUntil(replicaLagMonitor::isHealthy, "레플리카 읽기 가능");
+
+        // When & Then
+        assertThat(serverIdProbe.replicaRead()).isEqualTo(REPLICA_SERVER_ID);
+        assertThat(serverIdProbe.write()).isEqualTo(SOURCE_SERVER_ID);
+        assertThat(serverIdProbe.readOnlyWithoutReplicaRead()).isEqualTo(SOURCE_SERVER_ID);
+        assertThat(serverIdProbe.withoutTransaction()).isEqualTo(SOURCE_SERVER_ID);
+        assertThat(meterRegistry.get("db.routing").tag("target", "replica").counter().count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("source에 저장한 상품이 복제된 뒤 조회 유스케이스가 replica에서 읽는다")
+    void readUseCaseReadsReplicatedRows() {
+        // Given
+        awaitUntil(replicaLagMonitor::isHealthy, "레플리카 읽기 가능");
+        Product saved = productRepository.save(new Product("replica-read-" + System.nanoTime(),
+                new BigDecimal("10000"), 10));
+        awaitUntil(() -> countOnReplica(saved.getId()) == 1, "상품 복제");
+
+        // When
+        ProductResponse found = findInAll(saved.getId());
+
+        // Then
+        assertThat(found).isNotNull();
+        assertThat(found.name()).isEqualTo(saved.getName());
+    }
+
+    @Test
+    @DisplayName("복제가 멈추면 레플리카 읽기는 source로 폴백해 최신 데이터를 읽는다")
+    void fallsBackToSourceWhenReplicationStops() {
+        // Given - SQL 스레드 정지 → Seconds_Behind_Source = NULL
+        awaitUntil(replicaLagMonitor::isHealthy, "레플리카 읽기 가능");
+        executeAsRoot(replica, "STOP REPLICA SQL_THREAD");
+        Product saved = productRepository.save(new Product("replica-lag-" + System.nanoTime(),
+                new BigDecimal("20000"), 5));
+        awaitUntil(() -> !replicaLagMonitor.isHealthy(), "레플리카 읽기 중단");
+
+        // When
+        long servedBy = serverIdProbe.replicaRead();
+        ProductResponse found = findInAll(saved.getId());
+
+        // Then
+        assertThat(countOnReplica(saved.getId())).isZero();
+        assertThat(servedBy).isEqualTo(SOURCE_SERVER_ID);
+        assertThat(found).isNotNull();
+        assertThat(meterRegistry.get("db.routing").tag("reason", "replica-unhealthy").counter().count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    private ProductResponse findInAll(Long productId) {
+        return getProductsUseCase.executeGetAll().stream()
+                .filter(product -> product.id().equals(productId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static MySQLContainer<?> mysql(long serverId) {
+        return new MySQLContainer<>("mysql:8.0")
+                .withDatabaseName("testdb")
+                .withUsername("test")
+                .withPassword("test")
+                .withNetwork(network)
+                .withCommand(
+                        "--default-authentication-plugin=mysql_native_password",
+                        "--character-set-server=utf8mb4",
+                        "--collation-server=utf8mb4_unicode_ci",
+                        "--skip-ssl",
+                        "--server-id=" + serverId,
+                        "--log-bin=mysql-bin",
+                        "--gtid-mode=ON",
+                        "--enforce-gtid-consistency=ON")
+                .withStartupTimeout(Duration.ofMinutes(5))
+                .withEnv("MYSQL_ROOT_PASSWORD", "root")
+                .withEnv("MYSQL_ROOT_HOST", "%");
+    }
+
+    /**
+     * 두 컨테이너가 각자 초기화한 상태에서 복제 시작
+     * source의 현재 GTID까지는 이미 적용된 것으로 표시하고 이후 변경만 받는다.
+     */
+    private static void configureReplication() {
+        String sourceGtids;
+        try (Connection connection = rootConnection(source);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT @@GLOBAL.gtid_executed")) {
+            resultSet.next();
+            sourceGtids = resultSet.getString(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("source GTID 조회 실패", e);
+        }
+
+        executeAsRoot(replica,
+                "GRANT REPLICATION CLIENT ON *.* TO '" + replica.getUsername() + "'@'%'",
+                "RESET MASTER",
+                "SET GLOBAL gtid_purged = '" + sourceGtids + "'",
+                "CHANGE REPLICATION SOURCE TO SOURCE_HOST = '" + SOURCE_ALIAS + "', SOURCE_PORT = 3306, "
+                        + "SOURCE_USER = 'root', SOURCE_PASSWORD = 'root', SOURCE_AUTO_POSITION = 1",
+                "START REPLICA",
+                "SET GLOBAL super_read_only = ON");
+    }
+
+    private static long countOnReplica(Long productId) {
+        try (Connection connection = rootConnection(replica);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT COUNT(*) FROM products WHERE id = " + productId)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            // 테이블이 아직 복제되지 않은 경우
+            return 0L;
+        }
+    }
+
+    private static void executeAsRoot(MySQLContainer<?> container, String... sqls) {
+        try (Connection connection = rootConnection(container);
+                Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("SQL 실행 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static Connection rootConnection(MySQLContainer<?> container) throws SQLException {
+        return DriverManager.getConnection(container.getJdbcUrl(), "root", "root");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, String description) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기 시간 초과: " + description);
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("대기 중 인터럽트: " + description, e);
+            }
+        }
+    }
+
+    /**
+     * 현재 커넥션이 어느 서버로 라우팅됐는지 @@server_id로 확인
+     */
+    static class ServerIdProbe {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        ServerIdProbe(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @ReplicaRead
+        public long replicaRead() {
+            return serverId();
+        }
+
+        @Transactional
+        public long write() {
+            return serverId();
+        }
+
+        @Transactional(readOnly = true)
+        public long readOnlyWithoutReplicaRead() {
+            return serverId();
+        }
+
+        public long withoutTransaction() {
+            return serverId();
+        }
+
+        private long serverId() {
+            return jdbcTemplate.queryForObject("SELECT @@server_id", Long.class);
+        }
+    }
+}
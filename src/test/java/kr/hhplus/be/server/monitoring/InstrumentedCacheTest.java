@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * InstrumentedCache 통계 기록 단위 테스트
+ */
+class InstrumentedCacheTest {
+
+    private CacheStatistics statistics;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CacheStatistics("products", new SimpleMeterRegistry());
+        cache = new InstrumentedCache(new ConcurrentMapCache("products"), statistics);
+    }
+
+    @Test
+    @DisplayName("get 미스 후 같은 키 put이면 미스/저장/로딩 시간이 기록되고, 재조회는 히트로 기록된다")
+    void get_ThenPut_RecordsMissLoadAndHit() {
+        // When
+        assertThat(cache.get("p1")).isNull();
+        cache.put("p1", "상품1");
+        assertThat(cache.get("p1")).isNotNull();
+
+        // Then
+        Map<String, Object> snapshot = statistics.snapshot();
+        assertThat(snapshot.get("hits")).isEqualTo(1L);
+        assertThat(snapshot.get("misses")).isEqualTo(1L);
+        assertThat(snapshot.get("puts")).isEqualTo(1L);
+        assertThat(snapshot.get("loadCount")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("retrieve(key)는 미스와 히트를 각각 기록한다")
+    void retrieve_RecordsMissAndHit() {
+        // When
+        CompletableFuture<?> miss = cache.retrieve("p1");
+        cache.put("p1", "상품1");
+        Object hit = cache.retrieve("p1").join();
+
+        // Then
+        assertThat(miss).isNull();
+        assertThat(hit).isEqualTo("상품1");
+        Map<String, Object> snapshot = statistics.snapshot();
+        assertThat(snapshot.get("hits")).isEqualTo(1L);
+        assertThat(snapshot.get("misses")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("retrieve(key, loader)는 로더 호출 시 미스/저장/로딩 시간을, 이후 조회는 히트를 기록한다")
+    void retrieveWithLoader_RecordsLoadOnlyOnce() {
+        // Given
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        // When
+        String first = cache.retrieve("p1", () -> {
+            loaderCalls.incrementAndGet();
+            return CompletableFuture.completedFuture("상품1");
+        }).join();
+        String second = cache.retrieve("p1", () -> {
+            loaderCalls.incrementAndGet();
+            return CompletableFuture.completedFuture("다른 값");
+        }).join();
+
+        // Then
+        assertThat(first).isEqualTo("상품1");
+        assertThat(second).isEqualTo("상품1");
+        assertThat(loaderCalls).hasValue(1);
+        Map<String, Object> snapshot = statistics.snapshot();
+        assertThat(snapshot.get("hits")).isEqualTo(1L);
+        assertThat(snapshot.get("misses")).isEqualTo(1L);
+        assertThat(snapshot.get("puts")).isEqualTo(1L);
+        assertThat(snapshot.get("loadCount")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("retrieve(key, loader) 로더가 실패하면 미스와 로딩 시간만 기록하고 저장은 기록하지 않는다")
+    void retrieveWithLoader_FailedLoadIsNotPut() {
+        // When
+        CompletableFuture<String> result = cache.retrieve("p1",
+                () -> CompletableFuture.failedFuture(new IllegalStateException("DB 오류")));
+
+        // Then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+        Map<String, Object> snapshot = statistics.snapshot();
+        assertThat(snapshot.get("misses")).isEqualTo(1L);
+        assertThat(snapshot.get("puts")).isEqualTo(0L);
+        assertThat(snapshot.get("loadCount")).isEqualTo(1L);
+    }
+}
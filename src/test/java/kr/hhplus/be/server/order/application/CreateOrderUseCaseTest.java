@@ -98,7 +98,7 @@ class CreateOrderUseCaseTest {
         verify(productService, times(3)).getProduct(1L); // validateStock, calculateTotal, getProductInfoMap
         verify(productService).hasEnoughStock(1L, 2);
         verify(balanceService).hasEnoughBalance(userId, new BigDecimal("100000"));
-        verify(balanceService).deductBalance(eq(userId), eq(new BigDecimal("100000")), anyString());
+        verify(balanceService).deductBalance(eq(userId), eq(new BigDecimal("100000")), anyString(), isNull());
         verify(productService).reduceStock(1L, 2);
         verify(orderService).createOrderWithProductInfo(any(), any(), any(), any(), any());
 
@@ -153,7 +153,7 @@ class CreateOrderUseCaseTest {
 
         // 쿠폰 워크플로우 검증
         verify(couponService).validateAndCalculateDiscount(userId, couponId, new BigDecimal("150000"));
-        verify(balanceService).deductBalance(eq(userId), eq(new BigDecimal("135000")), anyString());
+        verify(balanceService).deductBalance(eq(userId), eq(new BigDecimal("135000")), anyString(), isNull());
         verify(couponService).useCoupon(userId, couponId, new BigDecimal("150000"));
         verify(orderService).createOrderWithProductInfo(any(), any(), any(), any(), any());
     }
@@ -207,7 +207,7 @@ class CreateOrderUseCaseTest {
         verify(productService, times(2)).getProduct(1L); // validateStock + calculateTotalAmount
         verify(productService).hasEnoughStock(1L, 2);
         verify(balanceService).hasEnoughBalance(userId, new BigDecimal("200000"));
-        verify(balanceService, never()).deductBalance(any(Long.class), any(BigDecimal.class), anyString());
+        verify(balanceService, never()).deductBalance(any(Long.class), any(BigDecimal.class), anyString(), any());
         verify(productService, never()).reduceStock(anyLong(), anyInt());
         verifyNoMoreInteractions(orderService);
     }
@@ -293,7 +293,7 @@ class CreateOrderUseCaseTest {
         verify(productService).hasEnoughStock(2L, 2);
         verify(productService).reduceStock(1L, 1);
         verify(productService).reduceStock(2L, 2);
-        verify(balanceService).deductBalance(eq(userId), eq(new BigDecimal("110000")), anyString());
+        verify(balanceService).deductBalance(eq(userId), eq(new BigDecimal("110000")), anyString(), isNull());
     }
 
     @Test
@@ -388,7 +388,7 @@ class CreateOrderUseCaseTest {
 
         // 2. 잔액 검증 및 차감
         inOrder.verify(balanceService).hasEnoughBalance(1L, new BigDecimal("50000"));
-        inOrder.verify(balanceService).deductBalance(eq(1L), eq(new BigDecimal("50000")), anyString());
+        inOrder.verify(balanceService).deductBalance(eq(1L), eq(new BigDecimal("50000")), anyString(), isNull());
 
         // 3. 재고 차감
         inOrder.verify(productService).reduceStock(1L, 1);
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.order.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.hhplus.be.server.order.domain.Order;
+import kr.hhplus.be.server.order.domain.OrderItem;
+
+class OrderPlacedEventTest {
+
+    @Test
+    @DisplayName("소수 금액이 있는 주문도 금액을 자르지 않고 그대로 담는다")
+    void of_KeepsFractionalAmounts() {
+        // Given
+        Order order = new Order("ORD-1", 100L, new BigDecimal("21.00"), new BigDecimal("0.50"),
+                new BigDecimal("20.50"), null);
+        OrderItem item = new OrderItem(1L, 1001L, "상품", new BigDecimal("10.50"), 2);
+
+        // When
+        OrderPlacedEvent event = OrderPlacedEvent.of(order, List.of(item));
+
+        // Then
+        assertThat(event.totalAmount()).isEqualByComparingTo("21.00");
+        assertThat(event.finalAmount()).isEqualByComparingTo("20.50");
+        assertThat(event.line(0).unitPrice()).isEqualByComparingTo("10.50");
+        assertThat(event.line(0).subtotal()).isEqualByComparingTo("21.00");
+    }
+}
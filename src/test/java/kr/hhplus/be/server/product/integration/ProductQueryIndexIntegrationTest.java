@@ -0,0 +1,194 @@
+package kr.hhplus.be.server.product.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import kr.hhplus.be.server.common.test.IntegrationTestBase;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.dto.ProductCursor;
+import kr.hhplus.be.server.product.dto.ProductSearchCondition;
+import kr.hhplus.be.server.product.dto.ProductSort;
+import kr.hhplus.be.server.product.repository.ProductRepository;
+
+/**
+ * 상품 복합 조회 인덱스 검증 (100만 건)
+ * 
+ * ProductRepositoryJpaImpl.search를 실제로 호출해 Hibernate가 만든 SQL을 가로채 EXPLAIN하고,
+ * 정렬 기준별로 의도한 복합 인덱스를 타고 filesort가 없는지 확인한다.
+ * (Criteria 값은 리터럴로 렌더링 - 드라이버 기본값인 클라이언트 측 PreparedStatement도 서버에는 리터럴로 전달된다)
+ * 적재한 행은 다른 통합 테스트에 영향을 주지 않도록 끝나면 삭제한다.
+ * 
+ * 적재에 시간이 걸리므로 기본 test 태스크에서는 제외 - 실행: ./gradlew bulkTest
+ */
+@Tag("bulk")
+@DisplayName("상품 복합 조회 인덱스 통합 테스트 (100만 건)")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "kr.hhplus.be.server.product.integration.ProductQueryIndexIntegrationTest$ProductSelectCapture"
+})
+class ProductQueryIndexIntegrationTest extends IntegrationTestBase {
+
+    private static final String NAME_PREFIX = "bulk-query-";
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeAll
+    void loadProducts() {
+        // 0~9 자릿수 6개 교차 조인으로 100만 행을 한 문장으로 적재 (가격/재고는 결정적 의사 난수)
+        String digits = "(SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 "
+                + "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+        StringBuilder from = new StringBuilder();
+        StringBuilder number = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            from.append(i == 0 ? "" : " CROSS JOIN ").append(digits).append(" d").append(i);
+            number.append(i == 0 ? "" : " + ").append("d").append(i).append(".d * ").append((long) Math.pow(10, i));
+        }
+        jdbcTemplate.update("INSERT INTO products (name, price, stock_quantity, created_at, updated_at) "
+                + "SELECT CONCAT('" + NAME_PREFIX + "', n), 1000 + (n * 7919) % 1999000, "
+                + "CASE WHEN n % 10 = 0 THEN 0 ELSE (n * 31) % 500 + 1 END, NOW(), NOW() "
+                + "FROM (SELECT " + number + " AS n FROM " + from + ") seq");
+        jdbcTemplate.execute("ANALYZE TABLE products");
+
+        Integer loaded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM products WHERE name LIKE '" + NAME_PREFIX + "%'", Integer.class);
+        assertThat(loaded).isEqualTo(ROWS);
+    }
+
+    @AfterAll
+    void deleteProducts() {
+        jdbcTemplate.update("DELETE FROM products WHERE name LIKE '" + NAME_PREFIX + "%'");
+    }
+
+    @Test
+    @DisplayName("가격 범위 + 가격 오름차순 키셋은 (price, id) 인덱스 범위 스캔으로 정렬 없이 처리된다")
+    void 가격범위_가격순_키셋() {
+        Map<String, Object> plan = explain(new ProductSearchCondition(null, new BigDecimal("100000"),
+                new BigDecimal("200000"), false, ProductSort.PRICE_ASC,
+                new ProductCursor(ProductSort.PRICE_ASC, "150000", 500000L)));
+
+        assertIndexWithoutFilesort(plan, "idx_products_price_id");
+        assertThat(plan.get("type")).isEqualTo("range");
+    }
+
+    @Test
+    @DisplayName("가격 내림차순 + 재고 조건은 (price, id) 인덱스를 역순으로 읽는다")
+    void 가격_내림차순_재고있음() {
+        Map<String, Object> plan = explain(new ProductSearchCondition(null, null, null, true,
+                ProductSort.PRICE_DESC, new ProductCursor(ProductSort.PRICE_DESC, "150000", 500000L)));
+
+        assertIndexWithoutFilesort(plan, "idx_products_price_id");
+    }
+
+    @Test
+    @DisplayName("재고 있는 상품 + 재고 내림차순은 (stock_quantity, id) 인덱스를 사용한다")
+    void 재고있음_재고순() {
+        Map<String, Object> plan = explain(new ProductSearchCondition(null, null, null, true,
+                ProductSort.STOCK_DESC, new ProductCursor(ProductSort.STOCK_DESC, "300", 500000L)));
+
+        assertIndexWithoutFilesort(plan, "idx_products_stock_id");
+    }
+
+    @Test
+    @DisplayName("최신순은 PK 역순으로 읽는다")
+    void 최신순() {
+        Map<String, Object> plan = explain(new ProductSearchCondition(null, null, null, true,
+                ProductSort.NEWEST, new ProductCursor(ProductSort.NEWEST, "", 500000L)));
+
+        assertIndexWithoutFilesort(plan, "PRIMARY");
+    }
+
+    @Test
+    @DisplayName("커서로 넘긴 페이지들은 겹치거나 빠짐없이 OFFSET 조회와 같은 순서다")
+    void 키셋_페이지_연속성() {
+        // Given
+        BigDecimal minPrice = new BigDecimal("500000");
+        BigDecimal maxPrice = new BigDecimal("510000");
+        List<Long> expected = jdbcTemplate.queryForList("SELECT id FROM products "
+                + "WHERE price >= 500000 AND price <= 510000 AND stock_quantity > 0 "
+                + "ORDER BY price DESC, id DESC LIMIT 150", Long.class);
+
+        // When: 50건씩 3페이지
+        List<Long> paged = new ArrayList<>();
+        ProductCursor cursor = null;
+        for (int page = 0; page < 3; page++) {
+            List<Product> products = productRepository.search(new ProductSearchCondition(
+                    null, minPrice, maxPrice, true, ProductSort.PRICE_DESC, cursor), 50);
+            products.forEach(product -> paged.add(product.getId()));
+            Product last = products.get(products.size() - 1);
+            cursor = new ProductCursor(ProductSort.PRICE_DESC, last.getPrice().toPlainString(), last.getId());
+        }
+
+        // Then
+        Set<Long> unique = new HashSet<>(paged);
+        assertThat(unique).hasSize(paged.size());
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    /**
+     * 리포지토리가 실제로 실행한 SELECT를 EXPLAIN (남은 바인드 파라미터는 LIMIT뿐)
+     */
+    private Map<String, Object> explain(ProductSearchCondition condition) {
+        ProductSelectCapture.last = null;
+        productRepository.search(condition, PAGE_SIZE + 1);
+        String sql = ProductSelectCapture.last;
+        assertThat(sql).as("캡처된 상품 SELECT").isNotNull();
+
+        Object[] limit = sql.contains("?") ? new Object[] { PAGE_SIZE + 1 } : new Object[0];
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, limit);
+        System.out.println("📋 EXPLAIN " + sql + System.lineSeparator() + "   → " + rows);
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private void assertIndexWithoutFilesort(Map<String, Object> plan, String index) {
+        assertThat(plan.get("key")).isEqualTo(index);
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("Using filesort");
+    }
+
+    /**
+     * Hibernate가 JDBC로 보내는 products SELECT 중 마지막 것을 보관
+     */
+    public static class ProductSelectCapture implements StatementInspector {
+
+        static volatile String last;
+
+        @Override
+        public String inspect(String sql) {
+            // use_sql_comments가 켜져 있으면 앞에 붙는 주석 제거
+            String statement = sql.trim();
+            if (statement.startsWith("/*")) {
+                statement = statement.substring(statement.indexOf("*/") + 2).trim();
+            }
+            String normalized = statement.toLowerCase();
+            if (normalized.startsWith("select") && normalized.contains(" from products ")) {
+                last = statement;
+            }
+            return sql;
+        }
+    }
+}
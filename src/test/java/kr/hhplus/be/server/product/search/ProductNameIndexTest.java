@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductNameIndexTest {
+
+    @Test
+    @DisplayName("한글 부분 문자열로 상품을 찾고 정확/접두 일치를 먼저 반환한다")
+    void searchKoreanSubstringRanked() {
+        // Given
+        ProductNameIndex index = new ProductNameIndex();
+        index.upsert(1L, "삼성 갤럭시 노트북 케이스");
+        index.upsert(2L, "갤럭시 노트북");
+        index.upsert(3L, "갤럭시 노트북 프로 15인치");
+        index.upsert(4L, "애플 맥북 에어");
+
+        // When
+        List<Long> ids = productIds(index.search("갤럭시 노트북", 10));
+
+        // Then
+        assertThat(ids).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("대소문자와 전각 문자를 정규화해서 찾는다")
+    void searchNormalized() {
+        // Given
+        ProductNameIndex index = new ProductNameIndex();
+        index.upsert(1L, "ＡＰＰＬＥ iPad Air");
+
+        // When & Then
+        assertThat(productIds(index.search("apple ipad", 10))).containsExactly(1L);
+        assertThat(productIds(index.search("pad", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("bigram이 모두 있어도 실제 부분 문자열이 아니면 제외한다")
+    void excludeBigramFalsePositive() {
+        // Given
+        ProductNameIndex index = new ProductNameIndex();
+        index.upsert(1L, "노트 트북");
+
+        // When & Then
+        assertThat(index.search("노트북", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 부분 일치로 찾는다")
+    void searchSingleCharacter() {
+        // Given
+        ProductNameIndex index = new ProductNameIndex();
+        index.upsert(1L, "무선 키보드");
+        index.upsert(2L, "유선 마우스");
+
+        // When & Then
+        assertThat(productIds(index.search("무", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("상품명 변경과 삭제가 즉시 검색에 반영된다")
+    void upsertAndRemove() {
+        // Given
+        ProductNameIndex index = new ProductNameIndex();
+        index.upsert(1L, "무선 키보드");
+        index.upsert(2L, "무선 마우스");
+
+        // When
+        index.upsert(1L, "기계식 키보드");
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("무선", 10)).isEmpty();
+        assertThat(productIds(index.search("기계식", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("limit만큼 점수 상위 결과만 반환한다")
+    void limitResults() {
+        // Given
+        ProductNameIndex index = new ProductNameIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.upsert(id, "테스트 상품 " + id);
+        }
+
+        // When
+        List<ProductNameIndex.Hit> hits = index.search("테스트 상품", 5);
+
+        // Then
+        assertThat(hits).hasSize(5);
+        assertThat(productIds(hits)).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    private static List<Long> productIds(List<ProductNameIndex.Hit> hits) {
+        return hits.stream().map(ProductNameIndex.Hit::productId).toList();
+    }
+}
@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.dto.ProductNameRow;
+import kr.hhplus.be.server.product.repository.ProductRepository;
+
+/**
+ * ProductNameSearchService 재구성 중 변경 반영 / 결과 상한 단위 테스트
+ */
+class ProductNameSearchServiceTest {
+
+    private ProductRepository productRepository;
+    private ProductSearchProperties properties;
+    private ProductNameSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic("ecommerce:product-search-index", StringCodec.INSTANCE))
+                .thenReturn(mock(RTopic.class));
+
+        properties = new ProductSearchProperties();
+        searchService = new ProductNameSearchService(productRepository, properties, redissonClient,
+                new SimpleMeterRegistry());
+        searchService.subscribe();
+    }
+
+    @Test
+    @DisplayName("재구성 중 이미 읽은 상품의 이름이 바뀌면 교체 후 새 색인에 DB 기준 이름이 반영된다")
+    void rebuild_ReplaysChangesMadeDuringBuild() {
+        // Given - 첫 페이지를 읽은 직후 1번 상품 이름 변경이 커밋됨
+        when(productRepository.findNamesAfter(eq(0L), anyInt())).thenAnswer(invocation -> {
+            List<ProductNameRow> page = List.of(new ProductNameRow(1L, "무선 마우스"));
+            searchService.indexAfterCommit(1L, "기계식 키보드");
+            return page;
+        });
+        when(productRepository.findById(1L)).thenReturn(Optional.of(
+                new Product("기계식 키보드", BigDecimal.valueOf(50000), 10)));
+
+        // When
+        searchService.rebuild();
+
+        // Then
+        assertThat(searchService.search("키보드")).containsExactly(1L);
+        assertThat(searchService.search("마우스")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 중 삭제된 상품은 교체 후 새 색인에서도 제거된다")
+    void rebuild_ReplaysRemovalsMadeDuringBuild() {
+        // Given
+        when(productRepository.findNamesAfter(eq(0L), anyInt())).thenAnswer(invocation -> {
+            List<ProductNameRow> page = List.of(new ProductNameRow(1L, "무선 마우스"));
+            searchService.removeAfterCommit(1L);
+            return page;
+        });
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        searchService.rebuild();
+
+        // Then
+        assertThat(searchService.search("마우스")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 중 상품명 조회가 실패해도 변경 수집이 해제되고 기존 색인은 유지된다")
+    void rebuild_ResetsChangeTrackingWhenLoadFails() {
+        // Given - 기존 색인 구성 후 다음 재구성의 조회가 실패
+        when(productRepository.findNamesAfter(eq(0L), anyInt()))
+                .thenReturn(List.of(new ProductNameRow(1L, "무선 마우스")))
+                .thenThrow(new QueryTimeoutException("조회 시간 초과"));
+        searchService.rebuild();
+
+        // When
+        assertThatThrownBy(() -> searchService.rebuild()).isInstanceOf(QueryTimeoutException.class);
+
+        // Then
+        assertThat(ReflectionTestUtils.getField(searchService, "changedDuringRebuild")).isNull();
+        assertThat(searchService.search("마우스")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("결과 상한이 없으면(기본값) DB 검색 경로처럼 일치하는 상품을 모두 반환한다")
+    void search_NoCapByDefault() {
+        // Given
+        List<ProductNameRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 150; id++) {
+            rows.add(new ProductNameRow(id, "테스트 상품 " + id));
+        }
+        when(productRepository.findNamesAfter(eq(0L), anyInt())).thenReturn(rows);
+        searchService.rebuild();
+
+        // When & Then
+        assertThat(searchService.limit()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(searchService.search("테스트 상품")).hasSize(150);
+
+        // 상한을 지정하면 색인 경로와 DB 경로 모두 같은 값을 사용
+        properties.setMaxResults(100);
+        assertThat(searchService.limit()).isEqualTo(100);
+        assertThat(searchService.search("테스트 상품")).hasSize(100);
+    }
+}
@@ -19,14 +19,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import kr.hhplus.be.server.common.httpcache.ResponseCacheVersions;
+import kr.hhplus.be.server.common.soldout.SoldOutRegistry;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import kr.hhplus.be.server.order.repository.OrderItemRepository;
 import kr.hhplus.be.server.product.domain.Product;
 import kr.hhplus.be.server.product.dto.PopularProductResponse;
+import kr.hhplus.be.server.product.dto.ProductCursor;
+import kr.hhplus.be.server.product.dto.ProductPageResponse;
 import kr.hhplus.be.server.product.dto.ProductResponse;
+import kr.hhplus.be.server.product.dto.ProductSearchCondition;
+import kr.hhplus.be.server.product.dto.ProductSort;
 import kr.hhplus.be.server.product.exception.InsufficientStockException;
 import kr.hhplus.be.server.product.exception.ProductNotFoundException;
 import kr.hhplus.be.server.product.repository.ProductRepository;
+import kr.hhplus.be.server.product.search.ProductNameSearchService;
+import kr.hhplus.be.server.product.snapshot.ProductCatalogSnapshotService;
 import kr.hhplus.be.server.product.cache.ProductCacheService;
 
 /**
@@ -57,6 +65,18 @@ class ProductServiceTest {
     @Mock
     private ProductCacheService productCacheService;
 
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private ProductNameSearchService productNameSearchService;
+
+    @Mock
+    private ProductCatalogSnapshotService productCatalogSnapshotService;
+
+    @Mock
+    private ResponseCacheVersions responseCacheVersions;
+
     @InjectMocks
     private ProductService productService; // 진짜 Service (Mock이 주입됨)
 
@@ -237,6 +257,7 @@ class ProductServiceTest {
                 createTestProduct(2L, "게이밍 노트북", "2000000", 5));
 
         when(productRepository.findByNameContaining(searchKeyword)).thenReturn(mockProducts);
+        when(productNameSearchService.limit()).thenReturn(Integer.MAX_VALUE);
 
         // When
         List<ProductResponse> responses = productService.searchProductsByName(searchKeyword);
@@ -294,6 +315,51 @@ class ProductServiceTest {
         verify(productRepository).findByPriceBetween(minPrice, maxPrice);
     }
 
+    @Test
+    @DisplayName("복합 조건 조회 - size+1건이 오면 size건만 반환하고 마지막 상품으로 다음 커서를 만든다")
+    void 복합조건조회_다음페이지_커서() {
+        // Given
+        ProductSearchCondition condition = new ProductSearchCondition(
+                "노트북", new BigDecimal("100000"), null, true, ProductSort.PRICE_ASC, null);
+        when(productRepository.search(condition, 3)).thenReturn(List.of(
+                createTestProduct(7L, "노트북 A", "150000", 3),
+                createTestProduct(4L, "노트북 B", "200000", 1),
+                createTestProduct(9L, "노트북 C", "250000", 8)));
+
+        // When
+        ProductPageResponse page = productService.queryProducts(condition, 2);
+
+        // Then
+        assertThat(page.items()).extracting(ProductResponse::id).containsExactly(7L, 4L);
+        assertThat(page.hasNext()).isTrue();
+        ProductCursor cursor = ProductCursor.decode(page.nextCursor(), ProductSort.PRICE_ASC);
+        assertThat(cursor.priceKey()).isEqualByComparingTo("200000");
+        assertThat(cursor.id()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("복합 조건 조회 - 마지막 페이지면 커서가 없고, 최소 가격이 최대 가격보다 크면 예외가 발생한다")
+    void 복합조건조회_마지막페이지_및_검증() {
+        // Given
+        ProductSearchCondition condition = new ProductSearchCondition(
+                null, null, null, false, ProductSort.NEWEST, null);
+        when(productRepository.search(condition, 21)).thenReturn(List.of(createTestProduct(1L, "마우스", "50000", 2)));
+        ProductSearchCondition invalid = new ProductSearchCondition(
+                null, new BigDecimal("500000"), new BigDecimal("100000"), false, ProductSort.NEWEST, null);
+
+        // When
+        ProductPageResponse page = productService.queryProducts(condition, 20);
+
+        // Then
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        assertThatThrownBy(() -> productService.queryProducts(invalid, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor", ProductSort.NEWEST))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("재고 있는 상품 조회 성공 - 재고가 0보다 큰 상품들만 반환한다")
     void 재고있는상품조회_성공() {
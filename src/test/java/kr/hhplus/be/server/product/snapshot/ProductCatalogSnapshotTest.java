@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.product.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.hhplus.be.server.product.dto.ProductResponse;
+
+class ProductCatalogSnapshotTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 7, 16, 10, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("가격 범위는 경계를 포함하고 가격 오름차순, 같은 가격은 id 오름차순으로 반환한다")
+    void findByPriceBetween() {
+        // Given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.builder(4)
+                .add(1L, "모니터", new BigDecimal("300000"), 5, CREATED_AT)
+                .add(2L, "키보드", new BigDecimal("150000.00"), 0, CREATED_AT)
+                .add(3L, "마우스", new BigDecimal("50000"), 20, CREATED_AT)
+                .add(4L, "키보드 B", new BigDecimal("150000"), 3, CREATED_AT)
+                .build();
+
+        // When & Then
+        assertThat(snapshot.findByPriceBetween(new BigDecimal("150000"), new BigDecimal("300000")))
+                .extracting(ProductResponse::id)
+                .containsExactly(2L, 4L, 1L);
+        assertThat(snapshot.findByPriceBetween(new BigDecimal("150000.01"), null))
+                .extracting(ProductResponse::id)
+                .containsExactly(1L);
+        assertThat(snapshot.findByPriceBetween(new BigDecimal("400000"), new BigDecimal("500000"))).isEmpty();
+        assertThat(snapshot.countByPriceBetween(null, new BigDecimal("149999.999"))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고 있는 상품만 id 순으로 반환하고 응답 필드를 그대로 복원한다")
+    void findAvailable() {
+        // Given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.builder(1)
+                .add(10L, "노트북", new BigDecimal("1500000.50"), 7, CREATED_AT)
+                .add(11L, "품절 상품", new BigDecimal("1000"), 0, CREATED_AT)
+                .add(12L, "태블릿", new BigDecimal("800000"), 1, CREATED_AT)
+                .build();
+
+        // When
+        var available = snapshot.findAvailable();
+
+        // Then
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.availableCount()).isEqualTo(2);
+        assertThat(available).extracting(ProductResponse::id).containsExactly(10L, 12L);
+        assertThat(available.get(0)).isEqualTo(new ProductResponse(
+                10L, "노트북", new BigDecimal("1500000.50"), 7, CREATED_AT));
+    }
+
+    @Test
+    @DisplayName("생성 시각은 초 미만 정밀도와 null을 DB 조회 경로와 같게 그대로 복원한다")
+    void createdAtKeepsPrecision() {
+        // Given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.builder(2)
+                .add(1L, "키보드", new BigDecimal("1000"), 1, CREATED_AT)
+                .add(2L, "마우스", new BigDecimal("2000"), 1, null)
+                .build();
+
+        // When
+        var available = snapshot.findAvailable();
+
+        // Then
+        assertThat(available.get(0).createdAt()).isEqualTo(CREATED_AT);
+        assertThat(available.get(1).createdAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 카탈로그도 조회할 수 있다")
+    void emptySnapshot() {
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.builder(0).build();
+
+        assertThat(snapshot.findByPriceBetween(BigDecimal.ZERO, BigDecimal.TEN)).isEmpty();
+        assertThat(snapshot.findAvailable()).isEmpty();
+    }
+}
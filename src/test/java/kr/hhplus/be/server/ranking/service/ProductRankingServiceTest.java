@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.ranking.service;
 
 import kr.hhplus.be.server.order.event.OrderCompletedEvent;
+import kr.hhplus.be.server.order.event.OrderPlacedEvent;
 import kr.hhplus.be.server.product.dto.ProductResponse;
 import kr.hhplus.be.server.product.service.ProductService;
 import kr.hhplus.be.server.ranking.dto.ProductRankingResponse;
@@ -11,10 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,6 +44,9 @@ class ProductRankingServiceTest {
     @Mock
     private ZSetOperations<String, Object> zSetOperations;
 
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
     @InjectMocks
     private ProductRankingService rankingService;
 
@@ -52,6 +60,7 @@ class ProductRankingServiceTest {
     void handleOrderCompleted_ShouldUpdateRanking() {
         // Given
         when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         
         OrderCompletedEvent event = new OrderCompletedEvent(
                 1L, 100L, 1001L, "테스트 상품", 3, LocalDateTime.now()
@@ -65,6 +74,93 @@ class ProductRankingServiceTest {
         // Then
         verify(zSetOperations).incrementScore(expectedKey, "1001", 3.0);
         verify(redisTemplate).expire(eq(expectedKey), any());
+        verify(valueOperations).increment("ecommerce:response-version:ranking");
+    }
+
+    @Test
+    @DisplayName("주문 단위 이벤트는 같은 상품을 합산해 한 번의 파이프라인으로 반영된다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void handleOrderPlaced_ShouldUpdateRankingInSinglePipeline() {
+        // Given
+        OrderPlacedEvent event = new OrderPlacedEvent("event-1", 1L, 100L, new BigDecimal("50000.00"),
+                new BigDecimal("50000.00"), "COMPLETED", new long[] {1001L, 1002L, 1001L}, new int[] {2, 1, 3},
+                new BigDecimal[] {new BigDecimal("10000.00"), new BigDecimal("10000.00"), new BigDecimal("10000.00")},
+                LocalDateTime.now());
+        RedisOperations operations = mock(RedisOperations.class);
+        when(operations.opsForZSet()).thenReturn(zSetOperations);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback) invocation.getArgument(0)).execute(operations);
+            return List.of();
+        });
+
+        String expectedKey = "ranking:product:daily:" + LocalDate.now();
+
+        // When
+        rankingService.handleOrderPlaced(event);
+
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(zSetOperations).incrementScore(expectedKey, "1001", 5.0);
+        verify(zSetOperations).incrementScore(expectedKey, "1002", 1.0);
+        verify(operations).expire(eq(expectedKey), any(Duration.class));
+        verify(valueOperations).increment("ecommerce:response-version:ranking");
+    }
+
+    @Test
+    @DisplayName("연속된 주문은 랭킹 응답 캐시 버전을 주문마다 올리지 않고 시간 구간당 한 번만 올린다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void handleOrderPlaced_CoalescesRankingVersionBumps() {
+        // Given
+        RedisOperations operations = mock(RedisOperations.class);
+        when(operations.opsForZSet()).thenReturn(zSetOperations);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback) invocation.getArgument(0)).execute(operations);
+            return List.of();
+        });
+
+        // When - 5초 구간 안의 주문 5건 (구간 경계에 걸쳐도 최대 2회)
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            rankingService.handleOrderPlaced(new OrderPlacedEvent("event-" + orderId, orderId, 100L,
+                    new BigDecimal("10000.00"), new BigDecimal("10000.00"), "COMPLETED", new long[] {1001L},
+                    new int[] {1}, new BigDecimal[] {new BigDecimal("10000.00")},
+                    LocalDateTime.now()));
+        }
+
+        // Then
+        verify(redisTemplate, times(5)).executePipelined(any(SessionCallback.class));
+        verify(valueOperations, atMost(2)).increment("ecommerce:response-version:ranking");
+        verify(valueOperations, atLeastOnce()).increment("ecommerce:response-version:ranking");
+    }
+
+    @Test
+    @DisplayName("구간 첫 변경 이후의 점수 변경은 구간 끝 flush에서 한 번 더 버전을 올리고, 변경이 없으면 올리지 않는다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void flushPendingRankingVersion_TrailingBumpOnlyAfterLaterUpdates() {
+        // Given
+        RedisOperations operations = mock(RedisOperations.class);
+        when(operations.opsForZSet()).thenReturn(zSetOperations);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback) invocation.getArgument(0)).execute(operations);
+            return List.of();
+        });
+        for (long orderId = 1; orderId <= 3; orderId++) {
+            rankingService.handleOrderPlaced(new OrderPlacedEvent("event-" + orderId, orderId, 100L,
+                    new BigDecimal("10000.00"), new BigDecimal("10000.00"), "COMPLETED", new long[] {1001L},
+                    new int[] {1}, new BigDecimal[] {new BigDecimal("10000.00")},
+                    LocalDateTime.now()));
+        }
+        clearInvocations(valueOperations);
+
+        // When
+        rankingService.flushPendingRankingVersion();
+        rankingService.flushPendingRankingVersion();
+
+        // Then - 구간 첫 주문 이후 주문들이 남긴 pending을 한 번만 반영 (3건이면 구간 경계에 걸려도 1건 이상 남음)
+        verify(valueOperations, times(1)).increment("ecommerce:response-version:ranking");
     }
 
     @Test
@@ -182,12 +278,14 @@ class ProductRankingServiceTest {
         // Given
         LocalDate date = LocalDate.of(2024, 1, 1);
         String expectedKey = "ranking:product:daily:" + date;
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
         // When
         rankingService.clearRankingData(date);
 
         // Then
         verify(redisTemplate).delete(expectedKey);
+        verify(valueOperations).increment("ecommerce:response-version:ranking");
     }
 
     @Test